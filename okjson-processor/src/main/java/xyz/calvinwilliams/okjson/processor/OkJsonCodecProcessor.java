@@ -0,0 +1,526 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/*
+ * Writes an OkJsonCodecProvider for every class marked with @OkJsonCodec,
+ * named <Outer_Inner>OkJsonCodec in the package of the class, and lists them
+ * in META-INF/services so the okjson runtime finds them with ServiceLoader.
+ * The provider is also the OkJsonAccessor of the class, every set/get method
+ * a switch on the property index calling the setter/getter or the public
+ * field directly. Properties follow the rules of the reflective path : the
+ * declared fields in declaration order, static, final and char ones too,
+ * set by a public setter or else a public field, read by a public getter or
+ * else a public field. A final field can not be assigned in code, it is set
+ * through a java.lang.reflect.Field as the reflective path does, and a
+ * static final one is only read, as no path can set it. The okjson
+ * annotations are referred by name so this module does not depend on okjson.
+ */
+@SupportedAnnotationTypes("xyz.calvinwilliams.okjson.OkJsonCodec")
+public class OkJsonCodecProcessor extends AbstractProcessor {
+
+	final private static String	CODEC_ANNOTATION = "xyz.calvinwilliams.okjson.OkJsonCodec" ;
+	final private static String	DATETIMEFORMATTER_ANNOTATION = "xyz.calvinwilliams.okjson.OkJsonDateTimeFormatter" ;
+	final private static String	SERVICE_FILE = "META-INF/services/xyz.calvinwilliams.okjson.OkJsonCodecProvider" ;
+
+	// same values as OkJsonCodecProvider.PROPERTY_*
+	final private static int	PROPERTY_SET_METHOD = 1 ;
+	final private static int	PROPERTY_SET_FIELD = 2 ;
+	final private static int	PROPERTY_GET_METHOD = 4 ;
+	final private static int	PROPERTY_GET_FIELD = 8 ;
+
+	final private static String[]	KIND_NAMES = { "Boolean", "Byte", "Short", "Int", "Long", "Float", "Double", "Object" } ;
+	final private static String[]	KIND_TYPES = { "boolean", "byte", "short", "int", "long", "float", "double", "Object" } ;
+	final private static int		KIND_OBJECT = 7 ;
+
+	private static class Property {
+		String		name ;
+		String		typeName ;
+		String		elementTypeName ;
+		String		dateTimeFormat ;
+		int			kind ;
+		int			flags ;
+		String		setMethodName ;
+		String		getMethodName ;
+		// class name for a static member, else the object cast to it
+		String		setTarget ;
+		String		getTarget ;
+		// a value of KIND_OBJECT is cast to it, a char is boxed
+		String		castTypeName ;
+		// a public final field without setter, set through FINAL_FIELDS
+		boolean		setByReflection ;
+	}
+
+	private Elements			elements ;
+	private Types				types ;
+	private Filer				filer ;
+	private Messager			messager ;
+
+	// binary names of the generated providers, written at the last round
+	private LinkedHashSet<String>	providerNames = new LinkedHashSet<String>() ;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process( Set<? extends TypeElement> annotations, RoundEnvironment roundEnv ) {
+		TypeElement		codecAnnotation ;
+
+		elements = processingEnv.getElementUtils() ;
+		types = processingEnv.getTypeUtils() ;
+		filer = processingEnv.getFiler() ;
+		messager = processingEnv.getMessager() ;
+
+		if( roundEnv.processingOver() ) {
+			if( ! providerNames.isEmpty() )
+				writeServiceFile();
+			return false;
+		}
+
+		codecAnnotation = elements.getTypeElement( CODEC_ANNOTATION ) ;
+		if( codecAnnotation == null )
+			return false;
+
+		for( Element element : roundEnv.getElementsAnnotatedWith( codecAnnotation ) ) {
+			if( element.getKind() != ElementKind.CLASS ) {
+				messager.printMessage( Diagnostic.Kind.ERROR, "@OkJsonCodec is only for classes", element );
+				continue;
+			}
+			processClass( (TypeElement)element );
+		}
+
+		return true;
+	}
+
+	private void processClass( TypeElement clazz ) {
+		PackageElement		packageElement = elements.getPackageOf( clazz ) ;
+		String				packageName = packageElement.getQualifiedName().toString() ;
+		String				className = clazz.getQualifiedName().toString() ;
+		String				providerSimpleName ;
+		String				providerName ;
+		ArrayList<Property>	properties ;
+
+		if( ! checkClass( clazz ) )
+			return;
+
+		properties = collectProperties( clazz ) ;
+
+		providerSimpleName = ( packageName.isEmpty() ? className : className.substring(packageName.length()+1) ).replace( '.', '_' ) + "OkJsonCodec" ;
+		providerName = ( packageName.isEmpty() ? providerSimpleName : packageName+"."+providerSimpleName ) ;
+
+		try (Writer writer = filer.createSourceFile( providerName, clazz ).openWriter()) {
+			writer.write( generateSource( packageName, className, providerSimpleName, properties ) );
+		} catch (IOException e) {
+			messager.printMessage( Diagnostic.Kind.ERROR, "write "+providerName+" failed : "+e.getMessage(), clazz );
+			return;
+		}
+
+		providerNames.add( providerName );
+	}
+
+	// the provider does "new Clazz()" from another class of the same package
+	private boolean checkClass( TypeElement clazz ) {
+		Element		enclosing ;
+		boolean		hasConstructor ;
+
+		if( clazz.getModifiers().contains(Modifier.ABSTRACT) ) {
+			messager.printMessage( Diagnostic.Kind.ERROR, "@OkJsonCodec class can not be abstract", clazz );
+			return false;
+		}
+		for( enclosing = clazz ; enclosing instanceof TypeElement ; enclosing = enclosing.getEnclosingElement() ) {
+			if( enclosing.getModifiers().contains(Modifier.PRIVATE) ) {
+				messager.printMessage( Diagnostic.Kind.ERROR, "@OkJsonCodec class and its enclosing classes can not be private", clazz );
+				return false;
+			}
+			if( ((TypeElement)enclosing).getNestingKind() == NestingKind.MEMBER ) {
+				if( ! enclosing.getModifiers().contains(Modifier.STATIC) && enclosing.getEnclosingElement().getKind() == ElementKind.CLASS ) {
+					messager.printMessage( Diagnostic.Kind.ERROR, "@OkJsonCodec nested class must be static", clazz );
+					return false;
+				}
+			} else if( ((TypeElement)enclosing).getNestingKind() != NestingKind.TOP_LEVEL ) {
+				messager.printMessage( Diagnostic.Kind.ERROR, "@OkJsonCodec class must be top level or a static member", clazz );
+				return false;
+			}
+		}
+
+		hasConstructor = false ;
+		for( ExecutableElement constructor : ElementFilter.constructorsIn( clazz.getEnclosedElements() ) ) {
+			if( constructor.getParameters().isEmpty() && ! constructor.getModifiers().contains(Modifier.PRIVATE) ) {
+				hasConstructor = true ;
+				break;
+			}
+		}
+		if( hasConstructor == false ) {
+			messager.printMessage( Diagnostic.Kind.ERROR, "@OkJsonCodec class needs a non-private constructor without parameters", clazz );
+			return false;
+		}
+
+		return true;
+	}
+
+	private ArrayList<Property> collectProperties( TypeElement clazz ) {
+		ArrayList<Property>			properties = new ArrayList<Property>() ;
+		List<ExecutableElement>		methods = ElementFilter.methodsIn( elements.getAllMembers( clazz ) ) ;
+		String						className = clazz.getQualifiedName().toString() ;
+		Property					property ;
+		TypeMirror					fieldType ;
+		String						capitalName ;
+		ExecutableElement			method ;
+
+		for( VariableElement field : ElementFilter.fieldsIn( clazz.getEnclosedElements() ) ) {
+			fieldType = field.asType() ;
+
+			property = new Property() ;
+			property.name = field.getSimpleName().toString() ;
+			property.kind = kindOf( fieldType ) ;
+			property.typeName = types.erasure( fieldType ).toString() ;
+			property.castTypeName = ( fieldType.getKind().isPrimitive() ? types.boxedClass( (PrimitiveType)fieldType ).getQualifiedName().toString() : property.typeName ) ;
+			property.elementTypeName = elementTypeNameOf( fieldType ) ;
+			property.dateTimeFormat = dateTimeFormatOf( field ) ;
+			capitalName = property.name.substring(0,1).toUpperCase(Locale.getDefault()) + property.name.substring(1) ;
+
+			method = findMethod( methods, "set"+capitalName, fieldType ) ;
+			if( method != null ) {
+				property.flags |= PROPERTY_SET_METHOD ;
+				property.setMethodName = method.getSimpleName().toString() ;
+				property.setTarget = targetOf( method, className ) ;
+			} else if( field.getModifiers().contains(Modifier.PUBLIC) && ! ( field.getModifiers().contains(Modifier.STATIC) && field.getModifiers().contains(Modifier.FINAL) ) ) {
+				property.flags |= PROPERTY_SET_FIELD ;
+				property.setTarget = targetOf( field, className ) ;
+				property.setByReflection = field.getModifiers().contains(Modifier.FINAL) ;
+			}
+
+			if( fieldType.getKind() == TypeKind.BOOLEAN || types.erasure( fieldType ).toString().equals("java.lang.Boolean") )
+				method = findMethod( methods, "is"+capitalName, null ) ;
+			else
+				method = findMethod( methods, "get"+capitalName, null ) ;
+			if( method != null && types.isSameType( method.getReturnType(), fieldType ) ) {
+				property.flags |= PROPERTY_GET_METHOD ;
+				property.getMethodName = method.getSimpleName().toString() ;
+				property.getTarget = targetOf( method, className ) ;
+			} else if( field.getModifiers().contains(Modifier.PUBLIC) ) {
+				property.flags |= PROPERTY_GET_FIELD ;
+				property.getTarget = targetOf( field, className ) ;
+			}
+
+			if( property.flags == 0 )
+				continue;
+			properties.add( property );
+		}
+
+		return properties;
+	}
+
+	// static members are reached through the class as Method.invoke and Field.get do with any object
+	private static String targetOf( Element member, String className ) {
+		if( member.getModifiers().contains(Modifier.STATIC) )
+			return className;
+		else
+			return "(("+className+")object)";
+	}
+
+	// public method, static too as Class.getMethod finds it, one parameter of parameterType for a setter or none for a getter
+	private ExecutableElement findMethod( List<ExecutableElement> methods, String name, TypeMirror parameterType ) {
+		for( ExecutableElement method : methods ) {
+			if( ! method.getSimpleName().contentEquals(name) )
+				continue;
+			if( ! method.getModifiers().contains(Modifier.PUBLIC) )
+				continue;
+			if( parameterType == null ) {
+				if( method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID )
+					return method;
+			} else {
+				if( method.getParameters().size() == 1 && types.isSameType( types.erasure( method.getParameters().get(0).asType() ), types.erasure( parameterType ) ) )
+					return method;
+			}
+		}
+		return null;
+	}
+
+	private static int kindOf( TypeMirror type ) {
+		switch( type.getKind() ) {
+			case BOOLEAN :
+				return 0;
+			case BYTE :
+				return 1;
+			case SHORT :
+				return 2;
+			case INT :
+				return 3;
+			case LONG :
+				return 4;
+			case FLOAT :
+				return 5;
+			case DOUBLE :
+				return 6;
+			default :
+				return KIND_OBJECT;
+		}
+	}
+
+	// element class of a collection or an array, value class of a Map with String keys, same as OkJsonFieldTable.elementTypeOf
+	private String elementTypeNameOf( TypeMirror type ) {
+		TypeMirror					elementType ;
+		List<? extends TypeMirror>	typeArguments ;
+
+		if( type.getKind() == TypeKind.ARRAY ) {
+			elementType = ((ArrayType)type).getComponentType() ;
+			if( elementType.getKind() == TypeKind.CHAR )
+				return null;
+			return types.erasure( elementType ).toString();
+		}
+		if( type.getKind() != TypeKind.DECLARED )
+			return null;
+		typeArguments = ((DeclaredType)type).getTypeArguments() ;
+		if( isSubtypeOf( type, "java.util.Collection" ) ) {
+			if( typeArguments.isEmpty() )
+				return "java.lang.Object";
+			else if( typeArguments.size() == 1 )
+				return typeArgumentNameOf( typeArguments.get(0) );
+		} else if( isSubtypeOf( type, "java.util.Map" ) ) {
+			if( typeArguments.isEmpty() )
+				return "java.lang.Object";
+			else if( typeArguments.size() == 2 && "java.lang.String".equals( typeArgumentNameOf( typeArguments.get(0) ) ) )
+				return typeArgumentNameOf( typeArguments.get(1) );
+		}
+		return null;
+	}
+
+	private boolean isSubtypeOf( TypeMirror type, String superTypeName ) {
+		TypeElement		superTypeElement = elements.getTypeElement( superTypeName ) ;
+
+		return superTypeElement != null && types.isSubtype( types.erasure( type ), types.erasure( superTypeElement.asType() ) );
+	}
+
+	// an unbounded wildcard or a type variable is Object, a generic argument has no class
+	private String typeArgumentNameOf( TypeMirror typeArgument ) {
+		if( typeArgument.getKind() == TypeKind.WILDCARD ) {
+			typeArgument = ((WildcardType)typeArgument).getExtendsBound() ;
+			if( typeArgument == null )
+				return "java.lang.Object";
+		}
+		if( typeArgument.getKind() == TypeKind.DECLARED ) {
+			if( ! ((DeclaredType)typeArgument).getTypeArguments().isEmpty() )
+				return null;
+			return types.erasure( typeArgument ).toString();
+		}
+		return "java.lang.Object";
+	}
+
+	private String dateTimeFormatOf( VariableElement field ) {
+		for( AnnotationMirror annotation : field.getAnnotationMirrors() ) {
+			if( ! ((TypeElement)annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(DATETIMEFORMATTER_ANNOTATION) )
+				continue;
+			for( Map.Entry<? extends ExecutableElement,? extends AnnotationValue> entry : annotation.getElementValues().entrySet() ) {
+				if( entry.getKey().getSimpleName().contentEquals("format") )
+					return (String)entry.getValue().getValue();
+			}
+		}
+		return null;
+	}
+
+	private String generateSource( String packageName, String className, String providerSimpleName, ArrayList<Property> properties ) {
+		StringBuilder	sb = new StringBuilder() ;
+		boolean			hasFinalFields ;
+		int				propertyIndex ;
+		int				kind ;
+
+		if( ! packageName.isEmpty() )
+			sb.append( "package " ).append( packageName ).append( ";\n\n" );
+		sb.append( "/*\n * Generated by okjson-processor from " ).append( className ).append( ", do not edit.\n */\n" );
+		sb.append( "@SuppressWarnings({\"unchecked\",\"rawtypes\"})\n" );
+		sb.append( "public final class " ).append( providerSimpleName ).append( " implements xyz.calvinwilliams.okjson.OkJsonCodecProvider, xyz.calvinwilliams.okjson.OkJsonAccessor {\n\n" );
+
+		sb.append( "\tfinal private static String[]\tPROPERTY_NAMES = {" );
+		for( propertyIndex = 0 ; propertyIndex < properties.size() ; propertyIndex++ )
+			sb.append( propertyIndex > 0 ? ", " : " " ).append( elements.getConstantExpression( properties.get(propertyIndex).name ) );
+		sb.append( " } ;\n" );
+		sb.append( "\tfinal private static Class<?>[]\tPROPERTY_TYPES = {" );
+		for( propertyIndex = 0 ; propertyIndex < properties.size() ; propertyIndex++ )
+			sb.append( propertyIndex > 0 ? ", " : " " ).append( properties.get(propertyIndex).typeName ).append( ".class" );
+		sb.append( " } ;\n" );
+		sb.append( "\tfinal private static Class<?>[]\tPROPERTY_ELEMENT_TYPES = {" );
+		for( propertyIndex = 0 ; propertyIndex < properties.size() ; propertyIndex++ ) {
+			Property property = properties.get(propertyIndex) ;
+			sb.append( propertyIndex > 0 ? ", " : " " ).append( property.elementTypeName != null ? property.elementTypeName+".class" : "null" );
+		}
+		sb.append( " } ;\n" );
+		sb.append( "\tfinal private static String[]\tPROPERTY_DATETIME_FORMATS = {" );
+		for( propertyIndex = 0 ; propertyIndex < properties.size() ; propertyIndex++ ) {
+			Property property = properties.get(propertyIndex) ;
+			sb.append( propertyIndex > 0 ? ", " : " " ).append( property.dateTimeFormat != null ? elements.getConstantExpression( property.dateTimeFormat ) : "null" );
+		}
+		sb.append( " } ;\n" );
+		sb.append( "\tfinal private static int[]\t\tPROPERTY_FLAGS = {" );
+		for( propertyIndex = 0 ; propertyIndex < properties.size() ; propertyIndex++ )
+			sb.append( propertyIndex > 0 ? ", " : " " ).append( properties.get(propertyIndex).flags );
+		sb.append( " } ;\n" );
+
+		hasFinalFields = false ;
+		for( Property property : properties )
+			hasFinalFields |= property.setByReflection ;
+		if( hasFinalFields ) {
+			sb.append( "\t// final fields, set through reflection as the reflective path does\n" );
+			sb.append( "\tfinal private static java.lang.reflect.Field[]\tFINAL_FIELDS = finalFieldsOf(" );
+			for( propertyIndex = 0 ; propertyIndex < properties.size() ; propertyIndex++ ) {
+				Property property = properties.get(propertyIndex) ;
+				sb.append( propertyIndex > 0 ? ", " : " " ).append( property.setByReflection ? elements.getConstantExpression( property.name ) : "null" );
+			}
+			sb.append( " ) ;\n" );
+		}
+		sb.append( "\n" );
+
+		sb.append( "\tpublic " ).append( providerSimpleName ).append( "() {\n\t}\n\n" );
+		sb.append( "\t@Override\n\tpublic Class<?> getBoundClass() {\n\t\treturn " ).append( className ).append( ".class;\n\t}\n\n" );
+		sb.append( "\t@Override\n\tpublic Object newInstance() {\n\t\treturn new " ).append( className ).append( "();\n\t}\n\n" );
+		sb.append( "\t@Override\n\tpublic String[] getPropertyNames() {\n\t\treturn PROPERTY_NAMES.clone();\n\t}\n\n" );
+		sb.append( "\t@Override\n\tpublic Class<?>[] getPropertyTypes() {\n\t\treturn PROPERTY_TYPES.clone();\n\t}\n\n" );
+		sb.append( "\t@Override\n\tpublic Class<?>[] getPropertyElementTypes() {\n\t\treturn PROPERTY_ELEMENT_TYPES.clone();\n\t}\n\n" );
+		sb.append( "\t@Override\n\tpublic String[] getPropertyDateTimeFormats() {\n\t\treturn PROPERTY_DATETIME_FORMATS.clone();\n\t}\n\n" );
+		sb.append( "\t@Override\n\tpublic int[] getPropertyFlags() {\n\t\treturn PROPERTY_FLAGS.clone();\n\t}\n\n" );
+		sb.append( "\t@Override\n\tpublic xyz.calvinwilliams.okjson.OkJsonAccessor getAccessor() {\n\t\treturn this;\n\t}\n" );
+
+		if( hasFinalFields ) {
+			sb.append( "\n\tprivate static java.lang.reflect.Field[] finalFieldsOf( String... names ) {\n" );
+			sb.append( "\t\tjava.lang.reflect.Field[] fields = new java.lang.reflect.Field[names.length] ;\n" );
+			sb.append( "\t\tfor( int i = 0 ; i < names.length ; i++ ) {\n" );
+			sb.append( "\t\t\tif( names[i] == null )\n\t\t\t\tcontinue;\n" );
+			sb.append( "\t\t\ttry {\n" );
+			sb.append( "\t\t\t\tfields[i] = " ).append( className ).append( ".class.getDeclaredField( names[i] ) ;\n" );
+			sb.append( "\t\t\t\tfields[i].setAccessible( true );\n" );
+			sb.append( "\t\t\t} catch (ReflectiveOperationException e) {\n" );
+			sb.append( "\t\t\t\tthrow new IllegalStateException( e );\n" );
+			sb.append( "\t\t\t}\n" );
+			sb.append( "\t\t}\n\t\treturn fields;\n\t}\n" );
+		}
+
+		for( kind = 0 ; kind < KIND_NAMES.length ; kind++ ) {
+			sb.append( "\n\t@Override\n\tpublic void set" ).append( KIND_NAMES[kind] ).append( "( Object object, int index, " ).append( KIND_TYPES[kind] ).append( " value ) {\n" );
+			sb.append( "\t\tswitch( index ) {\n" );
+			for( propertyIndex = 0 ; propertyIndex < properties.size() ; propertyIndex++ ) {
+				Property property = properties.get(propertyIndex) ;
+				String valueExpression ;
+				if( property.kind != kind || ( property.flags & (PROPERTY_SET_METHOD|PROPERTY_SET_FIELD) ) == 0 )
+					continue;
+				valueExpression = ( kind == KIND_OBJECT ? "("+property.castTypeName+")value" : "value" ) ;
+				sb.append( "\t\t\tcase " ).append( propertyIndex ).append( " :\n" );
+				if( ( property.flags & PROPERTY_SET_METHOD ) != 0 ) {
+					sb.append( "\t\t\t\t" ).append( property.setTarget ).append( "." ).append( property.setMethodName ).append( "( " ).append( valueExpression ).append( " );\n" );
+				} else if( property.setByReflection ) {
+					// a static final one fails here as Field.set fails in the reflective path
+					sb.append( "\t\t\t\ttry {\n" );
+					sb.append( "\t\t\t\t\tFINAL_FIELDS[" ).append( propertyIndex ).append( "].set" ).append( kind == KIND_OBJECT ? "" : KIND_NAMES[kind] ).append( "( object, value );\n" );
+					sb.append( "\t\t\t\t} catch (IllegalAccessException e) {\n" );
+					sb.append( "\t\t\t\t\tthrow new IllegalStateException( e );\n" );
+					sb.append( "\t\t\t\t}\n" );
+				} else {
+					sb.append( "\t\t\t\t" ).append( property.setTarget ).append( "." ).append( property.name ).append( " = " ).append( valueExpression ).append( " ;\n" );
+				}
+				sb.append( "\t\t\t\treturn;\n" );
+			}
+			sb.append( "\t\t\tdefault :\n\t\t\t\tthrow new IllegalArgumentException( \"no " ).append( KIND_TYPES[kind] ).append( " property to set at index[\"+index+\"]\" );\n" );
+			sb.append( "\t\t}\n\t}\n" );
+		}
+
+		for( kind = 0 ; kind < KIND_NAMES.length ; kind++ ) {
+			sb.append( "\n\t@Override\n\tpublic " ).append( KIND_TYPES[kind] ).append( " get" ).append( KIND_NAMES[kind] ).append( "( Object object, int index ) {\n" );
+			sb.append( "\t\tswitch( index ) {\n" );
+			for( propertyIndex = 0 ; propertyIndex < properties.size() ; propertyIndex++ ) {
+				Property property = properties.get(propertyIndex) ;
+				if( property.kind != kind || ( property.flags & (PROPERTY_GET_METHOD|PROPERTY_GET_FIELD) ) == 0 )
+					continue;
+				sb.append( "\t\t\tcase " ).append( propertyIndex ).append( " :\n" );
+				if( ( property.flags & PROPERTY_GET_METHOD ) != 0 )
+					sb.append( "\t\t\t\treturn " ).append( property.getTarget ).append( "." ).append( property.getMethodName ).append( "();\n" );
+				else
+					sb.append( "\t\t\t\treturn " ).append( property.getTarget ).append( "." ).append( property.name ).append( ";\n" );
+			}
+			sb.append( "\t\t\tdefault :\n\t\t\t\tthrow new IllegalArgumentException( \"no " ).append( KIND_TYPES[kind] ).append( " property to get at index[\"+index+\"]\" );\n" );
+			sb.append( "\t\t}\n\t}\n" );
+		}
+
+		sb.append( "}\n" );
+
+		return sb.toString();
+	}
+
+	// merged with the entries an earlier incremental build left in the output
+	private void writeServiceFile() {
+		LinkedHashSet<String>	serviceNames = new LinkedHashSet<String>() ;
+		FileObject				fileObject ;
+		String					line ;
+
+		try {
+			fileObject = filer.getResource( StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE ) ;
+			try (BufferedReader reader = new BufferedReader( new InputStreamReader( fileObject.openInputStream(), StandardCharsets.UTF_8 ) )) {
+				while( ( line = reader.readLine() ) != null ) {
+					line = line.trim() ;
+					if( ! line.isEmpty() && ! line.startsWith("#") )
+						serviceNames.add( line );
+				}
+			}
+		} catch (IOException e) {
+			;
+		}
+		serviceNames.addAll( providerNames );
+
+		try {
+			fileObject = filer.createResource( StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE ) ;
+			try (Writer writer = fileObject.openWriter()) {
+				for( String serviceName : serviceNames )
+					writer.write( serviceName+"\n" );
+			}
+		} catch (IOException e) {
+			messager.printMessage( Diagnostic.Kind.ERROR, "write "+SERVICE_FILE+" failed : "+e.getMessage() );
+		}
+	}
+}
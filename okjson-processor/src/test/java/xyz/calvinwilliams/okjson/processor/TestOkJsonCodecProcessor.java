@@ -0,0 +1,262 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson.processor;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.ServiceLoader;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import xyz.calvinwilliams.okjson.OKJSON;
+import xyz.calvinwilliams.okjson.OkJsonCodecProvider;
+
+/*
+ * Compiles one class twice with the processor on, as CodecSample marked
+ * with @OkJsonCodec and as ReflectiveSample without, then checks the
+ * generated codec writes and reads every property, char, static and final
+ * ones included, as the reflective path does. Exits with 1 on a difference
+ * so the build fails.
+ */
+public class TestOkJsonCodecProcessor {
+
+	final private static String	SAMPLE_SOURCE =
+		"package codecsample;\n" +
+		"\n" +
+		"import java.time.LocalDate;\n" +
+		"import java.util.List;\n" +
+		"import java.util.Map;\n" +
+		"\n" +
+		"ANNOTATION\n" +
+		"public class NAME {\n" +
+		"\tpublic String str1 ;\n" +
+		"\tpublic int int1 ;\n" +
+		"\tpublic Integer integer1 ;\n" +
+		"\tprivate long long1 ;\n" +
+		"\tprivate boolean boolean1 ;\n" +
+		"\tpublic double double1 ;\n" +
+		"\tpublic char char1 ;\n" +
+		"\tpublic Character character1 ;\n" +
+		"\tprivate char char2 ;\n" +
+		"\tpublic static int staticInt1 ;\n" +
+		"\tpublic static final String STATIC_FINAL_STR1 = \"constant\" ;\n" +
+		"\tpublic final int finalInt1 ;\n" +
+		"\tpublic final String finalStr1 ;\n" +
+		"\tpublic List<String> list1 ;\n" +
+		"\tpublic Map<String,Integer> map1 ;\n" +
+		"\tpublic int[] array1 ;\n" +
+		"\t@xyz.calvinwilliams.okjson.OkJsonDateTimeFormatter(format=\"yyyy/MM/dd\")\n" +
+		"\tpublic LocalDate localDate1 ;\n" +
+		"\n" +
+		"\tpublic NAME() {\n" +
+		"\t\tfinalInt1 = 0 ;\n" +
+		"\t\tfinalStr1 = null ;\n" +
+		"\t}\n" +
+		"\tpublic long getLong1() { return long1; }\n" +
+		"\tpublic void setLong1( long long1 ) { this.long1 = long1 ; }\n" +
+		"\tpublic boolean isBoolean1() { return boolean1; }\n" +
+		"\tpublic void setBoolean1( boolean boolean1 ) { this.boolean1 = boolean1 ; }\n" +
+		"\tpublic char getChar2() { return char2; }\n" +
+		"\tpublic void setChar2( char char2 ) { this.char2 = char2 ; }\n" +
+		"\tpublic void setLocalDate1( LocalDate localDate1 ) { this.localDate1 = localDate1 ; }\n" +
+		"}\n" ;
+
+	// every property but STATIC_FINAL_STR1, which neither path can set
+	final private static String	PARSED_JSON =
+		"{ \"str1\" : \"parsed\", \"int1\" : 11, \"integer1\" : 12, \"long1\" : 13, \"boolean1\" : true, \"double1\" : 14.5," +
+		" \"char1\" : \"y\", \"character1\" : \"\\\"\", \"char2\" : \"z\", \"staticInt1\" : 15, \"finalInt1\" : 16, \"finalStr1\" : \"finally\"," +
+		" \"list1\" : [ \"a\", \"b\" ], \"map1\" : { \"k\" : 17 }, \"array1\" : [ 18, 19 ], \"localDate1\" : \"2020/02/29\" }" ;
+
+	public static void main(String[] args) throws Exception {
+		Path	tempDirectory = Files.createTempDirectory( "okjson-processor" ) ;
+		boolean	ok ;
+
+		try {
+			ok = test( tempDirectory ) ;
+		} finally {
+			try (Stream<Path> paths = Files.walk( tempDirectory )) {
+				paths.sorted( Comparator.reverseOrder() ).map( Path::toFile ).forEach( File::delete );
+			}
+		}
+		if( ! ok )
+			System.exit( 1 );
+
+		System.out.println( "ALL test is OK" );
+		return;
+	}
+
+	private static boolean test( Path tempDirectory ) throws Exception {
+		Path		sourceDirectory = tempDirectory.resolve( "src" ).resolve( "codecsample" ) ;
+		Path		classDirectory = tempDirectory.resolve( "classes" ) ;
+		Path		codecSourcePath = sourceDirectory.resolve( "CodecSample.java" ) ;
+		Path		reflectiveSourcePath = sourceDirectory.resolve( "ReflectiveSample.java" ) ;
+		JavaCompiler	compiler = ToolProvider.getSystemJavaCompiler() ;
+		int			nret ;
+
+		System.out.println( "compile ..." );
+		if( compiler == null ) {
+			System.out.println( "no system java compiler, run on a JDK" );
+			return false;
+		}
+		Files.createDirectories( sourceDirectory );
+		Files.createDirectories( classDirectory );
+		Files.write( codecSourcePath, SAMPLE_SOURCE.replace( "ANNOTATION", "@xyz.calvinwilliams.okjson.OkJsonCodec" ).replace( "NAME", "CodecSample" ).getBytes(StandardCharsets.UTF_8) );
+		Files.write( reflectiveSourcePath, SAMPLE_SOURCE.replace( "ANNOTATION", "" ).replace( "NAME", "ReflectiveSample" ).getBytes(StandardCharsets.UTF_8) );
+		nret = compiler.run( null, null, null, "-classpath", System.getProperty("java.class.path"), "-processor", OkJsonCodecProcessor.class.getName(), "-d", classDirectory.toString(), codecSourcePath.toString(), reflectiveSourcePath.toString() ) ;
+		if( nret != 0 ) {
+			System.out.println( "compile failed["+nret+"]" );
+			return false;
+		}
+		System.out.println( "compile ok" );
+
+		// the codec registry is loaded once with the context class loader, before any OKJSON call
+		URLClassLoader classLoader = new URLClassLoader( new URL[]{ classDirectory.toUri().toURL() }, TestOkJsonCodecProcessor.class.getClassLoader() ) ;
+		Thread.currentThread().setContextClassLoader( classLoader );
+		Class<?> codecClass = classLoader.loadClass( "codecsample.CodecSample" ) ;
+		Class<?> reflectiveClass = classLoader.loadClass( "codecsample.ReflectiveSample" ) ;
+
+		System.out.println( "service ..." );
+		boolean codecFound = false ;
+		for( OkJsonCodecProvider codecProvider : ServiceLoader.load( OkJsonCodecProvider.class, classLoader ) ) {
+			if( codecProvider.getBoundClass() == reflectiveClass ) {
+				System.out.println( "a codec is generated for ReflectiveSample" );
+				return false;
+			} else if( codecProvider.getBoundClass() == codecClass ) {
+				codecFound = true ;
+			}
+		}
+		if( ! codecFound ) {
+			System.out.println( "no codec is found for CodecSample" );
+			return false;
+		}
+		System.out.println( "service ok" );
+
+		System.out.println( "objectToString ..." );
+		Object codecObject = codecClass.getDeclaredConstructor().newInstance() ;
+		Object reflectiveObject = reflectiveClass.getDeclaredConstructor().newInstance() ;
+		fill( codecObject );
+		fill( reflectiveObject );
+		for( int options : new int[]{ 0, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_PRETTY_FORMAT_ENABLE } ) {
+			String codecString = OKJSON.objectToString( codecObject, options ) ;
+			String reflectiveString = OKJSON.objectToString( reflectiveObject, options ) ;
+			if( codecString == null || ! codecString.equals( reflectiveString ) ) {
+				System.out.println( "options["+options+"] codec result["+codecString+"] is not equals with reflective result["+reflectiveString+"]" );
+				return false;
+			}
+		}
+		String string = OKJSON.objectToString( codecObject, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( ! string.contains( "\"char1\":\"x\"" ) || ! string.contains( "\"character1\":\"\\\\\"" ) || ! string.contains( "\"char2\":\"w\"" ) || ! string.contains( "\"staticInt1\":5" ) || ! string.contains( "\"STATIC_FINAL_STR1\":\"constant\"" ) || ! string.contains( "\"finalInt1\":6" ) ) {
+			System.out.println( "char, static or final properties missing in["+string+"]" );
+			return false;
+		}
+		System.out.println( "objectToString ok" );
+
+		System.out.println( "stringToObject ..." );
+		for( int options : new int[]{ 0, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_STRICT_POLICY } ) {
+			setStatic( codecClass, "staticInt1", 0 );
+			setStatic( reflectiveClass, "staticInt1", 0 );
+			codecObject = OKJSON.stringToObject( PARSED_JSON, codecClass, options ) ;
+			reflectiveObject = OKJSON.stringToObject( PARSED_JSON, reflectiveClass, options ) ;
+			if( codecObject == null || reflectiveObject == null ) {
+				System.out.println( "options["+options+"] stringToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return false;
+			}
+			String codecString = OKJSON.objectToString( codecObject, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+			String reflectiveString = OKJSON.objectToString( reflectiveObject, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+			if( ! codecString.equals( reflectiveString ) ) {
+				System.out.println( "options["+options+"] codec parsed["+codecString+"] is not equals with reflective parsed["+reflectiveString+"]" );
+				return false;
+			}
+			if( ( options & OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) != 0 && ( ! codecString.contains( "\"char1\":\"y\"" ) || ! codecString.contains( "\"staticInt1\":15" ) || ! codecString.contains( "\"finalInt1\":16" ) || ! codecString.contains( "\"finalStr1\":\"finally\"" ) ) ) {
+				System.out.println( "options["+options+"] char, static or final properties not parsed in["+codecString+"]" );
+				return false;
+			}
+			if( ! codecString.contains( "\"char2\":\"z\"" ) || ! codecString.contains( "\"long1\":13" ) ) {
+				System.out.println( "options["+options+"] properties with setters not parsed in["+codecString+"]" );
+				return false;
+			}
+		}
+		// a static final field is not a property to set in either, it is passed over, or an unknown name under the strict policy
+		codecObject = OKJSON.stringToObject( "{ \"STATIC_FINAL_STR1\" : \"changed\" }", codecClass, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		int codecErrorCode = OKJSON.getErrorCode() ;
+		reflectiveObject = OKJSON.stringToObject( "{ \"STATIC_FINAL_STR1\" : \"changed\" }", reflectiveClass, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		int reflectiveErrorCode = OKJSON.getErrorCode() ;
+		if( codecObject == null || reflectiveObject == null || codecErrorCode != 0 || reflectiveErrorCode != 0
+				|| ! "constant".equals( codecClass.getField("STATIC_FINAL_STR1").get(null) ) || ! "constant".equals( reflectiveClass.getField("STATIC_FINAL_STR1").get(null) ) ) {
+			System.out.println( "static final field by codec["+codecErrorCode+"] and reflection["+reflectiveErrorCode+"]" );
+			return false;
+		}
+		codecObject = OKJSON.stringToObject( "{ \"STATIC_FINAL_STR1\" : \"changed\" }", codecClass, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_STRICT_POLICY ) ;
+		codecErrorCode = OKJSON.getErrorCode() ;
+		reflectiveObject = OKJSON.stringToObject( "{ \"STATIC_FINAL_STR1\" : \"changed\" }", reflectiveClass, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_STRICT_POLICY ) ;
+		reflectiveErrorCode = OKJSON.getErrorCode() ;
+		if( codecObject != null || reflectiveObject != null || codecErrorCode != OKJSON.OKJSON_ERROR_NAME_NOT_FOUND_IN_OBJECT || reflectiveErrorCode != codecErrorCode ) {
+			System.out.println( "static final field under the strict policy by codec["+codecErrorCode+"] and reflection["+reflectiveErrorCode+"]" );
+			return false;
+		}
+		// not a string of one char
+		codecObject = OKJSON.stringToObject( "{ \"char1\" : \"xy\" }", codecClass, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_STRICT_POLICY ) ;
+		codecErrorCode = OKJSON.getErrorCode() ;
+		reflectiveObject = OKJSON.stringToObject( "{ \"char1\" : \"xy\" }", reflectiveClass, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_STRICT_POLICY ) ;
+		reflectiveErrorCode = OKJSON.getErrorCode() ;
+		if( codecObject != null || reflectiveObject != null || codecErrorCode != OKJSON.OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT || reflectiveErrorCode != codecErrorCode ) {
+			System.out.println( "char from a long string by codec["+codecErrorCode+"] and reflection["+reflectiveErrorCode+"]" );
+			return false;
+		}
+		System.out.println( "stringToObject ok" );
+
+		classLoader.close();
+		return true;
+	}
+
+	// the same values in both, through the fields as neither has setters for all
+	private static void fill( Object object ) throws Exception {
+		Class<?>						clazz = object.getClass() ;
+		LinkedHashMap<String,Integer>	map1 = new LinkedHashMap<String,Integer>() ;
+
+		map1.put( "one", 1 );
+		set( object, "str1", "string with \"quotes\"" );
+		set( object, "int1", 1 );
+		set( object, "integer1", 2 );
+		set( object, "long1", 3L );
+		set( object, "boolean1", true );
+		set( object, "double1", 4.5 );
+		set( object, "char1", 'x' );
+		set( object, "character1", '\\' );
+		set( object, "char2", 'w' );
+		setStatic( clazz, "staticInt1", 5 );
+		set( object, "finalInt1", 6 );
+		set( object, "finalStr1", "final" );
+		set( object, "list1", Arrays.asList( "a", "b" ) );
+		set( object, "map1", map1 );
+		set( object, "array1", new int[]{ 7, 8 } );
+		set( object, "localDate1", LocalDate.of( 2020, 1, 31 ) );
+	}
+
+	private static void set( Object object, String name, Object value ) throws Exception {
+		Field field = object.getClass().getDeclaredField( name ) ;
+		field.setAccessible( true );
+		field.set( object, value );
+	}
+
+	private static void setStatic( Class<?> clazz, String name, Object value ) throws Exception {
+		clazz.getDeclaredField( name ).set( null, value );
+	}
+}
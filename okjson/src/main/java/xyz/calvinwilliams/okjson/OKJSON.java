@@ -0,0 +1,389 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+public class OKJSON {
+	final public static int	OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE = 1 ;
+	final public static int	OPTIONS_PRETTY_FORMAT_ENABLE = 2 ;
+	final public static int	OPTIONS_STRICT_POLICY = 4 ;
+	final public static int	OPTIONS_FILE_MAPPED_ENABLE = 8 ;
+	final public static int	OPTIONS_CONTAINER_SIZE_HINT_ENABLE = 16 ;
+	
+	final public static int	OKJSON_ERROR_END_OF_BUFFER = OkJsonParser.OKJSON_ERROR_END_OF_BUFFER ;
+	final public static int	OKJSON_ERROR_UNEXPECT = OkJsonParser.OKJSON_ERROR_UNEXPECT ;
+	final public static int	OKJSON_ERROR_EXCEPTION = OkJsonParser.OKJSON_ERROR_EXCEPTION ;
+	final public static int	OKJSON_ERROR_INVALID_BYTE = OkJsonParser.OKJSON_ERROR_INVALID_BYTE ;
+	final public static int	OKJSON_ERROR_FIND_FIRST_LEFT_BRACE = OkJsonParser.OKJSON_ERROR_FIND_FIRST_LEFT_BRACE ;
+	final public static int	OKJSON_ERROR_NAME_INVALID = OkJsonParser.OKJSON_ERROR_NAME_INVALID ;
+	final public static int	OKJSON_ERROR_EXPECT_COLON_AFTER_NAME = OkJsonParser.OKJSON_ERROR_EXPECT_COLON_AFTER_NAME ;
+	final public static int	OKJSON_ERROR_UNEXPECT_TOKEN_AFTER_LEFT_BRACE = OkJsonParser.OKJSON_ERROR_UNEXPECT_TOKEN_AFTER_LEFT_BRACE ;
+	final public static int	OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT = OkJsonParser.OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT ;
+	final public static int	OKJSON_ERROR_NUMBER_OVERFLOW = OkJsonParser.OKJSON_ERROR_NUMBER_OVERFLOW ;
+	final public static int	OKJSON_ERROR_NAME_NOT_FOUND_IN_OBJECT = OkJsonParser.OKJSON_ERROR_NAME_NOT_FOUND_IN_OBJECT ;
+	final public static int	OKJSON_ERROR_NEW_OBJECT = OkJsonParser.OKJSON_ERROR_NEW_OBJECT ;
+	
+	private static ThreadLocal<OkJsonGenerator>			okjsonGeneratorCache = new ThreadLocal<OkJsonGenerator>() ;
+	private static ThreadLocal<OkJsonParser>			okjsonParserCache = new ThreadLocal<OkJsonParser>() ;
+	
+	// null while the per-thread instances above are used
+	private static volatile OkJsonInstancePool<OkJsonParser>		okjsonParserPool ;
+	private static volatile OkJsonInstancePool<OkJsonGenerator>		okjsonGeneratorPool ;
+	
+	private static ThreadLocal<Integer>	errorCode = new ThreadLocal<Integer>() ;
+	private static ThreadLocal<String>	errorDesc = new ThreadLocal<String>() ;
+	
+	public static Integer getErrorCode() {
+		return errorCode.get();
+	}
+	
+	public static String getErrorDesc() {
+		return errorDesc.get();
+	}
+	
+	public static long getKeyPredictionHitCount() {
+		return OkJsonParser.keyPredictionHitCount.sum();
+	}
+	
+	public static long getKeyPredictionMissCount() {
+		return OkJsonParser.keyPredictionMissCount.sum();
+	}
+	
+	public static void resetKeyPredictionCount() {
+		OkJsonParser.keyPredictionHitCount.reset();
+		OkJsonParser.keyPredictionMissCount.reset();
+	}
+	
+	/*
+	 * capacity > 0 takes parsers and generators, with their buffers, from
+	 * pools shared by all threads and holding at most capacity of each,
+	 * instead of keeping one per thread. For many short-lived threads, such
+	 * as one virtual thread per request. 0 goes back to one per thread.
+	 */
+	public static void setInstancePoolCapacity( int capacity ) {
+		if( capacity > 0 ) {
+			okjsonParserPool = new OkJsonInstancePool<OkJsonParser>( capacity ) ;
+			okjsonGeneratorPool = new OkJsonInstancePool<OkJsonGenerator>( capacity ) ;
+		} else {
+			okjsonParserPool = null ;
+			okjsonGeneratorPool = null ;
+		}
+	}
+	
+	public static int getInstancePoolCapacity() {
+		OkJsonInstancePool<OkJsonParser> pool = okjsonParserPool ;
+		return ( pool != null ? pool.getCapacity() : 0 );
+	}
+	
+	/*
+	 * Chunks of 32K bytes and of 32K chars that objectToBytes, objectToFile
+	 * and objectToString keep between documents past the first 32K, at most
+	 * capacity of each, shared by all threads. 0 lets every chunk go to the
+	 * garbage collector.
+	 */
+	public static void setChunkPoolCapacity( int capacity ) {
+		OkJsonByteSegmentBuilder.setChunkPoolCapacity( capacity );
+		OkJsonCharSegmentBuilder.setChunkPoolCapacity( capacity );
+	}
+	
+	public static int getChunkPoolCapacity() {
+		return OkJsonByteSegmentBuilder.getChunkPoolCapacity();
+	}
+	
+	public static int objectToFile( Object object, String filePath, int options ) {
+		OkJsonGenerator okjsonGenerator = getOkJsonGenerator( options ) ;
+		
+		int nret = okjsonGenerator.objectToFile(object,filePath) ;
+		
+		errorCode.set(okjsonGenerator.getErrorCode());
+		errorDesc.set(okjsonGenerator.getErrorDesc());
+		releaseOkJsonGenerator( okjsonGenerator );
+		
+		if( nret != 0 )
+			return -1;
+		return 0;
+	}
+	
+	public static String objectToString( Object object, int options ) {
+		OkJsonGenerator okjsonGenerator = getOkJsonGenerator( options ) ;
+		
+		String string = okjsonGenerator.objectToString(object) ;
+		
+		errorCode.set(okjsonGenerator.getErrorCode());
+		errorDesc.set(okjsonGenerator.getErrorDesc());
+		releaseOkJsonGenerator( okjsonGenerator );
+		
+		return string;
+	}
+	
+	public static byte[] objectToBytes( Object object, int options ) {
+		OkJsonGenerator okjsonGenerator = getOkJsonGenerator( options ) ;
+		
+		byte[] bytes = okjsonGenerator.objectToBytes(object) ;
+		
+		errorCode.set(okjsonGenerator.getErrorCode());
+		errorDesc.set(okjsonGenerator.getErrorDesc());
+		releaseOkJsonGenerator( okjsonGenerator );
+		
+		return bytes;
+	}
+	
+	public static int objectToStream( Object object, OutputStream outputStream, int options ) {
+		OkJsonGenerator okjsonGenerator = getOkJsonGenerator( options ) ;
+		
+		int nret = okjsonGenerator.objectToStream(object, outputStream) ;
+		
+		errorCode.set(okjsonGenerator.getErrorCode());
+		errorDesc.set(okjsonGenerator.getErrorDesc());
+		releaseOkJsonGenerator( okjsonGenerator );
+		
+		return nret;
+	}
+	
+	public static int objectToChannel( Object object, WritableByteChannel channel, int options ) {
+		OkJsonGenerator okjsonGenerator = getOkJsonGenerator( options ) ;
+		
+		int nret = okjsonGenerator.objectToChannel(object, channel) ;
+		
+		errorCode.set(okjsonGenerator.getErrorCode());
+		errorDesc.set(okjsonGenerator.getErrorDesc());
+		releaseOkJsonGenerator( okjsonGenerator );
+		
+		return nret;
+	}
+	
+	public static int objectToWriter( Object object, Writer writer, int options ) {
+		OkJsonGenerator okjsonGenerator = getOkJsonGenerator( options ) ;
+		
+		int nret = okjsonGenerator.objectToWriter(object, writer) ;
+		
+		errorCode.set(okjsonGenerator.getErrorCode());
+		errorDesc.set(okjsonGenerator.getErrorDesc());
+		releaseOkJsonGenerator( okjsonGenerator );
+		
+		return nret;
+	}
+	
+	private static OkJsonGenerator getOkJsonGenerator( int options ) {
+		OkJsonInstancePool<OkJsonGenerator>	pool = okjsonGeneratorPool ;
+		OkJsonGenerator						okjsonGenerator ;
+		
+		if( pool != null ) {
+			okjsonGenerator = pool.acquire() ;
+			if( okjsonGenerator == null ) {
+				okjsonGenerator = new OkJsonGenerator() ;
+				okjsonGenerator.instancePool = pool ;
+			}
+		} else {
+			okjsonGenerator = okjsonGeneratorCache.get();
+			if( okjsonGenerator == null ) {
+				okjsonGenerator = new OkJsonGenerator() ;
+				okjsonGeneratorCache.set(okjsonGenerator);
+			}
+		}
+		
+		if( (options&OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE) != 0 )
+			okjsonGenerator.setDirectAccessPropertyEnable(true);
+		else
+			okjsonGenerator.setDirectAccessPropertyEnable(false);
+		if( (options&OPTIONS_PRETTY_FORMAT_ENABLE) != 0 )
+			okjsonGenerator.setPrettyFormatEnable(true);
+		else
+			okjsonGenerator.setPrettyFormatEnable(false);
+		
+		return okjsonGenerator;
+	}
+	
+	// back to the pool it was taken from, a per-thread generator stays where it is
+	private static void releaseOkJsonGenerator( OkJsonGenerator okjsonGenerator ) {
+		if( okjsonGenerator.instancePool != null )
+			okjsonGenerator.instancePool.release( okjsonGenerator );
+	}
+	
+	public static <T> T fileToObject( String filePath, Class<T> clazz, int options ) {
+		byte[] jsonBytes = null ;
+		
+		if( (options&OPTIONS_FILE_MAPPED_ENABLE) != 0 ) {
+			T object = newObject( clazz ) ;
+			if( object == null )
+				return null;
+			
+			OkJsonParser okjsonParser = getOkJsonParser( options ) ;
+			try {
+				object = okjsonParser.fileToObject(filePath, object);
+			} catch (RuntimeException e) {
+				okjsonParser.setErrorCode(OKJSON_ERROR_EXCEPTION);
+				okjsonParser.setErrorDesc(e.toString());
+				throw e;
+			} finally {
+				releaseOkJsonParser( okjsonParser );
+			}
+			
+			return object;
+		}
+		
+		// UTF-8 like the mapped file, whatever the platform charset
+		try {
+			jsonBytes = Files.readAllBytes(Paths.get(filePath)) ;
+		} catch(IOException e) {
+			errorCode.set(OKJSON_ERROR_EXCEPTION);
+			errorDesc.set(e.getMessage());
+			return null;
+		}
+		
+		return bytesToObject( jsonBytes, 0, jsonBytes.length, clazz, options );
+	}
+	
+	public static <T> T stringToObject( String jsonString, Class<T> clazz, int options ) {
+		T object = newObject( clazz ) ;
+		if( object == null )
+			return null;
+		
+		OkJsonParser okjsonParser = getOkJsonParser( options ) ;
+		try {
+			object = okjsonParser.stringToObject(jsonString, object);
+		} catch (RuntimeException e) {
+			okjsonParser.setErrorCode(OKJSON_ERROR_EXCEPTION);
+			okjsonParser.setErrorDesc(e.toString());
+			throw e;
+		} finally {
+			releaseOkJsonParser( okjsonParser );
+		}
+		
+		return object;
+	}
+	
+	public static <T> T bytesToObject( byte[] jsonBytes, Class<T> clazz, int options ) {
+		return bytesToObject( jsonBytes, 0, jsonBytes.length, clazz, options );
+	}
+	
+	public static <T> T bytesToObject( byte[] jsonBytes, int offset, int length, Class<T> clazz, int options ) {
+		T object = newObject( clazz ) ;
+		if( object == null )
+			return null;
+		
+		OkJsonParser okjsonParser = getOkJsonParser( options ) ;
+		try {
+			object = okjsonParser.bytesToObject(jsonBytes, offset, length, object);
+		} catch (RuntimeException e) {
+			okjsonParser.setErrorCode(OKJSON_ERROR_EXCEPTION);
+			okjsonParser.setErrorDesc(e.toString());
+			throw e;
+		} finally {
+			releaseOkJsonParser( okjsonParser );
+		}
+		
+		return object;
+	}
+	
+	public static <T> T streamToObject( InputStream jsonInputStream, Class<T> clazz, int options ) {
+		T object = newObject( clazz ) ;
+		if( object == null )
+			return null;
+		
+		OkJsonParser okjsonParser = getOkJsonParser( options ) ;
+		try {
+			object = okjsonParser.streamToObject(jsonInputStream, object);
+		} catch (RuntimeException e) {
+			okjsonParser.setErrorCode(OKJSON_ERROR_EXCEPTION);
+			okjsonParser.setErrorDesc(e.toString());
+			throw e;
+		} finally {
+			releaseOkJsonParser( okjsonParser );
+		}
+		
+		return object;
+	}
+	
+	public static <T> T readerToObject( Reader jsonReader, Class<T> clazz, int options ) {
+		T object = newObject( clazz ) ;
+		if( object == null )
+			return null;
+		
+		OkJsonParser okjsonParser = getOkJsonParser( options ) ;
+		try {
+			object = okjsonParser.readerToObject(jsonReader, object);
+		} catch (RuntimeException e) {
+			okjsonParser.setErrorCode(OKJSON_ERROR_EXCEPTION);
+			okjsonParser.setErrorDesc(e.toString());
+			throw e;
+		} finally {
+			releaseOkJsonParser( okjsonParser );
+		}
+		
+		return object;
+	}
+	
+	// the error of a failed construction is kept for getErrorCode like that of a failed parse
+	private static <T> T newObject( Class<T> clazz ) {
+		try {
+			return OkJsonCodecRegistry.newInstance( clazz );
+		} catch (Exception e) {
+			errorCode.set(OKJSON_ERROR_NEW_OBJECT);
+			errorDesc.set("New object failed for "+clazz.getName()+" : "+e);
+			return null;
+		}
+	}
+	
+	private static OkJsonParser getOkJsonParser( int options ) {
+		OkJsonInstancePool<OkJsonParser>	pool = okjsonParserPool ;
+		OkJsonParser						okjsonParser ;
+		
+		if( pool != null ) {
+			okjsonParser = pool.acquire() ;
+			if( okjsonParser == null ) {
+				okjsonParser = new OkJsonParser() ;
+				okjsonParser.instancePool = pool ;
+			}
+		} else {
+			okjsonParser = okjsonParserCache.get();
+			if( okjsonParser == null ) {
+				okjsonParser = new OkJsonParser() ;
+				okjsonParserCache.set(okjsonParser);
+			}
+		}
+		
+		if( (options&OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE) != 0 )
+			okjsonParser.setDirectAccessPropertyEnable(true);
+		else
+			okjsonParser.setDirectAccessPropertyEnable(false);
+		if( (options&OPTIONS_STRICT_POLICY) != 0 )
+			okjsonParser.setStrictPolicyEnable(true);
+		else
+			okjsonParser.setStrictPolicyEnable(false);
+		if( (options&OPTIONS_FILE_MAPPED_ENABLE) != 0 )
+			okjsonParser.setFileMappedEnable(true);
+		else
+			okjsonParser.setFileMappedEnable(false);
+		if( (options&OPTIONS_CONTAINER_SIZE_HINT_ENABLE) != 0 )
+			okjsonParser.setContainerSizeHintEnable(true);
+		else
+			okjsonParser.setContainerSizeHintEnable(false);
+		okjsonParser.setErrorCode(0);
+		okjsonParser.setErrorDesc(null);
+		
+		return okjsonParser;
+	}
+	
+	// back to the pool it was taken from, a per-thread parser stays where it is, its error is kept for getErrorCode
+	private static void releaseOkJsonParser( OkJsonParser okjsonParser ) {
+		errorCode.set(okjsonParser.getErrorCode());
+		errorDesc.set(okjsonParser.getErrorDesc());
+		if( okjsonParser.instancePool != null )
+			okjsonParser.instancePool.release( okjsonParser );
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+/*
+ * Typed access to the bound properties of one class, the index is the
+ * position of the property in the parser's or generator's field list.
+ * Implemented by the classes OkJsonAccessorGenerator defines at runtime in
+ * the package of the bound class, so it must stay public. Applications do
+ * not call it.
+ */
+public interface OkJsonAccessor {
+
+	public void setBoolean( Object object, int index, boolean value ) ;
+	public void setByte( Object object, int index, byte value ) ;
+	public void setShort( Object object, int index, short value ) ;
+	public void setInt( Object object, int index, int value ) ;
+	public void setLong( Object object, int index, long value ) ;
+	public void setFloat( Object object, int index, float value ) ;
+	public void setDouble( Object object, int index, double value ) ;
+	public void setObject( Object object, int index, Object value ) ;
+
+	public boolean getBoolean( Object object, int index ) ;
+	public byte getByte( Object object, int index ) ;
+	public short getShort( Object object, int index ) ;
+	public int getInt( Object object, int index ) ;
+	public long getLong( Object object, int index ) ;
+	public float getFloat( Object object, int index ) ;
+	public double getDouble( Object object, int index ) ;
+	public Object getObject( Object object, int index ) ;
+}
@@ -0,0 +1,511 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/*
+ * Defines an OkJsonAccessor for a bound class as a hidden class in the
+ * package of that class. Every set/get method is a tableswitch on the index
+ * whose cases do a checkcast and a direct putfield/getfield or invokevirtual
+ * of the setter/getter, so there is no boxing, no argument array and no
+ * access check per call. Properties that can not be reached that way
+ * (static, final, char, non-public, getter of another type) are left out and
+ * stay on reflection, and any failure to define the class returns null so
+ * the callers fall back to OkJsonHandleAccessor.
+ *
+ * Hidden classes came with Java 15. The three methods they need are looked
+ * up by reflection once, so the library still builds and runs on Java 8,
+ * where generate always returns null.
+ */
+final class OkJsonAccessorGenerator {
+
+	final static int	KIND_UNSUPPORTED = -1 ;
+	final static int	KIND_BOOLEAN = 0 ;
+	final static int	KIND_BYTE = 1 ;
+	final static int	KIND_SHORT = 2 ;
+	final static int	KIND_INT = 3 ;
+	final static int	KIND_LONG = 4 ;
+	final static int	KIND_FLOAT = 5 ;
+	final static int	KIND_DOUBLE = 6 ;
+	final static int	KIND_OBJECT = 7 ;
+
+	final private static String[]	KIND_NAMES = { "Boolean", "Byte", "Short", "Int", "Long", "Float", "Double", "Object" } ;
+	final private static String[]	KIND_DESCRIPTORS = { "Z", "B", "S", "I", "J", "F", "D", "Ljava/lang/Object;" } ;
+	final private static int[]		KIND_LOAD_3 = { 0x1d, 0x1d, 0x1d, 0x1d, 0x21, 0x25, 0x29, 0x2d } ; // iload_3 lload_3 fload_3 dload_3 aload_3
+	final private static int[]		KIND_RETURN = { 0xac, 0xac, 0xac, 0xac, 0xad, 0xae, 0xaf, 0xb0 } ; // ireturn lreturn freturn dreturn areturn
+	final private static int[]		KIND_ZERO = { 0x03, 0x03, 0x03, 0x03, 0x09, 0x0b, 0x0e, 0x01 } ; // iconst_0 lconst_0 fconst_0 dconst_0 aconst_null
+
+	final private static String		ACCESSOR_INTERFACE = "xyz/calvinwilliams/okjson/OkJsonAccessor" ;
+
+	// Class.isHidden, MethodHandles.privateLookupIn and Lookup.defineHiddenClass, null before Java 15
+	final private static Method		IS_HIDDEN_METHOD ;
+	final private static Method		PRIVATE_LOOKUP_IN_METHOD ;
+	final private static Method		DEFINE_HIDDEN_CLASS_METHOD ;
+	// no ClassOption, passed as the varargs array of defineHiddenClass
+	final private static Object		NO_CLASS_OPTIONS ;
+
+	static {
+		Method		isHiddenMethod = null ;
+		Method		privateLookupInMethod = null ;
+		Method		defineHiddenClassMethod = null ;
+		Object		noClassOptions = null ;
+
+		try {
+			noClassOptions = Array.newInstance( Class.forName( "java.lang.invoke.MethodHandles$Lookup$ClassOption" ), 0 ) ;
+			isHiddenMethod = Class.class.getMethod( "isHidden" ) ;
+			privateLookupInMethod = MethodHandles.class.getMethod( "privateLookupIn", Class.class, MethodHandles.Lookup.class ) ;
+			defineHiddenClassMethod = MethodHandles.Lookup.class.getMethod( "defineHiddenClass", byte[].class, boolean.class, noClassOptions.getClass() ) ;
+		} catch (Exception e) {
+			defineHiddenClassMethod = null ;
+		}
+
+		IS_HIDDEN_METHOD = isHiddenMethod ;
+		PRIVATE_LOOKUP_IN_METHOD = privateLookupInMethod ;
+		DEFINE_HIDDEN_CLASS_METHOD = defineHiddenClassMethod ;
+		NO_CLASS_OPTIONS = noClassOptions ;
+	}
+
+	private OkJsonAccessorGenerator() {
+	}
+
+	static int kindOf( Class<?> type ) {
+		if( ! type.isPrimitive() )
+			return KIND_OBJECT;
+		else if( type == boolean.class )
+			return KIND_BOOLEAN;
+		else if( type == byte.class )
+			return KIND_BYTE;
+		else if( type == short.class )
+			return KIND_SHORT;
+		else if( type == int.class )
+			return KIND_INT;
+		else if( type == long.class )
+			return KIND_LONG;
+		else if( type == float.class )
+			return KIND_FLOAT;
+		else if( type == double.class )
+			return KIND_DOUBLE;
+		else
+			return KIND_UNSUPPORTED;
+	}
+
+	// the setter if not null, else the field itself
+	static boolean canSet( Field field, Method setMethod ) {
+		if( kindOf( field.getType() ) == KIND_UNSUPPORTED || Modifier.isStatic(field.getModifiers()) )
+			return false;
+		if( setMethod != null )
+			return Modifier.isPublic(setMethod.getModifiers()) && ! Modifier.isStatic(setMethod.getModifiers());
+		else
+			return Modifier.isPublic(field.getModifiers()) && ! Modifier.isFinal(field.getModifiers());
+	}
+
+	// the getter if not null, else the field itself
+	static boolean canGet( Field field, Method getMethod ) {
+		if( kindOf( field.getType() ) == KIND_UNSUPPORTED || Modifier.isStatic(field.getModifiers()) )
+			return false;
+		if( getMethod != null )
+			return Modifier.isPublic(getMethod.getModifiers()) && ! Modifier.isStatic(getMethod.getModifiers()) && getMethod.getReturnType() == field.getType();
+		else
+			return Modifier.isPublic(field.getModifiers());
+	}
+
+	/*
+	 * fields[i] null means index i is not served, setMethods or getMethods
+	 * null means that direction is not generated at all.
+	 */
+	static OkJsonAccessor generate( Class<?> clazz, Field[] fields, Method[] setMethods, Method[] getMethods ) {
+		MethodHandles.Lookup	lookup ;
+		Class<?>				accessorClass ;
+		byte[]					classBytes ;
+
+		if( DEFINE_HIDDEN_CLASS_METHOD == null || clazz.isInterface() || clazz.isArray() || clazz.isPrimitive() )
+			return null;
+
+		try {
+			if( (Boolean)IS_HIDDEN_METHOD.invoke( clazz ) )
+				return null;
+			classBytes = new OkJsonAccessorGenerator.ClassBuilder( clazz, fields, setMethods, getMethods ).build() ;
+			lookup = (MethodHandles.Lookup)PRIVATE_LOOKUP_IN_METHOD.invoke( null, clazz, MethodHandles.lookup() ) ;
+			lookup = (MethodHandles.Lookup)DEFINE_HIDDEN_CLASS_METHOD.invoke( lookup, classBytes, true, NO_CLASS_OPTIONS ) ;
+			accessorClass = lookup.lookupClass() ;
+			return (OkJsonAccessor)accessorClass.getConstructor().newInstance();
+		} catch (Exception e) {
+			return null;
+		} catch (LinkageError e) {
+			return null;
+		}
+	}
+
+	// also the name of a CONSTANT_Class entry, arrays come out as their descriptor
+	private static String internalName( Class<?> clazz ) {
+		return clazz.getName().replace( '.', '/' );
+	}
+
+	private static String descriptor( Class<?> type ) {
+		if( type == void.class )
+			return "V";
+		else if( type.isPrimitive() )
+			return KIND_DESCRIPTORS[kindOf(type)];
+		else if( type.isArray() )
+			return internalName( type );
+		else
+			return "L" + internalName( type ) + ";";
+	}
+
+	private static class ClassBuilder {
+
+		private Class<?>					clazz ;
+		private Field[]						fields ;
+		private Method[]					setMethods ;
+		private Method[]					getMethods ;
+
+		private ByteArrayOutputStream		constantPoolBytes = new ByteArrayOutputStream() ;
+		private DataOutputStream			constantPool = new DataOutputStream( constantPoolBytes ) ;
+		private HashMap<String,Integer>		constantIndexes = new HashMap<String,Integer>() ;
+		private int							constantCount = 1 ;
+
+		private ByteArrayOutputStream		methodsBytes = new ByteArrayOutputStream() ;
+		private DataOutputStream			methods = new DataOutputStream( methodsBytes ) ;
+		private int							methodCount = 0 ;
+
+		ClassBuilder( Class<?> clazz, Field[] fields, Method[] setMethods, Method[] getMethods ) {
+			this.clazz = clazz ;
+			this.fields = fields ;
+			this.setMethods = setMethods ;
+			this.getMethods = getMethods ;
+		}
+
+		byte[] build() throws IOException {
+			ByteArrayOutputStream	classBytes = new ByteArrayOutputStream() ;
+			DataOutputStream		out = new DataOutputStream( classBytes ) ;
+			String					thisClassName = internalName( clazz ) + "$OkJsonAccessor" ;
+			int						thisClass = classConstant( thisClassName ) ;
+			int						superClass = classConstant( "java/lang/Object" ) ;
+			int						accessorInterface = classConstant( ACCESSOR_INTERFACE ) ;
+			int						kind ;
+
+			buildConstructor();
+			for( kind = KIND_BOOLEAN ; kind <= KIND_OBJECT ; kind++ ) {
+				buildMethod( kind, true );
+				buildMethod( kind, false );
+			}
+
+			out.writeInt( 0xCAFEBABE );
+			out.writeShort( 0 );
+			out.writeShort( 52 );
+			out.writeShort( constantCount );
+			constantPoolBytes.writeTo( out );
+			out.writeShort( 0x0001 | 0x0010 | 0x0020 ); // public final super
+			out.writeShort( thisClass );
+			out.writeShort( superClass );
+			out.writeShort( 1 );
+			out.writeShort( accessorInterface );
+			out.writeShort( 0 ); // fields
+			out.writeShort( methodCount );
+			methodsBytes.writeTo( out );
+			out.writeShort( 0 ); // attributes
+			out.flush();
+
+			return classBytes.toByteArray();
+		}
+
+		private void buildConstructor() throws IOException {
+			OkJsonAccessorGenerator.CodeBuilder	code = new OkJsonAccessorGenerator.CodeBuilder() ;
+
+			code.u1( 0x2a ); // aload_0
+			code.u1( 0xb7 ); // invokespecial
+			code.u2( methodConstant( "java/lang/Object", "<init>", "()V" ) );
+			code.u1( 0xb1 ); // return
+			writeMethod( "<init>", "()V", code, 1, 1 );
+		}
+
+		/*
+		 * set : iload_2 ; tableswitch ; case : aload_1 checkcast load_3 putfield|invokevirtual (pop) return ; default : return
+		 * get : iload_2 ; tableswitch ; case : aload_1 checkcast getfield|invokevirtual xreturn ; default : const_0 xreturn
+		 */
+		private void buildMethod( int kind, boolean isSet ) throws IOException {
+			OkJsonAccessorGenerator.CodeBuilder	code = new OkJsonAccessorGenerator.CodeBuilder() ;
+			ArrayList<Integer>					caseIndexes = new ArrayList<Integer>() ;
+			Method[]							accessMethods = ( isSet ? setMethods : getMethods ) ;
+			String								methodName = ( isSet ? "set" : "get" ) + KIND_NAMES[kind] ;
+			String								methodDescriptor ;
+			int									index ;
+			int									low ;
+			int									high ;
+			int									switchOffset ;
+			int									tableOffset ;
+			int[]								caseOffsets ;
+			int									defaultOffset ;
+			int									caseIndex ;
+
+			if( isSet )
+				methodDescriptor = "(Ljava/lang/Object;I" + KIND_DESCRIPTORS[kind] + ")V" ;
+			else
+				methodDescriptor = "(Ljava/lang/Object;I)" + KIND_DESCRIPTORS[kind] ;
+
+			if( fields != null && accessMethods != null ) {
+				for( index = 0 ; index < fields.length ; index++ ) {
+					if( fields[index] != null && kindOf( fields[index].getType() ) == kind )
+						caseIndexes.add( index );
+				}
+			}
+
+			if( caseIndexes.isEmpty() ) {
+				writeDefault( code, kind, isSet );
+				writeMethod( methodName, methodDescriptor, code, 2, isSet?5:3 );
+				return;
+			}
+
+			low = caseIndexes.get(0) ;
+			high = caseIndexes.get(caseIndexes.size()-1) ;
+			caseOffsets = new int[caseIndexes.size()] ;
+
+			code.u1( 0x1c ); // iload_2
+			switchOffset = code.length() ;
+			code.u1( 0xaa ); // tableswitch
+			while( code.length() % 4 != 0 )
+				code.u1( 0 );
+			tableOffset = code.length() ;
+			code.u4( 0 );
+			code.u4( low );
+			code.u4( high );
+			for( index = low ; index <= high ; index++ )
+				code.u4( 0 );
+
+			for( caseIndex = 0 ; caseIndex < caseIndexes.size() ; caseIndex++ ) {
+				Field	field = fields[caseIndexes.get(caseIndex)] ;
+				Method	accessMethod = accessMethods[caseIndexes.get(caseIndex)] ;
+
+				caseOffsets[caseIndex] = code.length() ;
+				code.frame();
+				code.u1( 0x2b ); // aload_1
+				code.u1( 0xc0 ); // checkcast
+				code.u2( classConstant( internalName( clazz ) ) );
+				if( isSet ) {
+					code.u1( KIND_LOAD_3[kind] );
+					if( kind == KIND_OBJECT && field.getType() != Object.class ) {
+						code.u1( 0xc0 ); // checkcast
+						code.u2( classConstant( internalName( field.getType() ) ) );
+					}
+					if( accessMethod != null ) {
+						code.u1( 0xb6 ); // invokevirtual
+						code.u2( methodConstant( internalName( clazz ), accessMethod.getName(), "(" + descriptor( field.getType() ) + ")" + descriptor( accessMethod.getReturnType() ) ) );
+						if( accessMethod.getReturnType() == long.class || accessMethod.getReturnType() == double.class )
+							code.u1( 0x58 ); // pop2
+						else if( accessMethod.getReturnType() != void.class )
+							code.u1( 0x57 ); // pop
+					} else {
+						code.u1( 0xb5 ); // putfield
+						code.u2( fieldConstant( internalName( clazz ), field.getName(), descriptor( field.getType() ) ) );
+					}
+					code.u1( 0xb1 ); // return
+				} else {
+					if( accessMethod != null ) {
+						code.u1( 0xb6 ); // invokevirtual
+						code.u2( methodConstant( internalName( clazz ), accessMethod.getName(), "()" + descriptor( field.getType() ) ) );
+					} else {
+						code.u1( 0xb4 ); // getfield
+						code.u2( fieldConstant( internalName( clazz ), field.getName(), descriptor( field.getType() ) ) );
+					}
+					code.u1( KIND_RETURN[kind] );
+				}
+			}
+
+			defaultOffset = code.length() ;
+			code.frame();
+			writeDefault( code, kind, isSet );
+
+			code.patch( tableOffset, defaultOffset - switchOffset );
+			for( index = low ; index <= high ; index++ )
+				code.patch( tableOffset + 12 + 4*(index-low), defaultOffset - switchOffset );
+			for( caseIndex = 0 ; caseIndex < caseIndexes.size() ; caseIndex++ )
+				code.patch( tableOffset + 12 + 4*(caseIndexes.get(caseIndex)-low), caseOffsets[caseIndex] - switchOffset );
+
+			writeMethod( methodName, methodDescriptor, code, 4, isSet?5:3 );
+		}
+
+		private void writeDefault( OkJsonAccessorGenerator.CodeBuilder code, int kind, boolean isSet ) {
+			if( isSet ) {
+				code.u1( 0xb1 ); // return
+			} else {
+				code.u1( KIND_ZERO[kind] );
+				code.u1( KIND_RETURN[kind] );
+			}
+		}
+
+		private void writeMethod( String name, String methodDescriptor, OkJsonAccessorGenerator.CodeBuilder code, int maxStack, int maxLocals ) throws IOException {
+			byte[]	stackMapTable = code.stackMapTable() ;
+			int		codeAttributeLength ;
+
+			methods.writeShort( 0x0001 ); // public
+			methods.writeShort( utf8Constant( name ) );
+			methods.writeShort( utf8Constant( methodDescriptor ) );
+			methods.writeShort( 1 );
+
+			codeAttributeLength = 2 + 2 + 4 + code.length() + 2 + 2 ;
+			if( stackMapTable != null )
+				codeAttributeLength += 2 + 4 + stackMapTable.length ;
+			methods.writeShort( utf8Constant( "Code" ) );
+			methods.writeInt( codeAttributeLength );
+			methods.writeShort( maxStack );
+			methods.writeShort( maxLocals );
+			methods.writeInt( code.length() );
+			methods.write( code.toByteArray() );
+			methods.writeShort( 0 ); // exception table
+			if( stackMapTable != null ) {
+				methods.writeShort( 1 );
+				methods.writeShort( utf8Constant( "StackMapTable" ) );
+				methods.writeInt( stackMapTable.length );
+				methods.write( stackMapTable );
+			} else {
+				methods.writeShort( 0 );
+			}
+
+			methodCount++;
+		}
+
+		private int utf8Constant( String value ) throws IOException {
+			Integer	index = constantIndexes.get( "U" + value ) ;
+			if( index != null )
+				return index;
+			constantPool.writeByte( 1 );
+			constantPool.writeUTF( value );
+			constantIndexes.put( "U" + value, constantCount );
+			return constantCount++;
+		}
+
+		private int classConstant( String name ) throws IOException {
+			Integer	index = constantIndexes.get( "C" + name ) ;
+			if( index != null )
+				return index;
+			int nameIndex = utf8Constant( name ) ;
+			constantPool.writeByte( 7 );
+			constantPool.writeShort( nameIndex );
+			constantIndexes.put( "C" + name, constantCount );
+			return constantCount++;
+		}
+
+		private int nameAndTypeConstant( String name, String typeDescriptor ) throws IOException {
+			Integer	index = constantIndexes.get( "N" + name + " " + typeDescriptor ) ;
+			if( index != null )
+				return index;
+			int nameIndex = utf8Constant( name ) ;
+			int typeIndex = utf8Constant( typeDescriptor ) ;
+			constantPool.writeByte( 12 );
+			constantPool.writeShort( nameIndex );
+			constantPool.writeShort( typeIndex );
+			constantIndexes.put( "N" + name + " " + typeDescriptor, constantCount );
+			return constantCount++;
+		}
+
+		private int memberConstant( int tag, String owner, String name, String typeDescriptor ) throws IOException {
+			String	key = tag + owner + " " + name + " " + typeDescriptor ;
+			Integer	index = constantIndexes.get( key ) ;
+			if( index != null )
+				return index;
+			int classIndex = classConstant( owner ) ;
+			int nameAndTypeIndex = nameAndTypeConstant( name, typeDescriptor ) ;
+			constantPool.writeByte( tag );
+			constantPool.writeShort( classIndex );
+			constantPool.writeShort( nameAndTypeIndex );
+			constantIndexes.put( key, constantCount );
+			return constantCount++;
+		}
+
+		private int fieldConstant( String owner, String name, String typeDescriptor ) throws IOException {
+			return memberConstant( 9, owner, name, typeDescriptor );
+		}
+
+		private int methodConstant( String owner, String name, String typeDescriptor ) throws IOException {
+			return memberConstant( 10, owner, name, typeDescriptor );
+		}
+	}
+
+	/*
+	 * Bytecode of one method. Every branch target has the locals of the
+	 * method entry and an empty stack, so the stack map is only same_frames.
+	 */
+	private static class CodeBuilder {
+
+		private byte[]					code = new byte[64] ;
+		private int						length = 0 ;
+		private ArrayList<Integer>		frameOffsets = new ArrayList<Integer>() ;
+
+		void u1( int value ) {
+			if( length == code.length )
+				code = Arrays.copyOf( code, code.length*2 ) ;
+			code[length++] = (byte)value ;
+		}
+
+		void u2( int value ) {
+			u1( value >>> 8 );
+			u1( value );
+		}
+
+		void u4( int value ) {
+			u2( value >>> 16 );
+			u2( value );
+		}
+
+		void patch( int offset, int value ) {
+			code[offset] = (byte)( value >>> 24 ) ;
+			code[offset+1] = (byte)( value >>> 16 ) ;
+			code[offset+2] = (byte)( value >>> 8 ) ;
+			code[offset+3] = (byte)value ;
+		}
+
+		void frame() {
+			frameOffsets.add( length );
+		}
+
+		int length() {
+			return length;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf( code, length );
+		}
+
+		byte[] stackMapTable() {
+			ByteArrayOutputStream	out ;
+			int						previousOffset = -1 ;
+			int						offsetDelta ;
+
+			if( frameOffsets.isEmpty() )
+				return null;
+
+			out = new ByteArrayOutputStream() ;
+			out.write( frameOffsets.size() >>> 8 );
+			out.write( frameOffsets.size() );
+			for( int offset : frameOffsets ) {
+				offsetDelta = offset - previousOffset - 1 ;
+				if( offsetDelta <= 63 ) {
+					out.write( offsetDelta ); // same_frame
+				} else {
+					out.write( 251 ); // same_frame_extended
+					out.write( offsetDelta >>> 8 );
+					out.write( offsetDelta );
+				}
+				previousOffset = offset ;
+			}
+			return out.toByteArray();
+		}
+	}
+}
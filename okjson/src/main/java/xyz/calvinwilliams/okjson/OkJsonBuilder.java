@@ -0,0 +1,99 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/*
+ * What OkJsonGenerator writes to, chars for objectToString in
+ * OkJsonCharArrayBuilder and UTF-8 bytes for objectToBytes in
+ * OkJsonByteArrayBuilder. Names are given by their class field, which has
+ * them as chars and as UTF-8 bytes. The strings of the QmStringQm appends
+ * are escaped as they are written, the others are written as they are.
+ */
+abstract class OkJsonBuilder {
+
+	/*
+	 * What each char below 128 becomes in a JSON string, 0 when it is written
+	 * as it is, else the char after the backslash, 'u' for control chars
+	 * without a short escape, which have 00 and two hex digits after it.
+	 */
+	final static char[]		ESCAPE_CHARS = newEscapeChars() ;
+	final static char[]		HEX_DIGITS = "0123456789abcdef".toCharArray() ;
+
+	private static char[] newEscapeChars() {
+		char[]		escapeChars = new char[ 128 ] ;
+		char		c ;
+
+		for( c = 0 ; c < 0x20 ; c++ )
+			escapeChars[c] = 'u' ;
+		escapeChars['\b'] = 'b' ;
+		escapeChars['\t'] = 't' ;
+		escapeChars['\n'] = 'n' ;
+		escapeChars['\f'] = 'f' ;
+		escapeChars['\r'] = 'r' ;
+		escapeChars['"'] = '"' ;
+		escapeChars['\\'] = '\\' ;
+		escapeChars['/'] = '/' ;
+		return escapeChars;
+	}
+
+	public abstract OkJsonBuilder appendChar( char c ) ;
+
+	public abstract OkJsonBuilder appendCharArray( char[] charArray ) ;
+
+	public abstract OkJsonBuilder appendCharArrayWith3( char[] charArray ) ;
+
+	public abstract OkJsonBuilder appendString( String str ) ;
+
+	public abstract OkJsonBuilder appendTabs( int tabCount ) ;
+
+	// digits written by OkJsonNumberWriter, no boxing and no String
+	public abstract OkJsonBuilder appendInt( int value ) ;
+
+	public abstract OkJsonBuilder appendLong( long value ) ;
+
+	public abstract OkJsonBuilder appendFloat( float value ) ;
+
+	public abstract OkJsonBuilder appendDouble( double value ) ;
+
+	public abstract OkJsonBuilder appendJsonNameAndColonAndOpenByte( OkJsonGenerator.OkJsonClassField classField, char c ) ;
+
+	public abstract OkJsonBuilder appendJsonNameAndColonAndOpenBytePretty( OkJsonGenerator.OkJsonClassField classField, char c ) ;
+
+	public abstract OkJsonBuilder appendCloseByte( char c ) ;
+
+	public abstract OkJsonBuilder appendJsonNameAndColonAndString( OkJsonGenerator.OkJsonClassField classField, String str ) ;
+
+	public abstract OkJsonBuilder appendJsonNameAndColonAndStringPretty( OkJsonGenerator.OkJsonClassField classField, String str ) ;
+
+	public abstract OkJsonBuilder appendJsonNameAndColonAndQmStringQm( OkJsonGenerator.OkJsonClassField classField, String str ) ;
+
+	public abstract OkJsonBuilder appendJsonNameAndColonAndQmStringQmPretty( OkJsonGenerator.OkJsonClassField classField, String str ) ;
+
+	public abstract OkJsonBuilder appendJsonNameAndColon( OkJsonGenerator.OkJsonClassField classField ) ;
+
+	public abstract OkJsonBuilder appendJsonNameAndColonPretty( OkJsonGenerator.OkJsonClassField classField ) ;
+
+	public abstract OkJsonBuilder appendJsonQmLocalDateQm( LocalDate localDate ) ;
+
+	public abstract OkJsonBuilder appendJsonQmLocalTimeQm( LocalTime localTime ) ;
+
+	public abstract OkJsonBuilder appendJsonQmLocalDateTimeQm( LocalDateTime localDateTime ) ;
+
+	public abstract OkJsonBuilder appendJsonString( String str ) ;
+
+	public abstract OkJsonBuilder appendJsonQmStringQm( String str ) ;
+
+	public abstract int getLength() ;
+
+	public abstract void setLength( int length ) ;
+}
@@ -0,0 +1,541 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/*
+ * Same appends as OkJsonCharArrayBuilder, encoded to UTF-8 as they are
+ * written, so objectToBytes needs no String and no charset encoder. Names
+ * are copied from the bytes their class field encoded once. In strings,
+ * ASCII, which numbers and most strings are, goes one byte per char without
+ * a table; other chars take two or three bytes, a surrogate pair four and a
+ * lone surrogate '?' as String.getBytes writes it. Room is made for three
+ * bytes per char before a write.
+ */
+class OkJsonByteArrayBuilder extends OkJsonBuilder {
+
+	public byte[]		buf ;
+	public int			bufSize ;
+	public int			bufLength ;
+	// strings are taken out with getChars, faster than charAt on each char
+	private char[]		chars = new char[ 64 ] ;
+
+	public OkJsonByteArrayBuilder() {
+		this( 16 );
+	}
+
+	public OkJsonByteArrayBuilder( int initBufSize ) {
+		this.buf = new byte[ initBufSize ] ;
+		this.bufSize = initBufSize ;
+		this.bufLength = 0 ;
+	}
+
+	// OkJsonByteStreamBuilder writes the buffer out instead
+	void resize( int newSize ) {
+		byte[]		newBuf ;
+		int			newBufSize ;
+
+		if( bufSize < 10240240 ) {
+			newBufSize = bufSize * 2 ;
+		} else {
+			newBufSize = bufSize + 10240240 ;
+		}
+		if( newBufSize < newSize )
+			newBufSize = newSize ;
+		newBuf = new byte[ newBufSize ] ;
+		System.arraycopy(buf, 0, newBuf, 0, bufLength);
+		buf = newBuf ;
+		bufSize = newBufSize ;
+	}
+
+	private void putNonAsciiChar( char c ) {
+		if( c < 0x800 ) {
+			buf[bufLength] = (byte)( 0xC0 | ( c >> 6 ) ) ; bufLength++;
+			buf[bufLength] = (byte)( 0x80 | ( c & 0x3F ) ) ; bufLength++;
+		} else if( Character.isSurrogate(c) ) {
+			buf[bufLength] = '?' ; bufLength++;
+		} else {
+			buf[bufLength] = (byte)( 0xE0 | ( c >> 12 ) ) ; bufLength++;
+			buf[bufLength] = (byte)( 0x80 | ( ( c >> 6 ) & 0x3F ) ) ; bufLength++;
+			buf[bufLength] = (byte)( 0x80 | ( c & 0x3F ) ) ; bufLength++;
+		}
+	}
+
+	private void putCodePoint( int codePoint ) {
+		buf[bufLength] = (byte)( 0xF0 | ( codePoint >> 18 ) ) ; bufLength++;
+		buf[bufLength] = (byte)( 0x80 | ( ( codePoint >> 12 ) & 0x3F ) ) ; bufLength++;
+		buf[bufLength] = (byte)( 0x80 | ( ( codePoint >> 6 ) & 0x3F ) ) ; bufLength++;
+		buf[bufLength] = (byte)( 0x80 | ( codePoint & 0x3F ) ) ; bufLength++;
+	}
+
+	private void putChars( char[] charArray, int offset, int len ) {
+		byte[]	buf = this.buf ;
+		int		bufLength = this.bufLength ;
+		int		end = offset + len ;
+		int		i ;
+		char	c ;
+
+		for( i = offset ; i < end ; i++ ) {
+			c = charArray[i] ;
+			if( c >= 0x80 )
+				break;
+			buf[bufLength++] = (byte)c ;
+		}
+		this.bufLength = bufLength ;
+		if( i == end )
+			return;
+
+		for( ; i < end ; i++ ) {
+			c = charArray[i] ;
+			if( c < 0x80 ) {
+				this.buf[this.bufLength] = (byte)c ; this.bufLength++;
+			} else if( Character.isHighSurrogate(c) && i+1 < end && Character.isLowSurrogate(charArray[i+1]) ) {
+				putCodePoint( Character.toCodePoint( c, charArray[i+1] ) );
+				i++;
+			} else {
+				putNonAsciiChar( c );
+			}
+		}
+	}
+
+	private void putString( String str ) {
+		int		strLength = str.length() ;
+
+		if( strLength > chars.length )
+			chars = new char[ strLength ] ;
+		str.getChars( 0, strLength, chars, 0 );
+		putChars( chars, 0, strLength );
+	}
+
+	/*
+	 * putString with the escapes of ESCAPE_CHARS written in place. Room for
+	 * three bytes per char has been made, each escape makes room for itself
+	 * and the rest.
+	 */
+	private void putJsonEscapedString( String str ) {
+		int		strLength = str.length() ;
+		char[]	chars ;
+		byte[]	buf = this.buf ;
+		int		bufLength = this.bufLength ;
+		int		i ;
+		char	c ;
+		char	escapeChar ;
+
+		if( strLength > this.chars.length )
+			this.chars = new char[ strLength ] ;
+		chars = this.chars ;
+		str.getChars( 0, strLength, chars, 0 );
+
+		for( i = 0 ; i < strLength ; i++ ) {
+			c = chars[i] ;
+			if( c >= 0x80 || ESCAPE_CHARS[c] != 0 )
+				break;
+			buf[bufLength++] = (byte)c ;
+		}
+		this.bufLength = bufLength ;
+		if( i == strLength )
+			return;
+
+		for( ; i < strLength ; i++ ) {
+			c = chars[i] ;
+			if( c >= 0x80 ) {
+				if( Character.isHighSurrogate(c) && i+1 < strLength && Character.isLowSurrogate(chars[i+1]) ) {
+					putCodePoint( Character.toCodePoint( c, chars[i+1] ) );
+					i++;
+				} else {
+					putNonAsciiChar( c );
+				}
+			} else if( ( escapeChar = ESCAPE_CHARS[c] ) == 0 ) {
+				this.buf[this.bufLength] = (byte)c ; this.bufLength++;
+			} else {
+				if( this.bufLength + (strLength-i)*3+8 > bufSize )
+					resize( this.bufLength + (strLength-i)*3+8 );
+				this.buf[this.bufLength] = '\\' ; this.bufLength++;
+				this.buf[this.bufLength] = (byte)escapeChar ; this.bufLength++;
+				if( escapeChar == 'u' ) {
+					this.buf[this.bufLength] = '0' ; this.bufLength++;
+					this.buf[this.bufLength] = '0' ; this.bufLength++;
+					this.buf[this.bufLength] = (byte)HEX_DIGITS[c>>4] ; this.bufLength++;
+					this.buf[this.bufLength] = (byte)HEX_DIGITS[c&0xF] ; this.bufLength++;
+				}
+			}
+		}
+	}
+
+	private void putName( byte[] nameQMBytes ) {
+		System.arraycopy( nameQMBytes, 0, buf, bufLength, nameQMBytes.length ); bufLength += nameQMBytes.length ;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendChar( char c ) {
+		int		newBufLength = bufLength + 3 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		if( c < 0x80 ) {
+			buf[bufLength] = (byte)c ; bufLength++;
+		} else {
+			putNonAsciiChar( c );
+		}
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendCharArray( char[] charArray ) {
+		int		newBufLength = bufLength + charArray.length*3 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		putChars( charArray, 0, charArray.length );
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendCharArrayWith3( char[] charArray ) {
+		int		newBufLength = bufLength + 9 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		putChars( charArray, 0, 3 );
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendString( String str ) {
+		int		newBufLength = bufLength + str.length()*3 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		putString( str );
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendTabs( int tabCount ) {
+		int		newBufLength = bufLength + tabCount ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		Arrays.fill( buf, bufLength, bufLength+tabCount, (byte)'\t' ); bufLength += tabCount ;
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendInt( int value ) {
+		int		newBufLength = bufLength + OkJsonNumberWriter.MAX_LENGTH ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		bufLength = OkJsonNumberWriter.writeInt( value, buf, bufLength ) ;
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendLong( long value ) {
+		int		newBufLength = bufLength + OkJsonNumberWriter.MAX_LENGTH ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		bufLength = OkJsonNumberWriter.writeLong( value, buf, bufLength ) ;
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendFloat( float value ) {
+		int		newBufLength = bufLength + OkJsonNumberWriter.MAX_LENGTH ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		bufLength = OkJsonNumberWriter.writeFloat( value, buf, bufLength ) ;
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendDouble( double value ) {
+		int		newBufLength = bufLength + OkJsonNumberWriter.MAX_LENGTH ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		bufLength = OkJsonNumberWriter.writeDouble( value, buf, bufLength ) ;
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendJsonNameAndColonAndOpenByte( OkJsonGenerator.OkJsonClassField classField, char c ) {
+		int		newBufLength = bufLength + classField.fieldNameQMBytes.length+4 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		putName( classField.fieldNameQMBytes );
+		buf[bufLength] = ':' ; bufLength++;
+		buf[bufLength] = (byte)c ; bufLength++;
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendJsonNameAndColonAndOpenBytePretty( OkJsonGenerator.OkJsonClassField classField, char c ) {
+		int		newBufLength = bufLength + classField.fieldNameQMBytes.length+7 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		putName( classField.fieldNameQMBytes );
+		buf[bufLength] = ' ' ; bufLength++;
+		buf[bufLength] = ':' ; bufLength++;
+		buf[bufLength] = ' ' ; bufLength++;
+		buf[bufLength] = (byte)c ; bufLength++;
+		buf[bufLength] = '\n' ; bufLength++;
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendCloseByte( char c ) {
+		int		newBufLength = bufLength + 1 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		buf[bufLength] = (byte)c ; bufLength++;
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendJsonNameAndColonAndString( OkJsonGenerator.OkJsonClassField classField, String str ) {
+		int		newBufLength = bufLength + classField.fieldNameQMBytes.length+str.length()*3+3 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		putName( classField.fieldNameQMBytes );
+		buf[bufLength] = ':' ; bufLength++;
+		putString( str );
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendJsonNameAndColonAndStringPretty( OkJsonGenerator.OkJsonClassField classField, String str ) {
+		int		newBufLength = bufLength + classField.fieldNameQMBytes.length+str.length()*3+5 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		putName( classField.fieldNameQMBytes );
+		buf[bufLength] = ' ' ; bufLength++;
+		buf[bufLength] = ':' ; bufLength++;
+		buf[bufLength] = ' ' ; bufLength++;
+		putString( str );
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendJsonNameAndColonAndQmStringQm( OkJsonGenerator.OkJsonClassField classField, String str ) {
+		int		newBufLength = bufLength + classField.fieldNameQMBytes.length+str.length()*3+5 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		putName( classField.fieldNameQMBytes );
+		buf[bufLength] = ':' ; bufLength++;
+		buf[bufLength] = '"' ; bufLength++;
+		putJsonEscapedString( str );
+		buf[bufLength] = '"' ; bufLength++;
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendJsonNameAndColonAndQmStringQmPretty( OkJsonGenerator.OkJsonClassField classField, String str ) {
+		int		newBufLength = bufLength + classField.fieldNameQMBytes.length+str.length()*3+7 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		putName( classField.fieldNameQMBytes );
+		buf[bufLength] = ' ' ; bufLength++;
+		buf[bufLength] = ':' ; bufLength++;
+		buf[bufLength] = ' ' ; bufLength++;
+		buf[bufLength] = '"' ; bufLength++;
+		putJsonEscapedString( str );
+		buf[bufLength] = '"' ; bufLength++;
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendJsonNameAndColon( OkJsonGenerator.OkJsonClassField classField ) {
+		int		newBufLength = bufLength + classField.fieldNameQMBytes.length+3 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		putName( classField.fieldNameQMBytes );
+		buf[bufLength] = ':' ; bufLength++;
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendJsonNameAndColonPretty( OkJsonGenerator.OkJsonClassField classField ) {
+		int		newBufLength = bufLength + classField.fieldNameQMBytes.length+5 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		putName( classField.fieldNameQMBytes );
+		buf[bufLength] = ' ' ; bufLength++;
+		buf[bufLength] = ':' ; bufLength++;
+		buf[bufLength] = ' ' ; bufLength++;
+
+		return this;
+	}
+
+	private void putTwoDigits( int value ) {
+		buf[bufLength] = (byte)( '0' + value / 10 ) ; bufLength++;
+		buf[bufLength] = (byte)( '0' + value % 10 ) ; bufLength++;
+	}
+
+	private void putLocalDate( LocalDate localDate ) {
+		int		year = localDate.getYear() ;
+
+		putTwoDigits( year / 100 );
+		putTwoDigits( year % 100 );
+		buf[bufLength] = '-' ; bufLength++;
+		putTwoDigits( localDate.getMonthValue() );
+		buf[bufLength] = '-' ; bufLength++;
+		putTwoDigits( localDate.getDayOfMonth() );
+	}
+
+	private void putLocalTime( LocalTime localTime ) {
+		putTwoDigits( localTime.getHour() );
+		buf[bufLength] = ':' ; bufLength++;
+		putTwoDigits( localTime.getMinute() );
+		buf[bufLength] = ':' ; bufLength++;
+		putTwoDigits( localTime.getSecond() );
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendJsonQmLocalDateQm( LocalDate localDate ) {
+		int		year = localDate.getYear() ;
+		int		newBufLength = bufLength + 12 ;
+
+		if( year < 1 || year > 9999 )
+			return appendJsonQmStringQm( OkJsonFieldTable.DEFAULT_LOCALDATE_FORMATTER.format(localDate) );
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		buf[bufLength] = '"' ; bufLength++;
+		putLocalDate( localDate );
+		buf[bufLength] = '"' ; bufLength++;
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendJsonQmLocalTimeQm( LocalTime localTime ) {
+		int		newBufLength = bufLength + 10 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		buf[bufLength] = '"' ; bufLength++;
+		putLocalTime( localTime );
+		buf[bufLength] = '"' ; bufLength++;
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendJsonQmLocalDateTimeQm( LocalDateTime localDateTime ) {
+		int		year = localDateTime.getYear() ;
+		int		newBufLength = bufLength + 21 ;
+
+		if( year < 1 || year > 9999 )
+			return appendJsonQmStringQm( OkJsonFieldTable.DEFAULT_LOCALDATETIME_FORMATTER.format(localDateTime) );
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		buf[bufLength] = '"' ; bufLength++;
+		putLocalDate( localDateTime.toLocalDate() );
+		buf[bufLength] = ' ' ; bufLength++;
+		putLocalTime( localDateTime.toLocalTime() );
+		buf[bufLength] = '"' ; bufLength++;
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendJsonString( String str ) {
+		int		newBufLength = bufLength + str.length()*3 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		putString( str );
+
+		return this;
+	}
+
+	@Override
+	public OkJsonByteArrayBuilder appendJsonQmStringQm( String str ) {
+		int		newBufLength = bufLength + str.length()*3 + 2 ;
+
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+
+		buf[bufLength] = '"' ; bufLength++;
+		putJsonEscapedString( str );
+		buf[bufLength] = '"' ; bufLength++;
+
+		return this;
+	}
+
+	@Override
+	public int getLength() {
+		return bufLength;
+	}
+
+	@Override
+	public void setLength( int length ) {
+		bufLength = length ;
+	}
+
+	public byte[] toByteArray() {
+		return Arrays.copyOf( buf, bufLength );
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+
+/*
+ * OkJsonByteArrayBuilder for documents of any size, for objectToBytes and
+ * objectToFile. The buffer doubles as before up to CHUNK_SIZE; past that,
+ * each time it fills it is set aside as it is and writing goes on in a new
+ * chunk, so what is written is never copied again and no old and new array
+ * are alive together. Chunks come from a pool shared by all threads, of
+ * OKJSON.setChunkPoolCapacity chunks, and go back to it when the builder is
+ * emptied, the first buffer stays with the builder. The document is put together once, by toByteArray, or not at all
+ * by writeTo, which hands the chunks to a GatheringByteChannel as they are.
+ * Only a single string longer than a chunk gets a chunk of its own size.
+ */
+class OkJsonByteSegmentBuilder extends OkJsonByteArrayBuilder {
+
+	final static int		CHUNK_SIZE = 32768 ;
+	final static int		DEFAULT_CHUNK_POOL_CAPACITY = 8 ;
+
+	// null when OKJSON.setChunkPoolCapacity turned the pool off
+	private static volatile OkJsonInstancePool<byte[]>	chunkPool = new OkJsonInstancePool<byte[]>( DEFAULT_CHUNK_POOL_CAPACITY ) ;
+
+	private byte[][]		chunks = new byte[ 16 ][] ;
+	private int[]			chunkLengths = new int[ 16 ] ;
+	private int				chunkCount ;
+	private int				chunksLength ;
+
+	public OkJsonByteSegmentBuilder( int initBufSize ) {
+		super( initBufSize );
+	}
+
+	@Override
+	void resize( int newSize ) {
+		int		appendLength = newSize - bufLength ;
+		OkJsonInstancePool<byte[]>	pool ;
+
+		if( chunkCount == 0 && bufSize < CHUNK_SIZE ) {
+			super.resize( newSize );
+			return;
+		}
+
+		if( chunkCount == chunks.length ) {
+			chunks = Arrays.copyOf( chunks, chunkCount*2 ) ;
+			chunkLengths = Arrays.copyOf( chunkLengths, chunkCount*2 ) ;
+		}
+		chunks[chunkCount] = buf ;
+		chunkLengths[chunkCount] = bufLength ;
+		chunkCount++;
+		chunksLength += bufLength ;
+
+		if( appendLength > CHUNK_SIZE ) {
+			buf = new byte[ appendLength ] ;
+		} else {
+			pool = chunkPool ;
+			buf = ( pool != null ? pool.acquire() : null ) ;
+			if( buf == null )
+				buf = new byte[ CHUNK_SIZE ] ;
+		}
+		bufSize = buf.length ;
+		bufLength = 0 ;
+	}
+
+	@Override
+	public int getLength() {
+		return chunksLength + bufLength;
+	}
+
+	// the generator only empties it, which gives the chunks back to the pool
+	@Override
+	public void setLength( int length ) {
+		int		i ;
+
+		if( chunkCount > 0 ) {
+			releaseChunk( buf );
+			for( i = 1 ; i < chunkCount ; i++ ) {
+				releaseChunk( chunks[i] );
+				chunks[i] = null ;
+			}
+			buf = chunks[0] ;
+			bufSize = buf.length ;
+			chunks[0] = null ;
+			chunkCount = 0 ;
+			chunksLength = 0 ;
+		}
+		bufLength = length ;
+	}
+
+	// chunks of a long string are left to the garbage collector
+	private static void releaseChunk( byte[] chunk ) {
+		OkJsonInstancePool<byte[]>	pool = chunkPool ;
+
+		if( chunk.length == CHUNK_SIZE && pool != null )
+			pool.release( chunk );
+	}
+
+	static void setChunkPoolCapacity( int capacity ) {
+		if( capacity > 0 )
+			chunkPool = new OkJsonInstancePool<byte[]>( capacity ) ;
+		else
+			chunkPool = null ;
+	}
+
+	static int getChunkPoolCapacity() {
+		OkJsonInstancePool<byte[]> pool = chunkPool ;
+		return ( pool != null ? pool.getCapacity() : 0 );
+	}
+
+	@Override
+	public byte[] toByteArray() {
+		byte[]		bytes ;
+		int			offset ;
+		int			i ;
+
+		if( chunkCount == 0 )
+			return super.toByteArray();
+
+		bytes = new byte[ chunksLength + bufLength ] ;
+		offset = 0 ;
+		for( i = 0 ; i < chunkCount ; i++ ) {
+			System.arraycopy( chunks[i], 0, bytes, offset, chunkLengths[i] );
+			offset += chunkLengths[i] ;
+		}
+		System.arraycopy( buf, 0, bytes, offset, bufLength );
+		return bytes;
+	}
+
+	// gathering writes of all chunks until the channel has taken them all, it is expected to be a blocking one
+	void writeTo( GatheringByteChannel channel ) throws IOException {
+		ByteBuffer[]	byteBuffers = new ByteBuffer[ chunkCount+1 ] ;
+		int				bufferIndex ;
+		int				i ;
+
+		for( i = 0 ; i < chunkCount ; i++ )
+			byteBuffers[i] = ByteBuffer.wrap( chunks[i], 0, chunkLengths[i] ) ;
+		byteBuffers[chunkCount] = ByteBuffer.wrap( buf, 0, bufLength ) ;
+
+		bufferIndex = 0 ;
+		while( bufferIndex < byteBuffers.length ) {
+			if( byteBuffers[bufferIndex].hasRemaining() ) {
+				channel.write( byteBuffers, bufferIndex, byteBuffers.length-bufferIndex );
+			} else {
+				bufferIndex++;
+			}
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/*
+ * OkJsonByteArrayBuilder whose buffer is written out to an OutputStream or a
+ * WritableByteChannel each time it fills, for objectToStream and
+ * objectToChannel, so the memory used is the buffer size whatever the size
+ * of the document and the first bytes go out before the object is walked
+ * to the end. Only a single string longer than the buffer grows it, to hold
+ * that string. The first write error is kept and whatever comes after it is
+ * dropped; the generator reads it back with getIOException at the end.
+ */
+class OkJsonByteStreamBuilder extends OkJsonByteArrayBuilder {
+
+	private OutputStream			outputStream ;
+	private WritableByteChannel		channel ;
+	private IOException				ioException ;
+	private long					writtenLength ;
+
+	public OkJsonByteStreamBuilder( int bufSize ) {
+		super( bufSize );
+	}
+
+	void setOutputStream( OutputStream outputStream ) {
+		this.outputStream = outputStream ;
+		this.channel = null ;
+		this.ioException = null ;
+		this.writtenLength = 0 ;
+	}
+
+	void setChannel( WritableByteChannel channel ) {
+		this.outputStream = null ;
+		this.channel = channel ;
+		this.ioException = null ;
+		this.writtenLength = 0 ;
+	}
+
+	// not to keep the stream or channel of the last call alive
+	void clearOutput() {
+		this.outputStream = null ;
+		this.channel = null ;
+	}
+
+	IOException getIOException() {
+		return ioException;
+	}
+
+	long getWrittenLength() {
+		return writtenLength;
+	}
+
+	// the channel is written until the buffer is empty, it is expected to be a blocking one
+	void flush() {
+		if( bufLength > 0 && ioException == null ) {
+			try {
+				if( outputStream != null ) {
+					outputStream.write( buf, 0, bufLength );
+				} else {
+					ByteBuffer byteBuffer = ByteBuffer.wrap( buf, 0, bufLength ) ;
+					while( byteBuffer.hasRemaining() )
+						channel.write( byteBuffer );
+				}
+				writtenLength += bufLength ;
+			} catch (IOException e) {
+				ioException = e ;
+			}
+		}
+		bufLength = 0 ;
+	}
+
+	@Override
+	void resize( int newSize ) {
+		int		appendLength = newSize - bufLength ;
+
+		flush();
+		if( appendLength > bufSize )
+			super.resize( appendLength );
+	}
+}
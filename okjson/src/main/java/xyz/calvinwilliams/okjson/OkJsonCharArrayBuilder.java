@@ -0,0 +1,524 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+class OkJsonCharArrayBuilder extends OkJsonBuilder {
+	
+	public char[]		buf ;
+	public int			bufSize ;
+	public int			bufLength ;
+	
+	final private static String	TABS = "\t\t\t\t\t\t\t\t\t\t\t\t\t\t\t\t" ;
+	
+	// OkJsonNumberWriter writes bytes, they are widened from here
+	private byte[]		numberBytes = new byte[ OkJsonNumberWriter.MAX_LENGTH ] ;
+	
+	public OkJsonCharArrayBuilder() {
+		this( 16 );
+	}
+	
+	public OkJsonCharArrayBuilder( int initBufSize ) {
+		this.buf = new char[ initBufSize ] ;
+		this.bufSize = initBufSize ;
+		this.bufLength = 0 ;
+	}
+	
+	// OkJsonCharStreamBuilder writes the buffer out instead
+	void resize( int newSize ) {
+		char[]		newBuf ;
+		int			newBufSize ;
+
+		if( bufSize < 10240240 ) {
+			newBufSize = bufSize * 2 ;
+		} else {
+			newBufSize = bufSize + 10240240 ;
+		}
+		if( newBufSize < newSize )
+			newBufSize = newSize ;
+		newBuf = new char[ newBufSize ] ;
+		System.arraycopy(buf, 0, newBuf, 0, bufLength);
+		buf = newBuf ;
+		bufSize = newBufSize ;
+	}
+	
+	/*
+	 * str copied in whole, which is all there is to do for most strings, and
+	 * scanned there. From the first char needing an escape on, clean runs are
+	 * copied from str between the escapes written in place. Room for str as
+	 * it is has been made, each escape makes room for itself and the rest.
+	 */
+	private void putJsonEscapedString( String str ) {
+		int		strLength = str.length() ;
+		int		offset = bufLength ;
+		int		runBegin ;
+		int		i ;
+		char	c ;
+		char	escapeChar ;
+		
+		str.getChars(0, strLength, buf, offset);
+		for( i = 0 ; i < strLength ; i++ ) {
+			c = buf[offset+i] ;
+			if( c < 128 && ESCAPE_CHARS[c] != 0 )
+				break;
+		}
+		bufLength = offset + i ;
+		if( i == strLength )
+			return;
+		
+		for( runBegin = i ; i < strLength ; i++ ) {
+			c = str.charAt(i) ;
+			if( c >= 128 || ( escapeChar = ESCAPE_CHARS[c] ) == 0 )
+				continue;
+			
+			if( bufLength + strLength-runBegin+8 > bufSize )
+				resize( bufLength + strLength-runBegin+8 );
+			str.getChars(runBegin, i, buf, bufLength); bufLength += i-runBegin ;
+			buf[bufLength] = '\\' ; bufLength++;
+			buf[bufLength] = escapeChar ; bufLength++;
+			if( escapeChar == 'u' ) {
+				buf[bufLength] = '0' ; bufLength++;
+				buf[bufLength] = '0' ; bufLength++;
+				buf[bufLength] = HEX_DIGITS[c>>4] ; bufLength++;
+				buf[bufLength] = HEX_DIGITS[c&0xF] ; bufLength++;
+			}
+			runBegin = i + 1 ;
+		}
+		str.getChars(runBegin, strLength, buf, bufLength); bufLength += strLength-runBegin ;
+	}
+	
+	public OkJsonCharArrayBuilder appendChar( char c ) {
+		int		newBufLength = bufLength + 1 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = c ; bufLength++;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendCharArray( char[] charArray ) {
+		int		newBufLength = bufLength + charArray.length ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		System.arraycopy( charArray, 0, buf, bufLength, charArray.length ); bufLength += charArray.length ;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendCharArrayWith3( char[] charArray ) {
+		int		newBufLength = bufLength + 3 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = charArray[0] ; bufLength++;
+		buf[bufLength] = charArray[1] ; bufLength++;
+		buf[bufLength] = charArray[2] ; bufLength++;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendCharArrayWith4( char[] charArray ) {
+		int		newBufLength = bufLength + 4 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = charArray[0] ; bufLength++;
+		buf[bufLength] = charArray[1] ; bufLength++;
+		buf[bufLength] = charArray[2] ; bufLength++;
+		buf[bufLength] = charArray[3] ; bufLength++;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendString( String str ) {
+		int		strLength = str.length() ;
+		int		newBufLength = bufLength + strLength ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		str.getChars(0, strLength, buf, bufLength); bufLength += strLength ;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendBytesFromOffsetWithLength( char[] charArray, int offset, int len ) {
+		int		newBufLength = bufLength + len ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		System.arraycopy( charArray, offset, buf, bufLength, len ); bufLength += len ;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendTabs( int tabCount ) {
+		int		newBufLength = bufLength + tabCount ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		if( tabCount <= TABS.length() ) {
+			System.arraycopy( TABS.toCharArray(), 0, buf, bufLength, tabCount); bufLength+=tabCount;
+		} else {
+			for( int i = 0 ; i < tabCount ; i++ ) {
+				buf[bufLength] = '\t' ; bufLength++;
+			}
+		}
+		
+		return this;
+	}
+	
+	private void putNumberBytes( int numberLength ) {
+		int		newBufLength = bufLength + numberLength ;
+		int		i ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		for( i = 0 ; i < numberLength ; i++ ) {
+			buf[bufLength] = (char)numberBytes[i] ; bufLength++;
+		}
+	}
+	
+	public OkJsonCharArrayBuilder appendInt( int value ) {
+		putNumberBytes( OkJsonNumberWriter.writeInt( value, numberBytes, 0 ) );
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendLong( long value ) {
+		putNumberBytes( OkJsonNumberWriter.writeLong( value, numberBytes, 0 ) );
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendFloat( float value ) {
+		putNumberBytes( OkJsonNumberWriter.writeFloat( value, numberBytes, 0 ) );
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendDouble( double value ) {
+		putNumberBytes( OkJsonNumberWriter.writeDouble( value, numberBytes, 0 ) );
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendJsonNameAndColonAndOpenByte( OkJsonGenerator.OkJsonClassField classField, char c ) {
+		char[]	name = classField.fieldName ;
+		int		newBufLength = bufLength + name.length+4 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = '"' ; bufLength++;
+		System.arraycopy( name, 0, buf, bufLength, name.length); bufLength+=name.length;
+		buf[bufLength] = '"' ; bufLength++;
+		buf[bufLength] = ':' ; bufLength++;
+		buf[bufLength] = c ; bufLength++;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendJsonNameAndColonAndOpenBytePretty( OkJsonGenerator.OkJsonClassField classField, char c ) {
+		char[]	name = classField.fieldName ;
+		int		newBufLength = bufLength + name.length+7 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = '"' ; bufLength++;
+		System.arraycopy( name, 0, buf, bufLength, name.length); bufLength+=name.length;
+		buf[bufLength] = '"' ; bufLength++;
+		buf[bufLength] = ' ' ; bufLength++;
+		buf[bufLength] = ':' ; bufLength++;
+		buf[bufLength] = ' ' ; bufLength++;
+		buf[bufLength] = c ; bufLength++;
+		buf[bufLength] = '\n' ; bufLength++;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendCloseByte( char c ) {
+		int		newBufLength = bufLength + 1 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = c ; bufLength++;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendJsonNameAndColonAndCharArray( char[] name, char[] str ) {
+		int		newBufLength = bufLength + name.length+str.length+3 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = '"' ; bufLength++;
+		System.arraycopy( name, 0, buf, bufLength, name.length); bufLength+=name.length;
+		buf[bufLength] = '"' ; bufLength++;
+		buf[bufLength] = ':' ; bufLength++;
+		System.arraycopy( str, 0, buf, bufLength, str.length ); bufLength+=str.length;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendJsonNameAndColonAndCharArrayPretty( char[] name, char[] str ) {
+		int		newBufLength = bufLength + name.length+str.length+5 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = '"' ; bufLength++;
+		System.arraycopy( name, 0, buf, bufLength, name.length); bufLength+=name.length;
+		buf[bufLength] = '"' ; bufLength++;
+		buf[bufLength] = ' ' ; bufLength++;
+		buf[bufLength] = ':' ; bufLength++;
+		buf[bufLength] = ' ' ; bufLength++;
+		System.arraycopy( str, 0, buf, bufLength, str.length ); bufLength+=str.length;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendJsonNameAndColonAndString( OkJsonGenerator.OkJsonClassField classField, String str ) {
+		char[]	name = classField.fieldName ;
+		int		strLength = str.length() ;
+		int		newBufLength = bufLength + name.length+strLength+3 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = '"' ; bufLength++;
+		System.arraycopy( name, 0, buf, bufLength, name.length); bufLength+=name.length;
+		buf[bufLength] = '"' ; bufLength++;
+		buf[bufLength] = ':' ; bufLength++;
+		str.getChars(0, strLength, buf, bufLength); bufLength+=strLength;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendJsonNameAndColonAndStringPretty( OkJsonGenerator.OkJsonClassField classField, String str ) {
+		char[]	name = classField.fieldName ;
+		int		strLength = str.length() ;
+		int		newBufLength = bufLength + name.length+strLength+5 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = '"' ; bufLength++;
+		System.arraycopy( name, 0, buf, bufLength, name.length); bufLength+=name.length;
+		buf[bufLength] = '"' ; bufLength++;
+		buf[bufLength] = ' ' ; bufLength++;
+		buf[bufLength] = ':' ; bufLength++;
+		buf[bufLength] = ' ' ; bufLength++;
+		str.getChars(0, strLength, buf, bufLength); bufLength+=strLength;
+		// buf[bufLength] = ' ' ; bufLength++;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendJsonNameAndColonAndQmStringQm( OkJsonGenerator.OkJsonClassField classField, String str ) {
+		char[]	name = classField.fieldName ;
+		int		strLength = str.length() ;
+		int		newBufLength = bufLength + name.length+strLength+5 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = '"' ; bufLength++;
+		System.arraycopy( name, 0, buf, bufLength, name.length); bufLength+=name.length;
+		buf[bufLength] = '"' ; bufLength++;
+		buf[bufLength] = ':' ; bufLength++;
+		buf[bufLength] = '"' ; bufLength++;
+		putJsonEscapedString( str );
+		buf[bufLength] = '"' ; bufLength++;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendJsonNameAndColonAndQmStringQmPretty( OkJsonGenerator.OkJsonClassField classField, String str ) {
+		char[]	name = classField.fieldName ;
+		int		strLength = str.length() ;
+		int		newBufLength = bufLength + name.length+strLength+7 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = '"' ; bufLength++;
+		System.arraycopy( name, 0, buf, bufLength, name.length); bufLength+=name.length;
+		buf[bufLength] = '"' ; bufLength++;
+		buf[bufLength] = ' ' ; bufLength++;
+		buf[bufLength] = ':' ; bufLength++;
+		buf[bufLength] = ' ' ; bufLength++;
+		buf[bufLength] = '"' ; bufLength++;
+		putJsonEscapedString( str );
+		buf[bufLength] = '"' ; bufLength++;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendJsonNameAndColon( OkJsonGenerator.OkJsonClassField classField ) {
+		char[]	name = classField.fieldName ;
+		int		newBufLength = bufLength + name.length+3 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = '"' ; bufLength++;
+		System.arraycopy( name, 0, buf, bufLength, name.length); bufLength+=name.length;
+		buf[bufLength] = '"' ; bufLength++;
+		buf[bufLength] = ':' ; bufLength++;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendJsonNameAndColonPretty( OkJsonGenerator.OkJsonClassField classField ) {
+		char[]	name = classField.fieldName ;
+		int		newBufLength = bufLength + name.length+5 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = '"' ; bufLength++;
+		System.arraycopy( name, 0, buf, bufLength, name.length); bufLength+=name.length;
+		buf[bufLength] = '"' ; bufLength++;
+		buf[bufLength] = ' ' ; bufLength++;
+		buf[bufLength] = ':' ; bufLength++;
+		buf[bufLength] = ' ' ; bufLength++;
+		
+		return this;
+	}
+	
+	private void putTwoDigits( int value ) {
+		buf[bufLength] = (char)( '0' + value / 10 ) ; bufLength++;
+		buf[bufLength] = (char)( '0' + value % 10 ) ; bufLength++;
+	}
+	
+	private void putLocalDate( LocalDate localDate ) {
+		int		year = localDate.getYear() ;
+		
+		putTwoDigits( year / 100 );
+		putTwoDigits( year % 100 );
+		buf[bufLength] = '-' ; bufLength++;
+		putTwoDigits( localDate.getMonthValue() );
+		buf[bufLength] = '-' ; bufLength++;
+		putTwoDigits( localDate.getDayOfMonth() );
+	}
+	
+	private void putLocalTime( LocalTime localTime ) {
+		putTwoDigits( localTime.getHour() );
+		buf[bufLength] = ':' ; bufLength++;
+		putTwoDigits( localTime.getMinute() );
+		buf[bufLength] = ':' ; bufLength++;
+		putTwoDigits( localTime.getSecond() );
+	}
+	
+	/*
+	 * Quoted "yyyy-MM-dd", "HH:mm:ss" and "yyyy-MM-dd HH:mm:ss" written
+	 * digit by digit into the buffer. Years outside 1 to 9999, which the
+	 * pattern writes with an era or a sign, go through the DateTimeFormatter.
+	 */
+	public OkJsonCharArrayBuilder appendJsonQmLocalDateQm( LocalDate localDate ) {
+		int		year = localDate.getYear() ;
+		int		newBufLength = bufLength + 12 ;
+		
+		if( year < 1 || year > 9999 )
+			return appendJsonQmStringQm( OkJsonFieldTable.DEFAULT_LOCALDATE_FORMATTER.format(localDate) );
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = '"' ; bufLength++;
+		putLocalDate( localDate );
+		buf[bufLength] = '"' ; bufLength++;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendJsonQmLocalTimeQm( LocalTime localTime ) {
+		int		newBufLength = bufLength + 10 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = '"' ; bufLength++;
+		putLocalTime( localTime );
+		buf[bufLength] = '"' ; bufLength++;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendJsonQmLocalDateTimeQm( LocalDateTime localDateTime ) {
+		int		year = localDateTime.getYear() ;
+		int		newBufLength = bufLength + 21 ;
+		
+		if( year < 1 || year > 9999 )
+			return appendJsonQmStringQm( OkJsonFieldTable.DEFAULT_LOCALDATETIME_FORMATTER.format(localDateTime) );
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = '"' ; bufLength++;
+		putLocalDate( localDateTime.toLocalDate() );
+		buf[bufLength] = ' ' ; bufLength++;
+		putLocalTime( localDateTime.toLocalTime() );
+		buf[bufLength] = '"' ; bufLength++;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendJsonString( String str ) {
+		int		strLength = str.length() ;
+		int		newBufLength = bufLength + strLength ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		str.getChars(0, strLength, buf, bufLength); bufLength+=strLength;
+		
+		return this;
+	}
+	
+	public OkJsonCharArrayBuilder appendJsonQmStringQm( String str ) {
+		int		strLength = str.length() ;
+		int		newBufLength = bufLength + strLength + 2 ;
+		
+		if( newBufLength > bufSize )
+			resize( newBufLength );
+		
+		buf[bufLength] = '"' ; bufLength++;
+		putJsonEscapedString( str );
+		buf[bufLength] = '"' ; bufLength++;
+		
+		return this;
+	}
+	
+	public int getLength() {
+		return bufLength;
+	}
+	
+	public void setLength( int length ) {
+		bufLength = length ;
+	}
+	
+	@Override
+	public String toString() {
+		return new String( buf, 0, bufLength ) ;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.util.Arrays;
+
+/*
+ * OkJsonCharArrayBuilder in pooled chunks past CHUNK_SIZE, for
+ * objectToString, the chars counterpart of OkJsonByteSegmentBuilder. The
+ * String is put together once by toString through a StringBuilder of the
+ * exact length, which keeps Latin-1 documents one byte per char on JDKs
+ * with compact strings.
+ */
+class OkJsonCharSegmentBuilder extends OkJsonCharArrayBuilder {
+
+	final static int		CHUNK_SIZE = 32768 ;
+	final static int		DEFAULT_CHUNK_POOL_CAPACITY = 8 ;
+
+	// null when OKJSON.setChunkPoolCapacity turned the pool off
+	private static volatile OkJsonInstancePool<char[]>	chunkPool = new OkJsonInstancePool<char[]>( DEFAULT_CHUNK_POOL_CAPACITY ) ;
+
+	private char[][]		chunks = new char[ 16 ][] ;
+	private int[]			chunkLengths = new int[ 16 ] ;
+	private int				chunkCount ;
+	private int				chunksLength ;
+
+	public OkJsonCharSegmentBuilder( int initBufSize ) {
+		super( initBufSize );
+	}
+
+	@Override
+	void resize( int newSize ) {
+		int		appendLength = newSize - bufLength ;
+		OkJsonInstancePool<char[]>	pool ;
+
+		if( chunkCount == 0 && bufSize < CHUNK_SIZE ) {
+			super.resize( newSize );
+			return;
+		}
+
+		if( chunkCount == chunks.length ) {
+			chunks = Arrays.copyOf( chunks, chunkCount*2 ) ;
+			chunkLengths = Arrays.copyOf( chunkLengths, chunkCount*2 ) ;
+		}
+		chunks[chunkCount] = buf ;
+		chunkLengths[chunkCount] = bufLength ;
+		chunkCount++;
+		chunksLength += bufLength ;
+
+		if( appendLength > CHUNK_SIZE ) {
+			buf = new char[ appendLength ] ;
+		} else {
+			pool = chunkPool ;
+			buf = ( pool != null ? pool.acquire() : null ) ;
+			if( buf == null )
+				buf = new char[ CHUNK_SIZE ] ;
+		}
+		bufSize = buf.length ;
+		bufLength = 0 ;
+	}
+
+	@Override
+	public int getLength() {
+		return chunksLength + bufLength;
+	}
+
+	// the generator only empties it, which gives the chunks back to the pool
+	@Override
+	public void setLength( int length ) {
+		int		i ;
+
+		if( chunkCount > 0 ) {
+			releaseChunk( buf );
+			for( i = 1 ; i < chunkCount ; i++ ) {
+				releaseChunk( chunks[i] );
+				chunks[i] = null ;
+			}
+			buf = chunks[0] ;
+			bufSize = buf.length ;
+			chunks[0] = null ;
+			chunkCount = 0 ;
+			chunksLength = 0 ;
+		}
+		bufLength = length ;
+	}
+
+	private static void releaseChunk( char[] chunk ) {
+		OkJsonInstancePool<char[]>	pool = chunkPool ;
+
+		if( chunk.length == CHUNK_SIZE && pool != null )
+			pool.release( chunk );
+	}
+
+	static void setChunkPoolCapacity( int capacity ) {
+		if( capacity > 0 )
+			chunkPool = new OkJsonInstancePool<char[]>( capacity ) ;
+		else
+			chunkPool = null ;
+	}
+
+	static int getChunkPoolCapacity() {
+		OkJsonInstancePool<char[]> pool = chunkPool ;
+		return ( pool != null ? pool.getCapacity() : 0 );
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder	stringBuilder ;
+		int				i ;
+
+		if( chunkCount == 0 )
+			return super.toString();
+
+		stringBuilder = new StringBuilder( chunksLength + bufLength ) ;
+		for( i = 0 ; i < chunkCount ; i++ )
+			stringBuilder.append( chunks[i], 0, chunkLengths[i] );
+		stringBuilder.append( buf, 0, bufLength );
+		return stringBuilder.toString();
+	}
+}
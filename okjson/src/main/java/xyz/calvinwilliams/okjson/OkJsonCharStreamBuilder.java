@@ -0,0 +1,67 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/*
+ * OkJsonCharArrayBuilder whose buffer is written out to a Writer each time
+ * it fills, for objectToWriter, the chars counterpart of
+ * OkJsonByteStreamBuilder.
+ */
+class OkJsonCharStreamBuilder extends OkJsonCharArrayBuilder {
+
+	private Writer			writer ;
+	private IOException		ioException ;
+	private long			writtenLength ;
+
+	public OkJsonCharStreamBuilder( int bufSize ) {
+		super( bufSize );
+	}
+
+	void setWriter( Writer writer ) {
+		this.writer = writer ;
+		this.ioException = null ;
+		this.writtenLength = 0 ;
+	}
+
+	void clearOutput() {
+		this.writer = null ;
+	}
+
+	IOException getIOException() {
+		return ioException;
+	}
+
+	long getWrittenLength() {
+		return writtenLength;
+	}
+
+	void flush() {
+		if( bufLength > 0 && ioException == null ) {
+			try {
+				writer.write( buf, 0, bufLength );
+				writtenLength += bufLength ;
+			} catch (IOException e) {
+				ioException = e ;
+			}
+		}
+		bufLength = 0 ;
+	}
+
+	@Override
+	void resize( int newSize ) {
+		int		appendLength = newSize - bufLength ;
+
+		flush();
+		if( appendLength > bufSize )
+			super.resize( appendLength );
+	}
+}
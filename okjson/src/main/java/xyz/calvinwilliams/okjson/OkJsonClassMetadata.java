@@ -0,0 +1,80 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.util.LinkedList;
+
+/*
+ * Everything the parser and the generator learn about one class, kept in a
+ * ClassValue so there is one copy per Class for the whole process instead
+ * of one per thread, classes of the same name from different class loaders
+ * do not collide, and an unloaded class takes its metadata with it. Each
+ * half is built on first use under the lock of this object, then read
+ * without locking and never modified.
+ */
+final class OkJsonClassMetadata {
+
+	final private static ClassValue<OkJsonClassMetadata>	classMetadata = new ClassValue<OkJsonClassMetadata>() {
+		@Override
+		protected OkJsonClassMetadata computeValue( Class<?> clazz ) {
+			return new OkJsonClassMetadata( clazz );
+		}
+	} ;
+
+	final private Class<?>									clazz ;
+
+	private volatile OkJsonFieldTable						fieldTable ;
+	private volatile LinkedList<OkJsonGenerator.OkJsonClassField>	classFieldList ;
+
+	private OkJsonClassMetadata( Class<?> clazz ) {
+		this.clazz = clazz ;
+	}
+
+	static OkJsonClassMetadata of( Class<?> clazz ) {
+		return classMetadata.get( clazz );
+	}
+
+	// for the parser
+	OkJsonFieldTable getFieldTable() {
+		OkJsonFieldTable	fieldTable = this.fieldTable ;
+
+		if( fieldTable == null ) {
+			synchronized( this ) {
+				fieldTable = this.fieldTable ;
+				if( fieldTable == null ) {
+					OkJsonCodecProvider codecProvider = OkJsonCodecRegistry.get( clazz ) ;
+					if( codecProvider != null )
+						fieldTable = new OkJsonFieldTable( codecProvider ) ;
+					else
+						fieldTable = new OkJsonFieldTable( clazz ) ;
+					this.fieldTable = fieldTable ;
+				}
+			}
+		}
+
+		return fieldTable;
+	}
+
+	// for the generator, a failed build is not kept and is tried again next time
+	LinkedList<OkJsonGenerator.OkJsonClassField> getClassFieldList() throws Exception {
+		LinkedList<OkJsonGenerator.OkJsonClassField>	classFieldList = this.classFieldList ;
+
+		if( classFieldList == null ) {
+			synchronized( this ) {
+				classFieldList = this.classFieldList ;
+				if( classFieldList == null ) {
+					classFieldList = OkJsonGenerator.buildClassFieldList( clazz ) ;
+					this.classFieldList = classFieldList ;
+				}
+			}
+		}
+
+		return classFieldList;
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+/*
+ * Properties and accessor of one class, written at compile time by the
+ * okjson-processor for classes marked with @OkJsonCodec and found through
+ * ServiceLoader. When a provider exists the parser and generator use it
+ * instead of looking the class up by reflection. The arrays are indexed by
+ * the accessor index and are in declaration order.
+ */
+public interface OkJsonCodecProvider {
+
+	// how a property is set and read, a property without set flags is not parsed, without get flags not generated
+	final public static int	PROPERTY_SET_METHOD = 1 ;
+	final public static int	PROPERTY_SET_FIELD = 2 ;
+	final public static int	PROPERTY_GET_METHOD = 4 ;
+	final public static int	PROPERTY_GET_FIELD = 8 ;
+
+	public Class<?> getBoundClass() ;
+
+	public Object newInstance() ;
+
+	public String[] getPropertyNames() ;
+
+	public Class<?>[] getPropertyTypes() ;
+
+	// element class of collection or array properties, value class of Map<String,V> ones, else null
+	public Class<?>[] getPropertyElementTypes() ;
+
+	// format of @OkJsonDateTimeFormatter, else null
+	public String[] getPropertyDateTimeFormats() ;
+
+	public int[] getPropertyFlags() ;
+
+	public OkJsonAccessor getAccessor() ;
+}
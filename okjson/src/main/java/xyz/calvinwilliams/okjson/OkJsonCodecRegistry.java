@@ -0,0 +1,78 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/*
+ * The OkJsonCodecProvider services on the class path, loaded once on first
+ * use and read-only after that.
+ */
+final class OkJsonCodecRegistry {
+
+	private static class Holder {
+		final static HashMap<Class<?>,OkJsonCodecProvider>	codecProviders = loadCodecProviders() ;
+	}
+
+	private OkJsonCodecRegistry() {
+	}
+
+	private static HashMap<Class<?>,OkJsonCodecProvider> loadCodecProviders() {
+		HashMap<Class<?>,OkJsonCodecProvider>	codecProviders = new HashMap<Class<?>,OkJsonCodecProvider>() ;
+		Iterator<OkJsonCodecProvider>			iterator ;
+		OkJsonCodecProvider						codecProvider ;
+
+		iterator = ServiceLoader.load( OkJsonCodecProvider.class ).iterator() ;
+		while(true) {
+			try {
+				if( ! iterator.hasNext() )
+					break;
+				codecProvider = iterator.next() ;
+			} catch (ServiceConfigurationError e) {
+				// a stale entry of a removed class, the class falls back to reflection
+				e.printStackTrace();
+				continue;
+			}
+			codecProviders.put( codecProvider.getBoundClass(), codecProvider );
+		}
+
+		return codecProviders;
+	}
+
+	static OkJsonCodecProvider get( Class<?> clazz ) {
+		return Holder.codecProviders.get( clazz );
+	}
+
+	/*
+	 * Without a codec, through the no-argument constructor. What that
+	 * constructor throws unchecked is thrown as it is, as Class.newInstance
+	 * did, a checked exception stays in its InvocationTargetException.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T newInstance( Class<T> clazz ) throws ReflectiveOperationException {
+		OkJsonCodecProvider	codecProvider = Holder.codecProviders.get( clazz ) ;
+
+		if( codecProvider != null )
+			return (T)codecProvider.newInstance();
+
+		try {
+			return clazz.getDeclaredConstructor().newInstance();
+		} catch (InvocationTargetException e) {
+			if( e.getCause() instanceof RuntimeException )
+				throw (RuntimeException)e.getCause();
+			else if( e.getCause() instanceof Error )
+				throw (Error)e.getCause();
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.math.BigInteger;
+
+/*
+ * Decimal to binary floating point conversion for w * 10^q, w having at
+ * most 19 digits and read as an unsigned long. The exact Clinger fast path
+ * is tried first, then the Eisel-Lemire algorithm (as in the fast_float
+ * library) with a 128-bit table of powers of five. Both give the correctly
+ * rounded result; the rare cases Eisel-Lemire can not decide return NaN,
+ * and the caller falls back to Double.parseDouble/Float.parseFloat.
+ */
+final class OkJsonDecimalParser {
+
+	final private static int		SMALLEST_POWER_OF_FIVE = -342 ;
+	final private static int		LARGEST_POWER_OF_FIVE = 308 ;
+
+	// { high, low } 64-bit words of the truncated 128-bit 5^q, q from -342 to 308
+	final private static long[]		POWER_OF_FIVE_128 = new long[ 2*(LARGEST_POWER_OF_FIVE-SMALLEST_POWER_OF_FIVE+1) ] ;
+
+	final private static double[]	DOUBLE_POWER_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	} ;
+
+	final private static float[]	FLOAT_POWER_OF_TEN = {
+		1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+	} ;
+
+	static {
+		BigInteger	two128 = BigInteger.ONE.shiftLeft(128) ;
+		BigInteger	two127 = BigInteger.ONE.shiftLeft(127) ;
+		BigInteger	power5 ;
+		BigInteger	c ;
+		int			index = 0 ;
+		int			q ;
+		int			z ;
+
+		// same construction as the fast_float table generator
+		for( q = SMALLEST_POWER_OF_FIVE ; q < 0 ; q++ ) {
+			power5 = BigInteger.valueOf(5).pow(-q) ;
+			z = power5.bitLength() ;
+			if( q >= -27 ) {
+				c = BigInteger.ONE.shiftLeft(z+127).divide(power5).add(BigInteger.ONE) ;
+			} else {
+				c = BigInteger.ONE.shiftLeft(2*z+128).divide(power5).add(BigInteger.ONE) ;
+				while( c.compareTo(two128) >= 0 )
+					c = c.shiftRight(1) ;
+			}
+			POWER_OF_FIVE_128[index++] = c.shiftRight(64).longValue() ;
+			POWER_OF_FIVE_128[index++] = c.longValue() ;
+		}
+		for( q = 0 ; q <= LARGEST_POWER_OF_FIVE ; q++ ) {
+			power5 = BigInteger.valueOf(5).pow(q) ;
+			while( power5.compareTo(two127) < 0 )
+				power5 = power5.shiftLeft(1) ;
+			while( power5.compareTo(two128) >= 0 )
+				power5 = power5.shiftRight(1) ;
+			POWER_OF_FIVE_128[index++] = power5.shiftRight(64).longValue() ;
+			POWER_OF_FIVE_128[index++] = power5.longValue() ;
+		}
+	}
+
+	private OkJsonDecimalParser() {
+	}
+
+	static double toDouble( boolean negative, long w, int q ) {
+		double		d ;
+		long		bits ;
+
+		if( w == 0 )
+			return negative?-0.0:0.0;
+
+		if( -22 <= q && q <= 22 && w >= 0 && w <= (1L<<53) ) {
+			d = (double)w ;
+			if( q < 0 )
+				d = d / DOUBLE_POWER_OF_TEN[-q] ;
+			else
+				d = d * DOUBLE_POWER_OF_TEN[q] ;
+			return negative?-d:d;
+		}
+
+		bits = computeFloat( w, q, 52, -1023, 0x7FF, -4, 23, -342, 308 ) ;
+		if( bits == -1 )
+			return Double.NaN;
+		if( negative )
+			bits |= 1L<<63 ;
+		return Double.longBitsToDouble(bits);
+	}
+
+	static float toFloat( boolean negative, long w, int q ) {
+		float		f ;
+		long		bits ;
+
+		if( w == 0 )
+			return negative?-0.0f:0.0f;
+
+		if( -10 <= q && q <= 10 && w >= 0 && w <= (1L<<24) ) {
+			f = (float)w ;
+			if( q < 0 )
+				f = f / FLOAT_POWER_OF_TEN[-q] ;
+			else
+				f = f * FLOAT_POWER_OF_TEN[q] ;
+			return negative?-f:f;
+		}
+
+		bits = computeFloat( w, q, 23, -127, 0xFF, -17, 10, -65, 38 ) ;
+		if( bits == -1 )
+			return Float.NaN;
+		if( negative )
+			bits |= 1L<<31 ;
+		return Float.intBitsToFloat((int)bits);
+	}
+
+	/*
+	 * Returns the exponent and mantissa bits of w * 10^q rounded to nearest
+	 * even, without sign, or -1 if the 128-bit product is not precise enough.
+	 */
+	private static long computeFloat( long w, int q, int mantissaExplicitBits, int minimumExponent, int infinitePower,
+			int minExponentRoundToEven, int maxExponentRoundToEven, int smallestPowerOfTen, int largestPowerOfTen ) {
+		int			lz ;
+		int			index ;
+		long		precisionMask ;
+		long		firstHigh ;
+		long		firstLow ;
+		long		secondHigh ;
+		int			upperbit ;
+		int			shift ;
+		long		mantissa ;
+		int			power2 ;
+
+		if( q < smallestPowerOfTen )
+			return 0;
+		if( q > largestPowerOfTen )
+			return (long)infinitePower << mantissaExplicitBits;
+
+		lz = Long.numberOfLeadingZeros(w) ;
+		w <<= lz ;
+
+		// 128-bit approximation of w * 5^q, refined with the low table word when needed
+		index = 2 * ( q - SMALLEST_POWER_OF_FIVE ) ;
+		precisionMask = -1L >>> ( mantissaExplicitBits + 3 ) ;
+		firstHigh = unsignedMultiplyHigh( w, POWER_OF_FIVE_128[index] ) ;
+		firstLow = w * POWER_OF_FIVE_128[index] ;
+		if( (firstHigh&precisionMask) == precisionMask ) {
+			secondHigh = unsignedMultiplyHigh( w, POWER_OF_FIVE_128[index+1] ) ;
+			firstLow += secondHigh ;
+			if( Long.compareUnsigned( secondHigh, firstLow ) > 0 )
+				firstHigh++;
+		}
+		if( firstLow == -1L && ( q < -27 || q > 55 ) )
+			return -1;
+
+		upperbit = (int)( firstHigh >>> 63 ) ;
+		shift = upperbit + 64 - mantissaExplicitBits - 3 ;
+		mantissa = firstHigh >>> shift ;
+		power2 = ( ( (152170+65536) * q ) >> 16 ) + 63 + upperbit - lz - minimumExponent ;
+
+		if( power2 <= 0 ) {
+			// subnormal
+			if( -power2 + 1 >= 64 )
+				return 0;
+			mantissa >>>= -power2 + 1 ;
+			mantissa += ( mantissa & 1 ) ;
+			mantissa >>>= 1 ;
+			power2 = ( mantissa < (1L<<mantissaExplicitBits) ) ? 0 : 1 ;
+			return ( (long)power2 << mantissaExplicitBits ) | ( mantissa & ~(1L<<mantissaExplicitBits) );
+		}
+
+		// exactly halfway with an even result, do not round up
+		if( ( firstLow == 0 || firstLow == 1 ) && q >= minExponentRoundToEven && q <= maxExponentRoundToEven && ( mantissa & 3 ) == 1 ) {
+			if( ( mantissa << shift ) == firstHigh )
+				mantissa &= ~1L ;
+		}
+
+		mantissa += ( mantissa & 1 ) ;
+		mantissa >>>= 1 ;
+		if( mantissa >= ( 2L << mantissaExplicitBits ) ) {
+			mantissa = 1L << mantissaExplicitBits ;
+			power2++;
+		}
+		mantissa &= ~(1L<<mantissaExplicitBits) ;
+		if( power2 >= infinitePower )
+			return (long)infinitePower << mantissaExplicitBits;
+
+		return ( (long)power2 << mantissaExplicitBits ) | mantissa;
+	}
+
+	// the high 64 bits of the unsigned 128 bits product, from 32 bits halves as Java 8 has no Math.multiplyHigh
+	private static long unsignedMultiplyHigh( long a, long b ) {
+		long	a1 = a >>> 32 ;
+		long	a0 = a & 0xFFFFFFFFL ;
+		long	b1 = b >>> 32 ;
+		long	b0 = b & 0xFFFFFFFFL ;
+		long	p10 = a1 * b0 ;
+		long	cross = ( ( a0 * b0 ) >>> 32 ) + ( p10 & 0xFFFFFFFFL ) + a0 * b1 ;
+
+		return a1 * b1 + ( p10 >>> 32 ) + ( cross >>> 32 );
+	}
+}
@@ -0,0 +1,633 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/*
+ * Push parser for UTF-8 JSON arriving in arbitrary chunks, e.g. from a
+ * non-blocking channel. Top-level objects may be concatenated or separated
+ * by white space; each one is bound to clazz and passed to the consumer as
+ * soon as its closing brace has been fed.
+ *
+ * Each chunk is tokenized in place by the OkJsonParser tokenizer and every
+ * token is bound as it comes, so a byte is looked at once. What is open
+ * survives between feed() calls as a stack of frames, one per '{' or '['
+ * with the object, map or collection it fills. Only a token cut by the end
+ * of a chunk is carried over, in a buffer that grows to the longest such
+ * token, and completed from the start of the next chunk.
+ */
+public class OkJsonFeedParser<T> {
+
+	final private static int	FRAME_OBJECT = 1 ;
+	final private static int	FRAME_MAP = 2 ;
+	final private static int	FRAME_COLLECTION = 3 ;
+	final private static int	FRAME_PRIMITIVE_ARRAY = 4 ;
+	final private static int	FRAME_SKIP_OBJECT = 5 ;
+	final private static int	FRAME_SKIP_ARRAY = 6 ;
+
+	// what a frame takes next
+	final private static int	EXPECT_NAME_OR_END = 1 ;
+	final private static int	EXPECT_NAME = 2 ;
+	final private static int	EXPECT_COLON = 3 ;
+	final private static int	EXPECT_VALUE_OR_END = 4 ;
+	final private static int	EXPECT_VALUE = 5 ;
+	final private static int	EXPECT_COMMA_OR_END = 6 ;
+
+	// one '{' or '[' not closed yet, reused for the next one at the same depth
+	private static class Frame {
+		int							type ;
+		int							expect ;
+		// the object, map or collection being filled, null for a primitive array or a skipped value
+		Object						value ;
+		// of an object, its field table and the property after the last one read
+		OkJsonFieldTable			fieldTable ;
+		int							expectFieldIndex ;
+		// the property being read of an object, the entry a collection, map or primitive array is described by
+		OkJsonFieldTable.FieldEntry	fieldEntry ;
+		// the key being read of a map
+		String						key ;
+		// elements of a primitive array in primitiveArrayBuffer
+		int							elementCount ;
+	}
+
+	private Class<T>			clazz ;
+	private Consumer<T>			consumer ;
+	private OkJsonParser		okjsonParser ;
+
+	private Frame[]				frames ;
+	private int					frameCount ;
+	// elements of the primitive array open, only one can be as its elements are scalars
+	private long[]				primitiveArrayBuffer ;
+
+	// the token cut by the end of the last chunk
+	private byte[]				carryByteArray ;
+	private int					carryLength ;
+	// the carried token is a string ending in a backslash
+	private boolean				carryEscape ;
+
+	// where the chunk being fed is tokenized, also its position when feed returns or throws
+	private int					chunkOffset ;
+	// arrayOffset of a chunk with an array, the parser offsets are in the array
+	private int					chunkBaseOffset ;
+
+	private Integer				errorCode ;
+	private String				errorDesc ;
+
+	public OkJsonFeedParser( Class<T> clazz, int options, Consumer<T> consumer ) {
+		this.clazz = clazz ;
+		this.consumer = consumer ;
+		this.okjsonParser = new OkJsonParser() ;
+		this.okjsonParser.setDirectAccessPropertyEnable( (options&OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE) != 0 );
+		this.okjsonParser.setStrictPolicyEnable( (options&OKJSON.OPTIONS_STRICT_POLICY) != 0 );
+		this.okjsonParser.setContainerSizeHintEnable( (options&OKJSON.OPTIONS_CONTAINER_SIZE_HINT_ENABLE) != 0 );
+		this.frames = new Frame[16] ;
+		this.primitiveArrayBuffer = new long[64] ;
+		this.carryByteArray = new byte[64] ;
+		this.errorCode = 0 ;
+	}
+
+	/*
+	 * Consumes all remaining bytes of jsonByteBuffer. Returns 0, or an error
+	 * code after which the parser is reset and waits for a new object. When
+	 * the consumer throws, jsonByteBuffer is left just past the object it
+	 * was given, so the rest can be fed again.
+	 */
+	public int feed( ByteBuffer jsonByteBuffer ) {
+		int		chunkEndOffset = jsonByteBuffer.limit() ;
+		int		nret ;
+
+		errorCode = 0 ;
+		errorDesc = null ;
+
+		chunkOffset = jsonByteBuffer.position() ;
+		try {
+			if( carryLength > 0 ) {
+				nret = feedCarriedToken( jsonByteBuffer, chunkEndOffset ) ;
+				if( nret != 0 )
+					return failFeed( nret, chunkEndOffset );
+			}
+
+			if( chunkOffset < chunkEndOffset ) {
+				setChunk( jsonByteBuffer, chunkEndOffset );
+				while( chunkOffset < chunkEndOffset ) {
+					nret = okjsonParser.tokenJsonWord() ;
+					if( nret == OkJsonParser.OKJSON_ERROR_END_OF_BUFFER ) {
+						carryToken( jsonByteBuffer, chunkEndOffset );
+						break;
+					}
+					if( nret != 0 )
+						return failFeed( nret, chunkEndOffset );
+
+					chunkOffset = okjsonParser.getJsonOffset() - chunkBaseOffset ;
+					nret = bindToken() ;
+					if( nret != 0 )
+						return failFeed( nret, chunkEndOffset );
+				}
+			}
+		} finally {
+			okjsonParser.clearJsonSource();
+			okjsonParser.flushKeyPredictionCount();
+			jsonByteBuffer.position( chunkOffset );
+		}
+
+		return 0;
+	}
+
+	private void setChunk( ByteBuffer jsonByteBuffer, int chunkEndOffset ) {
+		if( jsonByteBuffer.hasArray() ) {
+			chunkBaseOffset = jsonByteBuffer.arrayOffset() ;
+			okjsonParser.setJsonBytes( jsonByteBuffer.array(), chunkBaseOffset+chunkOffset, chunkEndOffset-chunkOffset );
+		} else {
+			chunkBaseOffset = 0 ;
+			jsonByteBuffer.position( chunkOffset );
+			okjsonParser.setJsonByteBuffer( jsonByteBuffer );
+		}
+	}
+
+	private int failFeed( int nret, int chunkEndOffset ) {
+		errorCode = nret ;
+		if( errorDesc == null )
+			errorDesc = okjsonParser.getErrorDesc() ;
+		chunkOffset = chunkEndOffset ;
+		reset();
+		return errorCode;
+	}
+
+	// the white space is dropped, the token is kept from its first byte
+	private void carryToken( ByteBuffer jsonByteBuffer, int chunkEndOffset ) {
+		byte	ch ;
+		int		i ;
+
+		while( chunkOffset < chunkEndOffset ) {
+			ch = jsonByteBuffer.get(chunkOffset) ;
+			if( ch != ' ' && ch != '\b' && ch != '\t' && ch != '\f' && ch != '\r' && ch != '\n' )
+				break;
+			chunkOffset++;
+		}
+		if( chunkOffset == chunkEndOffset )
+			return;
+
+		carryEscape = false ;
+		appendCarry( jsonByteBuffer, chunkOffset, chunkEndOffset );
+		if( carryByteArray[0] == '"' ) {
+			for( i = 1 ; i < carryLength ; i++ )
+				carryEscape = ( carryEscape ? false : carryByteArray[i] == '\\' ) ;
+		}
+		chunkOffset = chunkEndOffset ;
+	}
+
+	private void appendCarry( ByteBuffer jsonByteBuffer, int beginOffset, int endOffset ) {
+		int		length = endOffset - beginOffset ;
+
+		if( carryLength + length > carryByteArray.length )
+			carryByteArray = Arrays.copyOf( carryByteArray, Math.max( carryByteArray.length*2, carryLength+length ) ) ;
+
+		ByteBuffer chunkByteBuffer = jsonByteBuffer.duplicate() ;
+		chunkByteBuffer.limit( endOffset );
+		chunkByteBuffer.position( beginOffset );
+		chunkByteBuffer.get( carryByteArray, carryLength, length );
+		carryLength += length ;
+	}
+
+	/*
+	 * Completes the carried token from the start of this chunk, only as far
+	 * as it goes: a string to its closing quote, a number to the byte after
+	 * it, a literal to its length. Then it is tokenized and bound as any
+	 * other, and the chunk goes on after it. A token longer than the chunk is
+	 * carried on whole.
+	 */
+	private int feedCarriedToken( ByteBuffer jsonByteBuffer, int chunkEndOffset ) {
+		byte	first = carryByteArray[0] ;
+		int		carriedLength = carryLength ;
+		int		tokenEndOffset = -1 ;
+		byte	ch ;
+		int		offset ;
+		int		nret ;
+
+		if( first == '"' ) {
+			for( offset = chunkOffset ; offset < chunkEndOffset ; offset++ ) {
+				ch = jsonByteBuffer.get(offset) ;
+				if( carryEscape ) {
+					carryEscape = false ;
+				} else if( ch == '\\' ) {
+					carryEscape = true ;
+				} else if( ch == '"' ) {
+					tokenEndOffset = offset + 1 ;
+					break;
+				}
+			}
+		} else if( first == 't' || first == 'f' || first == 'n' ) {
+			offset = chunkOffset + ( first == 'f' ? 5 : 4 ) - carryLength ;
+			if( offset <= chunkEndOffset )
+				tokenEndOffset = offset ;
+		} else {
+			// the byte after a number is taken to end it, and left for the next token
+			for( offset = chunkOffset ; offset < chunkEndOffset ; offset++ ) {
+				ch = jsonByteBuffer.get(offset) ;
+				if( ! ( ( '0' <= ch && ch <= '9' ) || ch == '.' || ch == 'e' || ch == 'E' || ch == '+' || ch == '-' ) ) {
+					tokenEndOffset = offset + 1 ;
+					break;
+				}
+			}
+		}
+
+		if( tokenEndOffset < 0 ) {
+			appendCarry( jsonByteBuffer, chunkOffset, chunkEndOffset );
+			chunkOffset = chunkEndOffset ;
+			return 0;
+		}
+
+		appendCarry( jsonByteBuffer, chunkOffset, tokenEndOffset );
+		okjsonParser.setJsonBytes( carryByteArray, 0, carryLength );
+		nret = okjsonParser.tokenJsonWord() ;
+		if( nret != 0 )
+			return nret;
+
+		chunkOffset += okjsonParser.getJsonOffset() - carriedLength ;
+		carryLength = 0 ;
+		return bindToken();
+	}
+
+	private Frame pushFrame( int type, int expect, Object value, OkJsonFieldTable.FieldEntry fieldEntry ) {
+		Frame	frame ;
+
+		if( frameCount == frames.length )
+			frames = Arrays.copyOf( frames, frameCount*2 ) ;
+		frame = frames[frameCount] ;
+		if( frame == null ) {
+			frame = new Frame() ;
+			frames[frameCount] = frame ;
+		}
+		frameCount++;
+
+		frame.type = type ;
+		frame.expect = expect ;
+		frame.value = value ;
+		frame.fieldTable = null ;
+		frame.expectFieldIndex = 0 ;
+		frame.fieldEntry = fieldEntry ;
+		frame.key = null ;
+		frame.elementCount = 0 ;
+		return frame;
+	}
+
+	private int pushObjectFrame( Class<?> type ) {
+		Object	object ;
+		Frame	frame ;
+
+		try {
+			object = OkJsonCodecRegistry.newInstance( type ) ;
+		} catch (Exception e) {
+			e.printStackTrace();
+			errorDesc = "New object failed for " + type.getName() ;
+			return OkJsonParser.OKJSON_ERROR_NEW_OBJECT;
+		}
+
+		frame = pushFrame( FRAME_OBJECT, EXPECT_NAME_OR_END, object, null ) ;
+		frame.fieldTable = OkJsonClassMetadata.of( type ).getFieldTable() ;
+		return 0;
+	}
+
+	// a collection, an array, a primitive array or a map described by fieldEntry
+	private int pushContainerFrame( OkJsonFieldTable.FieldEntry fieldEntry ) {
+		int		sizeHint = okjsonParser.containerSizeHintOf( fieldEntry ) ;
+		Object	container ;
+
+		if( fieldEntry.kind == OkJsonFieldTable.FIELDKIND_PRIMITIVE_ARRAY ) {
+			pushFrame( FRAME_PRIMITIVE_ARRAY, EXPECT_VALUE_OR_END, null, fieldEntry );
+			return 0;
+		}
+
+		try {
+			if( fieldEntry.kind == OkJsonFieldTable.FIELDKIND_OBJECT_ARRAY )
+				container = new java.util.ArrayList<Object>( sizeHint > 0 ? sizeHint : 10 ) ;
+			else
+				container = OkJsonFieldTable.newContainer( fieldEntry.containerType, sizeHint ) ;
+		} catch (Exception e) {
+			e.printStackTrace();
+			return OkJsonParser.OKJSON_ERROR_NEW_OBJECT;
+		}
+
+		if( fieldEntry.kind == OkJsonFieldTable.FIELDKIND_MAP )
+			pushFrame( FRAME_MAP, EXPECT_NAME_OR_END, container, fieldEntry );
+		else
+			pushFrame( FRAME_COLLECTION, EXPECT_VALUE_OR_END, container, fieldEntry );
+		return 0;
+	}
+
+	// a value there is no place for, its tokens are only checked to nest right
+	private int pushSkipFrame( boolean bracket ) {
+		pushFrame( bracket ? FRAME_SKIP_ARRAY : FRAME_SKIP_OBJECT, 0, null, null );
+		return 0;
+	}
+
+	private int bindToken() {
+		OkJsonParser.TokenType	tokenType = okjsonParser.getTokenType() ;
+		Frame					frame ;
+
+		if( frameCount == 0 ) {
+			if( tokenType != OkJsonParser.TokenType.TOKEN_TYPE_LEFT_BRACE ) {
+				errorDesc = "unexpect \"" + okjsonParser.copyJsonString( okjsonParser.getBeginOffset(), okjsonParser.getEndOffset() ) + "\" between objects" ;
+				return OKJSON.OKJSON_ERROR_FIND_FIRST_LEFT_BRACE;
+			}
+			return pushObjectFrame( clazz );
+		}
+
+		frame = frames[frameCount-1] ;
+		switch( frame.type ) {
+			case FRAME_OBJECT :
+			case FRAME_MAP :
+				return bindObjectToken( frame, tokenType );
+			case FRAME_COLLECTION :
+			case FRAME_PRIMITIVE_ARRAY :
+				return bindArrayToken( frame, tokenType );
+			default :
+				return bindSkippedToken( frame, tokenType );
+		}
+	}
+
+	private int bindObjectToken( Frame frame, OkJsonParser.TokenType tokenType ) {
+		StringBuilder	fieldStringBuilder ;
+
+		switch( frame.expect ) {
+			case EXPECT_NAME_OR_END :
+			case EXPECT_NAME :
+				if( tokenType == OkJsonParser.TokenType.TOKEN_TYPE_RIGHT_BRACE && frame.expect == EXPECT_NAME_OR_END )
+					return closeFrame();
+				if( tokenType != OkJsonParser.TokenType.TOKEN_TYPE_STRING ) {
+					errorDesc = "expect a name but \"" + okjsonParser.copyJsonString( okjsonParser.getBeginOffset(), okjsonParser.getEndOffset() ) + "\"" ;
+					return OkJsonParser.OKJSON_ERROR_NAME_INVALID;
+				}
+				fieldStringBuilder = okjsonParser.getFieldStringBuilder() ;
+				if( frame.type == FRAME_MAP ) {
+					if( fieldStringBuilder.length() > 0 )
+						frame.key = fieldStringBuilder.toString() ;
+					else
+						frame.key = okjsonParser.copyJsonString( okjsonParser.getBeginOffset(), okjsonParser.getEndOffset() ) ;
+				} else {
+					// the same prediction as OkJsonParser, the field after the last one first
+					if( frame.expectFieldIndex < frame.fieldTable.fieldEntries.length && OkJsonFieldTable.matches( frame.fieldTable.fieldEntries[frame.expectFieldIndex], fieldStringBuilder ) ) {
+						frame.fieldEntry = frame.fieldTable.fieldEntries[frame.expectFieldIndex] ;
+						okjsonParser.keyPredictionHits++;
+					} else {
+						frame.fieldEntry = frame.fieldTable.get( fieldStringBuilder ) ;
+						okjsonParser.keyPredictionMisses++;
+					}
+					if( frame.fieldEntry == null ) {
+						if( okjsonParser.isStrictPolicyEnable() == true )
+							return OkJsonParser.OKJSON_ERROR_NAME_NOT_FOUND_IN_OBJECT;
+					} else {
+						frame.expectFieldIndex = frame.fieldEntry.index + 1 ;
+					}
+				}
+				frame.expect = EXPECT_COLON ;
+				return 0;
+			case EXPECT_COLON :
+				if( tokenType != OkJsonParser.TokenType.TOKEN_TYPE_COLON ) {
+					errorDesc = "expect ':' but \"" + okjsonParser.copyJsonString( okjsonParser.getBeginOffset(), okjsonParser.getEndOffset() ) + "\"" ;
+					return OkJsonParser.OKJSON_ERROR_EXPECT_COLON_AFTER_NAME;
+				}
+				frame.expect = EXPECT_VALUE ;
+				return 0;
+			case EXPECT_VALUE :
+				frame.expect = EXPECT_COMMA_OR_END ;
+				if( frame.type == FRAME_MAP )
+					return bindElementValue( frame, tokenType );
+				else
+					return bindPropertyValue( frame, tokenType );
+			default :
+				if( tokenType == OkJsonParser.TokenType.TOKEN_TYPE_COMMA ) {
+					frame.expect = EXPECT_NAME ;
+					return 0;
+				} else if( tokenType == OkJsonParser.TokenType.TOKEN_TYPE_RIGHT_BRACE ) {
+					return closeFrame();
+				} else {
+					errorDesc = "expect ',' or '}' but \"" + okjsonParser.copyJsonString( okjsonParser.getBeginOffset(), okjsonParser.getEndOffset() ) + "\"" ;
+					return OkJsonParser.OKJSON_ERROR_EXPECT_COLON_AFTER_NAME;
+				}
+		}
+	}
+
+	private int bindArrayToken( Frame frame, OkJsonParser.TokenType tokenType ) {
+		switch( frame.expect ) {
+			case EXPECT_VALUE_OR_END :
+			case EXPECT_VALUE :
+				if( tokenType == OkJsonParser.TokenType.TOKEN_TYPE_RIGHT_BRACKET && frame.expect == EXPECT_VALUE_OR_END )
+					return closeFrame();
+				frame.expect = EXPECT_COMMA_OR_END ;
+				return bindElementValue( frame, tokenType );
+			default :
+				if( tokenType == OkJsonParser.TokenType.TOKEN_TYPE_COMMA ) {
+					frame.expect = EXPECT_VALUE ;
+					return 0;
+				} else if( tokenType == OkJsonParser.TokenType.TOKEN_TYPE_RIGHT_BRACKET ) {
+					return closeFrame();
+				} else {
+					return unexpectToken();
+				}
+		}
+	}
+
+	private int bindSkippedToken( Frame frame, OkJsonParser.TokenType tokenType ) {
+		if( tokenType == OkJsonParser.TokenType.TOKEN_TYPE_LEFT_BRACE || tokenType == OkJsonParser.TokenType.TOKEN_TYPE_LEFT_BRACKET ) {
+			return pushSkipFrame( tokenType == OkJsonParser.TokenType.TOKEN_TYPE_LEFT_BRACKET );
+		} else if( tokenType == OkJsonParser.TokenType.TOKEN_TYPE_RIGHT_BRACE || tokenType == OkJsonParser.TokenType.TOKEN_TYPE_RIGHT_BRACKET ) {
+			if( ( frame.type == FRAME_SKIP_ARRAY ) != ( tokenType == OkJsonParser.TokenType.TOKEN_TYPE_RIGHT_BRACKET ) )
+				return unexpectToken();
+			return closeFrame();
+		} else {
+			return 0;
+		}
+	}
+
+	private static boolean isScalar( OkJsonParser.TokenType tokenType ) {
+		return tokenType == OkJsonParser.TokenType.TOKEN_TYPE_STRING || tokenType == OkJsonParser.TokenType.TOKEN_TYPE_INTEGER || tokenType == OkJsonParser.TokenType.TOKEN_TYPE_DECIMAL || tokenType == OkJsonParser.TokenType.TOKEN_TYPE_BOOL || tokenType == OkJsonParser.TokenType.TOKEN_TYPE_NULL;
+	}
+
+	private int unexpectToken() {
+		errorDesc = "unexpect \"" + okjsonParser.copyJsonString( okjsonParser.getBeginOffset(), okjsonParser.getEndOffset() ) + "\"" ;
+		return OkJsonParser.OKJSON_ERROR_UNEXPECT_TOKEN_AFTER_LEFT_BRACE;
+	}
+
+	// the value of a property, as OkJsonParser.stringToObjectProperties takes it
+	private int bindPropertyValue( Frame frame, OkJsonParser.TokenType tokenType ) {
+		OkJsonFieldTable.FieldEntry	fieldEntry = frame.fieldEntry ;
+		boolean						bracket = ( tokenType == OkJsonParser.TokenType.TOKEN_TYPE_LEFT_BRACKET ) ;
+
+		if( tokenType != OkJsonParser.TokenType.TOKEN_TYPE_LEFT_BRACE && ! bracket ) {
+			if( ! isScalar( tokenType ) )
+				return unexpectToken();
+			if( fieldEntry == null )
+				return 0;
+			return okjsonParser.setObjectProperty( tokenType, okjsonParser.getBeginOffset(), okjsonParser.getEndOffset(), frame.value, fieldEntry );
+		}
+
+		if( fieldEntry == null )
+			return pushSkipFrame( bracket );
+		if( bracket && ( fieldEntry.kind == OkJsonFieldTable.FIELDKIND_PRIMITIVE_ARRAY || fieldEntry.kind == OkJsonFieldTable.FIELDKIND_LIST || fieldEntry.kind == OkJsonFieldTable.FIELDKIND_OBJECT_ARRAY ) )
+			return pushContainerFrame( fieldEntry );
+		if( ! bracket && fieldEntry.kind == OkJsonFieldTable.FIELDKIND_MAP )
+			return pushContainerFrame( fieldEntry );
+		if( bracket || ( fieldEntry.kind != OkJsonFieldTable.FIELDKIND_OTHER && fieldEntry.kind != OkJsonFieldTable.FIELDKIND_ANY ) ) {
+			if( okjsonParser.isStrictPolicyEnable() == true )
+				return okjsonParser.containerNotMatched( fieldEntry, false, bracket );
+			return pushSkipFrame( bracket );
+		}
+		return pushObjectFrame( fieldEntry.type );
+	}
+
+	// an element of a collection, an array or a primitive array, or a value of a map
+	private int bindElementValue( Frame frame, OkJsonParser.TokenType tokenType ) {
+		OkJsonFieldTable.FieldEntry	fieldEntry = frame.fieldEntry ;
+		boolean						bracket = ( tokenType == OkJsonParser.TokenType.TOKEN_TYPE_LEFT_BRACKET ) ;
+
+		if( tokenType != OkJsonParser.TokenType.TOKEN_TYPE_LEFT_BRACE && ! bracket ) {
+			if( ! isScalar( tokenType ) )
+				return unexpectToken();
+			return addElementValue( frame, tokenType );
+		}
+
+		if( frame.type == FRAME_PRIMITIVE_ARRAY ) {
+			if( bracket )
+				return unexpectToken();
+		} else if( bracket && fieldEntry.elementEntry != null && fieldEntry.elementEntry.kind != OkJsonFieldTable.FIELDKIND_MAP ) {
+			return pushContainerFrame( fieldEntry.elementEntry );
+		} else if( ! bracket && fieldEntry.elementEntry != null && fieldEntry.elementEntry.kind == OkJsonFieldTable.FIELDKIND_MAP ) {
+			return pushContainerFrame( fieldEntry.elementEntry );
+		} else if( ! bracket && fieldEntry.elementKind == OkJsonFieldTable.FIELDKIND_OTHER && fieldEntry.elementType != null ) {
+			return pushObjectFrame( fieldEntry.elementType );
+		}
+
+		if( okjsonParser.isStrictPolicyEnable() == true )
+			return okjsonParser.containerNotMatched( fieldEntry, true, bracket );
+		return pushSkipFrame( bracket );
+	}
+
+	private int addElementValue( Frame frame, OkJsonParser.TokenType tokenType ) {
+		OkJsonFieldTable.FieldEntry	fieldEntry = frame.fieldEntry ;
+		int							nret ;
+
+		if( frame.type == FRAME_COLLECTION )
+			return okjsonParser.addArrayObject( tokenType, okjsonParser.getBeginOffset(), okjsonParser.getEndOffset(), frame.value, fieldEntry );
+
+		if( frame.type == FRAME_PRIMITIVE_ARRAY ) {
+			nret = okjsonParser.parsePrimitiveElement( tokenType, okjsonParser.getBeginOffset(), okjsonParser.getEndOffset(), fieldEntry.elementKind ) ;
+			if( nret != 0 )
+				return nret;
+			if( okjsonParser.getElementMatched() ) {
+				if( frame.elementCount == primitiveArrayBuffer.length )
+					primitiveArrayBuffer = Arrays.copyOf( primitiveArrayBuffer, primitiveArrayBuffer.length*2 ) ;
+				primitiveArrayBuffer[frame.elementCount] = okjsonParser.getPrimitiveElementBits() ;
+				frame.elementCount++;
+			}
+			return 0;
+		}
+
+		nret = okjsonParser.parseElementValue( tokenType, okjsonParser.getBeginOffset(), okjsonParser.getEndOffset(), fieldEntry ) ;
+		if( nret != 0 )
+			return nret;
+		if( okjsonParser.getElementMatched() == true )
+			return putElementValue( frame, okjsonParser.getElementValue() );
+		else if( okjsonParser.isStrictPolicyEnable() == true )
+			return OkJsonParser.OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT;
+		else
+			return 0;
+	}
+
+	private int putElementValue( Frame frame, Object value ) {
+		try {
+			((Map<String,Object>)frame.value).put( frame.key, value );
+		} catch (Exception e) {
+			e.printStackTrace();
+			return OkJsonParser.OKJSON_ERROR_EXCEPTION;
+		}
+		return 0;
+	}
+
+	// the value of the frame goes to the one it is in, or to the consumer
+	private int closeFrame() {
+		Frame						frame = frames[frameCount-1] ;
+		OkJsonFieldTable.FieldEntry	fieldEntry = frame.fieldEntry ;
+		Frame						parentFrame ;
+		Object						value ;
+
+		frameCount--;
+		switch( frame.type ) {
+			case FRAME_SKIP_OBJECT :
+			case FRAME_SKIP_ARRAY :
+				return 0;
+			case FRAME_PRIMITIVE_ARRAY :
+				value = OkJsonParser.newPrimitiveArray( fieldEntry.elementKind, primitiveArrayBuffer, frame.elementCount ) ;
+				break;
+			case FRAME_MAP :
+				okjsonParser.setContainerSizeHint( fieldEntry, ((Map<?,?>)frame.value).size() );
+				value = frame.value ;
+				break;
+			case FRAME_COLLECTION :
+				okjsonParser.setContainerSizeHint( fieldEntry, ((Collection<?>)frame.value).size() );
+				if( fieldEntry.kind == OkJsonFieldTable.FIELDKIND_OBJECT_ARRAY ) {
+					try {
+						value = ((Collection<?>)frame.value).toArray( (Object[])Array.newInstance( fieldEntry.elementType, ((Collection<?>)frame.value).size() ) ) ;
+					} catch (Exception e) {
+						e.printStackTrace();
+						return OkJsonParser.OKJSON_ERROR_EXCEPTION;
+					}
+				} else {
+					value = frame.value ;
+				}
+				break;
+			default :
+				value = frame.value ;
+				break;
+		}
+		frame.value = null ;
+
+		if( frameCount == 0 ) {
+			consumer.accept( (T)value );
+			return 0;
+		}
+
+		parentFrame = frames[frameCount-1] ;
+		if( parentFrame.type == FRAME_OBJECT ) {
+			return okjsonParser.setContainerProperty( parentFrame.value, parentFrame.fieldEntry, value );
+		} else if( parentFrame.type == FRAME_MAP ) {
+			return putElementValue( parentFrame, value );
+		} else {
+			((Collection<Object>)parentFrame.value).add( value );
+			return 0;
+		}
+	}
+
+	public void reset() {
+		while( frameCount > 0 ) {
+			frameCount--;
+			frames[frameCount].value = null ;
+		}
+		carryLength = 0 ;
+		carryEscape = false ;
+	}
+
+	public boolean isObjectPending() {
+		return frameCount > 0 || carryLength > 0;
+	}
+
+	public Integer getErrorCode() {
+		return errorCode;
+	}
+
+	public String getErrorDesc() {
+		return errorDesc;
+	}
+}
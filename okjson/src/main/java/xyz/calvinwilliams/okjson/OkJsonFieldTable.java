@@ -0,0 +1,543 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/*
+ * Bindable fields of one class, looked up by the unescaped name in the
+ * parser's fieldStringBuilder without creating a String. One probe of the
+ * hash table, confirmed by a hash and char compare, resolves both the field
+ * and its setter. The table comes from reflection, or without any from the
+ * OkJsonCodecProvider written by the okjson-processor.
+ */
+final class OkJsonFieldTable {
+
+	// how a value of a field or list element is converted and set, resolved once per field
+	final static int	FIELDKIND_OTHER = 0 ;
+	final static int	FIELDKIND_STRING = 1 ;
+	final static int	FIELDKIND_BYTE_OBJECT = 2 ;
+	final static int	FIELDKIND_SHORT_OBJECT = 3 ;
+	final static int	FIELDKIND_INTEGER_OBJECT = 4 ;
+	final static int	FIELDKIND_LONG_OBJECT = 5 ;
+	final static int	FIELDKIND_FLOAT_OBJECT = 6 ;
+	final static int	FIELDKIND_DOUBLE_OBJECT = 7 ;
+	final static int	FIELDKIND_BOOLEAN_OBJECT = 8 ;
+	final static int	FIELDKIND_BYTE = 9 ;
+	final static int	FIELDKIND_SHORT = 10 ;
+	final static int	FIELDKIND_INT = 11 ;
+	final static int	FIELDKIND_LONG = 12 ;
+	final static int	FIELDKIND_FLOAT = 13 ;
+	final static int	FIELDKIND_DOUBLE = 14 ;
+	final static int	FIELDKIND_BOOLEAN = 15 ;
+	final static int	FIELDKIND_LOCALDATE = 16 ;
+	final static int	FIELDKIND_LOCALTIME = 17 ;
+	final static int	FIELDKIND_LOCALDATETIME = 18 ;
+	// any Collection, List, Set, Queue, ArrayList, LinkedList ...
+	final static int	FIELDKIND_LIST = 19 ;
+	// boolean[], byte[], short[], int[], long[], float[] or double[], the element kind tells which
+	final static int	FIELDKIND_PRIMITIVE_ARRAY = 20 ;
+	// any Map, bound when its keys are String
+	final static int	FIELDKIND_MAP = 21 ;
+	// String[], Integer[], Object[], DemoClass[] ...
+	final static int	FIELDKIND_OBJECT_ARRAY = 22 ;
+	// Object, as an element it takes String, Long, Double or Boolean after the JSON value
+	final static int	FIELDKIND_ANY = 23 ;
+	// char or Character, a string of one char
+	final static int	FIELDKIND_CHAR = 24 ;
+
+	// parsed and written by hand on the char buffer, without a DateTimeFormatter
+	final static String	DEFAULT_LOCALDATE_FORMAT = "yyyy-MM-dd" ;
+	final static String	DEFAULT_LOCALTIME_FORMAT = "HH:mm:ss" ;
+	final static String	DEFAULT_LOCALDATETIME_FORMAT = "yyyy-MM-dd HH:mm:ss" ;
+
+	// a container size hint is never larger, else one huge value would presize every later container of the field in all threads
+	final static int	MAX_CONTAINER_SIZE_HINT = 1024 ;
+
+	// for the values of the default formats the hand-written codecs pass over, such as years past 9999
+	final static DateTimeFormatter	DEFAULT_LOCALDATE_FORMATTER = DateTimeFormatter.ofPattern( DEFAULT_LOCALDATE_FORMAT ) ;
+	final static DateTimeFormatter	DEFAULT_LOCALTIME_FORMATTER = DateTimeFormatter.ofPattern( DEFAULT_LOCALTIME_FORMAT ) ;
+	final static DateTimeFormatter	DEFAULT_LOCALDATETIME_FORMATTER = DateTimeFormatter.ofPattern( DEFAULT_LOCALDATETIME_FORMAT ) ;
+
+	static class FieldEntry {
+		char[]			fieldName ;
+		Class<?>		type ;
+		int				kind ;
+		// element class of a collection or an array, value class of a map, else null
+		Class<?>		elementType ;
+		int				elementKind ;
+		// class a collection or map field is filled in, ArrayList for List and so on
+		Class<?>		containerType ;
+		// the element when it is a collection, an array or a map itself, else null
+		FieldEntry		elementEntry ;
+		// element count of the last value up to MAX_CONTAINER_SIZE_HINT, to presize the next one, written racily by all threads
+		int				containerSizeHint ;
+		// format of @OkJsonDateTimeFormatter, else null, also null when it is the default one
+		String			dateTimeFormat ;
+		// compiled once, null when the format is invalid
+		DateTimeFormatter	dateTimeFormatter ;
+		boolean			setByMethod ;
+		int				index ;
+		int				nameHash ;
+		// null when the property is set through reflection
+		OkJsonAccessor	accessor ;
+		int				accessorIndex ;
+		// for reflection, null with a codec provider
+		Field			field ;
+		Method			setMethod ;
+	}
+
+	// in getDeclaredFields order
+	FieldEntry[]				fieldEntries ;
+
+	private FieldEntry[]		slots ;
+	private int					mask ;
+
+	OkJsonFieldTable( Class<?> clazz ) {
+		ArrayList<FieldEntry>	fieldEntryList = new ArrayList<FieldEntry>() ;
+		FieldEntry				fieldEntry ;
+		String					fieldName ;
+		Method					method ;
+
+		for( Field f : clazz.getDeclaredFields() ) {
+			f.setAccessible(true);
+
+			fieldName = f.getName();
+
+			method = null ;
+			try {
+				method = clazz.getMethod( "set" + fieldName.substring(0,1).toUpperCase(Locale.getDefault()) + fieldName.substring(1), f.getType() ) ;
+				method.setAccessible(true);
+			} catch (NoSuchMethodException e2) {
+				;
+			} catch (SecurityException e2) {
+				;
+			}
+
+			// a static final field can not be set even through reflection, it is only written
+			if( method != null && Modifier.isPublic(method.getModifiers()) ) {
+				;
+			} else if( Modifier.isPublic(f.getModifiers()) && ! ( Modifier.isStatic(f.getModifiers()) && Modifier.isFinal(f.getModifiers()) ) ) {
+				method = null ;
+			} else {
+				continue;
+			}
+
+			fieldEntry = new FieldEntry() ;
+			fieldEntry.fieldName = fieldName.toCharArray() ;
+			fieldEntry.type = f.getType() ;
+			fieldEntry.kind = fieldKindOf( fieldEntry.type ) ;
+			fieldEntry.elementType = elementTypeOf( f ) ;
+			fieldEntry.elementKind = fieldKindOf( fieldEntry.elementType ) ;
+			fieldEntry.containerType = containerTypeOf( fieldEntry.type ) ;
+			fieldEntry.elementEntry = elementEntryOf( fieldEntry.fieldName, elementGenericTypeOf( f.getGenericType() ), f.isAnnotationPresent(OkJsonDateTimeFormatter.class) ? f.getAnnotation(OkJsonDateTimeFormatter.class).format() : null ) ;
+			if( f.isAnnotationPresent(OkJsonDateTimeFormatter.class) )
+				fieldEntry.dateTimeFormat = customDateTimeFormatOf( fieldEntry.kind, fieldEntry.elementKind, f.getAnnotation(OkJsonDateTimeFormatter.class).format() ) ;
+			fieldEntry.dateTimeFormatter = dateTimeFormatterOf( fieldEntry.kind, fieldEntry.elementKind, fieldEntry.dateTimeFormat ) ;
+			fieldEntry.setByMethod = ( method != null ) ;
+			fieldEntry.field = f ;
+			fieldEntry.setMethod = method ;
+			fieldEntry.index = fieldEntryList.size() ;
+			fieldEntry.accessorIndex = fieldEntry.index ;
+			fieldEntryList.add( fieldEntry );
+		}
+
+		fieldEntries = fieldEntryList.toArray( new FieldEntry[fieldEntryList.size()] ) ;
+		buildSlots();
+		buildAccessor( clazz );
+	}
+
+	OkJsonFieldTable( OkJsonCodecProvider codecProvider ) {
+		ArrayList<FieldEntry>	fieldEntryList = new ArrayList<FieldEntry>() ;
+		FieldEntry				fieldEntry ;
+		String[]				propertyNames = codecProvider.getPropertyNames() ;
+		Class<?>[]				propertyTypes = codecProvider.getPropertyTypes() ;
+		Class<?>[]				propertyElementTypes = codecProvider.getPropertyElementTypes() ;
+		String[]				propertyDateTimeFormats = codecProvider.getPropertyDateTimeFormats() ;
+		int[]					propertyFlags = codecProvider.getPropertyFlags() ;
+		OkJsonAccessor			accessor = codecProvider.getAccessor() ;
+		int						propertyIndex ;
+
+		for( propertyIndex = 0 ; propertyIndex < propertyNames.length ; propertyIndex++ ) {
+			if( ( propertyFlags[propertyIndex] & (OkJsonCodecProvider.PROPERTY_SET_METHOD|OkJsonCodecProvider.PROPERTY_SET_FIELD) ) == 0 )
+				continue;
+
+			fieldEntry = new FieldEntry() ;
+			fieldEntry.fieldName = propertyNames[propertyIndex].toCharArray() ;
+			fieldEntry.type = propertyTypes[propertyIndex] ;
+			fieldEntry.kind = fieldKindOf( fieldEntry.type ) ;
+			fieldEntry.elementType = propertyElementTypes[propertyIndex] ;
+			fieldEntry.elementKind = fieldKindOf( fieldEntry.elementType ) ;
+			fieldEntry.containerType = containerTypeOf( fieldEntry.type ) ;
+			fieldEntry.elementEntry = elementEntryOf( fieldEntry.fieldName, fieldEntry.elementType, propertyDateTimeFormats[propertyIndex] ) ;
+			fieldEntry.dateTimeFormat = customDateTimeFormatOf( fieldEntry.kind, fieldEntry.elementKind, propertyDateTimeFormats[propertyIndex] ) ;
+			fieldEntry.dateTimeFormatter = dateTimeFormatterOf( fieldEntry.kind, fieldEntry.elementKind, fieldEntry.dateTimeFormat ) ;
+			fieldEntry.setByMethod = ( ( propertyFlags[propertyIndex] & OkJsonCodecProvider.PROPERTY_SET_METHOD ) != 0 ) ;
+			fieldEntry.index = fieldEntryList.size() ;
+			fieldEntry.accessor = accessor ;
+			fieldEntry.accessorIndex = propertyIndex ;
+			fieldEntryList.add( fieldEntry );
+		}
+
+		fieldEntries = fieldEntryList.toArray( new FieldEntry[fieldEntryList.size()] ) ;
+		buildSlots();
+	}
+
+	static int fieldKindOf( Class<?> type ) {
+		if( type == null )
+			return FIELDKIND_OTHER;
+		else if( type == String.class )
+			return FIELDKIND_STRING;
+		else if( type == Byte.class )
+			return FIELDKIND_BYTE_OBJECT;
+		else if( type == Short.class )
+			return FIELDKIND_SHORT_OBJECT;
+		else if( type == Integer.class )
+			return FIELDKIND_INTEGER_OBJECT;
+		else if( type == Long.class )
+			return FIELDKIND_LONG_OBJECT;
+		else if( type == Float.class )
+			return FIELDKIND_FLOAT_OBJECT;
+		else if( type == Double.class )
+			return FIELDKIND_DOUBLE_OBJECT;
+		else if( type == Boolean.class )
+			return FIELDKIND_BOOLEAN_OBJECT;
+		else if( type == byte.class )
+			return FIELDKIND_BYTE;
+		else if( type == short.class )
+			return FIELDKIND_SHORT;
+		else if( type == int.class )
+			return FIELDKIND_INT;
+		else if( type == long.class )
+			return FIELDKIND_LONG;
+		else if( type == float.class )
+			return FIELDKIND_FLOAT;
+		else if( type == double.class )
+			return FIELDKIND_DOUBLE;
+		else if( type == boolean.class )
+			return FIELDKIND_BOOLEAN;
+		else if( type == char.class || type == Character.class )
+			return FIELDKIND_CHAR;
+		else if( type == LocalDate.class )
+			return FIELDKIND_LOCALDATE;
+		else if( type == LocalTime.class )
+			return FIELDKIND_LOCALTIME;
+		else if( type == LocalDateTime.class )
+			return FIELDKIND_LOCALDATETIME;
+		else if( type == Object.class )
+			return FIELDKIND_ANY;
+		else if( Collection.class.isAssignableFrom( type ) )
+			return FIELDKIND_LIST;
+		else if( Map.class.isAssignableFrom( type ) )
+			return FIELDKIND_MAP;
+		else if( type.isArray() && ! type.getComponentType().isPrimitive() )
+			return FIELDKIND_OBJECT_ARRAY;
+		else if( type.isArray() && type != char[].class )
+			return FIELDKIND_PRIMITIVE_ARRAY;
+		else
+			return FIELDKIND_OTHER;
+	}
+
+	/*
+	 * What a collection or map field is filled in. Interfaces get ArrayList,
+	 * LinkedHashSet, ArrayDeque, LinkedHashMap, or TreeSet and TreeMap when
+	 * sorted. A class is instantiated as declared.
+	 */
+	static Class<?> containerTypeOf( Class<?> type ) {
+		if( type == null || ! type.isInterface() )
+			return type;
+		else if( type == SortedSet.class || type == NavigableSet.class )
+			return TreeSet.class;
+		else if( Set.class.isAssignableFrom( type ) )
+			return LinkedHashSet.class;
+		else if( type == Queue.class || type == Deque.class )
+			return ArrayDeque.class;
+		else if( Collection.class.isAssignableFrom( type ) )
+			return ArrayList.class;
+		else if( type == SortedMap.class || type == NavigableMap.class )
+			return TreeMap.class;
+		else if( Map.class.isAssignableFrom( type ) )
+			return LinkedHashMap.class;
+		else
+			return type;
+	}
+
+	// the collection or map to fill, presized for sizeHint elements when the class can be
+	static Object newContainer( Class<?> containerType, int sizeHint ) throws ReflectiveOperationException {
+		if( sizeHint <= 0 )
+			;
+		else if( containerType == ArrayList.class )
+			return new ArrayList<Object>( sizeHint );
+		else if( containerType == ArrayDeque.class )
+			return new ArrayDeque<Object>( sizeHint );
+		else if( containerType == HashSet.class )
+			return new HashSet<Object>( hashCapacityOf( sizeHint ) );
+		else if( containerType == LinkedHashSet.class )
+			return new LinkedHashSet<Object>( hashCapacityOf( sizeHint ) );
+		else if( containerType == HashMap.class )
+			return new HashMap<String,Object>( hashCapacityOf( sizeHint ) );
+		else if( containerType == LinkedHashMap.class )
+			return new LinkedHashMap<String,Object>( hashCapacityOf( sizeHint ) );
+		return OkJsonCodecRegistry.newInstance( containerType );
+	}
+
+	// holds sizeHint entries under the default load factor without a rehash
+	private static int hashCapacityOf( int sizeHint ) {
+		return (int)( sizeHint / 0.75f ) + 1;
+	}
+
+	// written as a JSON scalar, a string, a number, a boolean or a date/time string
+	static boolean isBasicFieldKind( int kind ) {
+		return ( kind >= FIELDKIND_STRING && kind <= FIELDKIND_BOOLEAN_OBJECT ) || ( kind >= FIELDKIND_LOCALDATE && kind <= FIELDKIND_LOCALDATETIME );
+	}
+
+	private static String defaultDateTimeFormatOf( int kind, int elementKind ) {
+		switch( kind == FIELDKIND_LIST ? elementKind : kind ) {
+			case FIELDKIND_LOCALDATE :
+				return DEFAULT_LOCALDATE_FORMAT;
+			case FIELDKIND_LOCALTIME :
+				return DEFAULT_LOCALTIME_FORMAT;
+			case FIELDKIND_LOCALDATETIME :
+				return DEFAULT_LOCALDATETIME_FORMAT;
+			default :
+				return null;
+		}
+	}
+
+	// null for the default format of the field or list element kind, so it goes the hand-written way
+	static String customDateTimeFormatOf( int kind, int elementKind, String dateTimeFormat ) {
+		if( dateTimeFormat != null && dateTimeFormat.equals( defaultDateTimeFormatOf( kind, elementKind ) ) )
+			return null;
+		else
+			return dateTimeFormat;
+	}
+
+	// an invalid format is left to fail on use, as it did when it was compiled per value
+	static DateTimeFormatter dateTimeFormatterOf( int kind, int elementKind, String dateTimeFormat ) {
+		if( dateTimeFormat != null ) {
+			try {
+				return DateTimeFormatter.ofPattern( dateTimeFormat );
+			} catch (IllegalArgumentException e) {
+				return null;
+			}
+		}
+
+		switch( kind == FIELDKIND_LIST ? elementKind : kind ) {
+			case FIELDKIND_LOCALDATE :
+				return DEFAULT_LOCALDATE_FORMATTER;
+			case FIELDKIND_LOCALTIME :
+				return DEFAULT_LOCALTIME_FORMATTER;
+			case FIELDKIND_LOCALDATETIME :
+				return DEFAULT_LOCALDATETIME_FORMATTER;
+			default :
+				return null;
+		}
+	}
+
+	// the formatter compiled once, or the invalid format compiled again to throw
+	static DateTimeFormatter formatterOf( DateTimeFormatter dateTimeFormatter, String dateTimeFormat ) {
+		if( dateTimeFormatter != null )
+			return dateTimeFormatter;
+		else
+			return DateTimeFormatter.ofPattern( dateTimeFormat );
+	}
+
+	/*
+	 * Element class of a collection or an array, value class of a map with
+	 * String keys. Object for a raw or unbounded one, the raw class when it is
+	 * generic itself, null when the map keys are not String.
+	 */
+	static Class<?> elementTypeOf( Field field ) {
+		Type	elementGenericType = elementGenericTypeOf( field.getGenericType() ) ;
+
+		if( elementGenericType == null )
+			return null;
+		else
+			return classOf( elementGenericType );
+	}
+
+	// the same, with the type arguments of the element kept, null for anything else
+	static Type elementGenericTypeOf( Type type ) {
+		Class<?>	clazz = classOf( type ) ;
+		int			kind = fieldKindOf( clazz ) ;
+		Type[]		typeArguments ;
+
+		if( kind == FIELDKIND_PRIMITIVE_ARRAY || kind == FIELDKIND_OBJECT_ARRAY ) {
+			if( type instanceof GenericArrayType )
+				return ((GenericArrayType)type).getGenericComponentType();
+			else
+				return clazz.getComponentType();
+		}
+		if( kind != FIELDKIND_LIST && kind != FIELDKIND_MAP )
+			return null;
+		if( ! ( type instanceof ParameterizedType ) )
+			return Object.class;
+		typeArguments = ((ParameterizedType)type).getActualTypeArguments() ;
+		if( kind == FIELDKIND_LIST && typeArguments.length == 1 )
+			return typeArguments[0];
+		else if( kind == FIELDKIND_MAP && typeArguments.length == 2 && classOf( typeArguments[0] ) == String.class )
+			return typeArguments[1];
+		else
+			return null;
+	}
+
+	// raw class of a type argument, the upper bound of a wildcard, Object for a type variable
+	static Class<?> classOf( Type type ) {
+		if( type instanceof WildcardType )
+			type = ((WildcardType)type).getUpperBounds()[0] ;
+		if( type instanceof Class )
+			return (Class<?>)type;
+		else if( type instanceof ParameterizedType )
+			return classOf( ((ParameterizedType)type).getRawType() );
+		else if( type instanceof GenericArrayType )
+			return Array.newInstance( classOf( ((GenericArrayType)type).getGenericComponentType() ), 0 ).getClass();
+		else
+			return Object.class;
+	}
+
+	/*
+	 * List<List<Integer>>, Map<String,List<Integer>>, List<int[]> and the
+	 * like, an entry for the element that is a container itself, nested as
+	 * deep as the type goes. It carries the field name and the date/time
+	 * format of the field down to the innermost elements.
+	 */
+	static FieldEntry elementEntryOf( char[] fieldName, Type elementGenericType, String dateTimeFormat ) {
+		FieldEntry		elementEntry ;
+		Type			nestedGenericType ;
+
+		if( elementGenericType == null )
+			return null;
+
+		elementEntry = new FieldEntry() ;
+		elementEntry.fieldName = fieldName ;
+		elementEntry.type = classOf( elementGenericType ) ;
+		elementEntry.kind = fieldKindOf( elementEntry.type ) ;
+		if( elementEntry.kind != FIELDKIND_LIST && elementEntry.kind != FIELDKIND_MAP && elementEntry.kind != FIELDKIND_OBJECT_ARRAY && elementEntry.kind != FIELDKIND_PRIMITIVE_ARRAY )
+			return null;
+		nestedGenericType = elementGenericTypeOf( elementGenericType ) ;
+		if( nestedGenericType != null )
+			elementEntry.elementType = classOf( nestedGenericType ) ;
+		elementEntry.elementKind = fieldKindOf( elementEntry.elementType ) ;
+		elementEntry.containerType = containerTypeOf( elementEntry.type ) ;
+		elementEntry.elementEntry = elementEntryOf( fieldName, nestedGenericType, dateTimeFormat ) ;
+		elementEntry.dateTimeFormat = customDateTimeFormatOf( elementEntry.kind, elementEntry.elementKind, dateTimeFormat ) ;
+		elementEntry.dateTimeFormatter = dateTimeFormatterOf( elementEntry.kind, elementEntry.elementKind, elementEntry.dateTimeFormat ) ;
+		return elementEntry;
+	}
+
+	private void buildAccessor( Class<?> clazz ) {
+		Field[]			fields = new Field[fieldEntries.length] ;
+		Method[]		setMethods = new Method[fieldEntries.length] ;
+		OkJsonAccessor	accessor ;
+
+		for( FieldEntry fieldEntry : fieldEntries ) {
+			if( OkJsonAccessorGenerator.canSet( fieldEntry.field, fieldEntry.setMethod ) ) {
+				fields[fieldEntry.index] = fieldEntry.field ;
+				setMethods[fieldEntry.index] = fieldEntry.setMethod ;
+			}
+		}
+
+		accessor = OkJsonAccessorGenerator.generate( clazz, fields, setMethods, null ) ;
+		if( accessor == null )
+			accessor = OkJsonHandleAccessor.create( fields, setMethods, null ) ;
+		if( accessor == null )
+			return;
+		for( FieldEntry fieldEntry : fieldEntries ) {
+			if( fields[fieldEntry.index] != null )
+				fieldEntry.accessor = accessor ;
+		}
+	}
+
+	// open addressing with linear probing, at most half full
+	private void buildSlots() {
+		int		size = 4 ;
+		int		slotIndex ;
+
+		while( size < fieldEntries.length*2 )
+			size <<= 1 ;
+		slots = new FieldEntry[size] ;
+		mask = size - 1 ;
+
+		for( FieldEntry fieldEntry : fieldEntries ) {
+			fieldEntry.nameHash = hash( fieldEntry.fieldName ) ;
+			slotIndex = fieldEntry.nameHash & mask ;
+			while( slots[slotIndex] != null )
+				slotIndex = ( slotIndex + 1 ) & mask ;
+			slots[slotIndex] = fieldEntry ;
+		}
+	}
+
+	private static int hash( char[] name ) {
+		int		h = 0 ;
+
+		for( char c : name )
+			h = h*31 + c ;
+		return h ^ (h>>>16);
+	}
+
+	FieldEntry get( StringBuilder name ) {
+		int				length = name.length() ;
+		int				h = 0 ;
+		int				i ;
+		int				slotIndex ;
+		FieldEntry		fieldEntry ;
+
+		for( i = 0 ; i < length ; i++ )
+			h = h*31 + name.charAt(i) ;
+		h ^= (h>>>16) ;
+
+		for( slotIndex = h & mask ; ( fieldEntry = slots[slotIndex] ) != null ; slotIndex = ( slotIndex + 1 ) & mask ) {
+			if( fieldEntry.nameHash == h && matches( fieldEntry, name ) )
+				return fieldEntry;
+		}
+		return null;
+	}
+
+	static boolean matches( FieldEntry fieldEntry, StringBuilder name ) {
+		char[]	fieldName = fieldEntry.fieldName ;
+		int		i ;
+
+		if( fieldName.length != name.length() )
+			return false;
+		for( i = 0 ; i < fieldName.length ; i++ ) {
+			if( fieldName[i] != name.charAt(i) )
+				return false;
+		}
+		return true;
+	}
+}
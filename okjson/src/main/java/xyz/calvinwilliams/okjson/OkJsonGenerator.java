@@ -0,0 +1,1218 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.util.*;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.reflect.*;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+class OkJsonGenerator {
+	
+	enum ClassFieldType {
+		CLASSFIELDTYPE_STRING ,
+		CLASSFIELDTYPE_NOT_STRING ,
+		CLASSFIELDTYPE_LOCALDATE ,
+		CLASSFIELDTYPE_LOCALTIME ,
+		CLASSFIELDTYPE_LOCALDATETIME ,
+		CLASSFIELDTYPE_LIST ,
+		CLASSFIELDTYPE_MAP ,
+		CLASSFIELDTYPE_PRIMITIVE_ARRAY ,
+		CLASSFIELDTYPE_SUBCLASS
+	}
+	
+	static class OkJsonClassField {
+		char[]					fieldName ;
+		char[]					fieldNameQM ;
+		// UTF-8 of fieldNameQM, what OkJsonByteArrayBuilder copies
+		byte[]					fieldNameQMBytes ;
+		ClassFieldType			type ;
+		Field					field ;
+		Method					getMethod ;
+		// element class of a collection or an array, value class of a map, else null
+		Class<?>				elementType ;
+		int						elementKind ;
+		// the element when it is a collection, an array or a map itself, else null
+		OkJsonClassField		elementField ;
+		// format of @OkJsonDateTimeFormatter, else null, also null when it is the default one
+		String					dateTimeFormat ;
+		// compiled once, null when the format is invalid
+		DateTimeFormatter		dateTimeFormatter ;
+		// null when the property is read through reflection
+		OkJsonAccessor			accessor ;
+		int						index ;
+		int						kind ;
+	}
+	
+	// the pool this generator goes back to, null for a per-thread one
+	OkJsonInstancePool<OkJsonGenerator>										instancePool ;
+	
+	// reused by every call, they go with the generator to its thread or pool, their chunks go back to the shared chunk pools after each call
+	private OkJsonCharSegmentBuilder											jsonCharArrayBuilder ;
+	// created by the first objectToBytes or objectToFile
+	private OkJsonByteSegmentBuilder											jsonByteArrayBuilder ;
+	// created by the first objectToStream or objectToChannel, and objectToWriter, of streamBufferSize
+	private OkJsonByteStreamBuilder												jsonByteStreamBuilder ;
+	private OkJsonCharStreamBuilder												jsonCharStreamBuilder ;
+	// read only after the class initialization, shared by all threads
+	final private static HashMap<Class,Boolean>									basicTypeClassMapBoolean = newBasicTypeClassMapBoolean() ;
+	
+	private boolean				strictPolicyEnable ;
+	private boolean				directAccessPropertyEnable ;
+	private boolean				prettyFormatEnable ;
+	private int					streamBufferSize ;
+	// bytes or chars the last objectToStream, objectToChannel or objectToWriter wrote out
+	private long				writtenLength ;
+	
+	private Integer				errorCode ;
+	private String				errorDesc ;
+	
+	final public static int	DEFAULT_STREAM_BUFFER_SIZE = 8192 ;
+	
+	final public static int	OKJSON_ERROR_EXCEPTION = -8 ;
+	final public static int	OKJSON_ERROR_NEW_OBJECT = -31 ;
+	
+	final private static char	SEPFIELD_CHAR = ',' ;
+	final private static char[]	SEPFIELD_CHAR_PRETTY = " ,\n".toCharArray() ;
+	final private static char	ENTER_CHAR = '\n' ;
+	final private static String	NULL_STRING = "null" ;
+	
+	private int objectToListString( Collection<Object> collection, OkJsonClassField classField, OkJsonBuilder jsonCharArrayBuilder, int depth ) {
+		
+		int						arrayIndex ;
+		int						nret ;
+		
+		try {
+			arrayIndex = 0 ;
+			for( Object object : collection ) {
+				arrayIndex++;
+				if( arrayIndex > 1 ) {
+					if( prettyFormatEnable ) {
+						jsonCharArrayBuilder.appendCharArrayWith3(SEPFIELD_CHAR_PRETTY).appendTabs(depth+1);
+					} else {
+						jsonCharArrayBuilder.appendChar(SEPFIELD_CHAR);
+					}
+				} else {
+					if( prettyFormatEnable ) {
+						jsonCharArrayBuilder.appendTabs(depth+1);
+					}
+				}
+				
+				nret = objectToElementString( object, classField, jsonCharArrayBuilder, depth ) ;
+				if( nret != 0 )
+					return nret;
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+			return OKJSON_ERROR_EXCEPTION;
+		}
+		
+		if( prettyFormatEnable && arrayIndex > 0 ) {
+			jsonCharArrayBuilder.appendChar(ENTER_CHAR);
+		}
+		
+		return 0;
+	}
+	
+	// entries of a Map<String,V> laid out as the properties of an object
+	private int objectToMapString( Map<Object,Object> map, OkJsonClassField classField, OkJsonBuilder jsonCharArrayBuilder, int depth ) {
+		
+		int						entryIndex ;
+		String					key ;
+		int						nret ;
+		
+		try {
+			entryIndex = 0 ;
+			for( Map.Entry<Object,Object> entry : map.entrySet() ) {
+				entryIndex++;
+				if( entryIndex > 1 ) {
+					if( prettyFormatEnable ) {
+						jsonCharArrayBuilder.appendCharArrayWith3(SEPFIELD_CHAR_PRETTY);
+					} else {
+						jsonCharArrayBuilder.appendChar(SEPFIELD_CHAR);
+					}
+				}
+				
+				key = String.valueOf( entry.getKey() ) ;
+				if( prettyFormatEnable ) {
+					jsonCharArrayBuilder.appendTabs(depth+1).appendJsonQmStringQm(key).appendString(" : ");
+				} else {
+					jsonCharArrayBuilder.appendJsonQmStringQm(key).appendChar(':');
+				}
+				
+				nret = objectToElementString( entry.getValue(), classField, jsonCharArrayBuilder, depth ) ;
+				if( nret != 0 )
+					return nret;
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+			return OKJSON_ERROR_EXCEPTION;
+		}
+		
+		if( prettyFormatEnable && entryIndex > 0 ) {
+			jsonCharArrayBuilder.appendChar(ENTER_CHAR);
+		}
+		
+		return 0;
+	}
+	
+	/*
+	 * One element of a collection or one value of a map. Object elements, and
+	 * elements of an unknown type which are not a String, a Number or a
+	 * Boolean, are laid out as sub-objects.
+	 */
+	private int objectToElementString( Object object, OkJsonClassField classField, OkJsonBuilder jsonCharArrayBuilder, int depth ) {
+		
+		int						nret ;
+		
+		if( object == null ) {
+			jsonCharArrayBuilder.appendJsonString(NULL_STRING);
+			return 0;
+		} else if( classField.elementField != null ) {
+			return objectToContainerElementString( object, classField.elementField, jsonCharArrayBuilder, depth );
+		}
+		
+		switch( classField.elementKind ) {
+			case OkJsonFieldTable.FIELDKIND_STRING :
+				jsonCharArrayBuilder.appendJsonQmStringQm((String)object);
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_LOCALDATE :
+				LocalDate localDate ;
+				localDate = (LocalDate)object ;
+				if( classField.dateTimeFormat == null ) {
+					jsonCharArrayBuilder.appendJsonQmLocalDateQm(localDate);
+				} else {
+					String localDateString = OkJsonFieldTable.formatterOf( classField.dateTimeFormatter, classField.dateTimeFormat ).format(localDate) ;
+					jsonCharArrayBuilder.appendJsonQmStringQm(localDateString);
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_LOCALTIME :
+				LocalTime localTime ;
+				localTime = (LocalTime)object ;
+				if( classField.dateTimeFormat == null ) {
+					jsonCharArrayBuilder.appendJsonQmLocalTimeQm(localTime);
+				} else {
+					String localTimeString = OkJsonFieldTable.formatterOf( classField.dateTimeFormatter, classField.dateTimeFormat ).format(localTime) ;
+					jsonCharArrayBuilder.appendJsonQmStringQm(localTimeString);
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_LOCALDATETIME :
+				LocalDateTime localDateTime ;
+				localDateTime = (LocalDateTime)object ;
+				if( classField.dateTimeFormat == null ) {
+					jsonCharArrayBuilder.appendJsonQmLocalDateTimeQm(localDateTime);
+				} else {
+					String localDateTimeString = OkJsonFieldTable.formatterOf( classField.dateTimeFormatter, classField.dateTimeFormat ).format(localDateTime) ;
+					jsonCharArrayBuilder.appendJsonQmStringQm(localDateTimeString);
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_ANY :
+			case OkJsonFieldTable.FIELDKIND_OTHER :
+				if( classField.elementKind == OkJsonFieldTable.FIELDKIND_OTHER && classField.elementType != null ) {
+					break;
+				} else if( object instanceof String ) {
+					jsonCharArrayBuilder.appendJsonQmStringQm((String)object);
+					return 0;
+				} else if( object instanceof Number || object instanceof Boolean ) {
+					appendValueObject( object, jsonCharArrayBuilder );
+					return 0;
+				}
+				break;
+			default :
+				appendValueObject( object, jsonCharArrayBuilder );
+				return 0;
+		}
+		
+		if( prettyFormatEnable ) {
+			jsonCharArrayBuilder.appendString("{\n");
+		} else {
+			jsonCharArrayBuilder.appendChar('{');
+		}
+		nret = objectToPropertiesString( object, jsonCharArrayBuilder, depth+1 ) ;
+		if( nret != 0 )
+			return nret;
+		if( prettyFormatEnable ) {
+			jsonCharArrayBuilder.appendTabs(depth+1).appendString("}");
+		} else {
+			jsonCharArrayBuilder.appendChar('}');
+		}
+		
+		return 0;
+	}
+	
+	// an element that is a collection, an array or a map, laid out as a field of its type is
+	private int objectToContainerElementString( Object object, OkJsonClassField elementField, OkJsonBuilder jsonCharArrayBuilder, int depth ) {
+		
+		int						nret ;
+		
+		if( elementField.type == ClassFieldType.CLASSFIELDTYPE_MAP ) {
+			if( prettyFormatEnable ) {
+				jsonCharArrayBuilder.appendString("{\n");
+			} else {
+				jsonCharArrayBuilder.appendChar('{');
+			}
+			nret = objectToMapString( (Map<Object,Object>)object, elementField, jsonCharArrayBuilder, depth+1 ) ;
+			if( nret != 0 )
+				return nret;
+			if( prettyFormatEnable ) {
+				jsonCharArrayBuilder.appendTabs(depth+1).appendString("}");
+			} else {
+				jsonCharArrayBuilder.appendChar('}');
+			}
+			return 0;
+		}
+		
+		if( prettyFormatEnable ) {
+			jsonCharArrayBuilder.appendString("[\n");
+		} else {
+			jsonCharArrayBuilder.appendChar('[');
+		}
+		if( elementField.type == ClassFieldType.CLASSFIELDTYPE_PRIMITIVE_ARRAY ) {
+			objectToPrimitiveArrayString( object, elementField.elementKind, jsonCharArrayBuilder, depth+1 );
+		} else if( object instanceof Object[] ) {
+			nret = objectToListString( Arrays.asList( (Object[])object ), elementField, jsonCharArrayBuilder, depth+1 ) ;
+			if( nret != 0 )
+				return nret;
+		} else {
+			nret = objectToListString( (Collection<Object>)object, elementField, jsonCharArrayBuilder, depth+1 ) ;
+			if( nret != 0 )
+				return nret;
+		}
+		if( prettyFormatEnable ) {
+			jsonCharArrayBuilder.appendTabs(depth+1).appendString("]");
+		} else {
+			jsonCharArrayBuilder.appendChar(']');
+		}
+		
+		return 0;
+	}
+	
+	// elements of a boolean[], int[], double[] ... laid out as objectToListString does
+	private void objectToPrimitiveArrayString( Object array, int elementKind, OkJsonBuilder jsonCharArrayBuilder, int depth ) {
+		
+		int		arrayCount = Array.getLength( array ) ;
+		int		arrayIndex ;
+		
+		for( arrayIndex = 0 ; arrayIndex < arrayCount ; arrayIndex++ ) {
+			if( arrayIndex > 0 ) {
+				if( prettyFormatEnable ) {
+					jsonCharArrayBuilder.appendCharArrayWith3(SEPFIELD_CHAR_PRETTY).appendTabs(depth+1);
+				} else {
+					jsonCharArrayBuilder.appendChar(SEPFIELD_CHAR);
+				}
+			} else {
+				if( prettyFormatEnable ) {
+					jsonCharArrayBuilder.appendTabs(depth+1);
+				}
+			}
+			
+			switch( elementKind ) {
+				case OkJsonFieldTable.FIELDKIND_BOOLEAN :
+					jsonCharArrayBuilder.appendJsonString( String.valueOf( ((boolean[])array)[arrayIndex] ) );
+					break;
+				case OkJsonFieldTable.FIELDKIND_BYTE :
+					jsonCharArrayBuilder.appendInt( ((byte[])array)[arrayIndex] );
+					break;
+				case OkJsonFieldTable.FIELDKIND_SHORT :
+					jsonCharArrayBuilder.appendInt( ((short[])array)[arrayIndex] );
+					break;
+				case OkJsonFieldTable.FIELDKIND_INT :
+					jsonCharArrayBuilder.appendInt( ((int[])array)[arrayIndex] );
+					break;
+				case OkJsonFieldTable.FIELDKIND_LONG :
+					jsonCharArrayBuilder.appendLong( ((long[])array)[arrayIndex] );
+					break;
+				case OkJsonFieldTable.FIELDKIND_FLOAT :
+					jsonCharArrayBuilder.appendFloat( ((float[])array)[arrayIndex] );
+					break;
+				default :
+					jsonCharArrayBuilder.appendDouble( ((double[])array)[arrayIndex] );
+					break;
+			}
+		}
+		
+		if( prettyFormatEnable && arrayCount > 0 ) {
+			jsonCharArrayBuilder.appendChar(ENTER_CHAR);
+		}
+	}
+	
+	private static HashMap<Class,Boolean> newBasicTypeClassMapBoolean() {
+		HashMap<Class,Boolean>	basicTypeClassMapString = new HashMap<Class,Boolean>() ;
+		
+		basicTypeClassMapString.put( String.class, new Boolean(true) );
+		basicTypeClassMapString.put( Byte.class, new Boolean(true) );
+		basicTypeClassMapString.put( Short.class, new Boolean(true) );
+		basicTypeClassMapString.put( Integer.class, new Boolean(true) );
+		basicTypeClassMapString.put( Long.class, new Boolean(true) );
+		basicTypeClassMapString.put( Float.class, new Boolean(true) );
+		basicTypeClassMapString.put( Double.class, new Boolean(true) );
+		basicTypeClassMapString.put( Boolean.class, new Boolean(true) );
+		basicTypeClassMapString.put( Character.class, new Boolean(true) );
+		basicTypeClassMapString.put( LocalDate.class, new Boolean(true) );
+		basicTypeClassMapString.put( LocalTime.class, new Boolean(true) );
+		basicTypeClassMapString.put( LocalDateTime.class, new Boolean(true) );
+		return basicTypeClassMapString;
+	}
+	
+	private static ClassFieldType classFieldTypeOf( Class<?> type ) {
+		if( type == String.class )
+			return ClassFieldType.CLASSFIELDTYPE_STRING;
+		else if( type == LocalDate.class )
+			return ClassFieldType.CLASSFIELDTYPE_LOCALDATE;
+		else if( type == LocalTime.class )
+			return ClassFieldType.CLASSFIELDTYPE_LOCALTIME;
+		else if( type == LocalDateTime.class )
+			return ClassFieldType.CLASSFIELDTYPE_LOCALDATETIME;
+		else if( OkJsonFieldTable.fieldKindOf( type ) == OkJsonFieldTable.FIELDKIND_LIST || OkJsonFieldTable.fieldKindOf( type ) == OkJsonFieldTable.FIELDKIND_OBJECT_ARRAY )
+			return ClassFieldType.CLASSFIELDTYPE_LIST;
+		else if( OkJsonFieldTable.fieldKindOf( type ) == OkJsonFieldTable.FIELDKIND_MAP )
+			return ClassFieldType.CLASSFIELDTYPE_MAP;
+		else if( OkJsonFieldTable.fieldKindOf( type ) == OkJsonFieldTable.FIELDKIND_PRIMITIVE_ARRAY )
+			return ClassFieldType.CLASSFIELDTYPE_PRIMITIVE_ARRAY;
+		else if( basicTypeClassMapBoolean.get( type ) != null || type.isPrimitive() )
+			return ClassFieldType.CLASSFIELDTYPE_NOT_STRING;
+		else
+			return ClassFieldType.CLASSFIELDTYPE_SUBCLASS;
+	}
+	
+	// the counterpart of OkJsonFieldTable.elementEntryOf, null for an element that is no container
+	private static OkJsonClassField elementFieldOf( Type elementGenericType, String dateTimeFormat ) {
+		OkJsonClassField	elementField ;
+		Class<?>			type ;
+		Type				nestedGenericType ;
+		int					fieldKind ;
+		
+		if( elementGenericType == null )
+			return null;
+		
+		type = OkJsonFieldTable.classOf( elementGenericType ) ;
+		fieldKind = OkJsonFieldTable.fieldKindOf( type ) ;
+		if( fieldKind != OkJsonFieldTable.FIELDKIND_LIST && fieldKind != OkJsonFieldTable.FIELDKIND_MAP && fieldKind != OkJsonFieldTable.FIELDKIND_OBJECT_ARRAY && fieldKind != OkJsonFieldTable.FIELDKIND_PRIMITIVE_ARRAY )
+			return null;
+		
+		elementField = new OkJsonClassField() ;
+		elementField.type = classFieldTypeOf( type ) ;
+		nestedGenericType = OkJsonFieldTable.elementGenericTypeOf( elementGenericType ) ;
+		if( nestedGenericType != null )
+			elementField.elementType = OkJsonFieldTable.classOf( nestedGenericType ) ;
+		elementField.elementKind = OkJsonFieldTable.fieldKindOf( elementField.elementType ) ;
+		elementField.elementField = elementFieldOf( nestedGenericType, dateTimeFormat ) ;
+		elementField.dateTimeFormat = OkJsonFieldTable.customDateTimeFormatOf( fieldKind, elementField.elementKind, dateTimeFormat ) ;
+		elementField.dateTimeFormatter = OkJsonFieldTable.dateTimeFormatterOf( fieldKind, elementField.elementKind, elementField.dateTimeFormat ) ;
+		return elementField;
+	}
+	
+	// from a provider of the okjson-processor, no reflection at all
+	private static void buildClassFieldList( OkJsonCodecProvider codecProvider, LinkedList<OkJsonClassField> classFieldList ) {
+		String[]			propertyNames = codecProvider.getPropertyNames() ;
+		Class<?>[]			propertyTypes = codecProvider.getPropertyTypes() ;
+		Class<?>[]			propertyElementTypes = codecProvider.getPropertyElementTypes() ;
+		String[]			propertyDateTimeFormats = codecProvider.getPropertyDateTimeFormats() ;
+		int[]				propertyFlags = codecProvider.getPropertyFlags() ;
+		OkJsonClassField	classField ;
+		int					fieldKind ;
+		int					propertyIndex ;
+		
+		for( propertyIndex = 0 ; propertyIndex < propertyNames.length ; propertyIndex++ ) {
+			if( ( propertyFlags[propertyIndex] & (OkJsonCodecProvider.PROPERTY_GET_METHOD|OkJsonCodecProvider.PROPERTY_GET_FIELD) ) == 0 )
+				continue;
+			
+			classField = new OkJsonClassField() ;
+			classField.fieldName = propertyNames[propertyIndex].toCharArray() ;
+			classField.fieldNameQM = ('\"'+propertyNames[propertyIndex]+'\"').toCharArray() ;
+			classField.fieldNameQMBytes = new String( classField.fieldNameQM ).getBytes( StandardCharsets.UTF_8 ) ;
+			classField.type = classFieldTypeOf( propertyTypes[propertyIndex] ) ;
+			classField.elementType = propertyElementTypes[propertyIndex] ;
+			classField.elementKind = OkJsonFieldTable.fieldKindOf( classField.elementType ) ;
+			fieldKind = OkJsonFieldTable.fieldKindOf( propertyTypes[propertyIndex] ) ;
+			classField.dateTimeFormat = OkJsonFieldTable.customDateTimeFormatOf( fieldKind, classField.elementKind, propertyDateTimeFormats[propertyIndex] ) ;
+			classField.dateTimeFormatter = OkJsonFieldTable.dateTimeFormatterOf( fieldKind, classField.elementKind, classField.dateTimeFormat ) ;
+			classField.elementField = elementFieldOf( classField.elementType, propertyDateTimeFormats[propertyIndex] ) ;
+			classField.accessor = codecProvider.getAccessor() ;
+			classField.index = propertyIndex ;
+			classField.kind = OkJsonAccessorGenerator.kindOf( propertyTypes[propertyIndex] ) ;
+			// a provider reads a char boxed, through getObject
+			if( classField.kind == OkJsonAccessorGenerator.KIND_UNSUPPORTED )
+				classField.kind = OkJsonAccessorGenerator.KIND_OBJECT ;
+			classFieldList.add(classField);
+		}
+	}
+	
+	private static void buildAccessor( Class<?> clazz, LinkedList<OkJsonClassField> classFieldList ) {
+		Field[]			fields = new Field[classFieldList.size()] ;
+		Method[]		getMethods = new Method[classFieldList.size()] ;
+		OkJsonAccessor	accessor ;
+		int				index ;
+		
+		index = 0 ;
+		for( OkJsonClassField classField : classFieldList ) {
+			classField.index = index ;
+			classField.kind = OkJsonAccessorGenerator.kindOf( classField.field.getType() ) ;
+			if( OkJsonAccessorGenerator.canGet( classField.field, classField.getMethod ) ) {
+				fields[index] = classField.field ;
+				getMethods[index] = classField.getMethod ;
+			}
+			index++;
+		}
+		
+		accessor = OkJsonAccessorGenerator.generate( clazz, fields, null, getMethods ) ;
+		if( accessor == null )
+			accessor = OkJsonHandleAccessor.create( fields, null, getMethods ) ;
+		if( accessor == null )
+			return;
+		for( OkJsonClassField classField : classFieldList ) {
+			if( fields[classField.index] != null )
+				classField.accessor = accessor ;
+		}
+	}
+	
+	// primitives are read without boxing
+	// a primitive property straight from its accessor into the builder
+	private static void appendAccessorValue( Object object, OkJsonClassField classField, OkJsonBuilder jsonCharArrayBuilder ) {
+		switch( classField.kind ) {
+			case OkJsonAccessorGenerator.KIND_BOOLEAN :
+				jsonCharArrayBuilder.appendJsonString( classField.accessor.getBoolean( object, classField.index ) ? "true" : "false" );
+				break;
+			case OkJsonAccessorGenerator.KIND_BYTE :
+				jsonCharArrayBuilder.appendInt( classField.accessor.getByte( object, classField.index ) );
+				break;
+			case OkJsonAccessorGenerator.KIND_SHORT :
+				jsonCharArrayBuilder.appendInt( classField.accessor.getShort( object, classField.index ) );
+				break;
+			case OkJsonAccessorGenerator.KIND_INT :
+				jsonCharArrayBuilder.appendInt( classField.accessor.getInt( object, classField.index ) );
+				break;
+			case OkJsonAccessorGenerator.KIND_LONG :
+				jsonCharArrayBuilder.appendLong( classField.accessor.getLong( object, classField.index ) );
+				break;
+			case OkJsonAccessorGenerator.KIND_FLOAT :
+				jsonCharArrayBuilder.appendFloat( classField.accessor.getFloat( object, classField.index ) );
+				break;
+			default :
+				jsonCharArrayBuilder.appendDouble( classField.accessor.getDouble( object, classField.index ) );
+				break;
+		}
+	}
+	
+	// boxed numbers through OkJsonNumberWriter too, a char as a string of one char, anything else by its toString
+	private static void appendValueObject( Object value, OkJsonBuilder jsonCharArrayBuilder ) {
+		if( value instanceof Integer || value instanceof Short || value instanceof Byte ) {
+			jsonCharArrayBuilder.appendInt( ((Number)value).intValue() );
+		} else if( value instanceof Long ) {
+			jsonCharArrayBuilder.appendLong( ((Long)value).longValue() );
+		} else if( value instanceof Double ) {
+			jsonCharArrayBuilder.appendDouble( ((Double)value).doubleValue() );
+		} else if( value instanceof Float ) {
+			jsonCharArrayBuilder.appendFloat( ((Float)value).floatValue() );
+		} else if( value instanceof Character ) {
+			jsonCharArrayBuilder.appendJsonQmStringQm( value.toString() );
+		} else {
+			jsonCharArrayBuilder.appendJsonString( value.toString() );
+		}
+	}
+	
+	/*
+	 * Properties of one class in declaration order, built once per class by
+	 * OkJsonClassMetadata and shared read only by the generators of all
+	 * threads.
+	 */
+	static LinkedList<OkJsonClassField> buildClassFieldList( Class<?> clazz ) throws Exception {
+		LinkedList<OkJsonClassField>	classFieldList = new LinkedList<OkJsonClassField>() ;
+		OkJsonCodecProvider				codecProvider = OkJsonCodecRegistry.get( clazz ) ;
+		OkJsonClassField				classField ;
+		int								fieldKind ;
+		String							methodName ;
+		
+		if( codecProvider != null ) {
+			buildClassFieldList( codecProvider, classFieldList );
+			return classFieldList;
+		}
+		
+		for( Field f : clazz.getDeclaredFields() ) {
+			f.setAccessible(true);
+		
+			classField = new OkJsonClassField() ;
+			classField.fieldName = f.getName().toCharArray() ;
+			classField.fieldNameQM = ('\"'+f.getName()+'\"').toCharArray() ;
+			classField.fieldNameQMBytes = new String( classField.fieldNameQM ).getBytes( StandardCharsets.UTF_8 ) ;
+			classField.field = f ;
+			classField.type = classFieldTypeOf( f.getType() ) ;
+			classField.elementType = OkJsonFieldTable.elementTypeOf( f ) ;
+			classField.elementKind = OkJsonFieldTable.fieldKindOf( classField.elementType ) ;
+		
+			try {
+				if( f.getType() == Boolean.class || f.getType().getName().equals("boolean") ) {
+					methodName = "is" + f.getName().substring(0,1).toUpperCase(Locale.getDefault()) + f.getName().substring(1) ;
+				} else {
+					methodName = "get" + f.getName().substring(0,1).toUpperCase(Locale.getDefault()) + f.getName().substring(1) ;
+				}
+				classField.getMethod = clazz.getMethod( methodName ) ;
+				classField.getMethod.setAccessible(true);
+			} catch (NoSuchMethodException e) {
+				;
+			}
+		
+			fieldKind = OkJsonFieldTable.fieldKindOf( f.getType() ) ;
+			if( f.isAnnotationPresent(OkJsonDateTimeFormatter.class) ) {
+				classField.dateTimeFormat = OkJsonFieldTable.customDateTimeFormatOf( fieldKind, classField.elementKind, f.getAnnotation(OkJsonDateTimeFormatter.class).format() ) ;
+			} else {
+				classField.dateTimeFormat = null ;
+			}
+			classField.dateTimeFormatter = OkJsonFieldTable.dateTimeFormatterOf( fieldKind, classField.elementKind, classField.dateTimeFormat ) ;
+			classField.elementField = elementFieldOf( OkJsonFieldTable.elementGenericTypeOf( f.getGenericType() ), f.isAnnotationPresent(OkJsonDateTimeFormatter.class) ? f.getAnnotation(OkJsonDateTimeFormatter.class).format() : null ) ;
+		
+			if( Modifier.isPublic(f.getModifiers()) ) {
+				classFieldList.add(classField);
+			} else if( classField.getMethod != null && Modifier.isPublic(classField.getMethod.getModifiers()) ) {
+				classFieldList.add(classField);
+			}
+		}
+		
+		buildAccessor( clazz, classFieldList );
+		return classFieldList;
+	}
+	
+	private int objectToPropertiesString( Object object, OkJsonBuilder jsonCharArrayBuilder, int depth ) {
+		
+		Class<?>						clazz ;
+		LinkedList<OkJsonClassField>	classFieldList ;
+		int								fieldIndex ;
+		
+		int								nret = 0 ;
+		
+		clazz = object.getClass();
+		
+		try {
+			classFieldList = OkJsonClassMetadata.of( clazz ).getClassFieldList() ;
+		} catch (Exception e) {
+			e.printStackTrace();
+			return OKJSON_ERROR_EXCEPTION;
+		}
+		
+		fieldIndex = 0 ;
+		for( OkJsonClassField classField : classFieldList ) {
+			fieldIndex++;
+			if( fieldIndex > 1 ) {
+				if( prettyFormatEnable ) {
+					jsonCharArrayBuilder.appendCharArrayWith3(SEPFIELD_CHAR_PRETTY);
+				} else {
+					jsonCharArrayBuilder.appendChar( SEPFIELD_CHAR );
+				}
+			}
+			
+			switch( classField.type ) {
+				case CLASSFIELDTYPE_STRING :
+					String string = null ;
+					if( classField.accessor != null ) {
+						string = (String)classField.accessor.getObject( object, classField.index ) ;
+					} else if( classField.getMethod != null ) {
+						try {
+							string = (String)(classField.getMethod.invoke( object )) ;
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					} else {
+						try {
+							string = (String)(classField.field.get( object ));
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					}
+					if( string != null ) {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndQmStringQmPretty(classField,string);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndQmStringQm(classField,string);
+						}
+					} else {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndStringPretty(classField,NULL_STRING);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndString(classField,NULL_STRING);
+						}
+					}
+					break;
+				case CLASSFIELDTYPE_NOT_STRING :
+					Object value = null ;
+					if( classField.accessor != null && classField.kind != OkJsonAccessorGenerator.KIND_OBJECT ) {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonPretty(classField);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColon(classField);
+						}
+						appendAccessorValue( object, classField, jsonCharArrayBuilder );
+						break;
+					} else if( classField.accessor != null ) {
+						value = classField.accessor.getObject( object, classField.index ) ;
+					} else if( classField.getMethod != null ) {
+						try {
+							value = classField.getMethod.invoke( object );
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					} else {
+						try {
+							value = classField.field.get( object );
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					}
+					if( value != null ) {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonPretty(classField);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColon(classField);
+						}
+						appendValueObject( value, jsonCharArrayBuilder );
+					} else {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndStringPretty(classField,NULL_STRING);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndString(classField,NULL_STRING);
+						}
+					}
+					break;
+				case CLASSFIELDTYPE_LOCALDATE :
+					LocalDate localDate ;
+					if( classField.accessor != null ) {
+						localDate = (LocalDate)classField.accessor.getObject( object, classField.index ) ;
+					} else if( classField.getMethod != null ) {
+						try {
+							localDate = (LocalDate)(classField.getMethod.invoke( object )) ;
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					} else {
+						try {
+							localDate = (LocalDate)(classField.field.get( object ));
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					}
+					if( classField.dateTimeFormat == null ) {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonPretty(classField).appendJsonQmLocalDateQm(localDate);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColon(classField).appendJsonQmLocalDateQm(localDate);
+						}
+						break;
+					}
+					String localDateString = OkJsonFieldTable.formatterOf( classField.dateTimeFormatter, classField.dateTimeFormat ).format(localDate) ;
+					if( localDateString != null ) {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndQmStringQmPretty(classField,localDateString);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndQmStringQm(classField,localDateString);
+						}
+					} else {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndStringPretty(classField,NULL_STRING);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndString(classField,NULL_STRING);
+						}
+					}
+					break;
+				case CLASSFIELDTYPE_LOCALTIME :
+					LocalTime localTime = null ;
+					if( classField.accessor != null ) {
+						localTime = (LocalTime)classField.accessor.getObject( object, classField.index ) ;
+					} else if( classField.getMethod != null ) {
+						try {
+							localTime = (LocalTime)(classField.getMethod.invoke( object )) ;
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					} else {
+						try {
+							localTime = (LocalTime)(classField.field.get( object ));
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					}
+					if( classField.dateTimeFormat == null ) {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonPretty(classField).appendJsonQmLocalTimeQm(localTime);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColon(classField).appendJsonQmLocalTimeQm(localTime);
+						}
+						break;
+					}
+					String localTimeString = OkJsonFieldTable.formatterOf( classField.dateTimeFormatter, classField.dateTimeFormat ).format(localTime) ;
+					if( localTimeString != null ) {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndQmStringQmPretty(classField,localTimeString);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndQmStringQm(classField,localTimeString);
+						}
+					} else {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndStringPretty(classField,NULL_STRING);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndString(classField,NULL_STRING);
+						}
+					}
+					break;
+				case CLASSFIELDTYPE_LOCALDATETIME :
+					LocalDateTime localDateTime = null ;
+					if( classField.accessor != null ) {
+						localDateTime = (LocalDateTime)classField.accessor.getObject( object, classField.index ) ;
+					} else if( classField.getMethod != null ) {
+						try {
+							localDateTime = (LocalDateTime)(classField.getMethod.invoke( object )) ;
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					} else {
+						try {
+							localDateTime = (LocalDateTime)(classField.field.get( object ));
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					}
+					if( classField.dateTimeFormat == null ) {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonPretty(classField).appendJsonQmLocalDateTimeQm(localDateTime);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColon(classField).appendJsonQmLocalDateTimeQm(localDateTime);
+						}
+						break;
+					}
+					String localDateTimeString = OkJsonFieldTable.formatterOf( classField.dateTimeFormatter, classField.dateTimeFormat ).format(localDateTime) ;
+					if( localDateTimeString != null ) {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndQmStringQmPretty(classField,localDateTimeString);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndQmStringQm(classField,localDateTimeString);
+						}
+					} else {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndStringPretty(classField,NULL_STRING);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndString(classField,NULL_STRING);
+						}
+					}
+					break;
+				case CLASSFIELDTYPE_LIST :
+					Object collectionObject ;
+					if( classField.accessor != null ) {
+						collectionObject = classField.accessor.getObject( object, classField.index ) ;
+					} else if( classField.getMethod != null ) {
+						try {
+							collectionObject = classField.getMethod.invoke(object) ;
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					} else {
+						try {
+							collectionObject = classField.field.get(object) ;
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					}
+					// written also when empty, so that it reads back as an empty one
+					if( collectionObject != null ) {
+						Collection<Object> collection ;
+						if( collectionObject instanceof Object[] ) {
+							collection = Arrays.asList( (Object[])collectionObject ) ;
+						} else {
+							collection = (Collection<Object>)collectionObject ;
+						}
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndOpenBytePretty(classField,'[');
+							nret = objectToListString( collection, classField, jsonCharArrayBuilder, depth+1 ) ;
+							if( nret != 0 )
+								return nret;
+							jsonCharArrayBuilder.appendTabs(depth+1).appendChar(']');
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndOpenByte(classField,'[');
+							nret = objectToListString( collection, classField, jsonCharArrayBuilder, depth+1 ) ;
+							if( nret != 0 )
+								return nret;
+							jsonCharArrayBuilder.appendCloseByte(']');
+						}
+					} else {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndStringPretty(classField,NULL_STRING);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndString(classField,NULL_STRING);
+						}
+					}
+					break;
+				case CLASSFIELDTYPE_MAP :
+					Map<Object,Object> map ;
+					if( classField.accessor != null ) {
+						map = (Map<Object,Object>)classField.accessor.getObject( object, classField.index ) ;
+					} else if( classField.getMethod != null ) {
+						try {
+							map = (Map<Object,Object>)(classField.getMethod.invoke(object)) ;
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					} else {
+						try {
+							map = (Map<Object,Object>)(classField.field.get(object)) ;
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					}
+					if( map != null ) {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndOpenBytePretty(classField,'{');
+							nret = objectToMapString( map, classField, jsonCharArrayBuilder, depth+1 ) ;
+							if( nret != 0 )
+								return nret;
+							jsonCharArrayBuilder.appendTabs(depth+1).appendChar('}');
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndOpenByte(classField,'{');
+							nret = objectToMapString( map, classField, jsonCharArrayBuilder, depth+1 ) ;
+							if( nret != 0 )
+								return nret;
+							jsonCharArrayBuilder.appendCloseByte('}');
+						}
+					} else {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndStringPretty(classField,NULL_STRING);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndString(classField,NULL_STRING);
+						}
+					}
+					break;
+				case CLASSFIELDTYPE_PRIMITIVE_ARRAY :
+					Object primitiveArray ;
+					if( classField.accessor != null ) {
+						primitiveArray = classField.accessor.getObject( object, classField.index ) ;
+					} else if( classField.getMethod != null ) {
+						try {
+							primitiveArray = classField.getMethod.invoke(object) ;
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					} else {
+						try {
+							primitiveArray = classField.field.get(object) ;
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					}
+					// written also when empty, so that it reads back as an empty array
+					if( primitiveArray != null ) {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndOpenBytePretty(classField,'[');
+							objectToPrimitiveArrayString( primitiveArray, classField.elementKind, jsonCharArrayBuilder, depth+1 );
+							jsonCharArrayBuilder.appendTabs(depth+1).appendChar(']');
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndOpenByte(classField,'[');
+							objectToPrimitiveArrayString( primitiveArray, classField.elementKind, jsonCharArrayBuilder, depth+1 );
+							jsonCharArrayBuilder.appendCloseByte(']');
+						}
+					} else {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndStringPretty(classField,NULL_STRING);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndString(classField,NULL_STRING);
+						}
+					}
+					break;
+				case CLASSFIELDTYPE_SUBCLASS :
+					Object subObject;
+					if( classField.accessor != null ) {
+						subObject = classField.accessor.getObject( object, classField.index ) ;
+					} else if( classField.getMethod != null ) {
+						try {
+							subObject = classField.getMethod.invoke( object );
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					} else {
+						try {
+							subObject = classField.field.get( object ) ;
+						} catch (Exception e) {
+							e.printStackTrace();
+							return OKJSON_ERROR_EXCEPTION;
+						}
+					}
+					if( subObject != null ) {
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndOpenBytePretty(classField,'{');
+							nret = objectToPropertiesString( subObject, jsonCharArrayBuilder, depth+1 ) ;
+							if( nret != 0 )
+								return nret;
+							jsonCharArrayBuilder.appendTabs(depth+1).appendChar('}');
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndOpenByte(classField,'{');
+							nret = objectToPropertiesString( subObject, jsonCharArrayBuilder, depth+1 ) ;
+							if( nret != 0 )
+								return nret;
+							jsonCharArrayBuilder.appendCloseByte('}');
+						}
+					} else { 
+						if( prettyFormatEnable ) {
+							jsonCharArrayBuilder.appendTabs(depth+1).appendJsonNameAndColonAndStringPretty(classField,NULL_STRING);
+						} else {
+							jsonCharArrayBuilder.appendJsonNameAndColonAndString(classField,NULL_STRING);
+						}
+					}
+					break;
+			}
+		}
+		
+		if( prettyFormatEnable ) {
+			jsonCharArrayBuilder.appendChar(ENTER_CHAR);
+		}
+		
+		return 0;
+	}
+	
+	/*
+	 * The same bytes as objectToBytes, generated whole first so the file is not
+	 * touched when generating fails, then written from the builder chunks by
+	 * gathering writes, never put together into one array.
+	 */
+	public int objectToFile( Object object, String filePath ) {
+		
+		OkJsonByteSegmentBuilder	jsonByteArrayBuilder = getJsonByteArrayBuilder() ;
+		
+		int nret = objectToBuilder( object, jsonByteArrayBuilder ) ;
+		if( nret != 0 ) {
+			jsonByteArrayBuilder.setLength(0);
+			return nret;
+		}
+		
+		try( FileChannel fileChannel = FileChannel.open( Paths.get(filePath), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING ) ) {
+			jsonByteArrayBuilder.writeTo( fileChannel );
+		} catch (IOException e) {
+			errorCode = OKJSON_ERROR_EXCEPTION ;
+			errorDesc = e.getMessage() ;
+			return errorCode;
+		} finally {
+			jsonByteArrayBuilder.setLength(0);
+		}
+		
+		return 0;
+	}
+	
+	private int objectToBuilder( Object object, OkJsonBuilder jsonCharArrayBuilder ) {
+		
+		jsonCharArrayBuilder.setLength(0);
+		
+		if( prettyFormatEnable ) {
+			jsonCharArrayBuilder.appendCharArray( "{\n".toCharArray() );
+		} else {
+			jsonCharArrayBuilder.appendChar( '{' );
+		}
+		
+		errorCode = objectToPropertiesString( object, jsonCharArrayBuilder, 0 );
+		if( errorCode != 0 )
+			return errorCode;
+		
+		if( prettyFormatEnable ) {
+			jsonCharArrayBuilder.appendCharArray( "}\n".toCharArray() );
+		} else {
+			jsonCharArrayBuilder.appendChar( '}' );
+		}
+		
+		return 0;
+	}
+	
+	public String objectToString( Object object ) {
+		
+		OkJsonCharSegmentBuilder	jsonCharArrayBuilder = this.jsonCharArrayBuilder ;
+		String						string = null ;
+		
+		if( objectToBuilder( object, jsonCharArrayBuilder ) == 0 )
+			string = jsonCharArrayBuilder.toString() ;
+		jsonCharArrayBuilder.setLength(0);
+		
+		return string;
+	}
+	
+	// the same JSON as objectToString, encoded to UTF-8 as it is written
+	public byte[] objectToBytes( Object object ) {
+		
+		OkJsonByteSegmentBuilder	jsonByteArrayBuilder = getJsonByteArrayBuilder() ;
+		byte[]						bytes = null ;
+		
+		if( objectToBuilder( object, jsonByteArrayBuilder ) == 0 )
+			bytes = jsonByteArrayBuilder.toByteArray() ;
+		jsonByteArrayBuilder.setLength(0);
+		
+		return bytes;
+	}
+	
+	private OkJsonByteSegmentBuilder getJsonByteArrayBuilder() {
+		if( jsonByteArrayBuilder == null )
+			jsonByteArrayBuilder = new OkJsonByteSegmentBuilder(1024) ;
+		return jsonByteArrayBuilder;
+	}
+	
+	/*
+	 * The same bytes as objectToBytes, written out each time streamBufferSize
+	 * of them are generated, so the document is never held whole. The stream
+	 * or channel is neither flushed nor closed; on an error what was already
+	 * written stays written.
+	 */
+	public int objectToStream( Object object, OutputStream outputStream ) {
+		
+		OkJsonByteStreamBuilder	jsonByteStreamBuilder = getJsonByteStreamBuilder() ;
+		
+		jsonByteStreamBuilder.setOutputStream( outputStream );
+		return objectToByteStream( object, jsonByteStreamBuilder );
+	}
+	
+	public int objectToChannel( Object object, WritableByteChannel channel ) {
+		
+		OkJsonByteStreamBuilder	jsonByteStreamBuilder = getJsonByteStreamBuilder() ;
+		
+		jsonByteStreamBuilder.setChannel( channel );
+		return objectToByteStream( object, jsonByteStreamBuilder );
+	}
+	
+	// a string longer than the buffer grows it, the next call starts again from streamBufferSize
+	private OkJsonByteStreamBuilder getJsonByteStreamBuilder() {
+		if( jsonByteStreamBuilder == null || jsonByteStreamBuilder.bufSize != streamBufferSize )
+			jsonByteStreamBuilder = new OkJsonByteStreamBuilder( streamBufferSize ) ;
+		return jsonByteStreamBuilder;
+	}
+	
+	private int objectToByteStream( Object object, OkJsonByteStreamBuilder jsonByteStreamBuilder ) {
+		
+		int nret = objectToBuilder( object, jsonByteStreamBuilder ) ;
+		if( nret == 0 )
+			jsonByteStreamBuilder.flush();
+		jsonByteStreamBuilder.clearOutput();
+		writtenLength = jsonByteStreamBuilder.getWrittenLength() ;
+		if( nret != 0 )
+			return nret;
+		
+		if( jsonByteStreamBuilder.getIOException() != null ) {
+			errorCode = OKJSON_ERROR_EXCEPTION ;
+			errorDesc = jsonByteStreamBuilder.getIOException().getMessage() ;
+			return errorCode;
+		}
+		
+		return 0;
+	}
+	
+	// the same chars as objectToString, written out each time streamBufferSize of them are generated
+	public int objectToWriter( Object object, Writer writer ) {
+		
+		OkJsonCharStreamBuilder	jsonCharStreamBuilder = this.jsonCharStreamBuilder ;
+		
+		if( jsonCharStreamBuilder == null || jsonCharStreamBuilder.bufSize != streamBufferSize ) {
+			jsonCharStreamBuilder = new OkJsonCharStreamBuilder( streamBufferSize ) ;
+			this.jsonCharStreamBuilder = jsonCharStreamBuilder ;
+		}
+		
+		jsonCharStreamBuilder.setWriter( writer );
+		int nret = objectToBuilder( object, jsonCharStreamBuilder ) ;
+		if( nret == 0 )
+			jsonCharStreamBuilder.flush();
+		jsonCharStreamBuilder.clearOutput();
+		writtenLength = jsonCharStreamBuilder.getWrittenLength() ;
+		if( nret != 0 )
+			return nret;
+		
+		if( jsonCharStreamBuilder.getIOException() != null ) {
+			errorCode = OKJSON_ERROR_EXCEPTION ;
+			errorDesc = jsonCharStreamBuilder.getIOException().getMessage() ;
+			return errorCode;
+		}
+		
+		return 0;
+	}
+	
+	public long getWrittenLength() {
+		return writtenLength;
+	}
+	
+	public boolean isStrictPolicyEnable() {
+		return strictPolicyEnable;
+	}
+
+	public void setStrictPolicyEnable(boolean strictPolicyEnable) {
+		this.strictPolicyEnable = strictPolicyEnable;
+	}
+
+	public boolean isDirectAccessPropertyEnable() {
+		return directAccessPropertyEnable;
+	}
+
+	public void setDirectAccessPropertyEnable(boolean directAccessPropertyEnable) {
+		this.directAccessPropertyEnable = directAccessPropertyEnable;
+	}
+
+	public boolean isPrettyFormatEnable() {
+		return prettyFormatEnable;
+	}
+
+	public void setPrettyFormatEnable(boolean prettyFormatEnable) {
+		this.prettyFormatEnable = prettyFormatEnable;
+	}
+
+	public int getStreamBufferSize() {
+		return streamBufferSize;
+	}
+
+	public void setStreamBufferSize(int streamBufferSize) {
+		this.streamBufferSize = streamBufferSize;
+	}
+
+	public Integer getErrorCode() {
+		return errorCode;
+	}
+
+	public void setErrorCode(Integer errorCode) {
+		this.errorCode = errorCode;
+	}
+
+	public String getErrorDesc() {
+		return errorDesc;
+	}
+
+	public void setErrorDesc(String errorDesc) {
+		this.errorDesc = errorDesc;
+	}
+
+	public OkJsonGenerator() {
+		this.strictPolicyEnable = false ;
+		this.directAccessPropertyEnable = false ;
+		this.prettyFormatEnable = false ;
+		this.streamBufferSize = DEFAULT_STREAM_BUFFER_SIZE ;
+		this.errorCode = 0 ;
+		this.errorDesc = null ;
+		this.jsonCharArrayBuilder = new OkJsonCharSegmentBuilder(1024) ;
+	}
+}
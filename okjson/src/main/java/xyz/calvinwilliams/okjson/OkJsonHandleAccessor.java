@@ -0,0 +1,234 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/*
+ * OkJsonAccessor on method handles, for where OkJsonAccessorGenerator can not
+ * define its hidden class. Every field, setter and getter is resolved once
+ * and adapted to the exact type of the interface method, (Object,int)void
+ * for setInt and (Object)int for getInt, so invokeExact passes primitives
+ * through without boxing and without an argument array. Same arguments and
+ * same served indexes as OkJsonAccessorGenerator.generate.
+ */
+final class OkJsonHandleAccessor implements OkJsonAccessor {
+
+	final private static Class<?>[]	KIND_TYPES = { boolean.class, byte.class, short.class, int.class, long.class, float.class, double.class, Object.class } ;
+
+	// null where the index is not served
+	final private MethodHandle[]	setHandles ;
+	final private MethodHandle[]	getHandles ;
+
+	private OkJsonHandleAccessor( MethodHandle[] setHandles, MethodHandle[] getHandles ) {
+		this.setHandles = setHandles ;
+		this.getHandles = getHandles ;
+	}
+
+	/*
+	 * Fields and methods have been made accessible by the caller, so the
+	 * unreflect calls do no access check. Returns null if one of them can
+	 * not be resolved.
+	 */
+	static OkJsonAccessor create( Field[] fields, Method[] setMethods, Method[] getMethods ) {
+		MethodHandles.Lookup	lookup = MethodHandles.lookup() ;
+		MethodHandle[]			setHandles = new MethodHandle[fields.length] ;
+		MethodHandle[]			getHandles = new MethodHandle[fields.length] ;
+		MethodHandle			handle ;
+		Class<?>				kindType ;
+		int						index ;
+
+		try {
+			for( index = 0 ; index < fields.length ; index++ ) {
+				if( fields[index] == null )
+					continue;
+				kindType = KIND_TYPES[OkJsonAccessorGenerator.kindOf( fields[index].getType() )] ;
+
+				if( setMethods != null ) {
+					if( setMethods[index] != null )
+						handle = lookup.unreflect( setMethods[index] ) ;
+					else
+						handle = lookup.unreflectSetter( fields[index] ) ;
+					// also drops the return value of a setter returning this
+					setHandles[index] = handle.asType( MethodType.methodType( void.class, Object.class, kindType ) ) ;
+				}
+
+				if( getMethods != null ) {
+					if( getMethods[index] != null )
+						handle = lookup.unreflect( getMethods[index] ) ;
+					else
+						handle = lookup.unreflectGetter( fields[index] ) ;
+					getHandles[index] = handle.asType( MethodType.methodType( kindType, Object.class ) ) ;
+				}
+			}
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+
+		return new OkJsonHandleAccessor( setHandles, getHandles );
+	}
+
+	// what the setter or getter threw, unchecked as the interface declares nothing
+	private static RuntimeException rethrow( Throwable e ) {
+		if( e instanceof RuntimeException )
+			return (RuntimeException)e;
+		else if( e instanceof Error )
+			throw (Error)e;
+		else
+			return new RuntimeException( e );
+	}
+
+	@Override
+	public void setBoolean( Object object, int index, boolean value ) {
+		try {
+			setHandles[index].invokeExact( object, value );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public void setByte( Object object, int index, byte value ) {
+		try {
+			setHandles[index].invokeExact( object, value );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public void setShort( Object object, int index, short value ) {
+		try {
+			setHandles[index].invokeExact( object, value );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public void setInt( Object object, int index, int value ) {
+		try {
+			setHandles[index].invokeExact( object, value );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public void setLong( Object object, int index, long value ) {
+		try {
+			setHandles[index].invokeExact( object, value );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public void setFloat( Object object, int index, float value ) {
+		try {
+			setHandles[index].invokeExact( object, value );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public void setDouble( Object object, int index, double value ) {
+		try {
+			setHandles[index].invokeExact( object, value );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public void setObject( Object object, int index, Object value ) {
+		try {
+			setHandles[index].invokeExact( object, value );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public boolean getBoolean( Object object, int index ) {
+		try {
+			return (boolean)getHandles[index].invokeExact( object );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public byte getByte( Object object, int index ) {
+		try {
+			return (byte)getHandles[index].invokeExact( object );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public short getShort( Object object, int index ) {
+		try {
+			return (short)getHandles[index].invokeExact( object );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public int getInt( Object object, int index ) {
+		try {
+			return (int)getHandles[index].invokeExact( object );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public long getLong( Object object, int index ) {
+		try {
+			return (long)getHandles[index].invokeExact( object );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public float getFloat( Object object, int index ) {
+		try {
+			return (float)getHandles[index].invokeExact( object );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public double getDouble( Object object, int index ) {
+		try {
+			return (double)getHandles[index].invokeExact( object );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+
+	@Override
+	public Object getObject( Object object, int index ) {
+		try {
+			return (Object)getHandles[index].invokeExact( object );
+		} catch (Throwable e) {
+			throw rethrow( e );
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * Bounded lock-free pool of parsers or generators, shared by all threads.
+ * A slot is taken with getAndSet(null) and given back with
+ * compareAndSet(null,instance), probing from a slot picked by the thread id
+ * so concurrent threads mostly touch different slots. acquire returns null
+ * when every slot is empty and release drops the instance when every slot is
+ * full, so the pool never holds more than its capacity whatever the number
+ * of threads.
+ */
+final class OkJsonInstancePool<T> {
+
+	final private AtomicReferenceArray<T>	slots ;
+	final private int						capacity ;
+
+	OkJsonInstancePool( int capacity ) {
+		this.slots = new AtomicReferenceArray<T>( capacity ) ;
+		this.capacity = capacity ;
+	}
+
+	int getCapacity() {
+		return capacity;
+	}
+
+	private int probeStart() {
+		return (int)( ( Thread.currentThread().getId() & 0x7FFFFFFF ) % capacity );
+	}
+
+	T acquire() {
+		int		slotIndex = probeStart() ;
+		T		instance ;
+		int		i ;
+
+		for( i = 0 ; i < capacity ; i++ ) {
+			if( slots.get(slotIndex) != null ) {
+				instance = slots.getAndSet( slotIndex, null ) ;
+				if( instance != null )
+					return instance;
+			}
+			if( ++slotIndex == capacity )
+				slotIndex = 0 ;
+		}
+
+		return null;
+	}
+
+	void release( T instance ) {
+		int		slotIndex = probeStart() ;
+		int		i ;
+
+		for( i = 0 ; i < capacity ; i++ ) {
+			if( slots.get(slotIndex) == null && slots.compareAndSet( slotIndex, null, instance ) )
+				return;
+			if( ++slotIndex == capacity )
+				slotIndex = 0 ;
+		}
+	}
+}
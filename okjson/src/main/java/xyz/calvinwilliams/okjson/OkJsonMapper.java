@@ -0,0 +1,335 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * A fixed configuration of the parser and generator, built once by
+ * OkJsonMapper.Builder and then shared by any number of threads. The
+ * parsers and generators it hands out are configured when they are created
+ * and kept in its own bounded pool, so a call only takes one, runs it and
+ * puts it back; options are not re-applied and nothing goes through
+ * ThreadLocals, the error of a call comes back in its OkJsonResult. The
+ * per-class metadata is shared with OKJSON.
+ *
+ *	OkJsonMapper mapper = OkJsonMapper.builder().setDirectAccessPropertyEnable(true).build() ;
+ *	OkJsonResult<MyClass> result = mapper.stringToObject( jsonString, MyClass.class ) ;
+ */
+public final class OkJsonMapper {
+
+	final private boolean								strictPolicyEnable ;
+	final private boolean								directAccessPropertyEnable ;
+	final private boolean								prettyFormatEnable ;
+	final private boolean								fileMappedEnable ;
+	final private boolean								containerSizeHintEnable ;
+	final private int									streamWindowSize ;
+
+	final private OkJsonInstancePool<OkJsonParser>		okjsonParserPool ;
+	final private OkJsonInstancePool<OkJsonGenerator>	okjsonGeneratorPool ;
+
+	public static class Builder {
+		private boolean		strictPolicyEnable = false ;
+		private boolean		directAccessPropertyEnable = false ;
+		private boolean		prettyFormatEnable = false ;
+		private boolean		fileMappedEnable = false ;
+		private boolean		containerSizeHintEnable = false ;
+		private int			streamWindowSize = OkJsonParser.DEFAULT_STREAM_WINDOW_SIZE ;
+		private int			instancePoolCapacity = Runtime.getRuntime().availableProcessors() * 2 ;
+
+		private Builder() {
+		}
+
+		// the OKJSON.OPTIONS_* bits of the static calls
+		public Builder setOptions( int options ) {
+			this.directAccessPropertyEnable = ( (options&OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE) != 0 ) ;
+			this.prettyFormatEnable = ( (options&OKJSON.OPTIONS_PRETTY_FORMAT_ENABLE) != 0 ) ;
+			this.strictPolicyEnable = ( (options&OKJSON.OPTIONS_STRICT_POLICY) != 0 ) ;
+			this.fileMappedEnable = ( (options&OKJSON.OPTIONS_FILE_MAPPED_ENABLE) != 0 ) ;
+			this.containerSizeHintEnable = ( (options&OKJSON.OPTIONS_CONTAINER_SIZE_HINT_ENABLE) != 0 ) ;
+			return this;
+		}
+
+		public Builder setStrictPolicyEnable( boolean strictPolicyEnable ) {
+			this.strictPolicyEnable = strictPolicyEnable ;
+			return this;
+		}
+
+		public Builder setDirectAccessPropertyEnable( boolean directAccessPropertyEnable ) {
+			this.directAccessPropertyEnable = directAccessPropertyEnable ;
+			return this;
+		}
+
+		public Builder setPrettyFormatEnable( boolean prettyFormatEnable ) {
+			this.prettyFormatEnable = prettyFormatEnable ;
+			return this;
+		}
+
+		public Builder setFileMappedEnable( boolean fileMappedEnable ) {
+			this.fileMappedEnable = fileMappedEnable ;
+			return this;
+		}
+
+		// collections and maps are presized for the element count last read into the same field
+		public Builder setContainerSizeHintEnable( boolean containerSizeHintEnable ) {
+			this.containerSizeHintEnable = containerSizeHintEnable ;
+			return this;
+		}
+
+		// window of streamToObject and readerToObject, and buffer of objectToStream, objectToChannel and objectToWriter
+		public Builder setStreamWindowSize( int streamWindowSize ) {
+			this.streamWindowSize = streamWindowSize ;
+			return this;
+		}
+
+		// parsers and generators kept for reuse, each, extra ones are dropped after use
+		public Builder setInstancePoolCapacity( int instancePoolCapacity ) {
+			this.instancePoolCapacity = instancePoolCapacity ;
+			return this;
+		}
+
+		public OkJsonMapper build() {
+			return new OkJsonMapper( this );
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	private OkJsonMapper( Builder builder ) {
+		this.strictPolicyEnable = builder.strictPolicyEnable ;
+		this.directAccessPropertyEnable = builder.directAccessPropertyEnable ;
+		this.prettyFormatEnable = builder.prettyFormatEnable ;
+		this.fileMappedEnable = builder.fileMappedEnable ;
+		this.containerSizeHintEnable = builder.containerSizeHintEnable ;
+		this.streamWindowSize = builder.streamWindowSize ;
+		this.okjsonParserPool = new OkJsonInstancePool<OkJsonParser>( Math.max( builder.instancePoolCapacity, 1 ) ) ;
+		this.okjsonGeneratorPool = new OkJsonInstancePool<OkJsonGenerator>( Math.max( builder.instancePoolCapacity, 1 ) ) ;
+	}
+
+	public boolean isStrictPolicyEnable() {
+		return strictPolicyEnable;
+	}
+
+	public boolean isDirectAccessPropertyEnable() {
+		return directAccessPropertyEnable;
+	}
+
+	public boolean isPrettyFormatEnable() {
+		return prettyFormatEnable;
+	}
+
+	public boolean isFileMappedEnable() {
+		return fileMappedEnable;
+	}
+
+	public boolean isContainerSizeHintEnable() {
+		return containerSizeHintEnable;
+	}
+
+	public int getStreamWindowSize() {
+		return streamWindowSize;
+	}
+
+	private OkJsonParser acquireParser() {
+		OkJsonParser	okjsonParser = okjsonParserPool.acquire() ;
+
+		if( okjsonParser == null ) {
+			okjsonParser = new OkJsonParser() ;
+			okjsonParser.setStrictPolicyEnable( strictPolicyEnable );
+			okjsonParser.setDirectAccessPropertyEnable( directAccessPropertyEnable );
+			okjsonParser.setFileMappedEnable( fileMappedEnable );
+			okjsonParser.setContainerSizeHintEnable( containerSizeHintEnable );
+			okjsonParser.setStreamWindowSize( streamWindowSize );
+		}
+		okjsonParser.setErrorCode( 0 );
+		okjsonParser.setErrorDesc( null );
+
+		return okjsonParser;
+	}
+
+	private OkJsonGenerator acquireGenerator() {
+		OkJsonGenerator	okjsonGenerator = okjsonGeneratorPool.acquire() ;
+
+		if( okjsonGenerator == null ) {
+			okjsonGenerator = new OkJsonGenerator() ;
+			okjsonGenerator.setStrictPolicyEnable( strictPolicyEnable );
+			okjsonGenerator.setDirectAccessPropertyEnable( directAccessPropertyEnable );
+			okjsonGenerator.setPrettyFormatEnable( prettyFormatEnable );
+			okjsonGenerator.setStreamBufferSize( streamWindowSize );
+		}
+		okjsonGenerator.setErrorCode( 0 );
+		okjsonGenerator.setErrorDesc( null );
+
+		return okjsonGenerator;
+	}
+
+	// the parser goes back to the pool, only its outcome is kept
+	private <T> OkJsonResult<T> parserResult( OkJsonParser okjsonParser, T object ) {
+		int		errorCode = okjsonParser.getErrorCode() ;
+		String	errorDesc = okjsonParser.getErrorDesc() ;
+
+		okjsonParserPool.release( okjsonParser );
+
+		if( object == null && errorCode == 0 )
+			errorCode = OKJSON.OKJSON_ERROR_EXCEPTION ;
+		return new OkJsonResult<T>( object, errorCode, errorDesc );
+	}
+
+	private static <T> T newObject( Class<T> clazz ) {
+		try {
+			return OkJsonCodecRegistry.newInstance( clazz );
+		} catch (Exception e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	private static <T> OkJsonResult<T> newObjectFailed( Class<T> clazz ) {
+		return new OkJsonResult<T>( null, OKJSON.OKJSON_ERROR_NEW_OBJECT, "New object failed for "+clazz.getName() );
+	}
+
+	public <T> OkJsonResult<T> stringToObject( String jsonString, Class<T> clazz ) {
+		T		object = newObject( clazz ) ;
+		if( object == null )
+			return newObjectFailed( clazz );
+
+		OkJsonParser okjsonParser = acquireParser() ;
+		return parserResult( okjsonParser, okjsonParser.stringToObject( jsonString, object ) );
+	}
+
+	public <T> OkJsonResult<T> bytesToObject( byte[] jsonBytes, Class<T> clazz ) {
+		return bytesToObject( jsonBytes, 0, jsonBytes.length, clazz );
+	}
+
+	public <T> OkJsonResult<T> bytesToObject( byte[] jsonBytes, int offset, int length, Class<T> clazz ) {
+		T		object = newObject( clazz ) ;
+		if( object == null )
+			return newObjectFailed( clazz );
+
+		OkJsonParser okjsonParser = acquireParser() ;
+		return parserResult( okjsonParser, okjsonParser.bytesToObject( jsonBytes, offset, length, object ) );
+	}
+
+	public <T> OkJsonResult<T> byteBufferToObject( ByteBuffer jsonByteBuffer, Class<T> clazz ) {
+		T		object = newObject( clazz ) ;
+		if( object == null )
+			return newObjectFailed( clazz );
+
+		OkJsonParser okjsonParser = acquireParser() ;
+		return parserResult( okjsonParser, okjsonParser.byteBufferToObject( jsonByteBuffer, object ) );
+	}
+
+	public <T> OkJsonResult<T> streamToObject( InputStream jsonInputStream, Class<T> clazz ) {
+		T		object = newObject( clazz ) ;
+		if( object == null )
+			return newObjectFailed( clazz );
+
+		OkJsonParser okjsonParser = acquireParser() ;
+		return parserResult( okjsonParser, okjsonParser.streamToObject( jsonInputStream, object ) );
+	}
+
+	public <T> OkJsonResult<T> readerToObject( Reader jsonReader, Class<T> clazz ) {
+		T		object = newObject( clazz ) ;
+		if( object == null )
+			return newObjectFailed( clazz );
+
+		OkJsonParser okjsonParser = acquireParser() ;
+		return parserResult( okjsonParser, okjsonParser.readerToObject( jsonReader, object ) );
+	}
+
+	public <T> OkJsonResult<T> fileToObject( String filePath, Class<T> clazz ) {
+		T		object = newObject( clazz ) ;
+		if( object == null )
+			return newObjectFailed( clazz );
+
+		OkJsonParser okjsonParser = acquireParser() ;
+		return parserResult( okjsonParser, okjsonParser.fileToObject( filePath, object ) );
+	}
+
+	public OkJsonResult<String> objectToString( Object object ) {
+		OkJsonGenerator	okjsonGenerator = acquireGenerator() ;
+		String			string = okjsonGenerator.objectToString( object ) ;
+		int				errorCode = okjsonGenerator.getErrorCode() ;
+		String			errorDesc = okjsonGenerator.getErrorDesc() ;
+
+		okjsonGeneratorPool.release( okjsonGenerator );
+
+		if( string == null && errorCode == 0 )
+			errorCode = OKJSON.OKJSON_ERROR_EXCEPTION ;
+		return new OkJsonResult<String>( string, errorCode, errorDesc );
+	}
+
+	// UTF-8 encoded while it is generated, without a String in between
+	public OkJsonResult<byte[]> objectToBytes( Object object ) {
+		OkJsonGenerator	okjsonGenerator = acquireGenerator() ;
+		byte[]			bytes = okjsonGenerator.objectToBytes( object ) ;
+		int				errorCode = okjsonGenerator.getErrorCode() ;
+		String			errorDesc = okjsonGenerator.getErrorDesc() ;
+
+		okjsonGeneratorPool.release( okjsonGenerator );
+
+		if( bytes == null && errorCode == 0 )
+			errorCode = OKJSON.OKJSON_ERROR_EXCEPTION ;
+		return new OkJsonResult<byte[]>( bytes, errorCode, errorDesc );
+	}
+
+	// the value is the number of bytes, or chars for objectToWriter, written out
+	public OkJsonResult<Long> objectToStream( Object object, OutputStream outputStream ) {
+		OkJsonGenerator	okjsonGenerator = acquireGenerator() ;
+		int				nret = okjsonGenerator.objectToStream( object, outputStream ) ;
+		return writtenResult( okjsonGenerator, nret );
+	}
+
+	public OkJsonResult<Long> objectToChannel( Object object, WritableByteChannel channel ) {
+		OkJsonGenerator	okjsonGenerator = acquireGenerator() ;
+		int				nret = okjsonGenerator.objectToChannel( object, channel ) ;
+		return writtenResult( okjsonGenerator, nret );
+	}
+
+	public OkJsonResult<Long> objectToWriter( Object object, Writer writer ) {
+		OkJsonGenerator	okjsonGenerator = acquireGenerator() ;
+		int				nret = okjsonGenerator.objectToWriter( object, writer ) ;
+		return writtenResult( okjsonGenerator, nret );
+	}
+
+	private OkJsonResult<Long> writtenResult( OkJsonGenerator okjsonGenerator, int nret ) {
+		long	writtenLength = okjsonGenerator.getWrittenLength() ;
+		String	errorDesc = okjsonGenerator.getErrorDesc() ;
+
+		okjsonGeneratorPool.release( okjsonGenerator );
+
+		if( nret != 0 )
+			return new OkJsonResult<Long>( null, nret, errorDesc );
+		return new OkJsonResult<Long>( writtenLength, 0, errorDesc );
+	}
+
+	public OkJsonResult<byte[]> objectToFile( Object object, String filePath ) {
+		OkJsonResult<byte[]>	result = objectToBytes( object ) ;
+
+		if( ! result.isOk() )
+			return result;
+		try {
+			Files.write( Paths.get(filePath), result.getValue(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING );
+		} catch (IOException e) {
+			return new OkJsonResult<byte[]>( null, OKJSON.OKJSON_ERROR_EXCEPTION, e.getMessage() );
+		}
+		return result;
+	}
+}
@@ -0,0 +1,572 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.math.BigInteger;
+
+/*
+ * Numbers written as ASCII digits straight into a byte buffer, no boxing and
+ * no String in between. Each write returns the offset after the last byte;
+ * the caller makes room for MAX_LENGTH bytes first.
+ *
+ * Integers go two digits at a time from a lookup table, the same digits as
+ * String.valueOf.
+ *
+ * Doubles and floats take the shortest decimal that reads back to the same
+ * value, found with Schubfach (Raffaello Giulietti, "The Schubfach way to
+ * render doubles"), laid out as Double.toString and Float.toString lay it
+ * out: plain from 1.0E-3 up to 1.0E7, else as d.dddE[-]n, with at least one
+ * digit after the point. It is the output of Double.toString from JDK 19 on;
+ * older JDKs print an extra digit now and then, which reads back to the same
+ * double too.
+ */
+final class OkJsonNumberWriter {
+
+	final static int				MAX_LENGTH = 32 ;
+
+	final private static byte[]		DIGIT_TENS = new byte[ 100 ] ;
+	final private static byte[]		DIGIT_ONES = new byte[ 100 ] ;
+	final private static long[]		POW10 = new long[ 19 ] ;
+	final private static byte[]		LONG_MIN_VALUE_BYTES = "-9223372036854775808".getBytes() ;
+	final private static byte[]		NAN_BYTES = "NaN".getBytes() ;
+	final private static byte[]		INFINITY_BYTES = "Infinity".getBytes() ;
+
+	static {
+		int		i ;
+
+		for( i = 0 ; i < 100 ; i++ ) {
+			DIGIT_TENS[i] = (byte)( '0' + i / 10 ) ;
+			DIGIT_ONES[i] = (byte)( '0' + i % 10 ) ;
+		}
+		POW10[0] = 1 ;
+		for( i = 1 ; i < POW10.length ; i++ )
+			POW10[i] = POW10[i-1] * 10 ;
+	}
+
+	private OkJsonNumberWriter() {
+	}
+
+	static int writeInt( int value, byte[] buf, int offset ) {
+		return writeLong( value, buf, offset );
+	}
+
+	static int writeLong( long value, byte[] buf, int offset ) {
+		int		end ;
+		int		i ;
+		long	q ;
+		int		r ;
+
+		if( value == Long.MIN_VALUE ) {
+			System.arraycopy( LONG_MIN_VALUE_BYTES, 0, buf, offset, LONG_MIN_VALUE_BYTES.length );
+			return offset + LONG_MIN_VALUE_BYTES.length;
+		}
+		if( value < 0 ) {
+			buf[offset] = '-' ; offset++;
+			value = -value ;
+		}
+
+		end = offset + 1 ;
+		while( end - offset < POW10.length && value >= POW10[end-offset] )
+			end++;
+
+		i = end ;
+		while( value >= 100 ) {
+			q = value / 100 ;
+			r = (int)( value - q * 100 ) ;
+			value = q ;
+			i--; buf[i] = DIGIT_ONES[r] ;
+			i--; buf[i] = DIGIT_TENS[r] ;
+		}
+		r = (int)value ;
+		i--; buf[i] = DIGIT_ONES[r] ;
+		if( r >= 10 ) {
+			i--; buf[i] = DIGIT_TENS[r] ;
+		}
+
+		return end;
+	}
+
+	// NaN and Infinity as Double.toString writes them
+	private static int writeSpecial( boolean negative, boolean nan, byte[] buf, int offset ) {
+		byte[]	bytes = ( nan ? NAN_BYTES : INFINITY_BYTES ) ;
+
+		if( negative && ! nan ) {
+			buf[offset] = '-' ; offset++;
+		}
+		System.arraycopy( bytes, 0, buf, offset, bytes.length );
+		return offset + bytes.length;
+	}
+
+	private static int writeZero( byte[] buf, int offset ) {
+		buf[offset] = '0' ; offset++;
+		buf[offset] = '.' ; offset++;
+		buf[offset] = '0' ; offset++;
+		return offset;
+	}
+
+	/*
+	 * Schubfach for doubles. q and c are the binary exponent and significand,
+	 * the value is c 2^q; the decimal found is f 10^e, then laid out.
+	 */
+	final private static int		DOUBLE_P = 53 ;
+	final private static int		DOUBLE_Q_MIN = -1074 ;
+	final private static long		DOUBLE_C_MIN = 1L << ( DOUBLE_P - 1 ) ;
+	final private static int		DOUBLE_BQ_MASK = 0x7FF ;
+	final private static long		DOUBLE_T_MASK = ( 1L << ( DOUBLE_P - 1 ) ) - 1 ;
+	final private static long		DOUBLE_C_TINY = 3 ;
+	final private static int		DOUBLE_H = 17 ;
+
+	final private static int		FLOAT_P = 24 ;
+	final private static int		FLOAT_Q_MIN = -149 ;
+	final private static int		FLOAT_C_MIN = 1 << ( FLOAT_P - 1 ) ;
+	final private static int		FLOAT_BQ_MASK = 0xFF ;
+	final private static int		FLOAT_T_MASK = ( 1 << ( FLOAT_P - 1 ) ) - 1 ;
+	final private static int		FLOAT_C_TINY = 8 ;
+	final private static int		FLOAT_H = 9 ;
+
+	final private static long		MASK_63 = ( 1L << 63 ) - 1 ;
+	final private static long		MASK_32 = ( 1L << 32 ) - 1 ;
+	final private static int		MASK_28 = ( 1 << 28 ) - 1 ;
+
+	/*
+	 * For k from K_MIN to K_MAX, 10^-k = b 2^r with 2^125 <= b < 2^126 and
+	 * g = floor(b) + 1, kept as its high 63 bits and its low 63 bits. Worked
+	 * out once here rather than carried as 1234 literals.
+	 */
+	final private static int		K_MIN = -324 ;
+	final private static int		K_MAX = 292 ;
+	final private static long[]		G = newG() ;
+
+	private static long[] newG() {
+		long[]		g = new long[ ( K_MAX - K_MIN + 1 ) * 2 ] ;
+		BigInteger	mask63 = BigInteger.ONE.shiftLeft( 63 ).subtract( BigInteger.ONE ) ;
+		BigInteger	pow10 ;
+		BigInteger	b ;
+		int			bitLength ;
+		int			k ;
+
+		for( k = K_MIN ; k <= K_MAX ; k++ ) {
+			if( k <= 0 ) {
+				pow10 = BigInteger.TEN.pow( -k ) ;
+				bitLength = pow10.bitLength() ;
+				if( bitLength - 1 <= 125 )
+					b = pow10.shiftLeft( 125 - ( bitLength - 1 ) ) ;
+				else
+					b = pow10.shiftRight( ( bitLength - 1 ) - 125 ) ;
+			} else {
+				pow10 = BigInteger.TEN.pow( k ) ;
+				bitLength = pow10.bitLength() ;
+				b = BigInteger.ONE.shiftLeft( bitLength + 125 ).divide( pow10 ) ;
+			}
+			b = b.add( BigInteger.ONE ) ;
+			g[ (k-K_MIN) << 1 ] = b.shiftRight( 63 ).longValue() ;
+			g[ (k-K_MIN) << 1 | 1 ] = b.and( mask63 ).longValue() ;
+		}
+
+		return g;
+	}
+
+	private static long g1( int k ) {
+		return G[ (k-K_MIN) << 1 ];
+	}
+
+	private static long g0( int k ) {
+		return G[ (k-K_MIN) << 1 | 1 ];
+	}
+
+	// floor(e log10(2))
+	private static int flog10pow2( int e ) {
+		return (int)( e * 661971961083L >> 41 );
+	}
+
+	// floor(e log10(2) + log10(3/4))
+	private static int flog10threeQuartersPow2( int e ) {
+		return (int)( e * 661971961083L + -274743187321L >> 41 );
+	}
+
+	// floor(e log2(10))
+	private static int flog2pow10( int e ) {
+		return (int)( e * 913124641741L >> 38 );
+	}
+
+	// the high 64 bits of the 128 bits product, as Math.multiplyHigh
+	private static long multiplyHigh( long x, long y ) {
+		long	x1 = x >> 32 ;
+		long	x2 = x & 0xFFFFFFFFL ;
+		long	y1 = y >> 32 ;
+		long	y2 = y & 0xFFFFFFFFL ;
+		long	z2 = x2 * y2 ;
+		long	t = x1 * y2 + ( z2 >>> 32 ) ;
+		long	z1 = ( t & 0xFFFFFFFFL ) + x2 * y1 ;
+		long	z0 = t >> 32 ;
+
+		return x1 * y1 + z0 + ( z1 >> 32 );
+	}
+
+	// rounded to odd product of g and cp
+	private static long rop( long g1, long g0, long cp ) {
+		long	x1 = multiplyHigh( g0, cp ) ;
+		long	y0 = g1 * cp ;
+		long	y1 = multiplyHigh( g1, cp ) ;
+		long	z = ( y0 >>> 1 ) + x1 ;
+		long	vbp = y1 + ( z >>> 63 ) ;
+
+		return vbp | ( z & MASK_63 ) + MASK_63 >>> 63;
+	}
+
+	private static int rop( long g, long cp ) {
+		long	x1 = multiplyHigh( g, cp ) ;
+		long	vbp = x1 >>> 31 ;
+
+		return (int)( vbp | ( x1 & MASK_32 ) + MASK_32 >>> 32 );
+	}
+
+	static int writeDouble( double value, byte[] buf, int offset ) {
+		long	bits = Double.doubleToRawLongBits( value ) ;
+		long	t = bits & DOUBLE_T_MASK ;
+		int		bq = (int)( bits >>> ( DOUBLE_P - 1 ) ) & DOUBLE_BQ_MASK ;
+		int		mq ;
+		long	c ;
+		long	f ;
+
+		if( bq == DOUBLE_BQ_MASK )
+			return writeSpecial( bits < 0, t != 0, buf, offset );
+
+		if( bits < 0 ) {
+			buf[offset] = '-' ; offset++;
+		}
+		if( bq != 0 ) {
+			mq = -DOUBLE_Q_MIN + 1 - bq ;
+			c = DOUBLE_C_MIN | t ;
+			// an integer value, its digits are the decimal
+			if( 0 < mq && mq < DOUBLE_P ) {
+				f = c >> mq ;
+				if( f << mq == c )
+					return writeDoubleDecimal( f, 0, buf, offset );
+			}
+			return doubleToDecimal( -mq, c, 0, buf, offset );
+		}
+		if( t != 0 ) {
+			if( t < DOUBLE_C_TINY )
+				return doubleToDecimal( DOUBLE_Q_MIN, 10 * t, -1, buf, offset );
+			else
+				return doubleToDecimal( DOUBLE_Q_MIN, t, 0, buf, offset );
+		}
+		return writeZero( buf, offset );
+	}
+
+	private static int doubleToDecimal( int q, long c, int dk, byte[] buf, int offset ) {
+		int		out = (int)c & 0x1 ;
+		long	cb = c << 2 ;
+		long	cbr = cb + 2 ;
+		long	cbl ;
+		int		k ;
+		int		h ;
+		long	g1 ;
+		long	g0 ;
+		long	vb ;
+		long	vbl ;
+		long	vbr ;
+		long	s ;
+		long	t ;
+		long	sp10 ;
+		long	tp10 ;
+		boolean	upin ;
+		boolean	wpin ;
+		boolean	uin ;
+		boolean	win ;
+		long	cmp ;
+
+		if( c != DOUBLE_C_MIN || q == DOUBLE_Q_MIN ) {
+			cbl = cb - 2 ;
+			k = flog10pow2( q ) ;
+		} else {
+			cbl = cb - 1 ;
+			k = flog10threeQuartersPow2( q ) ;
+		}
+		h = q + flog2pow10( -k ) + 2 ;
+
+		g1 = g1( k ) ;
+		g0 = g0( k ) ;
+
+		vb = rop( g1, g0, cb << h ) ;
+		vbl = rop( g1, g0, cbl << h ) ;
+		vbr = rop( g1, g0, cbr << h ) ;
+
+		s = vb >> 2 ;
+		if( s >= 100 ) {
+			// one digit less when a multiple of 10 is in the rounding interval
+			sp10 = 10 * multiplyHigh( s, 115292150460684698L << 4 ) ;
+			tp10 = sp10 + 10 ;
+			upin = ( vbl + out <= sp10 << 2 ) ;
+			wpin = ( (tp10 << 2) + out <= vbr ) ;
+			if( upin != wpin )
+				return writeDoubleDecimal( upin ? sp10 : tp10, k, buf, offset );
+		}
+
+		t = s + 1 ;
+		uin = ( vbl + out <= s << 2 ) ;
+		win = ( (t << 2) + out <= vbr ) ;
+		if( uin != win )
+			return writeDoubleDecimal( uin ? s : t, k + dk, buf, offset );
+
+		// both in the interval, the closer one, the even one on a tie
+		cmp = vb - ( s + t << 1 ) ;
+		return writeDoubleDecimal( ( cmp < 0 || cmp == 0 && (s & 0x1) == 0 ) ? s : t, k + dk, buf, offset );
+	}
+
+	// f 10^e laid out as Double.toString, f has no more than 17 digits
+	private static int writeDoubleDecimal( long f, int e, byte[] buf, int offset ) {
+		int		len = flog10pow2( Long.SIZE - Long.numberOfLeadingZeros( f ) ) ;
+		long	hm ;
+		int		h ;
+		int		m ;
+		int		l ;
+
+		if( f >= POW10[len] )
+			len++;
+
+		// 10^16 <= f < 10^17 and the value is 0.f 10^e
+		f *= POW10[ DOUBLE_H - len ] ;
+		e += len ;
+
+		// f split into its first digit h, the next 8 digits m and the last 8 digits l
+		hm = multiplyHigh( f, 193428131138340668L ) >>> 20 ;
+		l = (int)( f - 100000000L * hm ) ;
+		h = (int)( hm * 1441151881L >>> 57 ) ;
+		m = (int)( hm - 100000000 * h ) ;
+
+		if( 0 < e && e <= 7 ) {
+			offset = writePlainDigits( h, m, e, buf, offset ) ;
+			if( l != 0 )
+				offset = write8Digits( l, buf, offset ) ;
+			return removeTrailingZeroes( buf, offset );
+		} else if( -3 < e && e <= 0 ) {
+			offset = writeLeadingZeroes( e, buf, offset ) ;
+			buf[offset] = (byte)( '0' + h ) ; offset++;
+			offset = write8Digits( m, buf, offset ) ;
+			if( l != 0 )
+				offset = write8Digits( l, buf, offset ) ;
+			return removeTrailingZeroes( buf, offset );
+		} else {
+			buf[offset] = (byte)( '0' + h ) ; offset++;
+			buf[offset] = '.' ; offset++;
+			offset = write8Digits( m, buf, offset ) ;
+			if( l != 0 )
+				offset = write8Digits( l, buf, offset ) ;
+			offset = removeTrailingZeroes( buf, offset ) ;
+			return writeExponent( e - 1, buf, offset );
+		}
+	}
+
+	static int writeFloat( float value, byte[] buf, int offset ) {
+		int		bits = Float.floatToRawIntBits( value ) ;
+		int		t = bits & FLOAT_T_MASK ;
+		int		bq = ( bits >>> ( FLOAT_P - 1 ) ) & FLOAT_BQ_MASK ;
+		int		mq ;
+		int		c ;
+		int		f ;
+
+		if( bq == FLOAT_BQ_MASK )
+			return writeSpecial( bits < 0, t != 0, buf, offset );
+
+		if( bits < 0 ) {
+			buf[offset] = '-' ; offset++;
+		}
+		if( bq != 0 ) {
+			mq = -FLOAT_Q_MIN + 1 - bq ;
+			c = FLOAT_C_MIN | t ;
+			if( 0 < mq && mq < FLOAT_P ) {
+				f = c >> mq ;
+				if( f << mq == c )
+					return writeFloatDecimal( f, 0, buf, offset );
+			}
+			return floatToDecimal( -mq, c, 0, buf, offset );
+		}
+		if( t != 0 ) {
+			if( t < FLOAT_C_TINY )
+				return floatToDecimal( FLOAT_Q_MIN, 10 * t, -1, buf, offset );
+			else
+				return floatToDecimal( FLOAT_Q_MIN, t, 0, buf, offset );
+		}
+		return writeZero( buf, offset );
+	}
+
+	private static int floatToDecimal( int q, int c, int dk, byte[] buf, int offset ) {
+		int		out = c & 0x1 ;
+		long	cb = c << 2 ;
+		long	cbr = cb + 2 ;
+		long	cbl ;
+		int		k ;
+		int		h ;
+		long	g ;
+		int		vb ;
+		int		vbl ;
+		int		vbr ;
+		int		s ;
+		int		t ;
+		int		sp10 ;
+		int		tp10 ;
+		boolean	upin ;
+		boolean	wpin ;
+		boolean	uin ;
+		boolean	win ;
+		int		cmp ;
+
+		if( c != FLOAT_C_MIN || q == FLOAT_Q_MIN ) {
+			cbl = cb - 2 ;
+			k = flog10pow2( q ) ;
+		} else {
+			cbl = cb - 1 ;
+			k = flog10threeQuartersPow2( q ) ;
+		}
+		h = q + flog2pow10( -k ) + 33 ;
+
+		g = g1( k ) + 1 ;
+
+		vb = rop( g, cb << h ) ;
+		vbl = rop( g, cbl << h ) ;
+		vbr = rop( g, cbr << h ) ;
+
+		s = vb >> 2 ;
+		if( s >= 100 ) {
+			sp10 = 10 * (int)( s * 1717986919L >>> 34 ) ;
+			tp10 = sp10 + 10 ;
+			upin = ( vbl + out <= sp10 << 2 ) ;
+			wpin = ( (tp10 << 2) + out <= vbr ) ;
+			if( upin != wpin )
+				return writeFloatDecimal( upin ? sp10 : tp10, k, buf, offset );
+		}
+
+		t = s + 1 ;
+		uin = ( vbl + out <= s << 2 ) ;
+		win = ( (t << 2) + out <= vbr ) ;
+		if( uin != win )
+			return writeFloatDecimal( uin ? s : t, k + dk, buf, offset );
+
+		cmp = vb - ( s + t << 1 ) ;
+		return writeFloatDecimal( ( cmp < 0 || cmp == 0 && (s & 0x1) == 0 ) ? s : t, k + dk, buf, offset );
+	}
+
+	// f 10^e laid out as Float.toString, f has no more than 9 digits
+	private static int writeFloatDecimal( int f, int e, byte[] buf, int offset ) {
+		int		len = flog10pow2( Integer.SIZE - Integer.numberOfLeadingZeros( f ) ) ;
+		int		h ;
+		int		l ;
+
+		if( f >= POW10[len] )
+			len++;
+
+		f *= (int)POW10[ FLOAT_H - len ] ;
+		e += len ;
+
+		h = (int)( f * 1441151881L >>> 57 ) ;
+		l = f - 100000000 * h ;
+
+		if( 0 < e && e <= 7 ) {
+			offset = writePlainDigits( h, l, e, buf, offset ) ;
+			return removeTrailingZeroes( buf, offset );
+		} else if( -3 < e && e <= 0 ) {
+			offset = writeLeadingZeroes( e, buf, offset ) ;
+			buf[offset] = (byte)( '0' + h ) ; offset++;
+			offset = write8Digits( l, buf, offset ) ;
+			return removeTrailingZeroes( buf, offset );
+		} else {
+			buf[offset] = (byte)( '0' + h ) ; offset++;
+			buf[offset] = '.' ; offset++;
+			offset = write8Digits( l, buf, offset ) ;
+			offset = removeTrailingZeroes( buf, offset ) ;
+			return writeExponent( e - 1, buf, offset );
+		}
+	}
+
+	// h and the 8 digits of m with the point after the first e digits, 0 < e <= 7
+	private static int writePlainDigits( int h, int m, int e, byte[] buf, int offset ) {
+		int		y = y( m ) ;
+		int		t ;
+		int		i ;
+
+		buf[offset] = (byte)( '0' + h ) ; offset++;
+		for( i = 1 ; i < e ; i++ ) {
+			t = 10 * y ;
+			buf[offset] = (byte)( '0' + ( t >>> 28 ) ) ; offset++;
+			y = t & MASK_28 ;
+		}
+		buf[offset] = '.' ; offset++;
+		for( ; i <= 8 ; i++ ) {
+			t = 10 * y ;
+			buf[offset] = (byte)( '0' + ( t >>> 28 ) ) ; offset++;
+			y = t & MASK_28 ;
+		}
+
+		return offset;
+	}
+
+	// "0." and -e zeroes, -3 < e <= 0
+	private static int writeLeadingZeroes( int e, byte[] buf, int offset ) {
+		buf[offset] = '0' ; offset++;
+		buf[offset] = '.' ; offset++;
+		for( ; e < 0 ; e++ ) {
+			buf[offset] = '0' ; offset++;
+		}
+		return offset;
+	}
+
+	// the 8 digits of m, leading zeroes too, left to right with one multiply each
+	private static int write8Digits( int m, byte[] buf, int offset ) {
+		int		y = y( m ) ;
+		int		t ;
+		int		i ;
+
+		for( i = 0 ; i < 8 ; i++ ) {
+			t = 10 * y ;
+			buf[offset] = (byte)( '0' + ( t >>> 28 ) ) ; offset++;
+			y = t & MASK_28 ;
+		}
+
+		return offset;
+	}
+
+	// floor((a + 1) 2^28 / 10^8) - 1, the 8 digits of a as a binary fraction
+	private static int y( int a ) {
+		return (int)( multiplyHigh( (long)( a + 1 ) << 28, 193428131138340668L ) >>> 20 ) - 1;
+	}
+
+	// keeps the zero right after the point
+	private static int removeTrailingZeroes( byte[] buf, int offset ) {
+		while( buf[offset-1] == '0' )
+			offset--;
+		if( buf[offset-1] == '.' )
+			offset++;
+		return offset;
+	}
+
+	private static int writeExponent( int e, byte[] buf, int offset ) {
+		int		d ;
+
+		buf[offset] = 'E' ; offset++;
+		if( e < 0 ) {
+			buf[offset] = '-' ; offset++;
+			e = -e ;
+		}
+		if( e < 10 ) {
+			buf[offset] = (byte)( '0' + e ) ; offset++;
+			return offset;
+		}
+		if( e >= 100 ) {
+			d = e * 1311 >>> 17 ;
+			buf[offset] = (byte)( '0' + d ) ; offset++;
+			e -= 100 * d ;
+		}
+		buf[offset] = DIGIT_TENS[e] ; offset++;
+		buf[offset] = DIGIT_ONES[e] ; offset++;
+
+		return offset;
+	}
+}
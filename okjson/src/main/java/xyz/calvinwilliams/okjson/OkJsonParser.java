@@ -0,0 +1,3136 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+
+class OkJsonParser {
+	// the pool this parser goes back to, null for a per-thread or private one
+	OkJsonInstancePool<OkJsonParser>	instancePool ;
+	
+	private boolean				strictPolicyEnable ;
+	private boolean				directAccessPropertyEnable ;
+	private boolean				fileMappedEnable ;
+	private boolean				containerSizeHintEnable ;
+	private boolean				prettyFormatEnable ;
+	
+	private Integer				errorCode ;
+	private String				errorDesc ;
+	
+	enum TokenType {
+		TOKEN_TYPE_LEFT_BRACE , // {
+		TOKEN_TYPE_RIGHT_BRACE , // }
+		TOKEN_TYPE_LEFT_BRACKET, // [
+		TOKEN_TYPE_RIGHT_BRACKET, // ]
+		TOKEN_TYPE_COLON, // :
+		TOKEN_TYPE_COMMA, // ,
+		TOKEN_TYPE_STRING, // "ABC"
+		TOKEN_TYPE_INTEGER, // 123
+		TOKEN_TYPE_DECIMAL, // 123.456
+		TOKEN_TYPE_BOOL, // true or false
+		TOKEN_TYPE_NULL // null
+	}
+	
+	// process-wide totals, added to once per parse, not once per key
+	final static LongAdder		keyPredictionHitCount = new LongAdder() ;
+	final static LongAdder		keyPredictionMissCount = new LongAdder() ;
+	
+	// counts of the running parse, by this parser alone
+	long						keyPredictionHits ;
+	long						keyPredictionMisses ;
+	
+	private char[]				jsonCharArray ;
+	private byte[]				jsonByteArray ;
+	private ByteBuffer			jsonByteBuffer ;
+	private int					jsonOffset ;
+	private int					jsonLength ;
+	private StringBuilder		fieldStringBuilder ;
+	
+	private InputStream			jsonInputStream ;
+	private Reader				jsonReader ;
+	private int					streamWindowSize ;
+	
+	final public static int	DEFAULT_STREAM_WINDOW_SIZE = 8192 ;
+	
+	private TokenType			tokenType ;
+	private int					beginOffset ;
+	private int					endOffset ;
+	private boolean				booleanValue ;
+	private long				longValue ;
+	private double				doubleValue ;
+	private float				floatValue ;
+	// elements of the primitive array being read, doubles and floats as raw bits, grown as needed and kept for the next one
+	private long[]				primitiveArrayBuffer ;
+	// one element of a collection, array or map, set by parseElementValue
+	private Object				elementValue ;
+	private boolean				elementMatched ;
+	// one element of a primitive array, set by parsePrimitiveElement
+	private long				primitiveElementBits ;
+	// bracket kinds of the levels skipJsonValue is in, 64 per long
+	private long[]				skipBracketBits = new long[ 1 ] ;
+	private boolean				decimalNegative ;
+	private long				decimalMantissa ;
+	private int					decimalExponent ;
+	
+	final public static int	OKJSON_ERROR_END_OF_BUFFER = 1 ;
+	final public static int	OKJSON_ERROR_UNEXPECT = -4 ;
+	final public static int	OKJSON_ERROR_EXCEPTION = -8 ;
+	final public static int	OKJSON_ERROR_INVALID_BYTE = -11 ;
+	final public static int	OKJSON_ERROR_FIND_FIRST_LEFT_BRACE = -21 ;
+	final public static int	OKJSON_ERROR_NAME_INVALID = -22 ;
+	final public static int	OKJSON_ERROR_EXPECT_COLON_AFTER_NAME = -23 ;
+	final public static int	OKJSON_ERROR_UNEXPECT_TOKEN_AFTER_LEFT_BRACE = -24 ;
+	final public static int	OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT = -26 ;
+	final public static int	OKJSON_ERROR_NUMBER_OVERFLOW = -27 ;
+	final public static int	OKJSON_ERROR_NAME_NOT_FOUND_IN_OBJECT = -28 ;
+	final public static int	OKJSON_ERROR_NEW_OBJECT = -31 ;
+	
+	private int tokenJsonString( char[] jsonCharArray ) {
+		char			ch ;
+		
+		fieldStringBuilder.setLength(0);
+		
+		jsonOffset++;
+		beginOffset = jsonOffset ;
+		while( jsonOffset < jsonLength ) {
+			ch = jsonCharArray[jsonOffset] ;
+			if( ch == '"' ) {
+				tokenType = TokenType.TOKEN_TYPE_STRING ;
+				if( jsonOffset > beginOffset ) {
+					fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset );
+				}
+				endOffset = jsonOffset-1 ;
+				jsonOffset++;
+				return 0;
+			} else if ( ch == '\\' ) {
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonCharArray[jsonOffset] ;
+				if( ch == '"' ) {
+					if( jsonOffset > beginOffset+1 )
+						fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset-1 );
+					fieldStringBuilder.append( '"' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == '\\' ) {
+					if( jsonOffset > beginOffset+1 )
+						fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset-1 );
+					fieldStringBuilder.append( "\\" );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == '/' ) {
+					if( jsonOffset > beginOffset+1 )
+						fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset-1 );
+					fieldStringBuilder.append( '/' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'b' ) {
+					if( jsonOffset > beginOffset+1 )
+						fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset-1 );
+					fieldStringBuilder.append( '\b' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'f' ) {
+					if( jsonOffset > beginOffset+1 )
+						fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset-1 );
+					fieldStringBuilder.append( '\f' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'n' ) {
+					if( jsonOffset > beginOffset+1 )
+						fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset-1 );
+					fieldStringBuilder.append( '\n' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'r' ) {
+					if( jsonOffset > beginOffset+1 )
+						fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset-1 );
+					fieldStringBuilder.append( '\r' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 't' ) {
+					if( jsonOffset > beginOffset+1 )
+						fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset-1 );
+					fieldStringBuilder.append( '\t' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'u' ) {
+					if( jsonOffset > beginOffset+1 )
+						fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset-1 );
+					jsonOffset++;
+					if( jsonOffset >= jsonLength ) {
+						return OKJSON_ERROR_END_OF_BUFFER;
+					}
+					ch = jsonCharArray[jsonOffset] ;
+					if( ('0'<=ch && ch<='9') || ('a'<=ch && ch<='z') || ('A'<=ch && ch<='Z') ) {
+						jsonOffset++;
+						if( jsonOffset >= jsonLength ) {
+							return OKJSON_ERROR_END_OF_BUFFER;
+						}
+						ch = jsonCharArray[jsonOffset] ;
+						if( ('0'<=ch && ch<='9') || ('a'<=ch && ch<='z') || ('A'<=ch && ch<='Z') ) {
+							jsonOffset++;
+							if( jsonOffset >= jsonLength ) {
+								return OKJSON_ERROR_END_OF_BUFFER;
+							}
+							ch = jsonCharArray[jsonOffset] ;
+							if( ('0'<=ch && ch<='9') || ('a'<=ch && ch<='z') || ('A'<=ch && ch<='Z') ) {
+								jsonOffset++;
+								if( jsonOffset >= jsonLength ) {
+									return OKJSON_ERROR_END_OF_BUFFER;
+								}
+								ch = jsonCharArray[jsonOffset] ;
+								if( ('0'<=ch && ch<='9') || ('a'<=ch && ch<='z') || ('A'<=ch && ch<='Z') ) {
+									String unicodeString = "0x" + jsonCharArray[jsonOffset-3] + jsonCharArray[jsonOffset-2] + jsonCharArray[jsonOffset-1] + jsonCharArray[jsonOffset] ;
+									int unicodeInt = Integer.decode(unicodeString).intValue() ;
+									if( fieldStringBuilder.length() == 0 )
+										fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-4-beginOffset-1 );
+									fieldStringBuilder.append( (char)unicodeInt );
+									beginOffset = jsonOffset + 1 ;
+								} else {
+									fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset );
+									beginOffset = jsonOffset ;
+									jsonOffset--;
+								}
+							} else {
+								fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset );
+								beginOffset = jsonOffset ;
+								jsonOffset--;
+							}
+						} else {
+							fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset );
+							beginOffset = jsonOffset ;
+							jsonOffset--;
+						}
+					} else {
+						fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset );
+						beginOffset = jsonOffset ;
+						jsonOffset--;
+					}
+				} else {
+					fieldStringBuilder.append( jsonCharArray, beginOffset, jsonOffset-beginOffset-1 );
+					fieldStringBuilder.append( ch );
+				}
+			}
+			
+			jsonOffset++;
+		}
+		
+		return OKJSON_ERROR_END_OF_BUFFER;
+	}
+	
+	private int tokenJsonNumber( char[] jsonCharArray ) {
+		char	ch ;
+		boolean	decimalPointFlag ;
+		
+		beginOffset = jsonOffset ;
+		
+		ch = jsonCharArray[jsonOffset] ;
+		if( ch == '-' ) {
+			jsonOffset++;
+		}
+		
+		decimalPointFlag = false ;
+		while( jsonOffset < jsonLength ) {
+			ch = jsonCharArray[jsonOffset] ;
+			if( '0' <= ch && ch <= '9' ) {
+				jsonOffset++;
+			} else if( ch == '.' ) {
+				decimalPointFlag = true ;
+				jsonOffset++;
+			} else if( ch == 'e' || ch == 'E' ) {
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonCharArray[jsonOffset] ;
+				if( ch == '-' || ch == '+' ) {
+					jsonOffset++;
+				} else if( '0' <= ch && ch <= '9' ) {
+					jsonOffset++;
+				}
+			} else {
+				if( decimalPointFlag == true )
+					tokenType = TokenType.TOKEN_TYPE_DECIMAL ;
+				else
+					tokenType = TokenType.TOKEN_TYPE_INTEGER ;
+				endOffset = jsonOffset-1 ;
+				return 0;
+			}
+		}
+		
+		return OKJSON_ERROR_END_OF_BUFFER;
+	}
+	
+	private int tokenJsonWord( char[] jsonCharArray ) {
+		char	ch ;
+		
+		while( jsonOffset < jsonLength ) {
+			ch = jsonCharArray[jsonOffset] ;
+			if( ch == ' ' || ch == '\b' || ch == '\t' || ch == '\f' || ch == '\r' || ch == '\n' ) {
+				jsonOffset++;
+			} else if( ch == '{' ) {
+				tokenType = TokenType.TOKEN_TYPE_LEFT_BRACE ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == '}'  ) {
+				tokenType = TokenType.TOKEN_TYPE_RIGHT_BRACE ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == '['  ) {
+				tokenType = TokenType.TOKEN_TYPE_LEFT_BRACKET ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == ']'  ) {
+				tokenType = TokenType.TOKEN_TYPE_RIGHT_BRACKET ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == '"'  ) {
+				return tokenJsonString( jsonCharArray ) ;
+			} else if( ch == ':'  ) {
+				tokenType = TokenType.TOKEN_TYPE_COLON ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == ','  ) {
+				tokenType = TokenType.TOKEN_TYPE_COMMA ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == '-' || ( '0' <= ch && ch <= '9' ) ) {
+				return tokenJsonNumber( jsonCharArray ) ;
+			} else if( ch == 't' ) {
+				beginOffset = jsonOffset ;
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonCharArray[jsonOffset] ;
+				if( ch == 'r' ) {
+					jsonOffset++;
+					if( jsonOffset >= jsonLength ) {
+						return OKJSON_ERROR_END_OF_BUFFER;
+					}
+					ch = jsonCharArray[jsonOffset] ;
+					if( ch == 'u' ) {
+						jsonOffset++;
+						if( jsonOffset >= jsonLength ) {
+							return OKJSON_ERROR_END_OF_BUFFER;
+						}
+						ch = jsonCharArray[jsonOffset] ;
+						if( ch == 'e' ) {
+							tokenType = TokenType.TOKEN_TYPE_BOOL ;
+							booleanValue = true ;
+							endOffset = jsonOffset ;
+							jsonOffset++;
+							return 0;
+						}
+					}
+				}
+			} else if( ch == 'f' ) {
+				beginOffset = jsonOffset ;
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonCharArray[jsonOffset] ;
+				if( ch == 'a' ) {
+					jsonOffset++;
+					if( jsonOffset >= jsonLength ) {
+						return OKJSON_ERROR_END_OF_BUFFER;
+					}
+					ch = jsonCharArray[jsonOffset] ;
+					if( ch == 'l' ) {
+						jsonOffset++;
+						if( jsonOffset >= jsonLength ) {
+							return OKJSON_ERROR_END_OF_BUFFER;
+						}
+						ch = jsonCharArray[jsonOffset] ;
+						if( ch == 's' ) {
+							jsonOffset++;
+							if( jsonOffset >= jsonLength ) {
+								return OKJSON_ERROR_END_OF_BUFFER;
+							}
+							ch = jsonCharArray[jsonOffset] ;
+							if( ch == 'e' ) {
+								tokenType = TokenType.TOKEN_TYPE_BOOL ;
+								booleanValue = false ;
+								endOffset = jsonOffset ;
+								jsonOffset++;
+								return 0;
+							}
+						}
+					}
+				}
+			} else if( ch == 'n' ) {
+				beginOffset = jsonOffset ;
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonCharArray[jsonOffset] ;
+				if( ch == 'u' ) {
+					jsonOffset++;
+					if( jsonOffset >= jsonLength ) {
+						return OKJSON_ERROR_END_OF_BUFFER;
+					}
+					ch = jsonCharArray[jsonOffset] ;
+					if( ch == 'l' ) {
+						jsonOffset++;
+						if( jsonOffset >= jsonLength ) {
+							return OKJSON_ERROR_END_OF_BUFFER;
+						}
+						ch = jsonCharArray[jsonOffset] ;
+						if( ch == 'l' ) {
+							tokenType = TokenType.TOKEN_TYPE_NULL ;
+							booleanValue = true ;
+							endOffset = jsonOffset ;
+							jsonOffset++;
+							return 0;
+						}
+					}
+				}
+			} else {
+				errorDesc = "Invalid byte '" + ch + "'" ;
+				return OKJSON_ERROR_INVALID_BYTE;
+			}
+		}
+		
+		return OKJSON_ERROR_END_OF_BUFFER;
+	}
+	
+	private int tokenJsonString( byte[] jsonByteArray ) {
+		byte			ch ;
+		
+		fieldStringBuilder.setLength(0);
+		
+		jsonOffset++;
+		beginOffset = jsonOffset ;
+		while( jsonOffset < jsonLength ) {
+			ch = jsonByteArray[jsonOffset] ;
+			if( ch == '"' ) {
+				tokenType = TokenType.TOKEN_TYPE_STRING ;
+				endOffset = jsonOffset-1 ;
+				jsonOffset++;
+				return 0;
+			} else if ( ch == '\\' ) {
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonByteArray[jsonOffset] ;
+				if( ch == '"' ) {
+					fieldStringBuilder.append( '"' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == '\\' ) {
+					fieldStringBuilder.append( '\\' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == '/' ) {
+					fieldStringBuilder.append( '/' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'b' ) {
+					fieldStringBuilder.append( '\b' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'f' ) {
+					fieldStringBuilder.append( '\f' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'n' ) {
+					fieldStringBuilder.append( '\n' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'r' ) {
+					fieldStringBuilder.append( '\r' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 't' ) {
+					fieldStringBuilder.append( '\t' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'u' ) {
+					int	unicodeInt = 0 ;
+					int	hexCount ;
+					int	hex ;
+					for( hexCount = 0 ; hexCount < 4 ; hexCount++ ) {
+						jsonOffset++;
+						if( jsonOffset >= jsonLength ) {
+							return OKJSON_ERROR_END_OF_BUFFER;
+						}
+						hex = Character.digit( (char)jsonByteArray[jsonOffset], 16 ) ;
+						if( hex < 0 )
+							break;
+						unicodeInt = (unicodeInt<<4) | hex ;
+					}
+					if( hexCount == 4 ) {
+						fieldStringBuilder.append( (char)unicodeInt );
+						beginOffset = jsonOffset + 1 ;
+					} else {
+						fieldStringBuilder.append( "\\u" );
+						for( hex = jsonOffset-hexCount ; hex < jsonOffset ; hex++ )
+							fieldStringBuilder.append( (char)jsonByteArray[hex] );
+						jsonOffset--;
+					}
+				} else {
+					fieldStringBuilder.append( (char)ch );
+				}
+			} else if( ch >= 0 ) {
+				fieldStringBuilder.append( (char)ch );
+			} else {
+				int nret = tokenJsonUtf8Char( jsonByteArray ) ;
+				if( nret != 0 )
+					return nret;
+			}
+			
+			jsonOffset++;
+		}
+		
+		return OKJSON_ERROR_END_OF_BUFFER;
+	}
+	
+	private int tokenJsonUtf8Char( byte[] jsonByteArray ) {
+		int		c = jsonByteArray[jsonOffset] & 0xFF ;
+		int		count ;
+		int		codePoint ;
+		int		i ;
+		int		b ;
+		
+		if( (c&0xE0) == 0xC0 ) {
+			count = 1 ;
+			codePoint = c & 0x1F ;
+		} else if( (c&0xF0) == 0xE0 ) {
+			count = 2 ;
+			codePoint = c & 0x0F ;
+		} else if( (c&0xF8) == 0xF0 ) {
+			count = 3 ;
+			codePoint = c & 0x07 ;
+		} else {
+			fieldStringBuilder.append( '\uFFFD' );
+			return 0;
+		}
+		
+		if( jsonOffset+count >= jsonLength ) {
+			return OKJSON_ERROR_END_OF_BUFFER;
+		}
+		
+		for( i = 1 ; i <= count ; i++ ) {
+			b = jsonByteArray[jsonOffset+i] & 0xFF ;
+			if( (b&0xC0) != 0x80 ) {
+				fieldStringBuilder.append( '\uFFFD' );
+				jsonOffset += i-1 ;
+				return 0;
+			}
+			codePoint = (codePoint<<6) | (b&0x3F) ;
+		}
+		jsonOffset += count ;
+		
+		if( Character.isValidCodePoint(codePoint) )
+			fieldStringBuilder.appendCodePoint( codePoint );
+		else
+			fieldStringBuilder.append( '\uFFFD' );
+		return 0;
+	}
+	
+	private int tokenJsonNumber( byte[] jsonByteArray ) {
+		byte	ch ;
+		boolean	decimalPointFlag ;
+		
+		beginOffset = jsonOffset ;
+		
+		ch = jsonByteArray[jsonOffset] ;
+		if( ch == '-' ) {
+			jsonOffset++;
+		}
+		
+		decimalPointFlag = false ;
+		while( jsonOffset < jsonLength ) {
+			ch = jsonByteArray[jsonOffset] ;
+			if( '0' <= ch && ch <= '9' ) {
+				jsonOffset++;
+			} else if( ch == '.' ) {
+				decimalPointFlag = true ;
+				jsonOffset++;
+			} else if( ch == 'e' || ch == 'E' ) {
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonByteArray[jsonOffset] ;
+				if( ch == '-' || ch == '+' ) {
+					jsonOffset++;
+				} else if( '0' <= ch && ch <= '9' ) {
+					jsonOffset++;
+				}
+			} else {
+				if( decimalPointFlag == true )
+					tokenType = TokenType.TOKEN_TYPE_DECIMAL ;
+				else
+					tokenType = TokenType.TOKEN_TYPE_INTEGER ;
+				endOffset = jsonOffset-1 ;
+				return 0;
+			}
+		}
+		
+		return OKJSON_ERROR_END_OF_BUFFER;
+	}
+	
+	private int tokenJsonWord( byte[] jsonByteArray ) {
+		byte	ch ;
+		
+		while( jsonOffset < jsonLength ) {
+			ch = jsonByteArray[jsonOffset] ;
+			if( ch == ' ' || ch == '\b' || ch == '\t' || ch == '\f' || ch == '\r' || ch == '\n' ) {
+				jsonOffset++;
+			} else if( ch == '{' ) {
+				tokenType = TokenType.TOKEN_TYPE_LEFT_BRACE ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == '}'  ) {
+				tokenType = TokenType.TOKEN_TYPE_RIGHT_BRACE ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == '['  ) {
+				tokenType = TokenType.TOKEN_TYPE_LEFT_BRACKET ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == ']'  ) {
+				tokenType = TokenType.TOKEN_TYPE_RIGHT_BRACKET ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == '"'  ) {
+				return tokenJsonString( jsonByteArray ) ;
+			} else if( ch == ':'  ) {
+				tokenType = TokenType.TOKEN_TYPE_COLON ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == ','  ) {
+				tokenType = TokenType.TOKEN_TYPE_COMMA ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == '-' || ( '0' <= ch && ch <= '9' ) ) {
+				return tokenJsonNumber( jsonByteArray ) ;
+			} else if( ch == 't' ) {
+				beginOffset = jsonOffset ;
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonByteArray[jsonOffset] ;
+				if( ch == 'r' ) {
+					jsonOffset++;
+					if( jsonOffset >= jsonLength ) {
+						return OKJSON_ERROR_END_OF_BUFFER;
+					}
+					ch = jsonByteArray[jsonOffset] ;
+					if( ch == 'u' ) {
+						jsonOffset++;
+						if( jsonOffset >= jsonLength ) {
+							return OKJSON_ERROR_END_OF_BUFFER;
+						}
+						ch = jsonByteArray[jsonOffset] ;
+						if( ch == 'e' ) {
+							tokenType = TokenType.TOKEN_TYPE_BOOL ;
+							booleanValue = true ;
+							endOffset = jsonOffset ;
+							jsonOffset++;
+							return 0;
+						}
+					}
+				}
+			} else if( ch == 'f' ) {
+				beginOffset = jsonOffset ;
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonByteArray[jsonOffset] ;
+				if( ch == 'a' ) {
+					jsonOffset++;
+					if( jsonOffset >= jsonLength ) {
+						return OKJSON_ERROR_END_OF_BUFFER;
+					}
+					ch = jsonByteArray[jsonOffset] ;
+					if( ch == 'l' ) {
+						jsonOffset++;
+						if( jsonOffset >= jsonLength ) {
+							return OKJSON_ERROR_END_OF_BUFFER;
+						}
+						ch = jsonByteArray[jsonOffset] ;
+						if( ch == 's' ) {
+							jsonOffset++;
+							if( jsonOffset >= jsonLength ) {
+								return OKJSON_ERROR_END_OF_BUFFER;
+							}
+							ch = jsonByteArray[jsonOffset] ;
+							if( ch == 'e' ) {
+								tokenType = TokenType.TOKEN_TYPE_BOOL ;
+								booleanValue = false ;
+								endOffset = jsonOffset ;
+								jsonOffset++;
+								return 0;
+							}
+						}
+					}
+				}
+			} else if( ch == 'n' ) {
+				beginOffset = jsonOffset ;
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonByteArray[jsonOffset] ;
+				if( ch == 'u' ) {
+					jsonOffset++;
+					if( jsonOffset >= jsonLength ) {
+						return OKJSON_ERROR_END_OF_BUFFER;
+					}
+					ch = jsonByteArray[jsonOffset] ;
+					if( ch == 'l' ) {
+						jsonOffset++;
+						if( jsonOffset >= jsonLength ) {
+							return OKJSON_ERROR_END_OF_BUFFER;
+						}
+						ch = jsonByteArray[jsonOffset] ;
+						if( ch == 'l' ) {
+							tokenType = TokenType.TOKEN_TYPE_NULL ;
+							booleanValue = true ;
+							endOffset = jsonOffset ;
+							jsonOffset++;
+							return 0;
+						}
+					}
+				}
+			} else {
+				errorDesc = "Invalid byte '" + (char)ch + "'" ;
+				return OKJSON_ERROR_INVALID_BYTE;
+			}
+		}
+		
+		return OKJSON_ERROR_END_OF_BUFFER;
+	}
+	
+	private int tokenJsonString( ByteBuffer jsonByteBuffer ) {
+		byte			ch ;
+		
+		fieldStringBuilder.setLength(0);
+		
+		jsonOffset++;
+		beginOffset = jsonOffset ;
+		while( jsonOffset < jsonLength ) {
+			ch = jsonByteBuffer.get(jsonOffset) ;
+			if( ch == '"' ) {
+				tokenType = TokenType.TOKEN_TYPE_STRING ;
+				endOffset = jsonOffset-1 ;
+				jsonOffset++;
+				return 0;
+			} else if ( ch == '\\' ) {
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonByteBuffer.get(jsonOffset) ;
+				if( ch == '"' ) {
+					fieldStringBuilder.append( '"' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == '\\' ) {
+					fieldStringBuilder.append( '\\' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == '/' ) {
+					fieldStringBuilder.append( '/' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'b' ) {
+					fieldStringBuilder.append( '\b' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'f' ) {
+					fieldStringBuilder.append( '\f' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'n' ) {
+					fieldStringBuilder.append( '\n' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'r' ) {
+					fieldStringBuilder.append( '\r' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 't' ) {
+					fieldStringBuilder.append( '\t' );
+					beginOffset = jsonOffset + 1 ;
+				} else if( ch == 'u' ) {
+					int	unicodeInt = 0 ;
+					int	hexCount ;
+					int	hex ;
+					for( hexCount = 0 ; hexCount < 4 ; hexCount++ ) {
+						jsonOffset++;
+						if( jsonOffset >= jsonLength ) {
+							return OKJSON_ERROR_END_OF_BUFFER;
+						}
+						hex = Character.digit( (char)jsonByteBuffer.get(jsonOffset), 16 ) ;
+						if( hex < 0 )
+							break;
+						unicodeInt = (unicodeInt<<4) | hex ;
+					}
+					if( hexCount == 4 ) {
+						fieldStringBuilder.append( (char)unicodeInt );
+						beginOffset = jsonOffset + 1 ;
+					} else {
+						fieldStringBuilder.append( "\\u" );
+						for( hex = jsonOffset-hexCount ; hex < jsonOffset ; hex++ )
+							fieldStringBuilder.append( (char)jsonByteBuffer.get(hex) );
+						jsonOffset--;
+					}
+				} else {
+					fieldStringBuilder.append( (char)ch );
+				}
+			} else if( ch >= 0 ) {
+				fieldStringBuilder.append( (char)ch );
+			} else {
+				int nret = tokenJsonUtf8Char( jsonByteBuffer ) ;
+				if( nret != 0 )
+					return nret;
+			}
+			
+			jsonOffset++;
+		}
+		
+		return OKJSON_ERROR_END_OF_BUFFER;
+	}
+	
+	private int tokenJsonUtf8Char( ByteBuffer jsonByteBuffer ) {
+		int		c = jsonByteBuffer.get(jsonOffset) & 0xFF ;
+		int		count ;
+		int		codePoint ;
+		int		i ;
+		int		b ;
+		
+		if( (c&0xE0) == 0xC0 ) {
+			count = 1 ;
+			codePoint = c & 0x1F ;
+		} else if( (c&0xF0) == 0xE0 ) {
+			count = 2 ;
+			codePoint = c & 0x0F ;
+		} else if( (c&0xF8) == 0xF0 ) {
+			count = 3 ;
+			codePoint = c & 0x07 ;
+		} else {
+			fieldStringBuilder.append( '\uFFFD' );
+			return 0;
+		}
+		
+		if( jsonOffset+count >= jsonLength ) {
+			return OKJSON_ERROR_END_OF_BUFFER;
+		}
+		
+		for( i = 1 ; i <= count ; i++ ) {
+			b = jsonByteBuffer.get(jsonOffset+i) & 0xFF ;
+			if( (b&0xC0) != 0x80 ) {
+				fieldStringBuilder.append( '\uFFFD' );
+				jsonOffset += i-1 ;
+				return 0;
+			}
+			codePoint = (codePoint<<6) | (b&0x3F) ;
+		}
+		jsonOffset += count ;
+		
+		if( Character.isValidCodePoint(codePoint) )
+			fieldStringBuilder.appendCodePoint( codePoint );
+		else
+			fieldStringBuilder.append( '\uFFFD' );
+		return 0;
+	}
+	
+	private int tokenJsonNumber( ByteBuffer jsonByteBuffer ) {
+		byte	ch ;
+		boolean	decimalPointFlag ;
+		
+		beginOffset = jsonOffset ;
+		
+		ch = jsonByteBuffer.get(jsonOffset) ;
+		if( ch == '-' ) {
+			jsonOffset++;
+		}
+		
+		decimalPointFlag = false ;
+		while( jsonOffset < jsonLength ) {
+			ch = jsonByteBuffer.get(jsonOffset) ;
+			if( '0' <= ch && ch <= '9' ) {
+				jsonOffset++;
+			} else if( ch == '.' ) {
+				decimalPointFlag = true ;
+				jsonOffset++;
+			} else if( ch == 'e' || ch == 'E' ) {
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonByteBuffer.get(jsonOffset) ;
+				if( ch == '-' || ch == '+' ) {
+					jsonOffset++;
+				} else if( '0' <= ch && ch <= '9' ) {
+					jsonOffset++;
+				}
+			} else {
+				if( decimalPointFlag == true )
+					tokenType = TokenType.TOKEN_TYPE_DECIMAL ;
+				else
+					tokenType = TokenType.TOKEN_TYPE_INTEGER ;
+				endOffset = jsonOffset-1 ;
+				return 0;
+			}
+		}
+		
+		return OKJSON_ERROR_END_OF_BUFFER;
+	}
+	
+	private int tokenJsonWord( ByteBuffer jsonByteBuffer ) {
+		byte	ch ;
+		
+		while( jsonOffset < jsonLength ) {
+			ch = jsonByteBuffer.get(jsonOffset) ;
+			if( ch == ' ' || ch == '\b' || ch == '\t' || ch == '\f' || ch == '\r' || ch == '\n' ) {
+				jsonOffset++;
+			} else if( ch == '{' ) {
+				tokenType = TokenType.TOKEN_TYPE_LEFT_BRACE ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == '}'  ) {
+				tokenType = TokenType.TOKEN_TYPE_RIGHT_BRACE ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == '['  ) {
+				tokenType = TokenType.TOKEN_TYPE_LEFT_BRACKET ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == ']'  ) {
+				tokenType = TokenType.TOKEN_TYPE_RIGHT_BRACKET ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == '"'  ) {
+				return tokenJsonString( jsonByteBuffer ) ;
+			} else if( ch == ':'  ) {
+				tokenType = TokenType.TOKEN_TYPE_COLON ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == ','  ) {
+				tokenType = TokenType.TOKEN_TYPE_COMMA ;
+				beginOffset = jsonOffset ;
+				endOffset = jsonOffset ;
+				jsonOffset++;
+				return 0;
+			} else if( ch == '-' || ( '0' <= ch && ch <= '9' ) ) {
+				return tokenJsonNumber( jsonByteBuffer ) ;
+			} else if( ch == 't' ) {
+				beginOffset = jsonOffset ;
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonByteBuffer.get(jsonOffset) ;
+				if( ch == 'r' ) {
+					jsonOffset++;
+					if( jsonOffset >= jsonLength ) {
+						return OKJSON_ERROR_END_OF_BUFFER;
+					}
+					ch = jsonByteBuffer.get(jsonOffset) ;
+					if( ch == 'u' ) {
+						jsonOffset++;
+						if( jsonOffset >= jsonLength ) {
+							return OKJSON_ERROR_END_OF_BUFFER;
+						}
+						ch = jsonByteBuffer.get(jsonOffset) ;
+						if( ch == 'e' ) {
+							tokenType = TokenType.TOKEN_TYPE_BOOL ;
+							booleanValue = true ;
+							endOffset = jsonOffset ;
+							jsonOffset++;
+							return 0;
+						}
+					}
+				}
+			} else if( ch == 'f' ) {
+				beginOffset = jsonOffset ;
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonByteBuffer.get(jsonOffset) ;
+				if( ch == 'a' ) {
+					jsonOffset++;
+					if( jsonOffset >= jsonLength ) {
+						return OKJSON_ERROR_END_OF_BUFFER;
+					}
+					ch = jsonByteBuffer.get(jsonOffset) ;
+					if( ch == 'l' ) {
+						jsonOffset++;
+						if( jsonOffset >= jsonLength ) {
+							return OKJSON_ERROR_END_OF_BUFFER;
+						}
+						ch = jsonByteBuffer.get(jsonOffset) ;
+						if( ch == 's' ) {
+							jsonOffset++;
+							if( jsonOffset >= jsonLength ) {
+								return OKJSON_ERROR_END_OF_BUFFER;
+							}
+							ch = jsonByteBuffer.get(jsonOffset) ;
+							if( ch == 'e' ) {
+								tokenType = TokenType.TOKEN_TYPE_BOOL ;
+								booleanValue = false ;
+								endOffset = jsonOffset ;
+								jsonOffset++;
+								return 0;
+							}
+						}
+					}
+				}
+			} else if( ch == 'n' ) {
+				beginOffset = jsonOffset ;
+				jsonOffset++;
+				if( jsonOffset >= jsonLength ) {
+					return OKJSON_ERROR_END_OF_BUFFER;
+				}
+				ch = jsonByteBuffer.get(jsonOffset) ;
+				if( ch == 'u' ) {
+					jsonOffset++;
+					if( jsonOffset >= jsonLength ) {
+						return OKJSON_ERROR_END_OF_BUFFER;
+					}
+					ch = jsonByteBuffer.get(jsonOffset) ;
+					if( ch == 'l' ) {
+						jsonOffset++;
+						if( jsonOffset >= jsonLength ) {
+							return OKJSON_ERROR_END_OF_BUFFER;
+						}
+						ch = jsonByteBuffer.get(jsonOffset) ;
+						if( ch == 'l' ) {
+							tokenType = TokenType.TOKEN_TYPE_NULL ;
+							booleanValue = true ;
+							endOffset = jsonOffset ;
+							jsonOffset++;
+							return 0;
+						}
+					}
+				}
+			} else {
+				errorDesc = "Invalid byte '" + (char)ch + "'" ;
+				return OKJSON_ERROR_INVALID_BYTE;
+			}
+		}
+		
+		return OKJSON_ERROR_END_OF_BUFFER;
+	}
+	
+	int tokenJsonWord() {
+		int		tokenOffset ;
+		int		nret ;
+		
+		while(true) {
+			tokenOffset = jsonOffset ;
+			if( jsonByteArray != null )
+				nret = tokenJsonWord( jsonByteArray );
+			else if( jsonByteBuffer != null )
+				nret = tokenJsonWord( jsonByteBuffer );
+			else
+				nret = tokenJsonWord( jsonCharArray );
+			if( nret != OKJSON_ERROR_END_OF_BUFFER || ( jsonInputStream == null && jsonReader == null ) )
+				return nret;
+			
+			// token crosses the end of stream window, refill and token it again
+			jsonOffset = tokenOffset ;
+			nret = fillStreamWindow() ;
+			if( nret != 0 )
+				return nret;
+		}
+	}
+	
+	private int fillStreamWindow() {
+		int		keepLength = jsonLength - jsonOffset ;
+		int		readLength ;
+		
+		try {
+			if( jsonByteArray != null ) {
+				if( keepLength >= jsonByteArray.length ) {
+					jsonByteArray = Arrays.copyOf( jsonByteArray, jsonByteArray.length*2 ) ;
+				}
+				System.arraycopy( jsonByteArray, jsonOffset, jsonByteArray, 0, keepLength );
+				readLength = jsonInputStream.read( jsonByteArray, keepLength, jsonByteArray.length-keepLength ) ;
+			} else {
+				if( keepLength >= jsonCharArray.length ) {
+					jsonCharArray = Arrays.copyOf( jsonCharArray, jsonCharArray.length*2 ) ;
+				}
+				System.arraycopy( jsonCharArray, jsonOffset, jsonCharArray, 0, keepLength );
+				readLength = jsonReader.read( jsonCharArray, keepLength, jsonCharArray.length-keepLength ) ;
+			}
+		} catch (IOException e) {
+			errorDesc = e.getMessage() ;
+			return OKJSON_ERROR_EXCEPTION;
+		}
+		
+		jsonOffset = 0 ;
+		jsonLength = keepLength ;
+		if( readLength <= 0 )
+			return OKJSON_ERROR_END_OF_BUFFER;
+		jsonLength += readLength ;
+		
+		return 0;
+	}
+	
+	/*
+	 * Jump over one value, counting brackets and watching strings only for
+	 * quote and backslash. Nothing is copied or unescaped. Still rejected as
+	 * the tokens would be: a bracket closing what the other kind opened, ':'
+	 * in an array, a scalar not starting as a number or true/false/null, a
+	 * literal misspelt and a number with a char that can not be in one.
+	 */
+	int skipJsonValue() {
+		return skipJsonValue( 0 );
+	}
+	
+	// the rest of an object, or of an array with bracket, whose opening token has been read
+	int skipJsonContainer( boolean bracket ) {
+		pushSkipBracket( 0, bracket );
+		return skipJsonValue( 1 );
+	}
+	
+	private int skipJsonValue( int depth ) {
+		boolean		inString = false ;
+		boolean		escape = false ;
+		boolean		inNumber = false ;
+		String		literal = null ;
+		int			literalIndex = 0 ;
+		char		ch ;
+		int			nret ;
+		
+		while(true) {
+			for( ; jsonOffset < jsonLength ; jsonOffset++ ) {
+				ch = jsonCharAt(jsonOffset) ;
+				if( inString ) {
+					if( escape ) {
+						escape = false ;
+					} else if( ch == '\\' ) {
+						escape = true ;
+					} else if( ch == '"' ) {
+						inString = false ;
+						if( depth == 0 ) {
+							jsonOffset++;
+							return 0;
+						}
+					}
+					continue;
+				}
+				
+				if( literal != null ) {
+					if( literalIndex < literal.length() ) {
+						if( ch != literal.charAt(literalIndex) ) {
+							errorDesc = "Invalid literal, expect '" + literal + "'" ;
+							return OKJSON_ERROR_INVALID_BYTE;
+						}
+						literalIndex++;
+						continue;
+					}
+					literal = null ;
+					if( ! isSkipDelimiter( ch ) ) {
+						errorDesc = "Invalid byte '" + ch + "' after literal" ;
+						return OKJSON_ERROR_INVALID_BYTE;
+					}
+					if( depth == 0 )
+						return 0;
+				} else if( inNumber ) {
+					if( ( ch >= '0' && ch <= '9' ) || ch == '.' || ch == 'e' || ch == 'E' || ch == '+' || ch == '-' )
+						continue;
+					inNumber = false ;
+					if( ! isSkipDelimiter( ch ) ) {
+						errorDesc = "Invalid byte '" + ch + "' in number" ;
+						return OKJSON_ERROR_INVALID_BYTE;
+					}
+					if( depth == 0 )
+						return 0;
+				}
+				
+				if( ch == ' ' || ch == '\t' || ch == '\r' || ch == '\n' ) {
+					continue;
+				} else if( ch == '"' ) {
+					inString = true ;
+				} else if( ch == '{' || ch == '[' ) {
+					pushSkipBracket( depth, ch == '[' );
+					depth++;
+				} else if( ch == '}' || ch == ']' ) {
+					if( depth == 0 || isSkipBracket( depth-1 ) != ( ch == ']' ) ) {
+						errorDesc = "Unexpected '" + ch + "'" ;
+						return OKJSON_ERROR_UNEXPECT;
+					}
+					depth--;
+					if( depth == 0 ) {
+						jsonOffset++;
+						return 0;
+					}
+				} else if( ch == ',' && depth > 0 ) {
+					continue;
+				} else if( ch == ':' && depth > 0 && ! isSkipBracket( depth-1 ) ) {
+					continue;
+				} else if( ch == 't' ) {
+					literal = "true" ;
+					literalIndex = 1 ;
+				} else if( ch == 'f' ) {
+					literal = "false" ;
+					literalIndex = 1 ;
+				} else if( ch == 'n' ) {
+					literal = "null" ;
+					literalIndex = 1 ;
+				} else if( ( ch >= '0' && ch <= '9' ) || ch == '-' ) {
+					inNumber = true ;
+				} else {
+					errorDesc = "Invalid byte '" + ch + "'" ;
+					return OKJSON_ERROR_INVALID_BYTE;
+				}
+			}
+			
+			if( jsonInputStream == null && jsonReader == null ) {
+				// a scalar at the very end is complete as it is
+				if( depth == 0 && ( inNumber || ( literal != null && literalIndex == literal.length() ) ) )
+					return 0;
+				return OKJSON_ERROR_END_OF_BUFFER;
+			}
+			
+			// nothing to keep, the whole window has been skipped
+			nret = fillStreamWindow() ;
+			if( nret != 0 )
+				return nret;
+		}
+	}
+	
+	private static boolean isSkipDelimiter( char ch ) {
+		return ch == ',' || ch == '}' || ch == ']' || ch == ' ' || ch == '\t' || ch == '\r' || ch == '\n' ;
+	}
+	
+	// one bit per nesting level of skipJsonValue, set for '[' and clear for '{'
+	private void pushSkipBracket( int level, boolean bracket ) {
+		if( ( level >> 6 ) >= skipBracketBits.length )
+			skipBracketBits = Arrays.copyOf( skipBracketBits, skipBracketBits.length*2 ) ;
+		if( bracket )
+			skipBracketBits[level>>6] |= ( 1L << level ) ;
+		else
+			skipBracketBits[level>>6] &= ~( 1L << level ) ;
+	}
+	
+	private boolean isSkipBracket( int level ) {
+		return ( skipBracketBits[level>>6] & ( 1L << level ) ) != 0 ;
+	}
+	
+	String copyJsonString( int beginOffset, int endOffset ) {
+		if( jsonByteArray != null ) {
+			return new String( jsonByteArray, beginOffset, endOffset-beginOffset+1, StandardCharsets.UTF_8 );
+		} else if( jsonByteBuffer != null ) {
+			ByteBuffer tokenByteBuffer = jsonByteBuffer.duplicate() ;
+			tokenByteBuffer.limit( endOffset+1 );
+			tokenByteBuffer.position( beginOffset );
+			return StandardCharsets.UTF_8.decode( tokenByteBuffer ).toString();
+		} else
+			return new String( jsonCharArray, beginOffset, endOffset-beginOffset+1 );
+	}
+	
+	char jsonCharAt( int offset ) {
+		if( jsonByteArray != null )
+			return (char)jsonByteArray[offset];
+		else if( jsonByteBuffer != null )
+			return (char)jsonByteBuffer.get(offset);
+		else
+			return jsonCharArray[offset];
+	}
+	
+	// count digits from offset, -1 if one of them is not a digit
+	private int parseJsonDigits( int offset, int count ) {
+		int		value = 0 ;
+		char	ch ;
+		
+		for( ; count > 0 ; count-- ) {
+			ch = jsonCharAt( offset ) ;
+			if( ch < '0' || ch > '9' )
+				return -1;
+			value = value * 10 + ( ch - '0' ) ;
+			offset++;
+		}
+		
+		return value;
+	}
+	
+	/*
+	 * "yyyy-MM-dd", "HH:mm:ss" and "yyyy-MM-dd HH:mm:ss" string tokens read
+	 * straight from the buffer. null when the token has another shape or a
+	 * value the resolver would have to adjust, such as February 30, and then
+	 * the caller goes through the DateTimeFormatter as before.
+	 */
+	LocalDate parseJsonLocalDate( int beginOffset, int endOffset ) {
+		int		year ;
+		int		month ;
+		int		day ;
+		
+		if( endOffset-beginOffset+1 != 10 || jsonCharAt(beginOffset+4) != '-' || jsonCharAt(beginOffset+7) != '-' )
+			return null;
+		year = parseJsonDigits( beginOffset, 4 ) ;
+		month = parseJsonDigits( beginOffset+5, 2 ) ;
+		day = parseJsonDigits( beginOffset+8, 2 ) ;
+		if( year < 1 || month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year)) )
+			return null;
+		
+		return LocalDate.of( year, month, day );
+	}
+	
+	LocalTime parseJsonLocalTime( int beginOffset, int endOffset ) {
+		int		hour ;
+		int		minute ;
+		int		second ;
+		
+		if( endOffset-beginOffset+1 != 8 || jsonCharAt(beginOffset+2) != ':' || jsonCharAt(beginOffset+5) != ':' )
+			return null;
+		hour = parseJsonDigits( beginOffset, 2 ) ;
+		minute = parseJsonDigits( beginOffset+3, 2 ) ;
+		second = parseJsonDigits( beginOffset+6, 2 ) ;
+		if( hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 )
+			return null;
+		
+		return LocalTime.of( hour, minute, second );
+	}
+	
+	LocalDateTime parseJsonLocalDateTime( int beginOffset, int endOffset ) {
+		LocalDate	localDate ;
+		LocalTime	localTime ;
+		
+		if( endOffset-beginOffset+1 != 19 || jsonCharAt(beginOffset+10) != ' ' )
+			return null;
+		localDate = parseJsonLocalDate( beginOffset, beginOffset+9 ) ;
+		if( localDate == null )
+			return null;
+		localTime = parseJsonLocalTime( beginOffset+11, endOffset ) ;
+		if( localTime == null )
+			return null;
+		
+		return LocalDateTime.of( localDate, localTime );
+	}
+	
+	// parse an integer token into longValue, without String or boxing
+	int parseJsonLong( int beginOffset, int endOffset, long minValue, long maxValue ) {
+		int		offset = beginOffset ;
+		boolean	negative = false ;
+		long	limit = -Long.MAX_VALUE ;
+		long	multmin ;
+		long	result = 0 ;
+		int		digit ;
+		
+		if( offset <= endOffset && jsonCharAt(offset) == '-' ) {
+			negative = true ;
+			limit = Long.MIN_VALUE ;
+			offset++;
+		}
+		if( offset > endOffset ) {
+			errorDesc = "invalid integer \""+copyJsonString(beginOffset,endOffset)+"\"" ;
+			return OKJSON_ERROR_INVALID_BYTE;
+		}
+		
+		// accumulate negatively like Long.parseLong, so Long.MIN_VALUE fits
+		multmin = limit / 10 ;
+		for( ; offset <= endOffset ; offset++ ) {
+			digit = jsonCharAt(offset) - '0' ;
+			if( digit < 0 || digit > 9 ) {
+				errorDesc = "invalid integer \""+copyJsonString(beginOffset,endOffset)+"\"" ;
+				return OKJSON_ERROR_INVALID_BYTE;
+			}
+			if( result < multmin ) {
+				errorDesc = "integer overflow \""+copyJsonString(beginOffset,endOffset)+"\"" ;
+				return OKJSON_ERROR_NUMBER_OVERFLOW;
+			}
+			result *= 10 ;
+			if( result < limit + digit ) {
+				errorDesc = "integer overflow \""+copyJsonString(beginOffset,endOffset)+"\"" ;
+				return OKJSON_ERROR_NUMBER_OVERFLOW;
+			}
+			result -= digit ;
+		}
+		
+		if( negative == false )
+			result = -result ;
+		if( result < minValue || result > maxValue ) {
+			errorDesc = "integer overflow \""+copyJsonString(beginOffset,endOffset)+"\"" ;
+			return OKJSON_ERROR_NUMBER_OVERFLOW;
+		}
+		longValue = result ;
+		
+		return 0;
+	}
+	
+	long getLongValue() {
+		return longValue;
+	}
+	
+	// parse a decimal token into doubleValue, a String is only built when the fast paths can not decide
+	int parseJsonDouble( int beginOffset, int endOffset ) {
+		if( scanJsonDecimal( beginOffset, endOffset ) ) {
+			doubleValue = OkJsonDecimalParser.toDouble( decimalNegative, decimalMantissa, decimalExponent ) ;
+			if( ! Double.isNaN(doubleValue) )
+				return 0;
+		}
+		
+		try {
+			doubleValue = Double.parseDouble( copyJsonString(beginOffset,endOffset) ) ;
+		} catch (NumberFormatException e) {
+			errorDesc = "invalid decimal \""+copyJsonString(beginOffset,endOffset)+"\"" ;
+			return OKJSON_ERROR_INVALID_BYTE;
+		}
+		
+		return 0;
+	}
+	
+	int parseJsonFloat( int beginOffset, int endOffset ) {
+		if( scanJsonDecimal( beginOffset, endOffset ) ) {
+			floatValue = OkJsonDecimalParser.toFloat( decimalNegative, decimalMantissa, decimalExponent ) ;
+			if( ! Float.isNaN(floatValue) )
+				return 0;
+		}
+		
+		try {
+			floatValue = Float.parseFloat( copyJsonString(beginOffset,endOffset) ) ;
+		} catch (NumberFormatException e) {
+			errorDesc = "invalid decimal \""+copyJsonString(beginOffset,endOffset)+"\"" ;
+			return OKJSON_ERROR_INVALID_BYTE;
+		}
+		
+		return 0;
+	}
+	
+	/*
+	 * Split a number token into sign, at most 19 significant digits and a
+	 * decimal exponent. Returns false for anything else, which the caller
+	 * then leaves to Double.parseDouble/Float.parseFloat.
+	 */
+	private boolean scanJsonDecimal( int beginOffset, int endOffset ) {
+		int		offset = beginOffset ;
+		long	mantissa = 0 ;
+		int		digitCount = 0 ;
+		int		exponent = 0 ;
+		int		explicitExponent = 0 ;
+		boolean	explicitExponentNegative = false ;
+		int		integerDigitCount = 0 ;
+		int		fractionDigitCount = 0 ;
+		int		exponentDigitCount = 0 ;
+		int		digit ;
+		char	ch ;
+		
+		decimalNegative = false ;
+		if( offset <= endOffset && jsonCharAt(offset) == '-' ) {
+			decimalNegative = true ;
+			offset++;
+		}
+		
+		for( ; offset <= endOffset ; offset++ ) {
+			digit = jsonCharAt(offset) - '0' ;
+			if( digit < 0 || digit > 9 )
+				break;
+			integerDigitCount++;
+			if( mantissa == 0 && digit == 0 )
+				continue;
+			if( digitCount >= 19 )
+				return false;
+			mantissa = mantissa*10 + digit ;
+			digitCount++;
+		}
+		
+		if( offset <= endOffset && jsonCharAt(offset) == '.' ) {
+			for( offset++ ; offset <= endOffset ; offset++ ) {
+				digit = jsonCharAt(offset) - '0' ;
+				if( digit < 0 || digit > 9 )
+					break;
+				fractionDigitCount++;
+				exponent--;
+				if( mantissa == 0 && digit == 0 )
+					continue;
+				if( digitCount >= 19 )
+					return false;
+				mantissa = mantissa*10 + digit ;
+				digitCount++;
+			}
+			if( fractionDigitCount == 0 )
+				return false;
+		}
+		if( integerDigitCount == 0 )
+			return false;
+		
+		if( offset <= endOffset ) {
+			ch = jsonCharAt(offset) ;
+			if( ch != 'e' && ch != 'E' )
+				return false;
+			offset++;
+			if( offset <= endOffset ) {
+				ch = jsonCharAt(offset) ;
+				if( ch == '-' ) {
+					explicitExponentNegative = true ;
+					offset++;
+				} else if( ch == '+' ) {
+					offset++;
+				}
+			}
+			for( ; offset <= endOffset ; offset++ ) {
+				digit = jsonCharAt(offset) - '0' ;
+				if( digit < 0 || digit > 9 )
+					return false;
+				exponentDigitCount++;
+				// saturate, anything this large is zero or infinity anyway
+				if( explicitExponent < 100000 )
+					explicitExponent = explicitExponent*10 + digit ;
+			}
+			if( exponentDigitCount == 0 )
+				return false;
+			if( explicitExponentNegative )
+				exponent -= explicitExponent ;
+			else
+				exponent += explicitExponent ;
+		}
+		
+		decimalMantissa = mantissa ;
+		decimalExponent = exponent ;
+		
+		return true;
+	}
+	
+	double getDoubleValue() {
+		return doubleValue;
+	}
+	
+	float getFloatValue() {
+		return floatValue;
+	}
+	
+	TokenType getTokenType() {
+		return tokenType;
+	}
+	
+	int getBeginOffset() {
+		return beginOffset;
+	}
+	
+	int getEndOffset() {
+		return endOffset;
+	}
+	
+	boolean getBooleanValue() {
+		return booleanValue;
+	}
+	
+	StringBuilder getFieldStringBuilder() {
+		return fieldStringBuilder;
+	}
+	
+	int getJsonOffset() {
+		return jsonOffset;
+	}
+	
+	Object getElementValue() {
+		return elementValue;
+	}
+	
+	boolean getElementMatched() {
+		return elementMatched;
+	}
+	
+	long getPrimitiveElementBits() {
+		return primitiveElementBits;
+	}
+	
+	/*
+	 * One scalar element of a collection, an array or a map to elementValue.
+	 * elementMatched is false when the token does not fit the element kind,
+	 * null always fits.
+	 */
+	int parseElementValue( TokenType valueTokenType, int valueBeginOffset, int valueEndOffset, OkJsonFieldTable.FieldEntry fieldEntry ) {
+		
+		int		nret ;
+		
+		elementValue = null ;
+		elementMatched = true ;
+		if( valueTokenType == TokenType.TOKEN_TYPE_NULL )
+			return 0;
+		
+		try {
+			switch( fieldEntry.elementKind ) {
+				case OkJsonFieldTable.FIELDKIND_STRING :
+					if( valueTokenType == TokenType.TOKEN_TYPE_STRING ) {
+						if( fieldStringBuilder.length() > 0 ) {
+							elementValue = fieldStringBuilder.toString() ;
+						} else {
+							elementValue = copyJsonString(valueBeginOffset,valueEndOffset) ;
+						}
+						return 0;
+					}
+					break;
+				case OkJsonFieldTable.FIELDKIND_BYTE_OBJECT :
+					if( valueTokenType == TokenType.TOKEN_TYPE_INTEGER ) {
+						nret = parseJsonLong( valueBeginOffset, valueEndOffset, Byte.MIN_VALUE, Byte.MAX_VALUE ) ;
+						if( nret != 0 )
+							return nret;
+						elementValue = Byte.valueOf( (byte)longValue ) ;
+						return 0;
+					}
+					break;
+				case OkJsonFieldTable.FIELDKIND_SHORT_OBJECT :
+					if( valueTokenType == TokenType.TOKEN_TYPE_INTEGER ) {
+						nret = parseJsonLong( valueBeginOffset, valueEndOffset, Short.MIN_VALUE, Short.MAX_VALUE ) ;
+						if( nret != 0 )
+							return nret;
+						elementValue = Short.valueOf( (short)longValue ) ;
+						return 0;
+					}
+					break;
+				case OkJsonFieldTable.FIELDKIND_INTEGER_OBJECT :
+					if( valueTokenType == TokenType.TOKEN_TYPE_INTEGER ) {
+						nret = parseJsonLong( valueBeginOffset, valueEndOffset, Integer.MIN_VALUE, Integer.MAX_VALUE ) ;
+						if( nret != 0 )
+							return nret;
+						elementValue = Integer.valueOf( (int)longValue ) ;
+						return 0;
+					}
+					break;
+				case OkJsonFieldTable.FIELDKIND_LONG_OBJECT :
+					if( valueTokenType == TokenType.TOKEN_TYPE_INTEGER ) {
+						nret = parseJsonLong( valueBeginOffset, valueEndOffset, Long.MIN_VALUE, Long.MAX_VALUE ) ;
+						if( nret != 0 )
+							return nret;
+						elementValue = Long.valueOf( longValue ) ;
+						return 0;
+					}
+					break;
+				case OkJsonFieldTable.FIELDKIND_FLOAT_OBJECT :
+					if( valueTokenType == TokenType.TOKEN_TYPE_DECIMAL ) {
+						nret = parseJsonFloat( valueBeginOffset, valueEndOffset ) ;
+						if( nret != 0 )
+							return nret;
+						elementValue = Float.valueOf( floatValue ) ;
+						return 0;
+					}
+					break;
+				case OkJsonFieldTable.FIELDKIND_DOUBLE_OBJECT :
+					if( valueTokenType == TokenType.TOKEN_TYPE_DECIMAL ) {
+						nret = parseJsonDouble( valueBeginOffset, valueEndOffset ) ;
+						if( nret != 0 )
+							return nret;
+						elementValue = Double.valueOf( doubleValue ) ;
+						return 0;
+					}
+					break;
+				case OkJsonFieldTable.FIELDKIND_BOOLEAN_OBJECT :
+					if( valueTokenType == TokenType.TOKEN_TYPE_BOOL ) {
+						elementValue = Boolean.valueOf( booleanValue ) ;
+						return 0;
+					}
+					break;
+				case OkJsonFieldTable.FIELDKIND_LOCALDATE :
+					if( valueTokenType == TokenType.TOKEN_TYPE_STRING ) {
+						LocalDate localDate = null ;
+						if( fieldEntry.dateTimeFormat == null )
+							localDate = parseJsonLocalDate( valueBeginOffset, valueEndOffset ) ;
+						if( localDate == null )
+							localDate = LocalDate.parse( copyJsonString(valueBeginOffset,valueEndOffset), OkJsonFieldTable.formatterOf( fieldEntry.dateTimeFormatter, fieldEntry.dateTimeFormat ) ) ;
+						elementValue = localDate ;
+						return 0;
+					}
+					break;
+				case OkJsonFieldTable.FIELDKIND_LOCALTIME :
+					if( valueTokenType == TokenType.TOKEN_TYPE_STRING ) {
+						LocalTime localTime = null ;
+						if( fieldEntry.dateTimeFormat == null )
+							localTime = parseJsonLocalTime( valueBeginOffset, valueEndOffset ) ;
+						if( localTime == null )
+							localTime = LocalTime.parse( copyJsonString(valueBeginOffset,valueEndOffset), OkJsonFieldTable.formatterOf( fieldEntry.dateTimeFormatter, fieldEntry.dateTimeFormat ) ) ;
+						elementValue = localTime ;
+						return 0;
+					}
+					break;
+				case OkJsonFieldTable.FIELDKIND_LOCALDATETIME :
+					if( valueTokenType == TokenType.TOKEN_TYPE_STRING ) {
+						LocalDateTime localDateTime = null ;
+						if( fieldEntry.dateTimeFormat == null )
+							localDateTime = parseJsonLocalDateTime( valueBeginOffset, valueEndOffset ) ;
+						if( localDateTime == null )
+							localDateTime = LocalDateTime.parse( copyJsonString(valueBeginOffset,valueEndOffset), OkJsonFieldTable.formatterOf( fieldEntry.dateTimeFormatter, fieldEntry.dateTimeFormat ) ) ;
+						elementValue = localDateTime ;
+						return 0;
+					}
+					break;
+				case OkJsonFieldTable.FIELDKIND_ANY :
+					// the Java value the JSON one reads as, an integer too large for a Long as a Double
+					if( valueTokenType == TokenType.TOKEN_TYPE_STRING ) {
+						if( fieldStringBuilder.length() > 0 ) {
+							elementValue = fieldStringBuilder.toString() ;
+						} else {
+							elementValue = copyJsonString(valueBeginOffset,valueEndOffset) ;
+						}
+						return 0;
+					} else if( valueTokenType == TokenType.TOKEN_TYPE_INTEGER ) {
+						nret = parseJsonLong( valueBeginOffset, valueEndOffset, Long.MIN_VALUE, Long.MAX_VALUE ) ;
+						if( nret == 0 ) {
+							elementValue = Long.valueOf( longValue ) ;
+							return 0;
+						} else if( nret != OKJSON_ERROR_NUMBER_OVERFLOW ) {
+							return nret;
+						}
+						errorDesc = null ;
+						nret = parseJsonDouble( valueBeginOffset, valueEndOffset ) ;
+						if( nret != 0 )
+							return nret;
+						elementValue = Double.valueOf( doubleValue ) ;
+						return 0;
+					} else if( valueTokenType == TokenType.TOKEN_TYPE_DECIMAL ) {
+						nret = parseJsonDouble( valueBeginOffset, valueEndOffset ) ;
+						if( nret != 0 )
+							return nret;
+						elementValue = Double.valueOf( doubleValue ) ;
+						return 0;
+					} else if( valueTokenType == TokenType.TOKEN_TYPE_BOOL ) {
+						elementValue = Boolean.valueOf( booleanValue ) ;
+						return 0;
+					}
+					break;
+				default :
+					break;
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+			return OKJSON_ERROR_EXCEPTION;
+		}
+		
+		elementMatched = false ;
+		return 0;
+	}
+	
+	int addArrayObject( TokenType valueTokenType, int valueBeginOffset, int valueEndOffset, Object object, OkJsonFieldTable.FieldEntry fieldEntry ) {
+
+		int		nret ;
+		
+		try {
+			if( fieldEntry.kind == OkJsonFieldTable.FIELDKIND_LIST || fieldEntry.kind == OkJsonFieldTable.FIELDKIND_OBJECT_ARRAY ) {
+				nret = parseElementValue( valueTokenType, valueBeginOffset, valueEndOffset, fieldEntry ) ;
+				if( nret != 0 )
+					return nret;
+				if( elementMatched == false ) {
+					if( strictPolicyEnable == true )
+						return OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT;
+				} else if( elementValue != null || object instanceof List ) {
+					// sets and queues do not all take null, lists and arrays keep its place
+					((Collection<Object>) object).add( elementValue );
+				}
+			} else {
+				if( strictPolicyEnable == true )
+					return OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT;
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+			return OKJSON_ERROR_EXCEPTION;
+		}
+
+		return 0;
+	}
+
+	/*
+	 * Elements of an int[], long[], double[] ... field go to primitiveArrayBuffer
+	 * without boxing, then the array is allocated once at its final length.
+	 * Integers are also taken by float[] and double[].
+	 */
+	private int stringToPrimitiveArray( Object object, OkJsonFieldTable.FieldEntry fieldEntry ) {
+		
+		int		nret ;
+		
+		nret = stringToPrimitiveArrayValue( fieldEntry ) ;
+		if( nret != 0 )
+			return nret;
+		
+		return setContainerProperty( object, fieldEntry, elementValue );
+	}
+	
+	// the array left in elementValue, also for an element that is a primitive array
+	private int stringToPrimitiveArrayValue( OkJsonFieldTable.FieldEntry fieldEntry ) {
+		
+		long[]				buffer = primitiveArrayBuffer ;
+		int					elementKind = fieldEntry.elementKind ;
+		int					elementCount = 0 ;
+		int					nret ;
+		
+		if( buffer == null ) {
+			buffer = new long[64] ;
+			primitiveArrayBuffer = buffer ;
+		}
+		
+		while(true) {
+			// token value or ']'
+			nret = tokenJsonWord() ;
+			if( nret == OKJSON_ERROR_END_OF_BUFFER ) {
+				break;
+			}
+			if( nret != 0 ) {
+				return nret;
+			}
+			
+			if( tokenType == TokenType.TOKEN_TYPE_RIGHT_BRACKET && elementCount == 0 ) {
+				break;
+			} else if( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACE ) {
+				if( strictPolicyEnable == true )
+					return containerNotMatched( fieldEntry, true, false );
+				nret = stringToObjectProperties( null ) ;
+				if( nret != 0 )
+					return nret;
+			} else if( tokenType == TokenType.TOKEN_TYPE_STRING || tokenType == TokenType.TOKEN_TYPE_INTEGER || tokenType == TokenType.TOKEN_TYPE_DECIMAL || tokenType == TokenType.TOKEN_TYPE_BOOL || tokenType == TokenType.TOKEN_TYPE_NULL ) {
+				nret = parsePrimitiveElement( tokenType, beginOffset, endOffset, elementKind ) ;
+				if( nret != 0 )
+					return nret;
+				if( elementMatched ) {
+					if( elementCount == buffer.length ) {
+						buffer = Arrays.copyOf( buffer, buffer.length*2 ) ;
+						primitiveArrayBuffer = buffer ;
+					}
+					buffer[elementCount] = primitiveElementBits ;
+					elementCount++;
+				}
+			} else {
+				errorDesc = "unexpect \""+copyJsonString(beginOffset,endOffset)+"\"" ;
+				return OKJSON_ERROR_UNEXPECT_TOKEN_AFTER_LEFT_BRACE;
+			}
+			
+			// token ',' or ']'
+			nret = tokenJsonWord() ;
+			if( nret == OKJSON_ERROR_END_OF_BUFFER ) {
+				break;
+			}
+			if( nret != 0 ) {
+				return nret;
+			}
+			
+			if( tokenType == TokenType.TOKEN_TYPE_COMMA ) {
+				;
+			} else if( tokenType == TokenType.TOKEN_TYPE_RIGHT_BRACKET ) {
+				break;
+			} else {
+				errorDesc = "unexpect \""+copyJsonString(beginOffset,endOffset)+"\"" ;
+				return OKJSON_ERROR_UNEXPECT_TOKEN_AFTER_LEFT_BRACE;
+			}
+		}
+		
+		elementValue = newPrimitiveArray( elementKind, buffer, elementCount ) ;
+		
+		return 0;
+	}
+	
+	/*
+	 * One scalar element of a primitive array to primitiveElementBits, doubles
+	 * and floats as raw bits. elementMatched is false when it does not fit,
+	 * null included.
+	 */
+	int parsePrimitiveElement( TokenType valueTokenType, int valueBeginOffset, int valueEndOffset, int elementKind ) {
+		
+		int		nret = 0 ;
+		
+		primitiveElementBits = 0 ;
+		elementMatched = true ;
+		if( elementKind == OkJsonFieldTable.FIELDKIND_BOOLEAN && valueTokenType == TokenType.TOKEN_TYPE_BOOL ) {
+			primitiveElementBits = ( booleanValue ? 1 : 0 ) ;
+		} else if( valueTokenType == TokenType.TOKEN_TYPE_INTEGER && elementKind == OkJsonFieldTable.FIELDKIND_BYTE ) {
+			nret = parseJsonLong( valueBeginOffset, valueEndOffset, Byte.MIN_VALUE, Byte.MAX_VALUE ) ;
+			primitiveElementBits = longValue ;
+		} else if( valueTokenType == TokenType.TOKEN_TYPE_INTEGER && elementKind == OkJsonFieldTable.FIELDKIND_SHORT ) {
+			nret = parseJsonLong( valueBeginOffset, valueEndOffset, Short.MIN_VALUE, Short.MAX_VALUE ) ;
+			primitiveElementBits = longValue ;
+		} else if( valueTokenType == TokenType.TOKEN_TYPE_INTEGER && elementKind == OkJsonFieldTable.FIELDKIND_INT ) {
+			nret = parseJsonLong( valueBeginOffset, valueEndOffset, Integer.MIN_VALUE, Integer.MAX_VALUE ) ;
+			primitiveElementBits = longValue ;
+		} else if( valueTokenType == TokenType.TOKEN_TYPE_INTEGER && elementKind == OkJsonFieldTable.FIELDKIND_LONG ) {
+			nret = parseJsonLong( valueBeginOffset, valueEndOffset, Long.MIN_VALUE, Long.MAX_VALUE ) ;
+			primitiveElementBits = longValue ;
+		} else if( ( valueTokenType == TokenType.TOKEN_TYPE_DECIMAL || valueTokenType == TokenType.TOKEN_TYPE_INTEGER ) && elementKind == OkJsonFieldTable.FIELDKIND_FLOAT ) {
+			nret = parseJsonFloat( valueBeginOffset, valueEndOffset ) ;
+			primitiveElementBits = Float.floatToRawIntBits( floatValue ) ;
+		} else if( ( valueTokenType == TokenType.TOKEN_TYPE_DECIMAL || valueTokenType == TokenType.TOKEN_TYPE_INTEGER ) && elementKind == OkJsonFieldTable.FIELDKIND_DOUBLE ) {
+			nret = parseJsonDouble( valueBeginOffset, valueEndOffset ) ;
+			primitiveElementBits = Double.doubleToRawLongBits( doubleValue ) ;
+		} else if( strictPolicyEnable == true ) {
+			return OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT;
+		} else {
+			// a primitive array has no place for null or another type
+			elementMatched = false ;
+		}
+		
+		return nret;
+	}
+	
+	static Object newPrimitiveArray( int elementKind, long[] buffer, int elementCount ) {
+		int		i ;
+		
+		switch( elementKind ) {
+			case OkJsonFieldTable.FIELDKIND_BOOLEAN :
+				boolean[] booleanArray = new boolean[elementCount] ;
+				for( i = 0 ; i < elementCount ; i++ )
+					booleanArray[i] = ( buffer[i] != 0 ) ;
+				return booleanArray;
+			case OkJsonFieldTable.FIELDKIND_BYTE :
+				byte[] byteArray = new byte[elementCount] ;
+				for( i = 0 ; i < elementCount ; i++ )
+					byteArray[i] = (byte)buffer[i] ;
+				return byteArray;
+			case OkJsonFieldTable.FIELDKIND_SHORT :
+				short[] shortArray = new short[elementCount] ;
+				for( i = 0 ; i < elementCount ; i++ )
+					shortArray[i] = (short)buffer[i] ;
+				return shortArray;
+			case OkJsonFieldTable.FIELDKIND_INT :
+				int[] intArray = new int[elementCount] ;
+				for( i = 0 ; i < elementCount ; i++ )
+					intArray[i] = (int)buffer[i] ;
+				return intArray;
+			case OkJsonFieldTable.FIELDKIND_LONG :
+				return Arrays.copyOf( buffer, elementCount );
+			case OkJsonFieldTable.FIELDKIND_FLOAT :
+				float[] floatArray = new float[elementCount] ;
+				for( i = 0 ; i < elementCount ; i++ )
+					floatArray[i] = Float.intBitsToFloat( (int)buffer[i] ) ;
+				return floatArray;
+			default :
+				double[] doubleArray = new double[elementCount] ;
+				for( i = 0 ; i < elementCount ; i++ )
+					doubleArray[i] = Double.longBitsToDouble( buffer[i] ) ;
+				return doubleArray;
+		}
+	}
+	
+	/*
+	 * Elements of a collection field, or of the list an array field is read in
+	 * first. Called with null and null to jump over an array.
+	 */
+	private int stringToArrayObject( Object object, OkJsonFieldTable.FieldEntry fieldEntry ) {
+		
+		int					elementCount = 0 ;
+		int					nret ;
+		
+		while(true) {
+			// token "value" or '{' or '[' or ']'
+			nret = tokenJsonWord() ;
+			if( nret == OKJSON_ERROR_END_OF_BUFFER ) {
+				break;
+			}
+			if( nret != 0 ) {
+				return nret;
+			}
+			
+			if( tokenType == TokenType.TOKEN_TYPE_RIGHT_BRACKET && elementCount == 0 ) {
+				break;
+			} else if( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACE ) {
+				try {
+					if( object != null && fieldEntry != null && fieldEntry.elementEntry != null && fieldEntry.elementEntry.kind == OkJsonFieldTable.FIELDKIND_MAP ) {
+						nret = stringToMapValue( fieldEntry.elementEntry ) ;
+						if( nret != 0 )
+							return nret;
+						
+						((Collection<Object>) object).add( elementValue );
+					} else if( object != null && fieldEntry != null && fieldEntry.elementKind == OkJsonFieldTable.FIELDKIND_OTHER && fieldEntry.elementType != null ) {
+						Object childObject = OkJsonCodecRegistry.newInstance( fieldEntry.elementType ) ;
+						nret = stringToObjectProperties( childObject ) ;
+						if( nret != 0 )
+							return nret;
+						
+						((Collection<Object>) object).add( childObject );
+					} else {
+						if( fieldEntry != null && strictPolicyEnable == true )
+							return containerNotMatched( fieldEntry, true, false );
+						nret = stringToObjectProperties( null ) ;
+						if( nret != 0 )
+							return nret;
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+					return OKJSON_ERROR_EXCEPTION;
+				}
+			} else if( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACKET ) {
+				if( object != null && fieldEntry != null && fieldEntry.elementEntry != null && fieldEntry.elementEntry.kind != OkJsonFieldTable.FIELDKIND_MAP ) {
+					nret = stringToArrayValue( fieldEntry.elementEntry ) ;
+					if( nret != 0 )
+						return nret;
+					
+					((Collection<Object>) object).add( elementValue );
+				} else {
+					if( fieldEntry != null && strictPolicyEnable == true )
+						return containerNotMatched( fieldEntry, true, true );
+					nret = stringToArrayObject( null, null ) ;
+					if( nret != 0 )
+						return nret;
+				}
+			} else if( tokenType == TokenType.TOKEN_TYPE_STRING || tokenType == TokenType.TOKEN_TYPE_INTEGER || tokenType == TokenType.TOKEN_TYPE_DECIMAL || tokenType == TokenType.TOKEN_TYPE_BOOL || tokenType == TokenType.TOKEN_TYPE_NULL ) {
+				// add value before next token, a stream window refill may move it
+				if( object != null && fieldEntry != null ) {
+					errorCode = addArrayObject( tokenType, beginOffset, endOffset , object, fieldEntry ) ;
+					if( errorCode != 0 )
+						return errorCode;
+				}
+			} else {
+				errorDesc = "unexpect \""+copyJsonString(beginOffset,endOffset)+"\"" ;
+				return OKJSON_ERROR_UNEXPECT_TOKEN_AFTER_LEFT_BRACE;
+			}
+			elementCount++;
+			
+			// token ',' or ']'
+			nret = tokenJsonWord() ;
+			if( nret == OKJSON_ERROR_END_OF_BUFFER ) {
+				break;
+			}
+			if( nret != 0 ) {
+				return nret;
+			}
+			
+			if( tokenType == TokenType.TOKEN_TYPE_COMMA ) {
+				;
+			} else if( tokenType == TokenType.TOKEN_TYPE_RIGHT_BRACKET ) {
+				break;
+			} else {
+				errorDesc = "unexpect \""+copyJsonString(beginOffset,endOffset)+"\"" ;
+				return OKJSON_ERROR_UNEXPECT_TOKEN_AFTER_LEFT_BRACE;
+			}
+		}
+		
+		return 0;
+	}
+	
+	// the size a container is created with, the element count of the last one of the field
+	int containerSizeHintOf( OkJsonFieldTable.FieldEntry fieldEntry ) {
+		if( containerSizeHintEnable == true )
+			return fieldEntry.containerSizeHint;
+		else
+			return 0;
+	}
+	
+	// capped at MAX_CONTAINER_SIZE_HINT, past it the container grows as usual
+	void setContainerSizeHint( OkJsonFieldTable.FieldEntry fieldEntry, int size ) {
+		if( containerSizeHintEnable == true )
+			fieldEntry.containerSizeHint = Math.min( size, OkJsonFieldTable.MAX_CONTAINER_SIZE_HINT ) ;
+	}
+	
+	int setContainerProperty( Object object, OkJsonFieldTable.FieldEntry fieldEntry, Object value ) {
+		try {
+			if( fieldEntry.field != null ) {
+				fieldEntry.field.set( object, value );
+			} else {
+				fieldEntry.accessor.setObject( object, fieldEntry.accessorIndex, value );
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+			return OKJSON_ERROR_EXCEPTION;
+		}
+		
+		return 0;
+	}
+	
+	/*
+	 * A List, Set, Queue ... field is filled in its container type, ArrayList
+	 * for an interface List and so on. An array field is read in an ArrayList,
+	 * then copied to an array of its component type.
+	 */
+	private int stringToCollectionObject( Object object, OkJsonFieldTable.FieldEntry fieldEntry ) {
+		
+		int		nret ;
+		
+		nret = stringToCollectionValue( fieldEntry ) ;
+		if( nret != 0 )
+			return nret;
+		
+		return setContainerProperty( object, fieldEntry, elementValue );
+	}
+	
+	// the collection or array left in elementValue, also for an element that is one
+	private int stringToCollectionValue( OkJsonFieldTable.FieldEntry fieldEntry ) {
+		
+		int					sizeHint = containerSizeHintOf( fieldEntry ) ;
+		Collection<Object>	collection ;
+		Object				value ;
+		int					nret ;
+		
+		try {
+			if( fieldEntry.kind == OkJsonFieldTable.FIELDKIND_OBJECT_ARRAY ) {
+				collection = new ArrayList<Object>( sizeHint > 0 ? sizeHint : 10 ) ;
+			} else {
+				collection = (Collection<Object>)OkJsonFieldTable.newContainer( fieldEntry.containerType, sizeHint ) ;
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+			return OKJSON_ERROR_NEW_OBJECT;
+		}
+		
+		nret = stringToArrayObject( collection, fieldEntry ) ;
+		if( nret != 0 )
+			return nret;
+		
+		setContainerSizeHint( fieldEntry, collection.size() );
+		
+		if( fieldEntry.kind == OkJsonFieldTable.FIELDKIND_OBJECT_ARRAY ) {
+			try {
+				value = collection.toArray( (Object[])Array.newInstance( fieldEntry.elementType, collection.size() ) ) ;
+			} catch (Exception e) {
+				e.printStackTrace();
+				return OKJSON_ERROR_EXCEPTION;
+			}
+		} else {
+			value = collection ;
+		}
+		
+		elementValue = value ;
+		return 0;
+	}
+	
+	// an element that is a collection, an array or a primitive array, left in elementValue
+	private int stringToArrayValue( OkJsonFieldTable.FieldEntry fieldEntry ) {
+		if( fieldEntry.kind == OkJsonFieldTable.FIELDKIND_PRIMITIVE_ARRAY )
+			return stringToPrimitiveArrayValue( fieldEntry );
+		else
+			return stringToCollectionValue( fieldEntry );
+	}
+	
+	// a '{' or '[' the field, or its element with element, has no place for
+	int containerNotMatched( OkJsonFieldTable.FieldEntry fieldEntry, boolean element, boolean bracket ) {
+		Class<?>	type = ( element ? fieldEntry.elementType : fieldEntry.type ) ;
+		
+		errorDesc = "unexpect " + ( bracket ? "an array" : "an object" ) + ( element ? " for an element of field \"" : " for field \"" ) + new String(fieldEntry.fieldName) + "\" of type " + ( type != null ? type.getName() : "unknown" ) ;
+		return OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT;
+	}
+	
+	/*
+	 * A Map<String,V> field, each name of the JSON object is a key and its
+	 * value goes as an element of the value type, objects included.
+	 */
+	private int stringToMapObject( Object object, OkJsonFieldTable.FieldEntry fieldEntry ) {
+		
+		int		nret ;
+		
+		nret = stringToMapValue( fieldEntry ) ;
+		if( nret != 0 )
+			return nret;
+		
+		return setContainerProperty( object, fieldEntry, elementValue );
+	}
+	
+	// the map left in elementValue, also for an element that is one
+	private int stringToMapValue( OkJsonFieldTable.FieldEntry fieldEntry ) {
+		
+		Map<String,Object>	map ;
+		String				key ;
+		int					memberCount = 0 ;
+		int					nret ;
+		
+		try {
+			map = (Map<String,Object>)OkJsonFieldTable.newContainer( fieldEntry.containerType, containerSizeHintOf( fieldEntry ) ) ;
+		} catch (Exception e) {
+			e.printStackTrace();
+			return OKJSON_ERROR_NEW_OBJECT;
+		}
+		
+		while(true) {
+			// token "name" or '}'
+			nret = tokenJsonWord() ;
+			if( nret == OKJSON_ERROR_END_OF_BUFFER ) {
+				break;
+			}
+			if( nret != 0 ) {
+				return nret;
+			}
+			
+			if( tokenType == TokenType.TOKEN_TYPE_RIGHT_BRACE && memberCount == 0 ) {
+				break;
+			} else if( tokenType != TokenType.TOKEN_TYPE_STRING ) {
+				errorDesc = "expect a name but \""+copyJsonString(beginOffset,endOffset)+"\"" ;
+				return OKJSON_ERROR_NAME_INVALID;
+			}
+			
+			if( fieldStringBuilder.length() > 0 ) {
+				key = fieldStringBuilder.toString() ;
+			} else {
+				key = copyJsonString(beginOffset,endOffset) ;
+			}
+			
+			// token ':'
+			nret = tokenJsonWord() ;
+			if( nret == OKJSON_ERROR_END_OF_BUFFER ) {
+				break;
+			}
+			if( nret != 0 ) {
+				return nret;
+			}
+			
+			if( tokenType != TokenType.TOKEN_TYPE_COLON ) {
+				errorDesc = "expect ':' but \"" + copyJsonString(beginOffset,endOffset) + "\"" ;
+				return OKJSON_ERROR_EXPECT_COLON_AFTER_NAME;
+			}
+			
+			// token '{' or '[' or "value"
+			nret = tokenJsonWord() ;
+			if( nret == OKJSON_ERROR_END_OF_BUFFER ) {
+				break;
+			}
+			if( nret != 0 ) {
+				return nret;
+			}
+			
+			if( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACE ) {
+				try {
+					if( fieldEntry.elementEntry != null && fieldEntry.elementEntry.kind == OkJsonFieldTable.FIELDKIND_MAP ) {
+						nret = stringToMapValue( fieldEntry.elementEntry ) ;
+						if( nret != 0 )
+							return nret;
+						
+						map.put( key, elementValue );
+					} else if( fieldEntry.elementKind == OkJsonFieldTable.FIELDKIND_OTHER && fieldEntry.elementType != null ) {
+						Object childObject = OkJsonCodecRegistry.newInstance( fieldEntry.elementType ) ;
+						nret = stringToObjectProperties( childObject ) ;
+						if( nret != 0 )
+							return nret;
+						
+						map.put( key, childObject );
+					} else {
+						if( strictPolicyEnable == true )
+							return containerNotMatched( fieldEntry, true, false );
+						nret = stringToObjectProperties( null ) ;
+						if( nret != 0 )
+							return nret;
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+					return OKJSON_ERROR_EXCEPTION;
+				}
+			} else if( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACKET ) {
+				if( fieldEntry.elementEntry != null && fieldEntry.elementEntry.kind != OkJsonFieldTable.FIELDKIND_MAP ) {
+					nret = stringToArrayValue( fieldEntry.elementEntry ) ;
+					if( nret != 0 )
+						return nret;
+					
+					map.put( key, elementValue );
+				} else {
+					if( strictPolicyEnable == true )
+						return containerNotMatched( fieldEntry, true, true );
+					nret = stringToArrayObject( null, null ) ;
+					if( nret != 0 )
+						return nret;
+				}
+			} else if( tokenType == TokenType.TOKEN_TYPE_STRING || tokenType == TokenType.TOKEN_TYPE_INTEGER || tokenType == TokenType.TOKEN_TYPE_DECIMAL || tokenType == TokenType.TOKEN_TYPE_BOOL || tokenType == TokenType.TOKEN_TYPE_NULL ) {
+				nret = parseElementValue( tokenType, beginOffset, endOffset, fieldEntry ) ;
+				if( nret != 0 )
+					return nret;
+				if( elementMatched == true ) {
+					try {
+						map.put( key, elementValue );
+					} catch (Exception e) {
+						e.printStackTrace();
+						return OKJSON_ERROR_EXCEPTION;
+					}
+				} else if( strictPolicyEnable == true ) {
+					return OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT;
+				}
+			} else {
+				errorDesc = "unexpect \""+copyJsonString(beginOffset,endOffset)+"\"" ;
+				return OKJSON_ERROR_UNEXPECT_TOKEN_AFTER_LEFT_BRACE;
+			}
+			memberCount++;
+			
+			// token ',' or '}'
+			nret = tokenJsonWord() ;
+			if( nret == OKJSON_ERROR_END_OF_BUFFER ) {
+				break;
+			}
+			if( nret != 0 ) {
+				return nret;
+			}
+			
+			if( tokenType == TokenType.TOKEN_TYPE_COMMA ) {
+				;
+			} else if( tokenType == TokenType.TOKEN_TYPE_RIGHT_BRACE ) {
+				break;
+			} else {
+				errorDesc = "expect ',' or '}' but \"" + copyJsonString(beginOffset,endOffset) + "\"" ;
+				return OKJSON_ERROR_EXPECT_COLON_AFTER_NAME;
+			}
+		}
+		
+		setContainerSizeHint( fieldEntry, map.size() );
+		
+		elementValue = map ;
+		return 0;
+	}
+		
+	int setObjectProperty( TokenType valueTokenType, int valueBeginOffset, int valueEndOffset, Object object, OkJsonFieldTable.FieldEntry fieldEntry ) {
+		
+		Class<?>		type = fieldEntry.type ;
+		Field			field = fieldEntry.field ;
+		Method			method = fieldEntry.setMethod ;
+		OkJsonAccessor	accessor = null ;
+		int				accessorIndex = fieldEntry.accessorIndex ;
+		int				nret ;
+		
+		// the generated accessor goes the same way, setter first then the field
+		if( fieldEntry.setByMethod == true || directAccessPropertyEnable == true )
+			accessor = fieldEntry.accessor ;
+		
+		// kind is resolved once with the field table, no class compare per value
+		switch( fieldEntry.kind ) {
+			case OkJsonFieldTable.FIELDKIND_STRING :
+				if( valueTokenType == TokenType.TOKEN_TYPE_STRING ) {
+					try {
+						String value ;
+						if( fieldStringBuilder.length() > 0 ) {
+							value = fieldStringBuilder.toString() ;
+						} else {
+							value = copyJsonString(valueBeginOffset,valueEndOffset) ;
+						}
+						if( accessor != null ) {
+							accessor.setObject( object, accessorIndex, value );
+						} else if( method != null ) {
+							method.invoke(object, value);
+						} else if( directAccessPropertyEnable == true ) {
+							field.set( object, value );
+						}
+					} catch (Exception e) {
+						e.printStackTrace();
+						return OKJSON_ERROR_EXCEPTION;
+					}
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_BYTE_OBJECT :
+				if( valueTokenType == TokenType.TOKEN_TYPE_INTEGER ) {
+					try {
+						nret = parseJsonLong( valueBeginOffset, valueEndOffset, Byte.MIN_VALUE, Byte.MAX_VALUE ) ;
+						if( nret != 0 )
+							return nret;
+						Byte	value = Byte.valueOf( (byte)longValue ) ;
+						if( accessor != null ) {
+							accessor.setObject( object, accessorIndex, value );
+						} else if( method != null ) {
+							method.invoke(object, value);
+						} else if( directAccessPropertyEnable == true ) {
+							field.set( object, value );
+						}
+					} catch (Exception e) {
+						e.printStackTrace();
+						return OKJSON_ERROR_EXCEPTION;
+					}
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_SHORT_OBJECT :
+				if( valueTokenType == TokenType.TOKEN_TYPE_INTEGER ) {
+					try {
+						nret = parseJsonLong( valueBeginOffset, valueEndOffset, Short.MIN_VALUE, Short.MAX_VALUE ) ;
+						if( nret != 0 )
+							return nret;
+						Short	value = Short.valueOf( (short)longValue ) ;
+						if( accessor != null ) {
+							accessor.setObject( object, accessorIndex, value );
+						} else if( method != null ) {
+							method.invoke(object, value);
+						} else if( directAccessPropertyEnable == true ) {
+							field.set( object, value );
+						}
+					} catch (Exception e) {
+						e.printStackTrace();
+						return OKJSON_ERROR_EXCEPTION;
+					}
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_INTEGER_OBJECT :
+				if( valueTokenType == TokenType.TOKEN_TYPE_INTEGER ) {
+					try {
+						nret = parseJsonLong( valueBeginOffset, valueEndOffset, Integer.MIN_VALUE, Integer.MAX_VALUE ) ;
+						if( nret != 0 )
+							return nret;
+						Integer	value = Integer.valueOf( (int)longValue ) ;
+						if( accessor != null ) {
+							accessor.setObject( object, accessorIndex, value );
+						} else if( method != null ) {
+							method.invoke(object, value);
+						} else if( directAccessPropertyEnable == true ) {
+							field.set( object, value );
+						}
+					} catch (Exception e) {
+						e.printStackTrace();
+						return OKJSON_ERROR_EXCEPTION;
+					}
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_LONG_OBJECT :
+				if( valueTokenType == TokenType.TOKEN_TYPE_INTEGER ) {
+					try {
+						nret = parseJsonLong( valueBeginOffset, valueEndOffset, Long.MIN_VALUE, Long.MAX_VALUE ) ;
+						if( nret != 0 )
+							return nret;
+						Long	value = Long.valueOf( longValue ) ;
+						if( accessor != null ) {
+							accessor.setObject( object, accessorIndex, value );
+						} else if( method != null ) {
+							method.invoke(object, value);
+						} else if( directAccessPropertyEnable == true ) {
+							field.set( object, value );
+						}
+					} catch (Exception e) {
+						e.printStackTrace();
+						return OKJSON_ERROR_EXCEPTION;
+					}
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_FLOAT_OBJECT :
+				if( valueTokenType == TokenType.TOKEN_TYPE_DECIMAL ) {
+					try {
+						nret = parseJsonFloat( valueBeginOffset, valueEndOffset ) ;
+						if( nret != 0 )
+							return nret;
+						Float	value = Float.valueOf( floatValue ) ;
+						if( accessor != null ) {
+							accessor.setObject( object, accessorIndex, value );
+						} else if( method != null ) {
+							method.invoke(object, value);
+						} else if( directAccessPropertyEnable == true ) {
+							field.set( object, value );
+						}
+					} catch (Exception e) {
+						e.printStackTrace();
+						return OKJSON_ERROR_EXCEPTION;
+					}
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_DOUBLE_OBJECT :
+				if( valueTokenType == TokenType.TOKEN_TYPE_DECIMAL ) {
+					try {
+						nret = parseJsonDouble( valueBeginOffset, valueEndOffset ) ;
+						if( nret != 0 )
+							return nret;
+						Double	value = Double.valueOf( doubleValue ) ;
+						if( accessor != null ) {
+							accessor.setObject( object, accessorIndex, value );
+						} else if( method != null ) {
+							method.invoke(object, value);
+						} else if( directAccessPropertyEnable == true ) {
+							field.set( object, value );
+						}
+					} catch (Exception e) {
+						e.printStackTrace();
+						return OKJSON_ERROR_EXCEPTION;
+					}
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_BOOLEAN_OBJECT :
+				if( valueTokenType == TokenType.TOKEN_TYPE_BOOL ) {
+					try {
+						Boolean	value = Boolean.valueOf(booleanValue) ;
+						if( accessor != null ) {
+							accessor.setObject( object, accessorIndex, value );
+						} else if( method != null ) {
+							method.invoke(object, value);
+						} else if( directAccessPropertyEnable == true ) {
+							field.set( object, value );
+						}
+					} catch (Exception e) {
+						e.printStackTrace();
+						return OKJSON_ERROR_EXCEPTION;
+					}
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_BYTE :
+				if( valueTokenType != TokenType.TOKEN_TYPE_INTEGER )
+					break;
+				try {
+					nret = parseJsonLong( valueBeginOffset, valueEndOffset, Byte.MIN_VALUE, Byte.MAX_VALUE ) ;
+					if( nret != 0 )
+						return nret;
+					byte	value = (byte)longValue ;
+					if( accessor != null ) {
+						accessor.setByte( object, accessorIndex, value );
+					} else if( method != null ) {
+						method.invoke(object, value);
+					} else if( directAccessPropertyEnable == true ) {
+						field.setByte( object, value );
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+					return OKJSON_ERROR_EXCEPTION;
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_SHORT :
+				if( valueTokenType != TokenType.TOKEN_TYPE_INTEGER )
+					break;
+				try {
+					nret = parseJsonLong( valueBeginOffset, valueEndOffset, Short.MIN_VALUE, Short.MAX_VALUE ) ;
+					if( nret != 0 )
+						return nret;
+					short	value = (short)longValue ;
+					if( accessor != null ) {
+						accessor.setShort( object, accessorIndex, value );
+					} else if( method != null ) {
+						method.invoke(object, value);
+					} else if( directAccessPropertyEnable == true ) {
+						field.setShort( object, value );
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+					return OKJSON_ERROR_EXCEPTION;
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_INT :
+				if( valueTokenType != TokenType.TOKEN_TYPE_INTEGER )
+					break;
+				try {
+					nret = parseJsonLong( valueBeginOffset, valueEndOffset, Integer.MIN_VALUE, Integer.MAX_VALUE ) ;
+					if( nret != 0 )
+						return nret;
+					int	value = (int)longValue ;
+					if( accessor != null ) {
+						accessor.setInt( object, accessorIndex, value );
+					} else if( method != null ) {
+						method.invoke(object, value);
+					} else if( directAccessPropertyEnable == true ) {
+						field.setInt( object, value );
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+					return OKJSON_ERROR_EXCEPTION;
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_LONG :
+				if( valueTokenType != TokenType.TOKEN_TYPE_INTEGER )
+					break;
+				try {
+					nret = parseJsonLong( valueBeginOffset, valueEndOffset, Long.MIN_VALUE, Long.MAX_VALUE ) ;
+					if( nret != 0 )
+						return nret;
+					long	value = longValue ;
+					if( accessor != null ) {
+						accessor.setLong( object, accessorIndex, value );
+					} else if( method != null ) {
+						method.invoke(object, value);
+					} else if( directAccessPropertyEnable == true ) {
+						field.setLong( object, value );
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+					return OKJSON_ERROR_EXCEPTION;
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_FLOAT :
+				if( valueTokenType != TokenType.TOKEN_TYPE_DECIMAL )
+					break;
+				try {
+					nret = parseJsonFloat( valueBeginOffset, valueEndOffset ) ;
+					if( nret != 0 )
+						return nret;
+					float	value = floatValue ;
+					if( accessor != null ) {
+						accessor.setFloat( object, accessorIndex, value );
+					} else if( method != null ) {
+						method.invoke(object, value);
+					} else if( directAccessPropertyEnable == true ) {
+						field.setFloat( object, value );
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+					return OKJSON_ERROR_EXCEPTION;
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_DOUBLE :
+				if( valueTokenType != TokenType.TOKEN_TYPE_DECIMAL )
+					break;
+				try {
+					nret = parseJsonDouble( valueBeginOffset, valueEndOffset ) ;
+					if( nret != 0 )
+						return nret;
+					double	value = doubleValue ;
+					if( accessor != null ) {
+						accessor.setDouble( object, accessorIndex, value );
+					} else if( method != null ) {
+						method.invoke(object, value);
+					} else if( directAccessPropertyEnable == true ) {
+						field.setDouble( object, value );
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+					return OKJSON_ERROR_EXCEPTION;
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_BOOLEAN :
+				if( valueTokenType != TokenType.TOKEN_TYPE_BOOL )
+					break;
+				try {
+					if( accessor != null ) {
+						accessor.setBoolean( object, accessorIndex, booleanValue );
+					} else if( method != null ) {
+						method.invoke(object, booleanValue);
+					} else if( directAccessPropertyEnable == true ) {
+						field.setBoolean( object, booleanValue );
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+					return OKJSON_ERROR_EXCEPTION;
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_CHAR :
+				if( valueTokenType != TokenType.TOKEN_TYPE_STRING )
+					break;
+				try {
+					String string ;
+					if( fieldStringBuilder.length() > 0 ) {
+						string = fieldStringBuilder.toString() ;
+					} else {
+						string = copyJsonString(valueBeginOffset,valueEndOffset) ;
+					}
+					if( string.length() != 1 ) {
+						if( strictPolicyEnable == true )
+							return OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT;
+						return 0;
+					}
+					Character	value = Character.valueOf( string.charAt(0) ) ;
+					if( accessor != null ) {
+						accessor.setObject( object, accessorIndex, value );
+					} else if( method != null ) {
+						method.invoke(object, value);
+					} else if( directAccessPropertyEnable == true ) {
+						field.set( object, value );
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+					return OKJSON_ERROR_EXCEPTION;
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_LOCALDATE :
+				if( valueTokenType == TokenType.TOKEN_TYPE_STRING ) {
+					try {
+						LocalDate localDate = null ;
+						// the token as it is in the buffer, a string with an escape never has the shape
+						if( fieldEntry.dateTimeFormat == null )
+							localDate = parseJsonLocalDate( valueBeginOffset, valueEndOffset ) ;
+						if( localDate == null ) {
+							DateTimeFormatter dateTimeFormatter = OkJsonFieldTable.formatterOf( fieldEntry.dateTimeFormatter, fieldEntry.dateTimeFormat ) ;
+							if( fieldStringBuilder.length() > 0 )
+								localDate = LocalDate.parse( fieldStringBuilder.toString(), dateTimeFormatter );
+							else
+								localDate = LocalDate.parse( copyJsonString(valueBeginOffset,valueEndOffset), dateTimeFormatter ) ;
+						}
+						if( accessor != null ) {
+							accessor.setObject( object, accessorIndex, localDate );
+						} else if( method != null ) {
+							method.invoke(object, localDate);
+						} else if( directAccessPropertyEnable == true ) {
+							field.set( object, localDate );
+						}
+					} catch (Exception e) {
+						e.printStackTrace();
+						return OKJSON_ERROR_EXCEPTION;
+					}
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_LOCALTIME :
+				if( valueTokenType == TokenType.TOKEN_TYPE_STRING ) {
+					try {
+						LocalTime localTime = null ;
+						// the token as it is in the buffer, a string with an escape never has the shape
+						if( fieldEntry.dateTimeFormat == null )
+							localTime = parseJsonLocalTime( valueBeginOffset, valueEndOffset ) ;
+						if( localTime == null ) {
+							DateTimeFormatter dateTimeFormatter = OkJsonFieldTable.formatterOf( fieldEntry.dateTimeFormatter, fieldEntry.dateTimeFormat ) ;
+							if( fieldStringBuilder.length() > 0 )
+								localTime = LocalTime.parse( fieldStringBuilder.toString(), dateTimeFormatter );
+							else
+								localTime = LocalTime.parse( copyJsonString(valueBeginOffset,valueEndOffset), dateTimeFormatter ) ;
+						}
+						if( accessor != null ) {
+							accessor.setObject( object, accessorIndex, localTime );
+						} else if( method != null ) {
+							method.invoke(object, localTime);
+						} else if( directAccessPropertyEnable == true ) {
+							field.set( object, localTime );
+						}
+					} catch (Exception e) {
+						e.printStackTrace();
+						return OKJSON_ERROR_EXCEPTION;
+					}
+				}
+				return 0;
+			case OkJsonFieldTable.FIELDKIND_LOCALDATETIME :
+				if( valueTokenType == TokenType.TOKEN_TYPE_STRING ) {
+					try {
+						LocalDateTime localDateTime = null ;
+						// the token as it is in the buffer, a string with an escape never has the shape
+						if( fieldEntry.dateTimeFormat == null )
+							localDateTime = parseJsonLocalDateTime( valueBeginOffset, valueEndOffset ) ;
+						if( localDateTime == null ) {
+							DateTimeFormatter dateTimeFormatter = OkJsonFieldTable.formatterOf( fieldEntry.dateTimeFormatter, fieldEntry.dateTimeFormat ) ;
+							if( fieldStringBuilder.length() > 0 )
+								localDateTime = LocalDateTime.parse( fieldStringBuilder.toString(), dateTimeFormatter );
+							else
+								localDateTime = LocalDateTime.parse( copyJsonString(valueBeginOffset,valueEndOffset), dateTimeFormatter ) ;
+						}
+						if( accessor != null ) {
+							accessor.setObject( object, accessorIndex, localDateTime );
+						} else if( method != null ) {
+							method.invoke(object, localDateTime);
+						} else if( directAccessPropertyEnable == true ) {
+							field.set( object, localDateTime );
+						}
+					} catch (Exception e) {
+						e.printStackTrace();
+						return OKJSON_ERROR_EXCEPTION;
+					}
+				}
+				return 0;
+		}
+		
+		// a primitive with another token, a list, a sub-object or any other type
+		if( valueTokenType == TokenType.TOKEN_TYPE_NULL ) {
+			try {
+				if( accessor != null && ! type.isPrimitive() ) {
+					accessor.setObject( object, accessorIndex, null );
+				} else if( method != null ) {
+					method.invoke(object, null);
+				} else if( directAccessPropertyEnable == true ) {
+					field.set( object, null );
+				}
+			} catch (Exception e) {
+				e.printStackTrace();
+				return OKJSON_ERROR_EXCEPTION;
+			}
+		} else {
+			if( strictPolicyEnable == true )
+				return OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT;
+		}
+		
+		return 0;
+	}
+	
+	private int stringToObjectProperties( Object object ) {
+		
+		Class					clazz ;
+		OkJsonFieldTable		fieldTable ;
+		OkJsonFieldTable.FieldEntry	fieldEntry ;
+		int						expectFieldIndex = 0 ;
+		TokenType				fieldNameTokenType ;
+		int						fieldNameBeginOffset ;
+		int						fieldNameEndOffset ;
+		TokenType				valueTokenType ;
+		int						valueBeginOffset ;
+		int						valueEndOffset ;
+		
+		int						nret ;
+		
+		if( object != null ) {
+			clazz = object.getClass();
+			
+			fieldTable = OkJsonClassMetadata.of( clazz ).getFieldTable() ;
+		} else {
+			fieldTable = null ;
+		}
+		
+		while(true) {
+			// token "name"
+			nret = tokenJsonWord() ;
+			if( nret == OKJSON_ERROR_END_OF_BUFFER ) {
+				break;
+			}
+			if( nret != 0 ) {
+				return nret;
+			}
+			
+			fieldNameTokenType = tokenType ;
+			fieldNameBeginOffset = beginOffset ;
+			fieldNameEndOffset = endOffset ;
+			
+			if( tokenType != TokenType.TOKEN_TYPE_STRING ) {
+				errorDesc = "expect a name but \""+copyJsonString(beginOffset,endOffset)+"\"" ;
+				return OKJSON_ERROR_NAME_INVALID;
+			}
+			
+			// the unescaped name is in fieldStringBuilder, look it up without a String
+			if( object != null ) {
+				// producers usually keep declaration order, so try the field after the last one first
+				if( expectFieldIndex < fieldTable.fieldEntries.length && OkJsonFieldTable.matches( fieldTable.fieldEntries[expectFieldIndex], fieldStringBuilder ) ) {
+					fieldEntry = fieldTable.fieldEntries[expectFieldIndex] ;
+					keyPredictionHits++;
+				} else {
+					fieldEntry = fieldTable.get( fieldStringBuilder ) ;
+					keyPredictionMisses++;
+				}
+				if( fieldEntry == null ) {
+					if( strictPolicyEnable == true )
+						return OKJSON_ERROR_NAME_NOT_FOUND_IN_OBJECT;
+				} else {
+					expectFieldIndex = fieldEntry.index + 1 ;
+				}
+			} else {
+				fieldEntry = null ;
+			}
+			
+			// token ':' or ',' or '}' or ']'
+			nret = tokenJsonWord() ;
+			if( nret == OKJSON_ERROR_END_OF_BUFFER ) {
+				break;
+			}
+			if( nret != 0 ) {
+				return nret;
+			}
+			
+			if( tokenType == TokenType.TOKEN_TYPE_COLON ) {
+				;
+			} else if( tokenType == TokenType.TOKEN_TYPE_COMMA || tokenType == TokenType.TOKEN_TYPE_RIGHT_BRACE ) {
+				if( fieldEntry.kind == OkJsonFieldTable.FIELDKIND_LIST ) {
+					nret = addArrayObject( fieldNameTokenType, fieldNameBeginOffset, fieldNameEndOffset, object, fieldEntry ) ;
+					if( nret != 0 )
+						return nret;
+					
+					if( tokenType == TokenType.TOKEN_TYPE_RIGHT_BRACE )
+						break;
+				}
+			} else if( tokenType == TokenType.TOKEN_TYPE_RIGHT_BRACKET ) {
+				break;
+			} else {
+				errorDesc = "expect ':' but \"" + copyJsonString(beginOffset,endOffset) + "\"" ;
+				return OKJSON_ERROR_EXPECT_COLON_AFTER_NAME;
+			}
+			
+			if( fieldEntry == null ) {
+				// value of an unknown field, jump over it without tokenizing
+				nret = skipJsonValue() ;
+				if( nret == OKJSON_ERROR_END_OF_BUFFER ) {
+					break;
+				}
+				if( nret != 0 ) {
+					return nret;
+				}
+			} else {
+				// token '{' or '[' or "value"
+				nret = tokenJsonWord() ;
+				if( nret == OKJSON_ERROR_END_OF_BUFFER ) {
+					break;
+				}
+				if( nret != 0 ) {
+					return nret;
+				}
+			
+				valueTokenType = tokenType ;
+				valueBeginOffset = beginOffset ;
+				valueEndOffset = endOffset ;
+			
+				if( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACKET && fieldEntry.kind == OkJsonFieldTable.FIELDKIND_PRIMITIVE_ARRAY ) {
+					nret = stringToPrimitiveArray( object, fieldEntry ) ;
+					if( nret != 0 )
+						return nret;
+				} else if( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACKET && ( fieldEntry.kind == OkJsonFieldTable.FIELDKIND_LIST || fieldEntry.kind == OkJsonFieldTable.FIELDKIND_OBJECT_ARRAY ) ) {
+					nret = stringToCollectionObject( object, fieldEntry ) ;
+					if( nret != 0 )
+						return nret;
+				} else if( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACE && fieldEntry.kind == OkJsonFieldTable.FIELDKIND_MAP ) {
+					nret = stringToMapObject( object, fieldEntry ) ;
+					if( nret != 0 )
+						return nret;
+				} else if( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACKET || ( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACE && fieldEntry.kind != OkJsonFieldTable.FIELDKIND_OTHER && fieldEntry.kind != OkJsonFieldTable.FIELDKIND_ANY ) ) {
+					// an array for a field that is no array or collection, an object for one that is no class, jumped over without creating anything
+					if( strictPolicyEnable == true )
+						return containerNotMatched( fieldEntry, false, tokenType == TokenType.TOKEN_TYPE_LEFT_BRACKET );
+					nret = skipJsonContainer( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACKET ) ;
+					if( nret != 0 )
+						return nret;
+				} else if( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACE ) {
+					try {
+						Object childObject ;
+					
+						childObject = OkJsonCodecRegistry.newInstance( fieldEntry.type ) ;
+						if( childObject == null )
+							return OKJSON_ERROR_UNEXPECT;
+					
+						nret = stringToObjectProperties( childObject ) ;
+						if( nret != 0 )
+							return nret;
+					
+						if( fieldEntry.field != null ) {
+							fieldEntry.field.set( object, childObject );
+						} else {
+							fieldEntry.accessor.setObject( object, fieldEntry.accessorIndex, childObject );
+						}
+					} catch (Exception e) {
+						e.printStackTrace();
+						return OKJSON_ERROR_EXCEPTION;
+					}
+				} else {
+					if( object != null && fieldEntry != null ) {
+						nret = setObjectProperty( valueTokenType, valueBeginOffset, valueEndOffset, object, fieldEntry ) ;
+						if( nret != 0 )
+							return nret;
+					}
+				}
+			}
+			
+			// token ',' or '}' or ']'
+			nret = tokenJsonWord() ;
+			if( nret == OKJSON_ERROR_END_OF_BUFFER ) {
+				break;
+			}
+			if( nret != 0 ) {
+				return nret;
+			}
+			
+			if( tokenType == TokenType.TOKEN_TYPE_COMMA ) {
+				;
+			} else if( tokenType == TokenType.TOKEN_TYPE_RIGHT_BRACE ) {
+				break;
+			} else if( tokenType == TokenType.TOKEN_TYPE_RIGHT_BRACKET ) {
+				break;
+			} else {
+				errorDesc = "expect ',' or '}' or ']' but \"" + copyJsonString(beginOffset,endOffset) + "\"" ;
+				return OKJSON_ERROR_EXPECT_COLON_AFTER_NAME;
+			}
+		}
+		
+		return 0;
+	}
+	
+	public <T> T fileToObject( String filePath, T object ) {
+		byte[] jsonBytes = null ;
+		
+		if( fileMappedEnable ) {
+			try( FileChannel fileChannel = FileChannel.open( Paths.get(filePath), StandardOpenOption.READ ) ) {
+				long fileSize = fileChannel.size() ;
+				if( fileSize > Integer.MAX_VALUE ) {
+					// too large for one mapping, read it through the stream window
+					return streamToObject( Channels.newInputStream(fileChannel), object );
+				}
+				
+				return byteBufferToObject( fileChannel.map( FileChannel.MapMode.READ_ONLY, 0, fileSize ), object );
+			} catch(IOException e) {
+				errorCode = OKJSON_ERROR_EXCEPTION ;
+				errorDesc = e.getMessage() ;
+				return null;
+			}
+		}
+		
+		// UTF-8 like the mapped file, whatever the platform charset
+		try {
+			jsonBytes = Files.readAllBytes(Paths.get(filePath)) ;
+		} catch(IOException e) {
+			errorCode = OKJSON_ERROR_EXCEPTION ;
+			errorDesc = e.getMessage() ;
+			return null;
+		}
+		
+		return bytesToObject( jsonBytes, 0, jsonBytes.length, object );
+	}
+	
+	public <T> T stringToObject( String jsonString, T object ) {
+		setJsonString( jsonString );
+		return parseJsonObject( object );
+	}
+	
+	public <T> T bytesToObject( byte[] jsonByteArray, int offset, int length, T object ) {
+		setJsonBytes( jsonByteArray, offset, length );
+		return parseJsonObject( object );
+	}
+	
+	public <T> T byteBufferToObject( ByteBuffer jsonByteBuffer, T object ) {
+		setJsonByteBuffer( jsonByteBuffer );
+		return parseJsonObject( object );
+	}
+	
+	public <T> T streamToObject( InputStream jsonInputStream, T object ) {
+		setJsonInputStream( jsonInputStream );
+		return parseJsonObject( object );
+	}
+	
+	public <T> T readerToObject( Reader jsonReader, T object ) {
+		setJsonReader( jsonReader );
+		return parseJsonObject( object );
+	}
+	
+	void setJsonString( String jsonString ) {
+		clearJsonSource();
+		jsonCharArray = jsonString.toCharArray() ;
+		jsonOffset = 0 ;
+		jsonLength = jsonCharArray.length ;
+	}
+	
+	void setJsonBytes( byte[] jsonByteArray, int offset, int length ) {
+		clearJsonSource();
+		this.jsonByteArray = jsonByteArray ;
+		jsonOffset = offset ;
+		jsonLength = offset + length ;
+	}
+	
+	void setJsonByteBuffer( ByteBuffer jsonByteBuffer ) {
+		clearJsonSource();
+		this.jsonByteBuffer = jsonByteBuffer ;
+		jsonOffset = jsonByteBuffer.position() ;
+		jsonLength = jsonByteBuffer.limit() ;
+	}
+	
+	void setJsonInputStream( InputStream jsonInputStream ) {
+		clearJsonSource();
+		this.jsonByteArray = new byte[ streamWindowSize ] ;
+		this.jsonInputStream = jsonInputStream ;
+		jsonOffset = 0 ;
+		jsonLength = 0 ;
+	}
+	
+	void setJsonReader( Reader jsonReader ) {
+		clearJsonSource();
+		this.jsonCharArray = new char[ streamWindowSize ] ;
+		this.jsonReader = jsonReader ;
+		jsonOffset = 0 ;
+		jsonLength = 0 ;
+	}
+	
+	void clearJsonSource() {
+		jsonCharArray = null ;
+		jsonByteArray = null ;
+		jsonByteBuffer = null ;
+		jsonInputStream = null ;
+		jsonReader = null ;
+	}
+	
+	// adds the counts of the parse to the process-wide totals
+	void flushKeyPredictionCount() {
+		if( keyPredictionHits != 0 ) {
+			keyPredictionHitCount.add( keyPredictionHits );
+			keyPredictionHits = 0 ;
+		}
+		if( keyPredictionMisses != 0 ) {
+			keyPredictionMissCount.add( keyPredictionMisses );
+			keyPredictionMisses = 0 ;
+		}
+	}
+	
+	private <T> T parseJsonObject( T object ) {
+		
+		try {
+			errorCode = tokenJsonWord() ;
+			if( errorCode != 0 ) {
+				return null;
+			}
+			
+			if( tokenType != TokenType.TOKEN_TYPE_LEFT_BRACE ) {
+				errorCode = OKJSON_ERROR_FIND_FIRST_LEFT_BRACE ;
+				return null;
+			}
+			
+			errorCode = stringToObjectProperties( object ) ;
+			if( errorCode != 0 )
+				return null;
+		} finally {
+			clearJsonSource();
+			flushKeyPredictionCount();
+		}
+		
+		return object;
+	}
+		
+	public boolean isStrictPolicyEnable() {
+		return strictPolicyEnable;
+	}
+
+	public void setStrictPolicyEnable(boolean strictPolicyEnable) {
+		this.strictPolicyEnable = strictPolicyEnable;
+	}
+
+	public boolean isFileMappedEnable() {
+		return fileMappedEnable;
+	}
+
+	public void setFileMappedEnable(boolean fileMappedEnable) {
+		this.fileMappedEnable = fileMappedEnable;
+	}
+
+	public boolean isContainerSizeHintEnable() {
+		return containerSizeHintEnable;
+	}
+
+	public void setContainerSizeHintEnable(boolean containerSizeHintEnable) {
+		this.containerSizeHintEnable = containerSizeHintEnable;
+	}
+
+	public int getStreamWindowSize() {
+		return streamWindowSize;
+	}
+
+	public void setStreamWindowSize(int streamWindowSize) {
+		this.streamWindowSize = streamWindowSize;
+	}
+
+	public boolean isDirectAccessPropertyEnable() {
+		return directAccessPropertyEnable;
+	}
+
+	public void setDirectAccessPropertyEnable(boolean directAccessPropertyEnable) {
+		this.directAccessPropertyEnable = directAccessPropertyEnable;
+	}
+
+	public boolean isPrettyFormatEnable() {
+		return prettyFormatEnable;
+	}
+
+	public void setPrettyFormatEnable(boolean prettyFormatEnable) {
+		this.prettyFormatEnable = prettyFormatEnable;
+	}
+
+	public Integer getErrorCode() {
+		return errorCode;
+	}
+
+	public void setErrorCode(Integer errorCode) {
+		this.errorCode = errorCode;
+	}
+
+	public String getErrorDesc() {
+		return errorDesc;
+	}
+
+	public void setErrorDesc(String errorDesc) {
+		this.errorDesc = errorDesc;
+	}
+
+	public OkJsonParser() {
+		this.strictPolicyEnable = false ;
+		this.directAccessPropertyEnable = false ;
+		this.prettyFormatEnable = false ;
+		this.errorCode = 0 ;
+		this.errorDesc = null ;
+		this.fieldStringBuilder = new StringBuilder(1024) ;
+		this.streamWindowSize = DEFAULT_STREAM_WINDOW_SIZE ;
+	}
+}
@@ -0,0 +1,281 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
+/*
+ * Pull reader over the OkJsonParser tokenizer, for hand-written extraction
+ * without binding to a class. Values are read from the token offsets in the
+ * source buffer, getChars() returns a reused builder that is valid until the
+ * next call of next().
+ */
+public class OkJsonReader {
+
+	// the tokens of OkJsonParser.TokenType, mapped one by one in toTokenType
+	public enum TokenType {
+		TOKEN_TYPE_LEFT_BRACE , // {
+		TOKEN_TYPE_RIGHT_BRACE , // }
+		TOKEN_TYPE_LEFT_BRACKET, // [
+		TOKEN_TYPE_RIGHT_BRACKET, // ]
+		TOKEN_TYPE_COLON, // :
+		TOKEN_TYPE_COMMA, // ,
+		TOKEN_TYPE_STRING, // "ABC"
+		TOKEN_TYPE_INTEGER, // 123
+		TOKEN_TYPE_DECIMAL, // 123.456
+		TOKEN_TYPE_BOOL, // true or false
+		TOKEN_TYPE_NULL // null
+	}
+
+	private OkJsonParser		okjsonParser ;
+	private TokenType			tokenType ;
+	private int					depth ;
+
+	private Integer				errorCode ;
+	private String				errorDesc ;
+
+	public OkJsonReader() {
+		this.okjsonParser = new OkJsonParser() ;
+		this.errorCode = 0 ;
+	}
+
+	public OkJsonReader( String jsonString ) {
+		this();
+		reset( jsonString );
+	}
+
+	public OkJsonReader( byte[] jsonByteArray, int offset, int length ) {
+		this();
+		reset( jsonByteArray, offset, length );
+	}
+
+	public OkJsonReader( ByteBuffer jsonByteBuffer ) {
+		this();
+		reset( jsonByteBuffer );
+	}
+
+	public OkJsonReader( InputStream jsonInputStream ) {
+		this();
+		reset( jsonInputStream );
+	}
+
+	public OkJsonReader( Reader jsonReader ) {
+		this();
+		reset( jsonReader );
+	}
+
+	public void reset( String jsonString ) {
+		okjsonParser.setJsonString( jsonString );
+		resetState();
+	}
+
+	public void reset( byte[] jsonByteArray, int offset, int length ) {
+		okjsonParser.setJsonBytes( jsonByteArray, offset, length );
+		resetState();
+	}
+
+	public void reset( ByteBuffer jsonByteBuffer ) {
+		okjsonParser.setJsonByteBuffer( jsonByteBuffer );
+		resetState();
+	}
+
+	public void reset( InputStream jsonInputStream ) {
+		okjsonParser.setJsonInputStream( jsonInputStream );
+		resetState();
+	}
+
+	public void reset( Reader jsonReader ) {
+		okjsonParser.setJsonReader( jsonReader );
+		resetState();
+	}
+
+	private void resetState() {
+		tokenType = null ;
+		depth = 0 ;
+		errorCode = 0 ;
+		errorDesc = null ;
+	}
+
+	/*
+	 * Returns the next token, or null at the end of input or on error. The
+	 * end of input is not an error when all braces and brackets are closed.
+	 */
+	public TokenType next() {
+		int		nret ;
+
+		nret = okjsonParser.tokenJsonWord() ;
+		if( nret != 0 ) {
+			tokenType = null ;
+			if( nret == OKJSON.OKJSON_ERROR_END_OF_BUFFER && depth == 0 ) {
+				errorCode = 0 ;
+			} else {
+				errorCode = nret ;
+				errorDesc = okjsonParser.getErrorDesc() ;
+			}
+			return null;
+		}
+
+		tokenType = toTokenType( okjsonParser.getTokenType() ) ;
+		if( tokenType == null ) {
+			errorCode = OKJSON.OKJSON_ERROR_UNEXPECT ;
+			errorDesc = "unknown token type["+okjsonParser.getTokenType()+"]" ;
+			return null;
+		}
+		if( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACE || tokenType == TokenType.TOKEN_TYPE_LEFT_BRACKET )
+			depth++;
+		else if( tokenType == TokenType.TOKEN_TYPE_RIGHT_BRACE || tokenType == TokenType.TOKEN_TYPE_RIGHT_BRACKET )
+			depth--;
+
+		return tokenType;
+	}
+
+	private static TokenType toTokenType( OkJsonParser.TokenType parserTokenType ) {
+		switch( parserTokenType ) {
+			case TOKEN_TYPE_LEFT_BRACE :
+				return TokenType.TOKEN_TYPE_LEFT_BRACE;
+			case TOKEN_TYPE_RIGHT_BRACE :
+				return TokenType.TOKEN_TYPE_RIGHT_BRACE;
+			case TOKEN_TYPE_LEFT_BRACKET :
+				return TokenType.TOKEN_TYPE_LEFT_BRACKET;
+			case TOKEN_TYPE_RIGHT_BRACKET :
+				return TokenType.TOKEN_TYPE_RIGHT_BRACKET;
+			case TOKEN_TYPE_COLON :
+				return TokenType.TOKEN_TYPE_COLON;
+			case TOKEN_TYPE_COMMA :
+				return TokenType.TOKEN_TYPE_COMMA;
+			case TOKEN_TYPE_STRING :
+				return TokenType.TOKEN_TYPE_STRING;
+			case TOKEN_TYPE_INTEGER :
+				return TokenType.TOKEN_TYPE_INTEGER;
+			case TOKEN_TYPE_DECIMAL :
+				return TokenType.TOKEN_TYPE_DECIMAL;
+			case TOKEN_TYPE_BOOL :
+				return TokenType.TOKEN_TYPE_BOOL;
+			case TOKEN_TYPE_NULL :
+				return TokenType.TOKEN_TYPE_NULL;
+			default :
+				return null;
+		}
+	}
+
+	public TokenType tokenType() {
+		return tokenType;
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public boolean getBoolean() {
+		return okjsonParser.getBooleanValue();
+	}
+
+	/*
+	 * Current integer token, or 0 with getErrorCode() set when it is not an
+	 * integer or does not fit.
+	 */
+	public int getInt() {
+		return (int)getLong( Integer.MIN_VALUE, Integer.MAX_VALUE );
+	}
+
+	public long getLong() {
+		return getLong( Long.MIN_VALUE, Long.MAX_VALUE );
+	}
+
+	private long getLong( long minValue, long maxValue ) {
+		int		nret ;
+
+		nret = okjsonParser.parseJsonLong( okjsonParser.getBeginOffset(), okjsonParser.getEndOffset(), minValue, maxValue ) ;
+		if( nret != 0 ) {
+			errorCode = nret ;
+			errorDesc = okjsonParser.getErrorDesc() ;
+			return 0;
+		}
+
+		return okjsonParser.getLongValue();
+	}
+
+	public double getDouble() {
+		int		nret ;
+
+		nret = okjsonParser.parseJsonDouble( okjsonParser.getBeginOffset(), okjsonParser.getEndOffset() ) ;
+		if( nret != 0 ) {
+			errorCode = nret ;
+			errorDesc = okjsonParser.getErrorDesc() ;
+			return 0;
+		}
+
+		return okjsonParser.getDoubleValue();
+	}
+
+	public String getString() {
+		if( tokenType == TokenType.TOKEN_TYPE_NULL )
+			return null;
+		else if( tokenType == TokenType.TOKEN_TYPE_STRING )
+			return okjsonParser.getFieldStringBuilder().toString();
+		else
+			return okjsonParser.copyJsonString( okjsonParser.getBeginOffset(), okjsonParser.getEndOffset() );
+	}
+
+	/*
+	 * Current token text without creating a String, a string token is
+	 * already unescaped in the builder, other tokens are copied into it.
+	 */
+	public CharSequence getChars() {
+		StringBuilder	fieldStringBuilder = okjsonParser.getFieldStringBuilder() ;
+		int				offset ;
+
+		if( tokenType != TokenType.TOKEN_TYPE_STRING ) {
+			fieldStringBuilder.setLength(0);
+			for( offset = okjsonParser.getBeginOffset() ; offset <= okjsonParser.getEndOffset() ; offset++ )
+				fieldStringBuilder.append( okjsonParser.jsonCharAt(offset) );
+		}
+
+		return fieldStringBuilder;
+	}
+
+	/*
+	 * Skips the rest of the value whose first token was just returned by
+	 * next(), that is up to the matching '}' or ']' of an object or array.
+	 * The skipped part is only scanned for brackets, quotes and scalars, not
+	 * tokenized.
+	 */
+	public int skipValue() {
+		int		nret ;
+
+		if( tokenType != TokenType.TOKEN_TYPE_LEFT_BRACE && tokenType != TokenType.TOKEN_TYPE_LEFT_BRACKET )
+			return 0;
+
+		nret = okjsonParser.skipJsonContainer( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACKET ) ;
+		if( nret != 0 ) {
+			tokenType = null ;
+			errorCode = nret ;
+			errorDesc = okjsonParser.getErrorDesc() ;
+			return errorCode;
+		}
+
+		if( tokenType == TokenType.TOKEN_TYPE_LEFT_BRACE )
+			tokenType = TokenType.TOKEN_TYPE_RIGHT_BRACE ;
+		else
+			tokenType = TokenType.TOKEN_TYPE_RIGHT_BRACKET ;
+		depth--;
+
+		return 0;
+	}
+
+	public Integer getErrorCode() {
+		return errorCode;
+	}
+
+	public String getErrorDesc() {
+		return errorDesc;
+	}
+}
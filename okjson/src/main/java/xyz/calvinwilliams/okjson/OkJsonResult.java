@@ -0,0 +1,45 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+/*
+ * What one call of OkJsonMapper returns, the value with the error code and
+ * description of that call, instead of reading them afterwards from
+ * OKJSON.getErrorCode()/getErrorDesc().
+ */
+public final class OkJsonResult<T> {
+
+	final private T			value ;
+	final private int		errorCode ;
+	final private String	errorDesc ;
+
+	OkJsonResult( T value, int errorCode, String errorDesc ) {
+		this.value = value ;
+		this.errorCode = errorCode ;
+		this.errorDesc = errorDesc ;
+	}
+
+	public boolean isOk() {
+		return errorCode == 0 && value != null;
+	}
+
+	// null on failure
+	public T getValue() {
+		return value;
+	}
+
+	// 0 on success, else one of OKJSON.OKJSON_ERROR_*
+	public int getErrorCode() {
+		return errorCode;
+	}
+
+	public String getErrorDesc() {
+		return errorDesc;
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/*
+ * Sets and gets four properties of PressDataClass through Method.invoke,
+ * the method handle accessor and the generated hidden class accessor.
+ */
+public class PressAccessor {
+
+	// declaration order of PressDataClass
+	final private static int	STR1 = 0 ;
+	final private static int	INT1 = 1 ;
+	final private static int	DOUBLE1 = 2 ;
+	final private static int	BOOLEAN1 = 3 ;
+
+	private static Field[]		fields ;
+	private static Method[]		setMethods ;
+	private static Method[]		getMethods ;
+
+	public static void main(String[] args) throws Exception {
+
+		Field[]			declaredFields = PressDataClass.class.getDeclaredFields() ;
+		String			capitalName ;
+		int				index ;
+
+		fields = new Field[4] ;
+		setMethods = new Method[4] ;
+		getMethods = new Method[4] ;
+		for( index = 0 ; index < 4 ; index++ ) {
+			fields[index] = declaredFields[index] ;
+			fields[index].setAccessible(true);
+			capitalName = fields[index].getName().substring(0,1).toUpperCase() + fields[index].getName().substring(1) ;
+			setMethods[index] = PressDataClass.class.getMethod( "set"+capitalName, fields[index].getType() ) ;
+			getMethods[index] = PressDataClass.class.getMethod( ( fields[index].getType() == boolean.class ? "is" : "get" )+capitalName ) ;
+		}
+
+		OkJsonAccessor handleAccessor = OkJsonHandleAccessor.create( fields, setMethods, getMethods ) ;
+		OkJsonAccessor generatedAccessor = OkJsonAccessorGenerator.generate( PressDataClass.class, fields, setMethods, getMethods ) ;
+		if( handleAccessor == null || generatedAccessor == null ) {
+			System.out.println( "create accessor failed" );
+			return;
+		}
+
+		long count = 30000000 ;
+		if( args.length > 0 )
+			count = Long.parseLong( args[0] ) ;
+
+		pressMethodInvoke( count/10 );
+		pressAccessor( handleAccessor, count/10 );
+		pressAccessor( generatedAccessor, count/10 );
+
+		double methodInvokeCountPerSecond = pressMethodInvoke( count ) ;
+		double handleCountPerSecond = pressAccessor( handleAccessor, count ) ;
+		double generatedCountPerSecond = pressAccessor( generatedAccessor, count ) ;
+
+		System.out.println( "Method.invoke      count["+count+"] count per second["+methodInvokeCountPerSecond+"]" );
+		System.out.println( "MethodHandle       count["+count+"] count per second["+handleCountPerSecond+"]" );
+		System.out.println( "generated accessor count["+count+"] count per second["+generatedCountPerSecond+"]" );
+
+		return;
+	}
+
+	private static double pressMethodInvoke( long count ) throws Exception {
+		PressDataClass	object = new PressDataClass() ;
+		long			sum = 0 ;
+
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( long l = 0 ; l < count ; l++ ) {
+			setMethods[STR1].invoke( object, "str1" );
+			setMethods[INT1].invoke( object, (int)l );
+			setMethods[DOUBLE1].invoke( object, Double.valueOf(1.234) );
+			setMethods[BOOLEAN1].invoke( object, true );
+			sum += ((String)getMethods[STR1].invoke( object )).length() + (Integer)getMethods[INT1].invoke( object ) ;
+			if( (Double)getMethods[DOUBLE1].invoke( object ) > 0 && (Boolean)getMethods[BOOLEAN1].invoke( object ) )
+				sum++;
+		}
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+		if( sum == 0 )
+			System.out.println( "sum["+sum+"]" );
+		return count / elpaseSecond;
+	}
+
+	private static double pressAccessor( OkJsonAccessor accessor, long count ) {
+		PressDataClass	object = new PressDataClass() ;
+		long			sum = 0 ;
+
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( long l = 0 ; l < count ; l++ ) {
+			accessor.setObject( object, STR1, "str1" );
+			accessor.setInt( object, INT1, (int)l );
+			accessor.setObject( object, DOUBLE1, Double.valueOf(1.234) );
+			accessor.setBoolean( object, BOOLEAN1, true );
+			sum += ((String)accessor.getObject( object, STR1 )).length() + accessor.getInt( object, INT1 ) ;
+			if( (Double)accessor.getObject( object, DOUBLE1 ) > 0 && accessor.getBoolean( object, BOOLEAN1 ) )
+				sum++;
+		}
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+		if( sum == 0 )
+			System.out.println( "sum["+sum+"]" );
+		return count / elpaseSecond;
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+ * Binds 5 fields out of a document of 200 fields, most of the time is spent
+ * on the unknown ones.
+ */
+public class PressBindFewFields {
+
+	public static class FewFields {
+		public String		id ;
+		public int			version ;
+		public long			timestamp ;
+		public double		score ;
+		public boolean		active ;
+	}
+
+	public static void main(String[] args) {
+
+		String jsonString = buildJsonString( 200 ) ;
+		byte[] jsonBytes = jsonString.getBytes( StandardCharsets.UTF_8 ) ;
+
+		FewFields obj = OKJSON.stringToObject( jsonString, FewFields.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( obj == null || ! "id-12345".equals(obj.id) || obj.version != 7 || obj.timestamp != 1600000000000L || obj.score != 98.5 || obj.active != true ) {
+			System.out.println( "stringToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+
+		long count = 100000 ;
+		if( args.length > 0 )
+			count = Long.parseLong( args[0] ) ;
+
+		pressStringToObject( jsonString, count/10 );
+		pressBytesToObject( jsonBytes, count/10 );
+
+		double stringCountPerSecond = pressStringToObject( jsonString, count ) ;
+		double bytesCountPerSecond = pressBytesToObject( jsonBytes, count ) ;
+
+		System.out.println( "document length["+jsonBytes.length+"]" );
+		System.out.println( "bind few fields stringToObject count["+count+"] count per second["+stringCountPerSecond+"]" );
+		System.out.println( "bind few fields bytesToObject  count["+count+"] count per second["+bytesCountPerSecond+"]" );
+
+		return;
+	}
+
+	/* known fields spread among unknown scalars, strings with escapes, objects and arrays */
+	private static String buildJsonString( int fieldCount ) {
+		StringBuilder	sb = new StringBuilder() ;
+		int				i ;
+
+		sb.append( "{ " );
+		for( i = 0 ; i < fieldCount ; i++ ) {
+			if( i > 0 )
+				sb.append( ", " );
+			if( i == fieldCount/5 ) {
+				sb.append( "\"id\" : \"id-12345\"" );
+				continue;
+			} else if( i == fieldCount*2/5 ) {
+				sb.append( "\"version\" : 7" );
+				continue;
+			} else if( i == fieldCount*3/5 ) {
+				sb.append( "\"timestamp\" : 1600000000000" );
+				continue;
+			} else if( i == fieldCount*4/5 ) {
+				sb.append( "\"score\" : 98.5" );
+				continue;
+			} else if( i == fieldCount-1 ) {
+				sb.append( "\"active\" : true" );
+				continue;
+			}
+
+			sb.append( "\"unknown" ).append( i ).append( "\" : " );
+			switch( i % 4 ) {
+				case 0 :
+					sb.append( i*1000+0.25 );
+					break;
+				case 1 :
+					sb.append( "\"a string with \\\"quotes\\\", \\\\ and \\u4E2D\\u6587 [{ }]\"" );
+					break;
+				case 2 :
+					sb.append( "{ \"name\" : \"nested\", \"values\" : [ 1, 2, 3, { \"deep\" : [ \"x\", \"y\" ] } ], \"flag\" : false, \"nothing\" : null }" );
+					break;
+				default :
+					sb.append( "[ { \"k\" : \"v\" }, [ 1.5, -2e10 ], \"\\t\\n\", true ]" );
+					break;
+			}
+		}
+		sb.append( " }" );
+
+		return sb.toString();
+	}
+
+	private static double pressStringToObject( String jsonString, long count ) {
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( long l = 0 ; l < count ; l++ ) {
+			FewFields obj = OKJSON.stringToObject( jsonString, FewFields.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+			if( obj == null ) {
+				System.err.println( "stringToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return 0;
+			}
+		}
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+		return count / elpaseSecond;
+	}
+
+	private static double pressBytesToObject( byte[] jsonBytes, long count ) {
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( long l = 0 ; l < count ; l++ ) {
+			FewFields obj = OKJSON.bytesToObject( jsonBytes, 0, jsonBytes.length, FewFields.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+			if( obj == null ) {
+				System.err.println( "bytesToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return 0;
+			}
+		}
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+		return count / elpaseSecond;
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+public class PressBytesToObject {
+
+	public static void main(String[] args) {
+
+		byte[] jsonBytes ;
+		try {
+			jsonBytes = Files.readAllBytes( Paths.get("parser.json") ) ;
+		} catch (Exception e) {
+			e.printStackTrace();
+			return;
+		}
+
+		long count = 200000 ;
+		if( args.length > 0 )
+			count = Long.parseLong( args[0] ) ;
+
+		/* setName1/setName33 in the test data classes print to stdout */
+		PrintStream stdout = System.out ;
+		System.setOut( new PrintStream( new OutputStream() {
+			@Override
+			public void write( int b ) {
+			}
+		} ) );
+
+		pressStringToObject( jsonBytes, count/10 );
+		pressBytesToObject( jsonBytes, count/10 );
+
+		double stringCountPerSecond = pressStringToObject( jsonBytes, count ) ;
+		double bytesCountPerSecond = pressBytesToObject( jsonBytes, count ) ;
+
+		System.setOut( stdout );
+
+		System.out.println( "new String + stringToObject count["+count+"] count per second["+stringCountPerSecond+"]" );
+		System.out.println( "bytesToObject               count["+count+"] count per second["+bytesCountPerSecond+"]" );
+		System.out.println( "key prediction hit["+OKJSON.getKeyPredictionHitCount()+"] miss["+OKJSON.getKeyPredictionMissCount()+"]" );
+
+		return;
+	}
+
+	private static double pressStringToObject( byte[] jsonBytes, long count ) {
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( long l = 0 ; l < count ; l++ ) {
+			String jsonString = new String( jsonBytes, StandardCharsets.UTF_8 ) ;
+			TestDataClass obj = OKJSON.stringToObject( jsonString, TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+			if( obj == null ) {
+				System.err.println( "stringToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return 0;
+			}
+		}
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+		return count / elpaseSecond;
+	}
+
+	private static double pressBytesToObject( byte[] jsonBytes, long count ) {
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( long l = 0 ; l < count ; l++ ) {
+			TestDataClass obj = OKJSON.bytesToObject( jsonBytes, 0, jsonBytes.length, TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+			if( obj == null ) {
+				System.err.println( "bytesToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return 0;
+			}
+		}
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+		return count / elpaseSecond;
+	}
+}
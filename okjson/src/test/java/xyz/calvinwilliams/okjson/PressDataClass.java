@@ -0,0 +1,60 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+public class PressDataClass {
+	private String			str1 ;
+	private int				int1 ;
+	private Double			double1 ;
+	private boolean			boolean1 ;
+	private String			null1 ;
+	public PressDataClass2	press2 ;
+	
+	public String getStr1() {
+		return str1;
+	}
+	public void setStr1(String str1) {
+		this.str1 = str1;
+	}
+
+	public int getInt1() {
+		return int1;
+	}
+	public void setInt1(int int1) {
+		this.int1 = int1;
+	}
+
+	public Double getDouble1() {
+		return double1;
+	}
+	public void setDouble1(Double double1) {
+		this.double1 = double1;
+	}
+
+	public boolean isBoolean1() {
+		return boolean1;
+	}
+	public void setBoolean1(boolean boolean1) {
+		this.boolean1 = boolean1;
+	}
+
+	public PressDataClass2 getPress2() {
+		return press2;
+	}
+	public void setPress2(PressDataClass2 press2) {
+		this.press2 = press2;
+	}
+	
+	public String getNull1() {
+		return null1;
+	}
+	public void setNull1(String null1) {
+		this.null1 = null1;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+public class PressDataClass2 {
+	private byte		byte2 ;
+	private short		short2 ;
+	private Long		long2 ;
+	private float		float2 ;
+	
+	public byte getByte2() {
+		return byte2;
+	}
+	public void setByte2(byte byte2) {
+		this.byte2 = byte2;
+	}
+	
+	public short getShort2() {
+		return short2;
+	}
+	public void setShort2(short short2) {
+		this.short2 = short2;
+	}
+	
+	public Long getLong2() {
+		return long2;
+	}
+	public void setLong2(Long long2) {
+		this.long2 = long2;
+	}
+	
+	public float getFloat2() {
+		return float2;
+	}
+	public void setFloat2(float float2) {
+		this.float2 = float2;
+	}
+}
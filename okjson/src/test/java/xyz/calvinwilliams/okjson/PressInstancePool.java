@@ -0,0 +1,82 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * One parse and one generate of press.json on each of 100000 short-lived
+ * threads, as with one thread per request, with per-thread instances and
+ * with the shared instance pool. Prints the bytes each call allocates on
+ * its thread. The JDK this builds with has no virtual threads, so platform
+ * threads stand in for them, at most 256 alive at a time.
+ */
+public class PressInstancePool {
+
+	final private static String	PRESS_JSON = "{ \"str1\" : \"str1\" , \"int1\" : 1234 , \"double1\" : 1.234 , \"boolean1\" : true , \"press2\" : { \"byte2\" : 2 , \"short2\" : 23 , \"long2\" : 23456789 , \"float2\" : 2.345 } }" ;
+
+	final private static com.sun.management.ThreadMXBean	threadMXBean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean() ;
+
+	public static void main(String[] args) throws Exception {
+
+		int threadCount = 100000 ;
+		if( args.length > 0 )
+			threadCount = Integer.parseInt( args[0] ) ;
+
+		// warm up both ways on the main thread and on some threads
+		OKJSON.setInstancePoolCapacity( 0 );
+		pressThreads( threadCount/10 );
+		OKJSON.setInstancePoolCapacity( 256 );
+		pressThreads( threadCount/10 );
+
+		OKJSON.setInstancePoolCapacity( 0 );
+		pressThreads( threadCount );
+		OKJSON.setInstancePoolCapacity( 256 );
+		pressThreads( threadCount );
+
+		OKJSON.setInstancePoolCapacity( 0 );
+
+		return;
+	}
+
+	private static void pressThreads( int threadCount ) throws Exception {
+		final Semaphore		semaphore = new Semaphore( 256 ) ;
+		final LongAdder		allocatedBytes = new LongAdder() ;
+		final LongAdder		failedCount = new LongAdder() ;
+		Thread				thread = null ;
+		int					i ;
+
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( i = 0 ; i < threadCount ; i++ ) {
+			semaphore.acquire();
+			thread = new Thread( () -> {
+				try {
+					long beginAllocatedBytes = threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() ) ;
+					PressDataClass object = OKJSON.stringToObject( PRESS_JSON, PressDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+					String jsonString = ( object != null ? OKJSON.objectToString( object, 0 ) : null ) ;
+					allocatedBytes.add( threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() ) - beginAllocatedBytes );
+					if( jsonString == null )
+						failedCount.increment();
+				} finally {
+					semaphore.release();
+				}
+			} ) ;
+			thread.start();
+		}
+		semaphore.acquire( 256 );
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+
+		System.out.println( "instance pool capacity["+OKJSON.getInstancePoolCapacity()+"] threads["+threadCount+"] failed["+failedCount.sum()+"] bytes per thread["+allocatedBytes.sum()/threadCount+"] threads per second["+threadCount/elpaseSecond+"]" );
+	}
+}
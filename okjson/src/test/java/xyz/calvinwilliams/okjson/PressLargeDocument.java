@@ -0,0 +1,105 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.ArrayList;
+
+/*
+ * One large document, a list of press.json objects, generated with
+ * objectToString, objectToBytes and objectToFile, each on a fresh generator
+ * as the first call of a thread or after the instance pool let one go, and
+ * on a warm one. Prints the time, the bytes allocated and the peak heap
+ * used by each call.
+ */
+public class PressLargeDocument {
+
+	public static class PressListClass {
+		public ArrayList<PressDataClass>	list1 ;
+	}
+
+	final private static com.sun.management.ThreadMXBean	threadMXBean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean() ;
+
+	public static void main(String[] args) throws Exception {
+
+		int elementCount = 200000 ;
+		if( args.length > 0 )
+			elementCount = Integer.parseInt( args[0] ) ;
+
+		PressListClass object = new PressListClass() ;
+		object.list1 = new ArrayList<PressDataClass>( elementCount ) ;
+		for( int i = 0 ; i < elementCount ; i++ ) {
+			PressDataClass pressDataClass = new PressDataClass() ;
+			pressDataClass.setStr1( "str"+i );
+			pressDataClass.setInt1( i );
+			pressDataClass.setDouble1( i/1000.0 );
+			pressDataClass.setBoolean1( i%2 == 0 );
+			pressDataClass.setPress2( new PressDataClass2() );
+			pressDataClass.getPress2().setLong2( i*1000L );
+			object.list1.add( pressDataClass );
+		}
+
+		File file = File.createTempFile( "press", ".json" ) ;
+		file.deleteOnExit();
+
+		OkJsonGenerator okjsonGenerator ;
+		for( int round = 0 ; round < 5 ; round++ ) {
+			okjsonGenerator = new OkJsonGenerator() ;
+			press( "fresh", okjsonGenerator, object, file, round == 4 );
+			press( "warm", okjsonGenerator, object, file, round == 4 );
+		}
+
+		return;
+	}
+
+	private static void press( String title, OkJsonGenerator okjsonGenerator, Object object, File file, boolean print ) {
+		long	length ;
+
+		beginMeasure();
+		length = okjsonGenerator.objectToString( object ).length() ;
+		endMeasure( title+" objectToString length["+length+"]", print );
+
+		beginMeasure();
+		length = okjsonGenerator.objectToBytes( object ).length ;
+		endMeasure( title+" objectToBytes length["+length+"]", print );
+
+		beginMeasure();
+		if( okjsonGenerator.objectToFile( object, file.getPath() ) != 0 ) {
+			System.out.println( "objectToFile failed["+okjsonGenerator.getErrorCode()+"]["+okjsonGenerator.getErrorDesc()+"]" );
+			return;
+		}
+		endMeasure( title+" objectToFile length["+file.length()+"]", print );
+	}
+
+	private static long		beginAllocatedBytes ;
+	private static long		beginNanoTime ;
+
+	private static void beginMeasure() {
+		System.gc();
+		for( MemoryPoolMXBean memoryPoolMXBean : ManagementFactory.getMemoryPoolMXBeans() )
+			memoryPoolMXBean.resetPeakUsage();
+		beginAllocatedBytes = threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() ) ;
+		beginNanoTime = System.nanoTime() ;
+	}
+
+	// peak heap is the sum of the peaks of the heap pools, an upper bound
+	private static void endMeasure( String title, boolean print ) {
+		long elapse = ( System.nanoTime() - beginNanoTime ) / 1000000 ;
+		long allocatedBytes = threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() ) - beginAllocatedBytes ;
+		long peakBytes = 0 ;
+		for( MemoryPoolMXBean memoryPoolMXBean : ManagementFactory.getMemoryPoolMXBeans() ) {
+			if( memoryPoolMXBean.getType() == java.lang.management.MemoryType.HEAP )
+				peakBytes += memoryPoolMXBean.getPeakUsage().getUsed() ;
+		}
+		if( print )
+			System.out.println( title+" elapse["+elapse+"]ms allocated bytes["+allocatedBytes+"] peak heap bytes["+peakBytes+"]" );
+	}
+}
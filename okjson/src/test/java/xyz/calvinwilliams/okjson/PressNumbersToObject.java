@@ -0,0 +1,98 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+public class PressNumbersToObject {
+
+	public static void main(String[] args) {
+
+		String jsonString ;
+		try {
+			jsonString = new String( Files.readAllBytes( Paths.get("parser.json") ), StandardCharsets.UTF_8 ) ;
+		} catch (Exception e) {
+			e.printStackTrace();
+			return;
+		}
+
+		/* only the numeric sections of parser.json : byte1..long1, array5 and numbers9 */
+		String integers = jsonString.substring( jsonString.indexOf("\"byte1\""), jsonString.indexOf("\"float1\"") ) ;
+		String array5 = jsonString.substring( jsonString.indexOf("\"array5\""), jsonString.indexOf("\"array6\"") ) ;
+		String numbers9 = jsonString.substring( jsonString.indexOf("\"numbers9\""), jsonString.indexOf("\"localDate10\"") ) ;
+		String numbersJsonString = "{ " + integers + array5 + numbers9.substring( 0, numbers9.lastIndexOf('}')+1 ) + " }" ;
+		byte[] numbersJsonBytes = numbersJsonString.getBytes( StandardCharsets.UTF_8 ) ;
+
+		TestDataClass obj = OKJSON.stringToObject( numbersJsonString, TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( obj == null || obj.int1 != 1234 || obj.array5.size() != 3 || obj.numbers9.getLong93() != 1234567890 ) {
+			System.out.println( "stringToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+
+		long count = 1000000 ;
+		if( args.length > 0 )
+			count = Long.parseLong( args[0] ) ;
+
+		PrintStream stdout = System.out ;
+		System.setOut( new PrintStream( new OutputStream() {
+			@Override
+			public void write( int b ) {
+			}
+		} ) );
+
+		pressStringToObject( numbersJsonString, count/10 );
+		pressBytesToObject( numbersJsonBytes, count/10 );
+
+		double stringCountPerSecond = pressStringToObject( numbersJsonString, count ) ;
+		double bytesCountPerSecond = pressBytesToObject( numbersJsonBytes, count ) ;
+
+		System.setOut( stdout );
+
+		System.out.println( "numbers stringToObject count["+count+"] count per second["+stringCountPerSecond+"]" );
+		System.out.println( "numbers bytesToObject  count["+count+"] count per second["+bytesCountPerSecond+"]" );
+
+		return;
+	}
+
+	private static double pressStringToObject( String jsonString, long count ) {
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( long l = 0 ; l < count ; l++ ) {
+			TestDataClass obj = OKJSON.stringToObject( jsonString, TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+			if( obj == null ) {
+				System.err.println( "stringToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return 0;
+			}
+		}
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+		return count / elpaseSecond;
+	}
+
+	private static double pressBytesToObject( byte[] jsonBytes, long count ) {
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( long l = 0 ; l < count ; l++ ) {
+			TestDataClass obj = OKJSON.bytesToObject( jsonBytes, 0, jsonBytes.length, TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+			if( obj == null ) {
+				System.err.println( "bytesToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return 0;
+			}
+		}
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+		return count / elpaseSecond;
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * Generating press.json to UTF-8 bytes, as objectToString then getBytes
+ * and as objectToBytes writing the bytes directly. Prints the bytes each
+ * call allocates too, one array for objectToBytes against a char copy, a
+ * String and its bytes.
+ */
+public class PressObjectToBytes {
+
+	final private static String	PRESS_JSON = "{ \"str1\" : \"str1\" , \"int1\" : 1234 , \"double1\" : 1.234 , \"boolean1\" : true , \"press2\" : { \"byte2\" : 2 , \"short2\" : 23 , \"long2\" : 23456789 , \"float2\" : 2.345 } }" ;
+
+	final private static com.sun.management.ThreadMXBean	threadMXBean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean() ;
+
+	public static void main(String[] args) {
+
+		PressDataClass object = OKJSON.stringToObject( PRESS_JSON, PressDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( object == null ) {
+			System.out.println( "stringToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		byte[] jsonBytes = OKJSON.objectToBytes( object, 0 ) ;
+		if( jsonBytes == null ) {
+			System.out.println( "objectToBytes failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		System.out.println( new String( jsonBytes, StandardCharsets.UTF_8 ) );
+
+		long count = 3000000 ;
+		if( args.length > 0 )
+			count = Long.parseLong( args[0] ) ;
+
+		pressObjectToStringGetBytes( object, count/10 );
+		pressObjectToBytes( object, count/10 );
+
+		long beginAllocatedBytes = threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() ) ;
+		double stringCountPerSecond = pressObjectToStringGetBytes( object, count ) ;
+		long stringAllocatedBytes = threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() ) - beginAllocatedBytes ;
+		beginAllocatedBytes = threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() ) ;
+		double bytesCountPerSecond = pressObjectToBytes( object, count ) ;
+		long bytesAllocatedBytes = threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() ) - beginAllocatedBytes ;
+
+		System.out.println( "press.json objectToString.getBytes count["+count+"] count per second["+stringCountPerSecond+"] bytes per call["+stringAllocatedBytes/count+"]" );
+		System.out.println( "press.json objectToBytes count["+count+"] count per second["+bytesCountPerSecond+"] bytes per call["+bytesAllocatedBytes/count+"]" );
+
+		return;
+	}
+
+	private static double pressObjectToStringGetBytes( PressDataClass object, long count ) {
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( long l = 0 ; l < count ; l++ ) {
+			String jsonString = OKJSON.objectToString( object, 0 ) ;
+			if( jsonString == null ) {
+				System.out.println( "objectToString failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return 0;
+			}
+			byte[] jsonBytes = jsonString.getBytes( StandardCharsets.UTF_8 ) ;
+			if( jsonBytes.length == 0 )
+				return 0;
+		}
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+		return count / elpaseSecond;
+	}
+
+	private static double pressObjectToBytes( PressDataClass object, long count ) {
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( long l = 0 ; l < count ; l++ ) {
+			byte[] jsonBytes = OKJSON.objectToBytes( object, 0 ) ;
+			if( jsonBytes == null ) {
+				System.out.println( "objectToBytes failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return 0;
+			}
+		}
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+		return count / elpaseSecond;
+	}
+}
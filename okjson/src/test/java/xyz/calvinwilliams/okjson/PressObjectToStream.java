@@ -0,0 +1,88 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * One large document, a list of strings, generated whole with objectToBytes
+ * and written out as it goes with objectToStream. Prints the bytes each way
+ * allocates on top of the object, the whole document against the stream
+ * buffer.
+ */
+public class PressObjectToStream {
+
+	public static class PressListClass {
+		public List<String>		list1 ;
+	}
+
+	final private static com.sun.management.ThreadMXBean	threadMXBean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean() ;
+
+	public static void main(String[] args) {
+
+		int elementCount = 2000000 ;
+		if( args.length > 0 )
+			elementCount = Integer.parseInt( args[0] ) ;
+
+		PressListClass object = new PressListClass() ;
+		object.list1 = new ArrayList<String>( elementCount ) ;
+		for( int i = 0 ; i < elementCount ; i++ )
+			object.list1.add( "press stream string "+i );
+
+		CountOutputStream out = new CountOutputStream() ;
+
+		// warm up both ways
+		OKJSON.objectToBytes( object, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE );
+		OKJSON.objectToStream( object, out, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE );
+
+		long beginAllocatedBytes = threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() ) ;
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+		byte[] jsonBytes = OKJSON.objectToBytes( object, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		long bytesAllocatedBytes = threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() ) - beginAllocatedBytes ;
+		if( jsonBytes == null ) {
+			System.out.println( "objectToBytes failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		System.out.println( "objectToBytes length["+jsonBytes.length+"] elapse["+(endMillisSecondstamp-beginMillisSecondstamp)+"]ms allocated bytes["+bytesAllocatedBytes+"]" );
+		jsonBytes = null ;
+
+		out.count = 0 ;
+		beginAllocatedBytes = threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() ) ;
+		beginMillisSecondstamp = System.currentTimeMillis() ;
+		int nret = OKJSON.objectToStream( object, out, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		endMillisSecondstamp = System.currentTimeMillis() ;
+		long streamAllocatedBytes = threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() ) - beginAllocatedBytes ;
+		if( nret != 0 ) {
+			System.out.println( "objectToStream failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		System.out.println( "objectToStream length["+out.count+"] elapse["+(endMillisSecondstamp-beginMillisSecondstamp)+"]ms allocated bytes["+streamAllocatedBytes+"]" );
+
+		return;
+	}
+
+	// drops the bytes, only counts them
+	static class CountOutputStream extends OutputStream {
+		long	count ;
+
+		@Override
+		public void write( int b ) {
+			count++;
+		}
+
+		@Override
+		public void write( byte[] b, int off, int len ) {
+			count += len ;
+		}
+	}
+}
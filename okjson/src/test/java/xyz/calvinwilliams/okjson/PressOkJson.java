@@ -0,0 +1,129 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+/*
+ * The press.json benchmark of README, parser and generator, through the
+ * static OKJSON calls and through an OkJsonMapper.
+ */
+public class PressOkJson {
+
+	final private static String	PRESS_JSON =
+		"{\n" +
+		"	\"str1\" : \"str1\" ,\n" +
+		"	\"int1\" : 1234 ,\n" +
+		"	\"double1\" : 1.234 ,\n" +
+		"	\"boolean1\" : true ,\n" +
+		"	\n" +
+		"	\"press2\" : {\n" +
+		"		\"byte2\" : 2 ,\n" +
+		"		\"short2\" : 23 ,\n" +
+		"		\"long2\" : 23456789 ,\n" +
+		"		\"float2\" : 2.345\n" +
+		"	}\n" +
+		"}\n" ;
+
+	public static void main(String[] args) {
+
+		PressDataClass object = OKJSON.stringToObject( PRESS_JSON, PressDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( object == null || object.getInt1() != 1234 || object.press2 == null || object.press2.getLong2() != 23456789L ) {
+			System.out.println( "stringToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		String jsonString = OKJSON.objectToString( object, 0 ) ;
+		System.out.println( jsonString );
+
+		long count = 3000000 ;
+		if( args.length > 0 )
+			count = Long.parseLong( args[0] ) ;
+
+		OkJsonMapper mapper = OkJsonMapper.builder().setDirectAccessPropertyEnable(true).build() ;
+
+		pressStringToObject( count/10 );
+		pressObjectToString( object, count/10 );
+		pressMapperStringToObject( mapper, count/10 );
+		pressMapperObjectToString( mapper, object, count/10 );
+
+		double parserCountPerSecond = pressStringToObject( count ) ;
+		double generatorCountPerSecond = pressObjectToString( object, count ) ;
+		double mapperParserCountPerSecond = pressMapperStringToObject( mapper, count ) ;
+		double mapperGeneratorCountPerSecond = pressMapperObjectToString( mapper, object, count ) ;
+
+		System.out.println( "press.json stringToObject count["+count+"] count per second["+parserCountPerSecond+"]" );
+		System.out.println( "press.json objectToString count["+count+"] count per second["+generatorCountPerSecond+"]" );
+		System.out.println( "press.json OkJsonMapper.stringToObject count["+count+"] count per second["+mapperParserCountPerSecond+"]" );
+		System.out.println( "press.json OkJsonMapper.objectToString count["+count+"] count per second["+mapperGeneratorCountPerSecond+"]" );
+
+		return;
+	}
+
+	private static double pressStringToObject( long count ) {
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( long l = 0 ; l < count ; l++ ) {
+			PressDataClass object = OKJSON.stringToObject( PRESS_JSON, PressDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+			if( object == null ) {
+				System.out.println( "stringToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return 0;
+			}
+		}
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+		return count / elpaseSecond;
+	}
+
+	private static double pressObjectToString( PressDataClass object, long count ) {
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( long l = 0 ; l < count ; l++ ) {
+			String jsonString = OKJSON.objectToString( object, 0 ) ;
+			if( jsonString == null ) {
+				System.out.println( "objectToString failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return 0;
+			}
+		}
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+		return count / elpaseSecond;
+	}
+
+	private static double pressMapperStringToObject( OkJsonMapper mapper, long count ) {
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( long l = 0 ; l < count ; l++ ) {
+			OkJsonResult<PressDataClass> result = mapper.stringToObject( PRESS_JSON, PressDataClass.class ) ;
+			if( ! result.isOk() ) {
+				System.out.println( "OkJsonMapper.stringToObject failed["+result.getErrorCode()+"]["+result.getErrorDesc()+"]" );
+				return 0;
+			}
+		}
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+		return count / elpaseSecond;
+	}
+
+	private static double pressMapperObjectToString( OkJsonMapper mapper, PressDataClass object, long count ) {
+		long beginMillisSecondstamp = System.currentTimeMillis() ;
+
+		for( long l = 0 ; l < count ; l++ ) {
+			OkJsonResult<String> result = mapper.objectToString( object ) ;
+			if( ! result.isOk() ) {
+				System.out.println( "OkJsonMapper.objectToString failed["+result.getErrorCode()+"]["+result.getErrorDesc()+"]" );
+				return 0;
+			}
+		}
+
+		long endMillisSecondstamp = System.currentTimeMillis() ;
+		double elpaseSecond = (endMillisSecondstamp-beginMillisSecondstamp)/1000.0 ;
+		return count / elpaseSecond;
+	}
+}
@@ -74,4 +74,16 @@ public class TestDataClass {
 	
 	@OkJsonDateTimeFormatter(format="yyyy-MM-dd HH:mm:ss")
 	public LinkedList<LocalDateTime>	list13 ;
+	
+	public int[]				array14 ;
+	public double[]				array15 ;
+	
+	public List<String>			list16 ;
+	public Map<String,Integer>	map17 ;
+	public String[]				array18 ;
+	
+	public List<List<Integer>>				list19 ;
+	public Map<String,List<Integer>>		map20 ;
+	public Map<String,Map<String,Integer>>	map21 ;
+	public List<Map<String,String>>			list22 ;
 }
@@ -0,0 +1,140 @@
+/*
+ * okjson - A small efficient flexible JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/*
+ * Differential test of the decimal parser against Double.parseDouble and
+ * Float.parseFloat, the results must be bit-identical.
+ */
+public class TestDecimalParser {
+
+	private static OkJsonParser		okjsonParser = new OkJsonParser() ;
+	private static long				checkCount = 0 ;
+
+	public static void main(String[] args) {
+
+		long count = 4000000 ;
+		if( args.length > 0 )
+			count = Long.parseLong( args[0] ) ;
+
+		long seed = System.nanoTime() ;
+		if( args.length > 1 )
+			seed = Long.parseLong( args[1] ) ;
+		Random random = new Random( seed ) ;
+		System.out.println( "TestDecimalParser count["+count+"] seed["+seed+"]" );
+
+		String[] fixedCases = {
+			"0.0", "-0.0", "1.0", "-1.0", "0.1", "0.2", "0.3", "1.7976931348623157E308", "1.7976931348623158E308", "1.8E308",
+			"4.9E-324", "2.4703282292062327E-324", "2.4703282292062328E-324", "2.2250738585072011E-308", "2.2250738585072012E-308",
+			"9007199254740993.0", "9007199254740995.0", "1.00000000000000011102230246251565404236316680908203125",
+			"3.4028235E38", "3.4028236E38", "1.4E-45", "7.006492321624085E-46", "1.17549435E-38",
+			"12.34E2", "-12.34E-2", "-0.1234E2", "1234.5678", "1234.5678E+2", "1234.5678E-2", "1e400", "1e-400", "0.000e99999"
+		} ;
+		for( String fixedCase : fixedCases ) {
+			if( check( fixedCase ) == false )
+				return;
+		}
+
+		for( long l = 0 ; l < count ; l++ ) {
+			String s ;
+			switch( (int)(l%5) ) {
+				case 0 :
+					/* shortest representation of a random double */
+					double d = Double.longBitsToDouble( random.nextLong() ) ;
+					if( Double.isNaN(d) || Double.isInfinite(d) )
+						continue;
+					s = Double.toString( d ) ;
+					break;
+				case 1 :
+					/* random significant digits and point position, moderate exponent */
+					s = randomDecimal( random, 1+random.nextInt(19), random.nextInt(61)-30 ) ;
+					break;
+				case 2 :
+					/* full double exponent range including subnormals */
+					s = randomDecimal( random, 1+random.nextInt(19), random.nextInt(700)-360 ) ;
+					break;
+				case 3 :
+					/* integers above 2^53 written with a fraction, odd ones are exactly halfway */
+					long n = (1L<<53) + ( random.nextLong() >>> 11 ) ;
+					s = n + ".0" ;
+					break;
+				default :
+					/* shortest representation of a random float */
+					float f = Float.intBitsToFloat( random.nextInt() ) ;
+					if( Float.isNaN(f) || Float.isInfinite(f) )
+						continue;
+					s = Float.toString( f ) ;
+					break;
+			}
+			if( check( s ) == false )
+				return;
+		}
+
+		System.out.println( "TestDecimalParser checked["+checkCount+"] ok" );
+	}
+
+	private static String randomDecimal( Random random, int digitCount, int exponent ) {
+		StringBuilder	sb = new StringBuilder() ;
+		int				pointPosition = 1 + random.nextInt( digitCount ) ;
+
+		if( random.nextBoolean() )
+			sb.append( '-' );
+		for( int i = 0 ; i < digitCount ; i++ ) {
+			if( i == pointPosition )
+				sb.append( '.' );
+			sb.append( (char)( '0' + random.nextInt(10) ) );
+		}
+		if( pointPosition == digitCount )
+			sb.append( ".0" );
+		if( exponent != 0 )
+			sb.append( 'e' ).append( exponent );
+
+		return sb.toString();
+	}
+
+	final private static String[]	SOURCE_NAMES = { "chars", "bytes", "byteBuffer" } ;
+
+	// both types through each source, as each source has its own jsonCharAt branch
+	private static boolean check( String s ) {
+		byte[]	bytes = s.getBytes( StandardCharsets.UTF_8 ) ;
+		long	expectDoubleBits = Double.doubleToRawLongBits( Double.parseDouble(s) ) ;
+		int		expectFloatBits = Float.floatToRawIntBits( Float.parseFloat(s) ) ;
+		int		source ;
+
+		for( source = 0 ; source < SOURCE_NAMES.length ; source++ ) {
+			setSource( source, s, bytes );
+			if( okjsonParser.parseJsonDouble( 0, bytes.length-1 ) != 0 || Double.doubleToRawLongBits( okjsonParser.getDoubleValue() ) != expectDoubleBits ) {
+				System.out.println( "double["+s+"] from "+SOURCE_NAMES[source]+" parsed["+okjsonParser.getDoubleValue()+"] expect["+Double.parseDouble(s)+"]" );
+				return false;
+			}
+
+			setSource( source, s, bytes );
+			if( okjsonParser.parseJsonFloat( 0, bytes.length-1 ) != 0 || Float.floatToRawIntBits( okjsonParser.getFloatValue() ) != expectFloatBits ) {
+				System.out.println( "float["+s+"] from "+SOURCE_NAMES[source]+" parsed["+okjsonParser.getFloatValue()+"] expect["+Float.parseFloat(s)+"]" );
+				return false;
+			}
+		}
+
+		checkCount++;
+		return true;
+	}
+
+	private static void setSource( int source, String s, byte[] bytes ) {
+		if( source == 0 )
+			okjsonParser.setJsonString( s );
+		else if( source == 1 )
+			okjsonParser.setJsonBytes( bytes, 0, bytes.length );
+		else
+			okjsonParser.setJsonByteBuffer( ByteBuffer.wrap( bytes ) );
+	}
+}
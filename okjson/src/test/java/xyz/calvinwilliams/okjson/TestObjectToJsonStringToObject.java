@@ -0,0 +1,1086 @@
+/*
+ * okjson - A easy JSON parser/generator for Java
+ * author	: calvin
+ * email	: calvinwilliams@163.com
+ *
+ * See the file LICENSE in base directory.
+ */
+
+package xyz.calvinwilliams.okjson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * @author calvin
+ *
+ */
+public class TestObjectToJsonStringToObject {
+	
+	// past the builder chunk size, with no null fields of other types
+	public static class TestLargeClass {
+		public List<String>		list1 ;
+	}
+	
+	// no no-arg constructor, OKJSON cannot make one
+	public static class TestNoDefaultConstructorClass {
+		public int		int1 ;
+		
+		public TestNoDefaultConstructorClass( int int1 ) {
+			this.int1 = int1 ;
+		}
+	}
+	
+	// counts the strings the ISO date and time fast path reads straight from the buffer
+	static class TestDateTimeParser extends OkJsonParser {
+		int		dateCount ;
+		int		timeCount ;
+		int		dateTimeCount ;
+		
+		@Override
+		LocalDate parseJsonLocalDate( int beginOffset, int endOffset ) {
+			dateCount++;
+			return super.parseJsonLocalDate( beginOffset, endOffset );
+		}
+		
+		@Override
+		LocalTime parseJsonLocalTime( int beginOffset, int endOffset ) {
+			timeCount++;
+			return super.parseJsonLocalTime( beginOffset, endOffset );
+		}
+		
+		@Override
+		LocalDateTime parseJsonLocalDateTime( int beginOffset, int endOffset ) {
+			dateTimeCount++;
+			return super.parseJsonLocalDateTime( beginOffset, endOffset );
+		}
+	}
+	
+	public static void setTestDataObject( TestDataClass object ) {
+		
+		TestDataBranch7		branch7 ;
+		
+		object.str1 = "str2" ;
+		object.byte1 = 1 ;
+		object.short1 = 12 ;
+		object.int1 = 1234 ;
+		object.long1 = 12345678L ;
+		object.float1 = 1.2f ;
+		object.double1 = 12.34 ;
+		object.boolean1 = true ;
+		object.name1 = null ;
+		
+		object.branch2 = new TestDataBranch2() ;
+		object.branch2.str2 = "str2" ;
+		object.branch2.byte2 = 2 ;
+		object.branch2.short2 = 23 ;
+		object.branch2.int2 = 2345 ;
+		object.branch2.long2 = 23456789L ;
+		object.branch2.float2 = 2.3f ;
+		object.branch2.double2 = 23.45 ;
+		object.branch2.boolean2 = false ;
+		
+		object.array4 = new LinkedList<String>() ;
+		object.array4.add( "AAA" );
+		object.array4.add( "BBB" );
+		object.array4.add( "CCC" );
+		
+		object.array5 = new ArrayList<Integer>() ;
+		object.array5.add( 12 );
+		object.array5.add( 34 );
+		object.array5.add( 56 );
+		
+		object.array6 = new LinkedList<Boolean>() ;
+		object.array6.add( true );
+		object.array6.add( false );
+		object.array6.add( true );
+		
+		object.array7 = new ArrayList<TestDataBranch7>() ;
+		
+		branch7 = new TestDataBranch7() ;
+		branch7.str7 = "str71" ;
+		branch7.int7 = 71 ;
+		object.array7.add(branch7);
+		
+		branch7 = new TestDataBranch7() ;
+		branch7.str7 = "str72" ;
+		branch7.int7 = 0 ;
+		object.array7.add(branch7);
+		
+		branch7 = new TestDataBranch7() ;
+		branch7.str7 = null ;
+		branch7.int7 = 0 ;
+		object.array7.add(branch7);
+		
+		object.strings8 = new TestDataStrings8() ;
+		object.strings8.setString81( "\"\\/\b\f\n\r\t" );
+		object.strings8.setString82( "ABC\"\\/\b\f\n\r\t" );
+		object.strings8.setString83( "\"\\/\b\f\n\r\tABC" );
+		object.strings8.setString84( "A\"\\/B\b\f\n\r\tC" );
+		object.strings8.setString85( "\u8BA1\u7B97\u673A\u5B66\u9662" );
+		object.strings8.setString86( "ABC\u8BA1\u7B97\u673A\u5B66\u9662" );
+		object.strings8.setString87( "\u8BA1\u7B97\u673A\u5B66\u9662ABC" );
+		object.strings8.setString88( "A\u8BA1\u7B97B\u673A\u5B66\u9662C" );
+		object.strings8.setString89( "\u8BA1A\u7B97\u673AB\u5B66C\u9662" );
+		
+		object.numbers9 = new TestDataNumbers9() ;
+		object.numbers9.setLong91( 123 );
+		object.numbers9.setLong92( -123 );
+		object.numbers9.setLong93( 1234567890 );
+		object.numbers9.setFloatE94( 12.34E2f );
+		object.numbers9.setFloatE95( -12.34E-2f );
+		object.numbers9.setFloatE96( -0.1234E4f );
+		object.numbers9.setDoubleE97( 1234.5678 );
+		object.numbers9.setDoubleE98( 1234.5678E2 );
+		object.numbers9.setDoubleE99( 1234.5678E-2 );
+		
+		object.localDate10 = LocalDate.of( 2019, 4, 10 ) ;
+		object.localTime11 = LocalTime.of( 21, 31, 41 ) ;
+		object.localDateTime12 = LocalDateTime.of( object.localDate10, object.localTime11 ) ;
+		
+		object.list13 = new LinkedList<LocalDateTime>() ;
+		object.list13.add( LocalDateTime.now() );
+		
+		object.array14 = new int[]{ 1, -2, 3 } ;
+		object.array15 = new double[]{ 1.5, -0.25, 1E10 } ;
+		
+		object.list16 = new ArrayList<String>() ;
+		object.list16.add( "a\"b" );
+		object.list16.add( null );
+		object.list16.add( "\u00e9\u4e2d\ud83d\ude00" );
+		object.list16.add( "\u0001\t/\\" );
+		object.map17 = new LinkedHashMap<String,Integer>() ;
+		object.map17.put( "x", 1 );
+		object.map17.put( "y", null );
+		object.array18 = new String[]{ "p", "q" } ;
+		
+		object.list19 = new ArrayList<List<Integer>>() ;
+		object.list19.add( Arrays.asList( 1, 2 ) );
+		object.list19.add( new ArrayList<Integer>() );
+		object.list19.add( null );
+		object.map20 = new LinkedHashMap<String,List<Integer>>() ;
+		object.map20.put( "a", Arrays.asList( 1, 2 ) );
+		object.map21 = new LinkedHashMap<String,Map<String,Integer>>() ;
+		object.map21.put( "m", new LinkedHashMap<String,Integer>() );
+		object.map21.get( "m" ).put( "x", 3 );
+		object.list22 = new ArrayList<Map<String,String>>() ;
+		object.list22.add( new LinkedHashMap<String,String>() );
+		object.list22.get( 0 ).put( "k", "v" );
+		
+		return;
+	}
+	
+	public static void printTestDataClass( TestDataClass obj ) {
+		System.out.println( "------------------------------ dump TestDataClass" );
+		System.out.println( "TestDataClass.str1["+obj.str1+"]" );
+		System.out.println( "TestDataClass.byte1["+obj.byte1+"]" );
+		System.out.println( "TestDataClass.short1["+obj.short1+"]" );
+		System.out.println( "TestDataClass.int1["+obj.int1+"]" );
+		System.out.println( "TestDataClass.long1["+obj.long1+"]" );
+		System.out.println( "TestDataClass.float1["+obj.float1+"]" );
+		System.out.println( "TestDataClass.double1["+obj.double1+"]" );
+		System.out.println( "TestDataClass.boolean1["+obj.boolean1+"]" );
+		System.out.println( "TestDataClass.name1["+obj.name1+"]" );
+		
+		System.out.println( "------------------------------ dump TestDataClass.branch2" );
+		if( obj.branch2 != null ) {
+			System.out.println( "TestDataClass.branch2.str2["+obj.branch2.str2+"]" );
+			System.out.println( "TestDataClass.branch2.byte2["+obj.branch2.byte2+"]" );
+			System.out.println( "TestDataClass.branch2.short2["+obj.branch2.short2+"]" );
+			System.out.println( "TestDataClass.branch2.int2["+obj.branch2.int2+"]" );
+			System.out.println( "TestDataClass.branch2.long2["+obj.branch2.long2+"]" );
+			System.out.println( "TestDataClass.branch2.float2["+obj.branch2.float2+"]" );
+			System.out.println( "TestDataClass.branch2.double2["+obj.branch2.double2+"]" );
+			System.out.println( "TestDataClass.branch2.boolean2["+obj.branch2.boolean2+"]" );
+		}
+		
+		System.out.println( "------------------------------ dump TestDataClass.branch3" );
+		if( obj.branch3 != null ) {
+			System.out.println( "TestDataClass.branch3.str3["+obj.branch3.str3+"]" );
+			System.out.println( "TestDataClass.branch3.byte3["+obj.branch3.byte3+"]" );
+			System.out.println( "TestDataClass.branch3.short3["+obj.branch3.short3+"]" );
+			System.out.println( "TestDataClass.branch3.int3["+obj.branch3.int3+"]" );
+			System.out.println( "TestDataClass.branch3.Long3["+obj.branch3.long3+"]" );
+			System.out.println( "TestDataClass.branch3.Float3["+obj.branch3.float3+"]" );
+			System.out.println( "TestDataClass.branch3.double3["+obj.branch3.double3+"]" );
+			System.out.println( "TestDataClass.branch3.boolean3["+obj.branch3.boolean3+"]" );
+			
+			System.out.println( "------------------------------ dump TestDataClass.branch3.branch33" );
+			if( obj.branch3.branch33 != null ) {
+				System.out.println( "TestDataClass.branch3.branch33.str33["+obj.branch3.branch33.str33+"]" );
+				System.out.println( "TestDataClass.branch3.branch33.byte33["+obj.branch3.branch33.byte33+"]" );
+				System.out.println( "TestDataClass.branch3.branch33.short33["+obj.branch3.branch33.short33+"]" );
+				System.out.println( "TestDataClass.branch3.branch33.Int33["+obj.branch3.branch33.int33+"]" );
+				System.out.println( "TestDataClass.branch3.branch33.long33["+obj.branch3.branch33.long33+"]" );
+				System.out.println( "TestDataClass.branch3.branch33.float33["+obj.branch3.branch33.float33+"]" );
+				System.out.println( "TestDataClass.branch3.branch33.Double33["+obj.branch3.branch33.double33+"]" );
+				System.out.println( "TestDataClass.branch3.branch33.Boolean33["+obj.branch3.branch33.boolean33+"]" );
+				System.out.println( "TestDataClass.branch3.branch33.name33["+obj.branch3.branch33.name33+"]" );
+			}
+		}
+		
+		System.out.println( "------------------------------ dump TestDataClass.array4" );
+		if( obj.array4 != null ) {
+			Iterator<String> iterArray4 = obj.array4.iterator() ;
+			while( iterArray4.hasNext() ) {
+				String value = iterArray4.next() ;
+				System.out.println( "TestDataClass.array4.<String>.["+value+"]" );
+			}
+		}
+		
+		System.out.println( "------------------------------ dump TestDataClass.array5" );
+		if( obj.array5 != null ) {
+			Iterator<Integer> iterArray5 = obj.array5.iterator() ;
+			while( iterArray5.hasNext() ) {
+				Integer value = iterArray5.next() ;
+				System.out.println( "TestDataClass.array5.<Integer>.["+value+"]" );
+			}
+		}
+		
+		System.out.println( "------------------------------ dump TestDataClass.array6" );
+		if( obj.array6 != null ) {
+			Iterator<Boolean> iterArray6 = obj.array6.iterator() ;
+			while( iterArray6.hasNext() ) {
+				Boolean value = iterArray6.next() ;
+				System.out.println( "TestDataClass.array6.<Boolean>.["+value+"]" );
+			}
+		}
+		
+		System.out.println( "------------------------------ dump TestDataClass.array65" );
+		if( obj.array65 != null ) {
+			Iterator<String> iterArray65 = obj.array65.iterator() ;
+			while( iterArray65.hasNext() ) {
+				String value = iterArray65.next() ;
+				System.out.println( "TestDataClass.array65.<Boolean>.["+value+"]" );
+			}
+		}
+		
+		System.out.println( "------------------------------ dump TestDataClass.array7" );
+		if( obj.array7 != null ) {
+			Iterator<TestDataBranch7> iterArray7 = obj.array7.iterator() ;
+			while( iterArray7.hasNext() ) {
+				TestDataBranch7 value = iterArray7.next() ;
+				System.out.println( "TestDataClass.array7.<Branch7>.str7["+value.str7+"] .int7["+value.int7+"]" );
+			}
+		}
+		
+		System.out.println( "------------------------------ dump TestDataClass.strings8" );
+		if( obj.strings8 != null ) {
+			System.out.println( "TestDataClass.strings8.string81["+obj.strings8.getString81()+"]" );
+			System.out.println( "TestDataClass.strings8.string82["+obj.strings8.getString82()+"]" );
+			System.out.println( "TestDataClass.strings8.string83["+obj.strings8.getString83()+"]" );
+			System.out.println( "TestDataClass.strings8.string84["+obj.strings8.getString84()+"]" );
+			System.out.println( "TestDataClass.strings8.string85["+obj.strings8.getString85()+"]" );
+			System.out.println( "TestDataClass.strings8.string86["+obj.strings8.getString86()+"]" );
+			System.out.println( "TestDataClass.strings8.string87["+obj.strings8.getString87()+"]" );
+			System.out.println( "TestDataClass.strings8.string88["+obj.strings8.getString88()+"]" );
+			System.out.println( "TestDataClass.strings8.string89["+obj.strings8.getString89()+"]" );
+		}
+		
+		System.out.println( "------------------------------ dump TestDataClass.numbers9" );
+		if( obj.numbers9 != null ) {
+			System.out.println( "TestDataClass.numbers9.long91["+obj.numbers9.getLong91()+"]" );
+			System.out.println( "TestDataClass.numbers9.long92["+obj.numbers9.getLong92()+"]" );
+			System.out.println( "TestDataClass.numbers9.long93["+obj.numbers9.getLong93()+"]" );
+			System.out.println( "TestDataClass.numbers9.floatE94["+obj.numbers9.getFloatE94()+"]" );
+			System.out.println( "TestDataClass.numbers9.floatE95["+obj.numbers9.getFloatE95()+"]" );
+			System.out.println( "TestDataClass.numbers9.floatE96["+obj.numbers9.getFloatE96()+"]" );
+			System.out.println( "TestDataClass.numbers9.doubleE97["+obj.numbers9.getDoubleE97()+"]" );
+			System.out.println( "TestDataClass.numbers9.doubleE98["+obj.numbers9.getDoubleE98()+"]" );
+			System.out.println( "TestDataClass.numbers9.doubleE99["+obj.numbers9.getDoubleE99()+"]" );
+		}
+		
+		System.out.println( "TestDataClass.localDate10["+DateTimeFormatter.ofPattern("yyyy-MM-dd").format(obj.localDate10)+"]" );
+		System.out.println( "TestDataClass.localTime11["+DateTimeFormatter.ofPattern("HH:mm:ss").format(obj.localTime11)+"]" );
+		System.out.println( "TestDataClass.localDateTime12["+DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(obj.localDateTime12)+"]" );
+		
+		System.out.println( "------------------------------ dump TestDataClass.list13" );
+		if( obj.list13 != null ) {
+			Iterator<LocalDateTime> iterList13 = obj.list13.iterator() ;
+			while( iterList13.hasNext() ) {
+				LocalDateTime localDateTime = iterList13.next() ;
+				System.out.println( "TestDataClass.list13.<LocalDateTime>.["+DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(localDateTime)+"]" );
+			}
+		}
+		
+		System.out.println( "TestDataClass.array14"+Arrays.toString(obj.array14) );
+		System.out.println( "TestDataClass.array15"+Arrays.toString(obj.array15) );
+		System.out.println( "TestDataClass.list16"+obj.list16 );
+		System.out.println( "TestDataClass.map17"+obj.map17 );
+		System.out.println( "TestDataClass.array18"+Arrays.toString(obj.array18) );
+		System.out.println( "TestDataClass.list19"+obj.list19 );
+		System.out.println( "TestDataClass.map20"+obj.map20 );
+		System.out.println( "TestDataClass.map21"+obj.map21 );
+		System.out.println( "TestDataClass.list22"+obj.list22 );
+		
+		System.out.println( "------------------------------ dump end" );
+	}
+	
+	public static void main(String[] args) {
+		TestDataClass	object ;
+		TestDataClass	object2 ;
+		TestDataClass	object3 ;
+		String			string ;
+		String			string2 ;
+		String			string3 ;
+		int				nret = 0 ;
+		
+		object = new TestDataClass() ;
+		setTestDataObject( object ) ;
+		printTestDataClass( object );
+		
+		string = OKJSON.objectToString( object, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_PRETTY_FORMAT_ENABLE ) ;
+		if( string == null ) {
+			System.out.println( "objectToString failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		} else if( ! string.contains( "\"\\u0001\\t\\/\\\\\"" ) ) {
+			System.out.println( "objectToString result["+string+"] has not escaped control chars" );
+			return;
+		} else {
+			System.out.println( "objectToString ok" );
+			System.out.println( "jsonString["+string+"]" );
+		}
+		
+		object2 = OKJSON.stringToObject( string, TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( object2 == null ) {
+			System.out.println( "stringToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		else {
+			System.out.println( "stringToObject ok" );
+			printTestDataClass( object2 );
+		}
+		
+		string2 = OKJSON.objectToString( object2, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( string2 == null ) {
+			System.out.println( "objectToString failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		} else {
+			System.out.println( "objectToString ok" );
+			System.out.println( "jsonString["+string2+"]" );
+		}
+		
+		object3 = OKJSON.stringToObject( string2, TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( object3 == null ) {
+			System.out.println( "stringToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		else {
+			System.out.println( "stringToObject ok" );
+			printTestDataClass( object3 );
+		}
+		
+		if( ! Arrays.equals(object.array14,object3.array14) || ! Arrays.equals(object.array15,object3.array15) ) {
+			System.out.println( "object.array14/array15 is not equals with object3.array14/array15" );
+			return;
+		}
+		if( ! object.list16.equals(object3.list16) || ! object.map17.equals(object3.map17) || ! Arrays.equals(object.array18,object3.array18) ) {
+			System.out.println( "object.list16/map17/array18 is not equals with object3.list16/map17/array18" );
+			return;
+		}
+		if( ! object.list19.equals(object3.list19) || ! object.map20.equals(object3.map20) || ! object.map21.equals(object3.map21) || ! object.list22.equals(object3.list22) ) {
+			System.out.println( "object.list19/map20/map21/list22 is not equals with object3.list19/map20/map21/list22" );
+			return;
+		}
+		if( object.strings8.getString81() != null && object3.strings8.getString81() != null && ! object.strings8.getString81().equals(object3.strings8.getString81()) ) {
+			System.out.println( "object.strings8.string81["+object.strings8.getString81()+"] is not equals with object3.strings8.string81["+object3.strings8.getString81()+"]" );
+			return;
+		}
+		if( object.strings8.getString82() != null && object3.strings8.getString82() != null && ! object.strings8.getString82().equals(object3.strings8.getString82()) ) {
+			System.out.println( "object.strings8.string82["+object.strings8.getString82()+"] is not equals with object3.strings8.string82["+object3.strings8.getString82()+"]" );
+			return;
+		}
+		if( object.strings8.getString83() != null && object3.strings8.getString83() != null && ! object.strings8.getString83().equals(object3.strings8.getString83()) ) {
+			System.out.println( "object.strings8.string83["+object.strings8.getString83()+"] is not equals with object3.strings8.string83["+object3.strings8.getString83()+"]" );
+			return;
+		}
+		if( object.strings8.getString84() != null && object3.strings8.getString84() != null && ! object.strings8.getString84().equals(object3.strings8.getString84()) ) {
+			System.out.println( "object.strings8.string84["+object.strings8.getString84()+"] is not equals with object3.strings8.string84["+object3.strings8.getString84()+"]" );
+			return;
+		}
+		if( object.strings8.getString85() != null && object3.strings8.getString85() != null && ! object.strings8.getString85().equals(object3.strings8.getString85()) ) {
+			System.out.println( "object.strings8.string85["+object.strings8.getString85()+"] is not equals with object3.strings8.string85["+object3.strings8.getString85()+"]" );
+			return;
+		}
+		if( object.strings8.getString86() != null && object3.strings8.getString86() != null && ! object.strings8.getString86().equals(object3.strings8.getString86()) ) {
+			System.out.println( "object.strings8.string86["+object.strings8.getString86()+"] is not equals with object3.strings8.string86["+object3.strings8.getString86()+"]" );
+			return;
+		}
+		if( object.strings8.getString87() != null && object3.strings8.getString87() != null && ! object.strings8.getString87().equals(object3.strings8.getString87()) ) {
+			System.out.println( "object.strings8.string87["+object.strings8.getString87()+"] is not equals with object3.strings8.string87["+object3.strings8.getString87()+"]" );
+			return;
+		}
+		if( object.strings8.getString88() != null && object3.strings8.getString88() != null && ! object.strings8.getString88().equals(object3.strings8.getString88()) ) {
+			System.out.println( "object.strings8.string88["+object.strings8.getString88()+"] is not equals with object3.strings8.string88["+object3.strings8.getString88()+"]" );
+			return;
+		}
+		if( object.strings8.getString89() != null && object3.strings8.getString89() != null && ! object.strings8.getString89().equals(object3.strings8.getString89()) ) {
+			System.out.println( "object.strings8.string89["+object.strings8.getString89()+"] is not equals with object3.strings8.string89["+object3.strings8.getString89()+"]" );
+			return;
+		}
+		
+		System.out.println( "fileToObject ..." );
+		object = OKJSON.fileToObject( "parser.json", TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( object == null ) {
+			System.out.println( "fileToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		else {
+			System.out.println( "fileToObject ok" );
+			printTestDataClass( object );
+		}
+		
+		System.out.println( "bytesToObject ..." );
+		byte[] jsonBytes ;
+		try {
+			jsonBytes = Files.readAllBytes( Paths.get("parser.json") ) ;
+		} catch (IOException e) {
+			e.printStackTrace();
+			return;
+		}
+		object2 = OKJSON.bytesToObject( jsonBytes, 0, jsonBytes.length, TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( object2 == null ) {
+			System.out.println( "bytesToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		string = OKJSON.objectToString( object, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		string2 = OKJSON.objectToString( object2, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( ! string.equals(string2) ) {
+			System.out.println( "bytesToObject result["+string2+"] is not equals with fileToObject result["+string+"]" );
+			return;
+		} else {
+			System.out.println( "bytesToObject ok" );
+		}
+		
+		System.out.println( "objectToBytes ..." );
+		for( int options : new int[]{ OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_PRETTY_FORMAT_ENABLE } ) {
+			byte[] generatedBytes = OKJSON.objectToBytes( object, options ) ;
+			if( generatedBytes == null ) {
+				System.out.println( "objectToBytes failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return;
+			}
+			String generatedString = OKJSON.objectToString( object, options ) ;
+			if( ! Arrays.equals( generatedBytes, generatedString.getBytes(StandardCharsets.UTF_8) ) ) {
+				System.out.println( "objectToBytes result["+new String(generatedBytes,StandardCharsets.UTF_8)+"] is not equals with objectToString result["+generatedString+"]" );
+				return;
+			}
+		}
+		System.out.println( "objectToBytes ok" );
+		
+		System.out.println( "objectToStream ..." );
+		for( int options : new int[]{ OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_PRETTY_FORMAT_ENABLE } ) {
+			// a buffer shorter than some strings, flushed many times
+			OkJsonMapper streamMapper = OkJsonMapper.builder().setOptions( options ).setStreamWindowSize( 16 ).build() ;
+			byte[] generatedBytes = OKJSON.objectToBytes( object, options ) ;
+			ByteArrayOutputStream streamOut = new ByteArrayOutputStream() ;
+			OkJsonResult<Long> streamResult = streamMapper.objectToStream( object, streamOut ) ;
+			if( ! streamResult.isOk() || streamResult.getValue() != generatedBytes.length || ! Arrays.equals( streamOut.toByteArray(), generatedBytes ) ) {
+				System.out.println( "objectToStream failed["+streamResult.getErrorCode()+"]["+streamResult.getErrorDesc()+"] result["+streamOut.toString()+"]" );
+				return;
+			}
+			ByteArrayOutputStream channelOut = new ByteArrayOutputStream() ;
+			OkJsonResult<Long> channelResult = streamMapper.objectToChannel( object, Channels.newChannel( channelOut ) ) ;
+			if( ! channelResult.isOk() || ! Arrays.equals( channelOut.toByteArray(), generatedBytes ) ) {
+				System.out.println( "objectToChannel failed["+channelResult.getErrorCode()+"]["+channelResult.getErrorDesc()+"] result["+channelOut.toString()+"]" );
+				return;
+			}
+			StringWriter writerOut = new StringWriter() ;
+			OkJsonResult<Long> writerResult = streamMapper.objectToWriter( object, writerOut ) ;
+			if( ! writerResult.isOk() || ! writerOut.toString().equals( OKJSON.objectToString( object, options ) ) ) {
+				System.out.println( "objectToWriter failed["+writerResult.getErrorCode()+"]["+writerResult.getErrorDesc()+"] result["+writerOut.toString()+"]" );
+				return;
+			}
+		}
+		ByteArrayOutputStream streamOut = new ByteArrayOutputStream() ;
+		if( OKJSON.objectToStream( object, streamOut, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) != 0 || ! Arrays.equals( streamOut.toByteArray(), OKJSON.objectToBytes( object, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ) ) {
+			System.out.println( "OKJSON.objectToStream failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		System.out.println( "objectToStream ok" );
+		
+		System.out.println( "streamToObject ..." );
+		OkJsonParser okjsonParser = new OkJsonParser() ;
+		okjsonParser.setDirectAccessPropertyEnable( true );
+		okjsonParser.setStreamWindowSize( 16 );
+		try( InputStream in = new FileInputStream("parser.json") ) {
+			object2 = okjsonParser.streamToObject( in, new TestDataClass() ) ;
+		} catch (IOException e) {
+			e.printStackTrace();
+			return;
+		}
+		if( object2 == null ) {
+			System.out.println( "streamToObject failed["+okjsonParser.getErrorCode()+"]["+okjsonParser.getErrorDesc()+"]" );
+			return;
+		}
+		string2 = OKJSON.objectToString( object2, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( ! string.equals(string2) ) {
+			System.out.println( "streamToObject result["+string2+"] is not equals with fileToObject result["+string+"]" );
+			return;
+		} else {
+			System.out.println( "streamToObject ok" );
+		}
+		
+		System.out.println( "readerToObject ..." );
+		try( Reader reader = new InputStreamReader( new FileInputStream("parser.json"), StandardCharsets.UTF_8 ) ) {
+			object2 = okjsonParser.readerToObject( reader, new TestDataClass() ) ;
+		} catch (IOException e) {
+			e.printStackTrace();
+			return;
+		}
+		if( object2 == null ) {
+			System.out.println( "readerToObject failed["+okjsonParser.getErrorCode()+"]["+okjsonParser.getErrorDesc()+"]" );
+			return;
+		}
+		string2 = OKJSON.objectToString( object2, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( ! string.equals(string2) ) {
+			System.out.println( "readerToObject result["+string2+"] is not equals with fileToObject result["+string+"]" );
+			return;
+		} else {
+			System.out.println( "readerToObject ok" );
+		}
+		
+		System.out.println( "fileToObject mapped ..." );
+		object2 = OKJSON.fileToObject( "parser.json", TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_FILE_MAPPED_ENABLE ) ;
+		if( object2 == null ) {
+			System.out.println( "fileToObject mapped failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		string2 = OKJSON.objectToString( object2, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( ! string.equals(string2) ) {
+			System.out.println( "fileToObject mapped result["+string2+"] is not equals with fileToObject result["+string+"]" );
+			return;
+		} else {
+			System.out.println( "fileToObject mapped ok" );
+		}
+		
+		System.out.println( "fileToObject utf-8 ..." );
+		String utf8String = "中文 café" ;
+		Path utf8Path ;
+		try {
+			utf8Path = Files.createTempFile( "okjson", ".json" ) ;
+			Files.write( utf8Path, ( "{ \"str1\" : \""+utf8String+"\" }" ).getBytes( StandardCharsets.UTF_8 ) );
+		} catch (IOException e) {
+			e.printStackTrace();
+			return;
+		}
+		try {
+			// the same file reads the same with or without the mapping, whatever the platform charset
+			for( int fileOptions : new int[]{ OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_FILE_MAPPED_ENABLE } ) {
+				object2 = OKJSON.fileToObject( utf8Path.toString(), TestDataClass.class, fileOptions ) ;
+				if( object2 == null || ! utf8String.equals(object2.str1) ) {
+					System.out.println( "fileToObject utf-8 options["+fileOptions+"] failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"] str1["+( object2 != null ? object2.str1 : null )+"]" );
+					return;
+				}
+				object2 = okjsonParser.fileToObject( utf8Path.toString(), new TestDataClass() ) ;
+				if( object2 == null || ! utf8String.equals(object2.str1) ) {
+					System.out.println( "OkJsonParser.fileToObject utf-8 failed["+okjsonParser.getErrorCode()+"]["+okjsonParser.getErrorDesc()+"]" );
+					return;
+				}
+				object2 = OKJSON.fileToObject( utf8Path.toString()+".none", TestDataClass.class, fileOptions ) ;
+				if( object2 != null || OKJSON.getErrorCode() != OKJSON.OKJSON_ERROR_EXCEPTION ) {
+					System.out.println( "fileToObject of a missing file options["+fileOptions+"] error["+OKJSON.getErrorCode()+"]" );
+					return;
+				}
+			}
+		} finally {
+			try {
+				Files.deleteIfExists( utf8Path );
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+		System.out.println( "fileToObject utf-8 ok" );
+		
+		System.out.println( "OkJsonFeedParser ..." );
+		List<TestDataClass> fedObjects = new LinkedList<TestDataClass>() ;
+		OkJsonFeedParser<TestDataClass> feedParser = new OkJsonFeedParser<TestDataClass>( TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE, fedObjects::add ) ;
+		ByteBuffer feedByteBuffer = ByteBuffer.allocate( jsonBytes.length*2+1 ) ;
+		feedByteBuffer.put( jsonBytes ).put( (byte)'\n' ).put( jsonBytes ).flip();
+		while( feedByteBuffer.hasRemaining() ) {
+			ByteBuffer chunkByteBuffer = feedByteBuffer.slice() ;
+			chunkByteBuffer.limit( Math.min( 7, chunkByteBuffer.remaining() ) );
+			feedByteBuffer.position( feedByteBuffer.position()+chunkByteBuffer.remaining() );
+			nret = feedParser.feed( chunkByteBuffer ) ;
+			if( nret != 0 ) {
+				System.out.println( "OkJsonFeedParser.feed failed["+feedParser.getErrorCode()+"]["+feedParser.getErrorDesc()+"]" );
+				return;
+			}
+		}
+		ByteBuffer directByteBuffer = ByteBuffer.allocateDirect( jsonBytes.length ) ;
+		directByteBuffer.put( jsonBytes ).flip();
+		nret = feedParser.feed( directByteBuffer ) ;
+		if( nret != 0 ) {
+			System.out.println( "OkJsonFeedParser.feed failed["+feedParser.getErrorCode()+"]["+feedParser.getErrorDesc()+"]" );
+			return;
+		}
+		if( fedObjects.size() != 3 ) {
+			System.out.println( "OkJsonFeedParser emitted "+fedObjects.size()+" objects, expect 3" );
+			return;
+		}
+		for( TestDataClass fedObject : fedObjects ) {
+			string2 = OKJSON.objectToString( fedObject, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+			if( ! string.equals(string2) ) {
+				System.out.println( "OkJsonFeedParser result["+string2+"] is not equals with fileToObject result["+string+"]" );
+				return;
+			}
+		}
+		// one byte at a time, every string, number and literal is cut
+		fedObjects.clear();
+		for( int i = 0 ; i < jsonBytes.length ; i++ ) {
+			nret = feedParser.feed( ByteBuffer.wrap( jsonBytes, i, 1 ) ) ;
+			if( nret != 0 ) {
+				System.out.println( "OkJsonFeedParser.feed byte "+i+" failed["+feedParser.getErrorCode()+"]["+feedParser.getErrorDesc()+"]" );
+				return;
+			}
+		}
+		if( fedObjects.size() != 1 || feedParser.isObjectPending() ) {
+			System.out.println( "OkJsonFeedParser emitted "+fedObjects.size()+" objects byte by byte, expect 1" );
+			return;
+		}
+		string2 = OKJSON.objectToString( fedObjects.get(0), OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( ! string.equals(string2) ) {
+			System.out.println( "OkJsonFeedParser byte by byte result["+string2+"] is not equals with fileToObject result["+string+"]" );
+			return;
+		}
+		// a consumer that throws once, the rest of the chunk is fed again
+		fedObjects.clear();
+		boolean[] consumerThrown = new boolean[1] ;
+		OkJsonFeedParser<TestDataClass> throwingFeedParser = new OkJsonFeedParser<TestDataClass>( TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE, fedObject -> {
+			if( ! consumerThrown[0] ) {
+				consumerThrown[0] = true ;
+				throw new IllegalStateException( "consumer failed" );
+			}
+			fedObjects.add( fedObject );
+		} ) ;
+		feedByteBuffer.rewind();
+		try {
+			throwingFeedParser.feed( feedByteBuffer );
+			System.out.println( "OkJsonFeedParser consumer exception is lost" );
+			return;
+		} catch( IllegalStateException e ) {
+		}
+		if( feedByteBuffer.position() > jsonBytes.length || feedByteBuffer.get( feedByteBuffer.position()-1 ) != '}' || throwingFeedParser.isObjectPending() ) {
+			System.out.println( "OkJsonFeedParser position["+feedByteBuffer.position()+"] after consumer exception is not just past the first object" );
+			return;
+		}
+		nret = throwingFeedParser.feed( feedByteBuffer ) ;
+		if( nret != 0 || fedObjects.size() != 1 ) {
+			System.out.println( "OkJsonFeedParser after consumer exception failed["+throwingFeedParser.getErrorCode()+"]["+throwingFeedParser.getErrorDesc()+"] objects["+fedObjects.size()+"]" );
+			return;
+		}
+		// a token between objects drops the chunk, the next object is parsed again
+		nret = throwingFeedParser.feed( ByteBuffer.wrap( "{\"int1\":1} ] {\"int1\":".getBytes(StandardCharsets.UTF_8) ) ) ;
+		if( nret != OKJSON.OKJSON_ERROR_FIND_FIRST_LEFT_BRACE || throwingFeedParser.isObjectPending() || fedObjects.size() != 2 ) {
+			System.out.println( "OkJsonFeedParser bad byte between objects returned["+nret+"] objects["+fedObjects.size()+"]" );
+			return;
+		}
+		nret = throwingFeedParser.feed( ByteBuffer.wrap( jsonBytes ) ) ;
+		if( nret != 0 || fedObjects.size() != 3 ) {
+			System.out.println( "OkJsonFeedParser after error failed["+throwingFeedParser.getErrorCode()+"]["+throwingFeedParser.getErrorDesc()+"] objects["+fedObjects.size()+"]" );
+			return;
+		}
+		System.out.println( "OkJsonFeedParser ok" );
+		
+		System.out.println( "OkJsonReader ..." );
+		OkJsonReader jsonReader = new OkJsonReader( jsonBytes, 0, jsonBytes.length ) ;
+		int readValueCount = 0 ;
+		OkJsonReader.TokenType readTokenType ;
+		jsonReader.next();
+		while( ( readTokenType = jsonReader.next() ) != null ) {
+			if( readTokenType != OkJsonReader.TokenType.TOKEN_TYPE_STRING || jsonReader.getDepth() != 1 )
+				continue;
+			String name = jsonReader.getString() ;
+			jsonReader.next();
+			readTokenType = jsonReader.next() ;
+			if( name.equals("str1") && jsonReader.getChars().toString().equals(object.str1) )
+				readValueCount++;
+			else if( name.equals("int1") && jsonReader.getInt() == object.int1 )
+				readValueCount++;
+			else if( name.equals("long1") && jsonReader.getLong() == object.long1 )
+				readValueCount++;
+			else if( name.equals("double1") && jsonReader.getDouble() == object.double1 )
+				readValueCount++;
+			else if( name.equals("boolean1") && jsonReader.getBoolean() == object.boolean1 )
+				readValueCount++;
+			else if( name.equals("null1") && jsonReader.getString() == null )
+				readValueCount++;
+			jsonReader.skipValue();
+		}
+		if( jsonReader.getErrorCode() != 0 || jsonReader.getDepth() != 0 || readValueCount != 6 ) {
+			System.out.println( "OkJsonReader failed["+jsonReader.getErrorCode()+"]["+jsonReader.getErrorDesc()+"] depth["+jsonReader.getDepth()+"] values["+readValueCount+"]" );
+			return;
+		}
+		System.out.println( "OkJsonReader ok" );
+		
+		System.out.println( "number overflow ..." );
+		object2 = OKJSON.stringToObject( "{ \"int1\" : 2147483648 }", TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( object2 != null || OKJSON.getErrorCode() != OKJSON.OKJSON_ERROR_NUMBER_OVERFLOW ) {
+			System.out.println( "int overflow not detected["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		object2 = OKJSON.stringToObject( "{ \"int1\" : -2147483648 , \"long1\" : -9223372036854775808 }", TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( object2 == null || object2.int1 != Integer.MIN_VALUE || object2.long1 != Long.MIN_VALUE ) {
+			System.out.println( "MIN_VALUE parse failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		object2 = OKJSON.stringToObject( "{ \"long1\" : 9223372036854775808 }", TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( object2 != null || OKJSON.getErrorCode() != OKJSON.OKJSON_ERROR_NUMBER_OVERFLOW ) {
+			System.out.println( "long overflow not detected["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		for( String overflowJsonString : new String[]{ "{ \"byte1\" : 300 }", "{ \"byte1\" : -129 }", "{ \"short1\" : 32768 }", "{ \"short1\" : -32769 }" } ) {
+			object2 = OKJSON.stringToObject( overflowJsonString, TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+			if( object2 != null || OKJSON.getErrorCode() != OKJSON.OKJSON_ERROR_NUMBER_OVERFLOW ) {
+				System.out.println( "overflow of "+overflowJsonString+" not detected["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return;
+			}
+		}
+		object2 = OKJSON.stringToObject( "{ \"byte1\" : -128 , \"short1\" : 32767 }", TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( object2 == null || object2.byte1 != Byte.MIN_VALUE || object2.short1 != Short.MAX_VALUE ) {
+			System.out.println( "byte and short bounds parse failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		System.out.println( "number overflow ok" );
+		
+		System.out.println( "number writer ..." );
+		byte[] numberBytes = new byte[ OkJsonNumberWriter.MAX_LENGTH ] ;
+		long[] longValues = { 0, 1, -1, 9, 10, 99, 100, -100, 65536, Integer.MAX_VALUE, Integer.MIN_VALUE, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE } ;
+		for( long longValue : longValues ) {
+			String longString = new String( numberBytes, 0, OkJsonNumberWriter.writeLong( longValue, numberBytes, 0 ), StandardCharsets.US_ASCII ) ;
+			if( ! longString.equals( String.valueOf( longValue ) ) ) {
+				System.out.println( "writeLong["+longValue+"] wrote["+longString+"]" );
+				return;
+			}
+			if( longValue == (int)longValue ) {
+				String intString = new String( numberBytes, 0, OkJsonNumberWriter.writeInt( (int)longValue, numberBytes, 0 ), StandardCharsets.US_ASCII ) ;
+				if( ! intString.equals( longString ) ) {
+					System.out.println( "writeInt["+longValue+"] wrote["+intString+"]" );
+					return;
+				}
+			}
+		}
+		double[] doubleValues = { 0.0, -0.0, 1.0, -1.5, 0.1, 1.234, 2.345, 1.0E-3, 9.999999E-4, 1.0E7, 9999999.0, 1.0E23, 2.0E-3, 123456.789, Math.PI, Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY } ;
+		for( double doubleValue : doubleValues ) {
+			String doubleString = new String( numberBytes, 0, OkJsonNumberWriter.writeDouble( doubleValue, numberBytes, 0 ), StandardCharsets.US_ASCII ) ;
+			if( Double.compare( Double.parseDouble( doubleString ), doubleValue ) != 0 || doubleString.length() > Double.toString( doubleValue ).length() ) {
+				System.out.println( "writeDouble["+doubleValue+"] wrote["+doubleString+"]" );
+				return;
+			}
+			float floatValue = (float)doubleValue ;
+			String floatString = new String( numberBytes, 0, OkJsonNumberWriter.writeFloat( floatValue, numberBytes, 0 ), StandardCharsets.US_ASCII ) ;
+			if( Float.compare( Float.parseFloat( floatString ), floatValue ) != 0 || floatString.length() > Float.toString( floatValue ).length() ) {
+				System.out.println( "writeFloat["+floatValue+"] wrote["+floatString+"]" );
+				return;
+			}
+		}
+		System.out.println( "number writer ok" );
+		
+		System.out.println( "key prediction ..." );
+		OKJSON.resetKeyPredictionCount();
+		object2 = OKJSON.stringToObject( string, TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( object2 == null ) {
+			System.out.println( "stringToObject failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		System.out.println( "key prediction hit["+OKJSON.getKeyPredictionHitCount()+"] miss["+OKJSON.getKeyPredictionMissCount()+"]" );
+		if( OKJSON.getKeyPredictionHitCount() <= OKJSON.getKeyPredictionMissCount() ) {
+			System.out.println( "key prediction on generator output mostly missed" );
+			return;
+		}
+		// a feed parser adds its counts once per chunk
+		OKJSON.resetKeyPredictionCount();
+		nret = new OkJsonFeedParser<TestDataClass>( TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE, fedObject -> {} ).feed( ByteBuffer.wrap( string.getBytes( StandardCharsets.UTF_8 ) ) ) ;
+		if( nret != 0 || OKJSON.getKeyPredictionHitCount() <= OKJSON.getKeyPredictionMissCount() ) {
+			System.out.println( "key prediction of OkJsonFeedParser nret["+nret+"] hit["+OKJSON.getKeyPredictionHitCount()+"] miss["+OKJSON.getKeyPredictionMissCount()+"]" );
+			return;
+		}
+		System.out.println( "key prediction ok" );
+		
+		System.out.println( "date time fast path ..." );
+		TestDateTimeParser dateTimeParser = new TestDateTimeParser() ;
+		dateTimeParser.setDirectAccessPropertyEnable( true );
+		String[] dateTimeJsonStrings = { "{ \"localDate10\" : \"2020-02-29\" , \"localTime11\" : \"12:34:56\" , \"localDateTime12\" : \"2020-02-29 12:34:56\" }",
+				"{ \"localDate10\" : \"2020-02-2\\u0039\" , \"localTime11\" : \"12:34:5\\u0036\" , \"localDateTime12\" : \"2020-02-29 12:34:5\\u0036\" }" } ;
+		for( String dateTimeJsonString : dateTimeJsonStrings ) {
+			for( int byteMode = 0 ; byteMode <= 1 ; byteMode++ ) {
+				byte[] dateTimeJsonBytes = dateTimeJsonString.getBytes( StandardCharsets.UTF_8 ) ;
+				dateTimeParser.dateCount = 0 ;
+				dateTimeParser.timeCount = 0 ;
+				dateTimeParser.dateTimeCount = 0 ;
+				if( byteMode == 0 )
+					object2 = dateTimeParser.stringToObject( dateTimeJsonString, new TestDataClass() ) ;
+				else
+					object2 = dateTimeParser.bytesToObject( dateTimeJsonBytes, 0, dateTimeJsonBytes.length, new TestDataClass() ) ;
+				if( object2 == null || ! LocalDate.of( 2020, 2, 29 ).equals( object2.localDate10 ) || ! LocalTime.of( 12, 34, 56 ).equals( object2.localTime11 )
+						|| ! LocalDateTime.of( 2020, 2, 29, 12, 34, 56 ).equals( object2.localDateTime12 ) ) {
+					System.out.println( "date time parse failed["+dateTimeParser.getErrorCode()+"]["+dateTimeParser.getErrorDesc()+"] json["+dateTimeJsonString+"]" );
+					return;
+				}
+				// every scalar field is offered to the fast path, an escaped one falls back to the formatter, a date time reads its date and time through the other two
+				if( dateTimeParser.dateCount < 1 || dateTimeParser.timeCount < 1 || dateTimeParser.dateTimeCount != 1 ) {
+					System.out.println( "date time fast path count["+dateTimeParser.dateCount+"]["+dateTimeParser.timeCount+"]["+dateTimeParser.dateTimeCount+"] byteMode["+byteMode+"] json["+dateTimeJsonString+"]" );
+					return;
+				}
+			}
+		}
+		System.out.println( "date time fast path ok" );
+		
+		System.out.println( "skip unknown fields ..." );
+		String skipJsonString = "{ \"unknown1\" : { \"a\" : [ 1, { \"b\" : \"}]\\\"\\\\\" } ], \"c\" : -1.5e3 }, \"int1\" : 5678,"
+				+ " \"unknown2\" : \"[{\\\"\" , \"unknown3\" : [ [ ], { } ], \"unknown4\" : true, \"str1\" : \"skip\" }" ;
+		object2 = OKJSON.stringToObject( skipJsonString, TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( object2 == null || object2.int1 != 5678 || ! "skip".equals(object2.str1) ) {
+			System.out.println( "skip unknown fields failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		try( InputStream in = new ByteArrayInputStream( skipJsonString.getBytes( StandardCharsets.UTF_8 ) ) ) {
+			object2 = okjsonParser.streamToObject( in, new TestDataClass() ) ;
+		} catch (IOException e) {
+			e.printStackTrace();
+			return;
+		}
+		if( object2 == null || object2.int1 != 5678 || ! "skip".equals(object2.str1) ) {
+			System.out.println( "skip unknown fields in stream failed["+okjsonParser.getErrorCode()+"]["+okjsonParser.getErrorDesc()+"]" );
+			return;
+		}
+		String[] badSkipJsonStrings = { "{ \"unknown1\" : [ 1, 2, \"int1\" : 5 }", "{ \"unknown1\" : { \"a\" : 1 ], \"int1\" : 5 }",
+				"{ \"unknown1\" : tru, \"int1\" : 4 }", "{ \"unknown1\" : nul }", "{ \"unknown1\" : [ falsey ], \"int1\" : 4 }",
+				"{ \"unknown1\" : 12x, \"int1\" : 4 }", "{ \"unknown1\" : x, \"int1\" : 4 }", "{ \"unknown1\" : [ \"a\" : 1 ], \"int1\" : 4 }" } ;
+		for( String badSkipJsonString : badSkipJsonStrings ) {
+			object2 = OKJSON.stringToObject( badSkipJsonString, TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+			if( object2 != null ) {
+				System.out.println( "malformed unknown field accepted["+badSkipJsonString+"]" );
+				return;
+			}
+			try( InputStream in = new ByteArrayInputStream( badSkipJsonString.getBytes( StandardCharsets.UTF_8 ) ) ) {
+				object2 = okjsonParser.streamToObject( in, new TestDataClass() ) ;
+			} catch (IOException e) {
+				e.printStackTrace();
+				return;
+			}
+			if( object2 != null ) {
+				System.out.println( "malformed unknown field accepted in stream["+badSkipJsonString+"]" );
+				return;
+			}
+		}
+		object2 = OKJSON.stringToObject( "{ \"int1\" : 4, \"unknown1\" : 12 }", TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( object2 == null || object2.int1 != 4 ) {
+			System.out.println( "number of unknown field at the end failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		System.out.println( "skip unknown fields ok" );
+		
+		System.out.println( "container shapes ..." );
+		object2 = OKJSON.stringToObject( "{ \"list19\" : [ [ 1, 2 ], [] ], \"map20\" : { \"a\" : [ 3 ] }, \"map21\" : { \"m\" : { \"x\" : 4 } }, \"list22\" : [ { \"k\" : \"v\" } ] }", TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_STRICT_POLICY ) ;
+		if( object2 == null || ! object2.list19.toString().equals("[[1, 2], []]") || ! object2.map20.toString().equals("{a=[3]}") || ! object2.map21.toString().equals("{m={x=4}}") || ! object2.list22.toString().equals("[{k=v}]") ) {
+			System.out.println( "nested containers failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		String[] badShapeJsonStrings = {
+			"{ \"map17\" : [ 1 ] }" ,
+			"{ \"list16\" : { \"a\" : \"b\" } }" ,
+			"{ \"array14\" : { \"a\" : 1 } }" ,
+			"{ \"str1\" : [ \"a\" ] }" ,
+			"{ \"list19\" : [ { \"a\" : 1 } ] }" ,
+			"{ \"map20\" : { \"a\" : { \"b\" : 1 } } }" ,
+			"{ \"list16\" : [ [ \"a\" ] ] }"
+		} ;
+		for( String badShapeJsonString : badShapeJsonStrings ) {
+			object2 = OKJSON.stringToObject( badShapeJsonString, TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_STRICT_POLICY ) ;
+			if( object2 != null || OKJSON.getErrorCode() != OKJSON.OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT || OKJSON.getErrorDesc() == null ) {
+				System.out.println( "strict shape check of "+badShapeJsonString+" failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return;
+			}
+			object2 = OKJSON.stringToObject( badShapeJsonString.replace( " }", ", \"int1\" : 5 }" ), TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+			if( object2 == null || object2.int1 != 5 || object2.map17 != null || object2.array14 != null || object2.str1 != null || ( object2.list16 != null && ! object2.list16.isEmpty() ) || ( object2.list19 != null && ! object2.list19.isEmpty() ) || ( object2.map20 != null && ! object2.map20.isEmpty() ) ) {
+				System.out.println( "shape mismatch of "+badShapeJsonString+" not jumped over["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+				return;
+			}
+		}
+		// the same through OkJsonFeedParser one byte at a time
+		List<TestDataClass> fedShapeObjects = new LinkedList<TestDataClass>() ;
+		OkJsonFeedParser<TestDataClass> strictFeedParser = new OkJsonFeedParser<TestDataClass>( TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_STRICT_POLICY, fedShapeObjects::add ) ;
+		OkJsonFeedParser<TestDataClass> lenientFeedParser = new OkJsonFeedParser<TestDataClass>( TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE, fedShapeObjects::add ) ;
+		byte[] shapeJsonBytes = "{ \"list19\" : [ [ 1, 2 ], [] ], \"map20\" : { \"a\" : [ 3 ] }, \"map21\" : { \"m\" : { \"x\" : 4 } }, \"list22\" : [ { \"k\" : \"v\" } ] }".getBytes(StandardCharsets.UTF_8) ;
+		for( int i = 0 ; i < shapeJsonBytes.length ; i++ ) {
+			nret = strictFeedParser.feed( ByteBuffer.wrap( shapeJsonBytes, i, 1 ) ) ;
+			if( nret != 0 ) {
+				System.out.println( "nested containers fed byte "+i+" failed["+strictFeedParser.getErrorCode()+"]["+strictFeedParser.getErrorDesc()+"]" );
+				return;
+			}
+		}
+		if( fedShapeObjects.size() != 1 || ! fedShapeObjects.get(0).list19.toString().equals("[[1, 2], []]") || ! fedShapeObjects.get(0).map20.toString().equals("{a=[3]}") || ! fedShapeObjects.get(0).map21.toString().equals("{m={x=4}}") || ! fedShapeObjects.get(0).list22.toString().equals("[{k=v}]") ) {
+			System.out.println( "nested containers fed failed" );
+			return;
+		}
+		for( String badShapeJsonString : badShapeJsonStrings ) {
+			fedShapeObjects.clear();
+			nret = strictFeedParser.feed( ByteBuffer.wrap( badShapeJsonString.getBytes(StandardCharsets.UTF_8) ) ) ;
+			if( nret != OKJSON.OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT || strictFeedParser.getErrorDesc() == null || ! fedShapeObjects.isEmpty() ) {
+				System.out.println( "strict shape check of "+badShapeJsonString+" fed failed["+strictFeedParser.getErrorCode()+"]["+strictFeedParser.getErrorDesc()+"]" );
+				return;
+			}
+			nret = lenientFeedParser.feed( ByteBuffer.wrap( badShapeJsonString.replace( " }", ", \"int1\" : 5 }" ).getBytes(StandardCharsets.UTF_8) ) ) ;
+			if( nret != 0 || fedShapeObjects.size() != 1 || fedShapeObjects.get(0).int1 != 5 || fedShapeObjects.get(0).map17 != null || fedShapeObjects.get(0).array14 != null || fedShapeObjects.get(0).str1 != null ) {
+				System.out.println( "shape mismatch of "+badShapeJsonString+" fed not jumped over["+lenientFeedParser.getErrorCode()+"]["+lenientFeedParser.getErrorDesc()+"]" );
+				return;
+			}
+		}
+		System.out.println( "container shapes ok" );
+		
+		System.out.println( "container size hint ..." );
+		OkJsonFieldTable.FieldEntry hintFieldEntry = OkJsonClassMetadata.of( TestLargeClass.class ).getFieldTable().fieldEntries[0] ;
+		StringBuilder hintJsonBuilder = new StringBuilder( "{ \"list1\" : [ \"0\"" ) ;
+		for( int i = 1 ; i < 5000 ; i++ )
+			hintJsonBuilder.append( ", \"" ).append( i ).append( '"' );
+		byte[] hintJsonBytes = hintJsonBuilder.append( " ] }" ).toString().getBytes( StandardCharsets.UTF_8 ) ;
+		OkJsonFeedParser<TestLargeClass> hintFeedParser = new OkJsonFeedParser<TestLargeClass>( TestLargeClass.class, OKJSON.OPTIONS_CONTAINER_SIZE_HINT_ENABLE, fedObject -> {} ) ;
+		for( int feedMode = 0 ; feedMode <= 1 ; feedMode++ ) {
+			// a huge list leaves at most MAX_CONTAINER_SIZE_HINT behind for the next lists of the field
+			hintFieldEntry.containerSizeHint = 0 ;
+			if( feedMode == 0 )
+				nret = ( OKJSON.bytesToObject( hintJsonBytes, TestLargeClass.class, OKJSON.OPTIONS_CONTAINER_SIZE_HINT_ENABLE ) != null ? 0 : OKJSON.getErrorCode() ) ;
+			else
+				nret = hintFeedParser.feed( ByteBuffer.wrap( hintJsonBytes ) ) ;
+			if( nret != 0 || hintFieldEntry.containerSizeHint != OkJsonFieldTable.MAX_CONTAINER_SIZE_HINT ) {
+				System.out.println( "container size hint feedMode["+feedMode+"] nret["+nret+"] hint["+hintFieldEntry.containerSizeHint+"] not capped" );
+				return;
+			}
+		}
+		if( OKJSON.stringToObject( "{ \"list1\" : [ \"a\", \"b\", \"c\" ] }", TestLargeClass.class, OKJSON.OPTIONS_CONTAINER_SIZE_HINT_ENABLE ) == null || hintFieldEntry.containerSizeHint != 3 ) {
+			System.out.println( "container size hint["+hintFieldEntry.containerSizeHint+"] of a small list" );
+			return;
+		}
+		System.out.println( "container size hint ok" );
+		
+		System.out.println( "OKJSON errors ..." );
+		if( OKJSON.stringToObject( "{ \"int1\" : 1 }", TestNoDefaultConstructorClass.class, 0 ) != null || OKJSON.getErrorCode() != OKJSON.OKJSON_ERROR_NEW_OBJECT || OKJSON.getErrorDesc() == null ) {
+			System.out.println( "new object failure not reported["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		try {
+			OKJSON.stringToObject( null, TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE );
+			System.out.println( "stringToObject of null did not throw" );
+			return;
+		} catch (NullPointerException e) {
+			// expected, the parser goes back to the pool and the error is kept
+		}
+		if( OKJSON.getErrorCode() != OKJSON.OKJSON_ERROR_EXCEPTION ) {
+			System.out.println( "exception in stringToObject not reported["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		// a pooled parser does not carry the error of its last call
+		object2 = OKJSON.stringToObject( "{ \"int1\" : 1 }", TestDataClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+		if( object2 == null || OKJSON.getErrorCode() != 0 || OKJSON.getErrorDesc() != null ) {
+			System.out.println( "error of the previous call kept["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		}
+		System.out.println( "OKJSON errors ok" );
+		
+		System.out.println( "OkJsonMapper ..." );
+		OkJsonMapper mapper = OkJsonMapper.builder().setDirectAccessPropertyEnable(true).build() ;
+		OkJsonResult<String> stringResult = mapper.objectToString( object ) ;
+		if( ! stringResult.isOk() || ! stringResult.getValue().equals( OKJSON.objectToString( object, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ) ) {
+			System.out.println( "OkJsonMapper objectToString failed["+stringResult.getErrorCode()+"]["+stringResult.getErrorDesc()+"]" );
+			return;
+		}
+		OkJsonResult<TestDataClass> objectResult = mapper.stringToObject( stringResult.getValue(), TestDataClass.class ) ;
+		if( ! objectResult.isOk() || objectResult.getValue().int1 != object.int1 || ! objectResult.getValue().str1.equals(object.str1) ) {
+			System.out.println( "OkJsonMapper stringToObject failed["+objectResult.getErrorCode()+"]["+objectResult.getErrorDesc()+"]" );
+			return;
+		}
+		objectResult = mapper.stringToObject( "[ 1 ]", TestDataClass.class ) ;
+		if( objectResult.isOk() || objectResult.getValue() != null || objectResult.getErrorCode() != OKJSON.OKJSON_ERROR_FIND_FIRST_LEFT_BRACE ) {
+			System.out.println( "OkJsonMapper stringToObject of a broken string did not fail" );
+			return;
+		}
+		objectResult = OkJsonMapper.builder().setOptions( OKJSON.OPTIONS_STRICT_POLICY ).build().stringToObject( "{ \"int1\" : \"x\" }", TestDataClass.class ) ;
+		if( objectResult.getErrorCode() != OKJSON.OKJSON_ERROR_PORPERTY_TYPE_NOT_MATCH_IN_OBJECT ) {
+			System.out.println( "OkJsonMapper strict policy failed["+objectResult.getErrorCode()+"]["+objectResult.getErrorDesc()+"]" );
+			return;
+		}
+		System.out.println( "OkJsonMapper ok" );
+		
+		System.out.println( "objectToFile ..." );
+		nret = OKJSON.objectToFile( object, "generator.json", OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE|OKJSON.OPTIONS_PRETTY_FORMAT_ENABLE ) ;
+		if( nret != 0 ) {
+			System.out.println( "objectToFile failed["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+			return;
+		} else {
+			System.out.println( "objectToFile ok" );
+		}
+		
+		System.out.println( "large document ..." );
+		TestLargeClass largeObject = new TestLargeClass() ;
+		largeObject.list1 = new ArrayList<String>() ;
+		for( int i = 0 ; i < 100000 ; i++ )
+			largeObject.list1.add( ( i%2 == 0 ? "large "+i : "a\"b\u00e9\u4e2d\ud83d\ude00\u0001\t/\\" ) );
+		// a temporary file, the committed generator.json is left as it is
+		Path largeFile ;
+		try {
+			largeFile = Files.createTempFile( "okjson", ".json" ) ;
+		} catch (IOException e) {
+			e.printStackTrace();
+			return;
+		}
+		if( OKJSON.getChunkPoolCapacity() != OkJsonByteSegmentBuilder.DEFAULT_CHUNK_POOL_CAPACITY ) {
+			System.out.println( "chunk pool capacity["+OKJSON.getChunkPoolCapacity()+"] is not the default one" );
+			return;
+		}
+		try {
+			for( int i = 0 ; i < 3 ; i++ ) {
+				// the last round without the chunk pool
+				if( i == 2 )
+					OKJSON.setChunkPoolCapacity( 0 );
+				String largeString = OKJSON.objectToString( largeObject, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+				byte[] largeBytes = OKJSON.objectToBytes( largeObject, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+				if( largeString == null || largeBytes == null || largeBytes.length < OkJsonByteSegmentBuilder.CHUNK_SIZE*8 || ! Arrays.equals( largeString.getBytes( StandardCharsets.UTF_8 ), largeBytes ) ) {
+					System.out.println( "large objectToString and objectToBytes differ" );
+					return;
+				}
+				nret = OKJSON.objectToFile( largeObject, largeFile.toString(), OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+				if( nret != 0 || ! Arrays.equals( Files.readAllBytes( largeFile ), largeBytes ) ) {
+					System.out.println( "large objectToFile differs from objectToBytes["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+					return;
+				}
+				TestLargeClass largeObject2 = OKJSON.stringToObject( largeString, TestLargeClass.class, OKJSON.OPTIONS_DIRECT_ACCESS_PROPERTY_ENABLE ) ;
+				if( largeObject2 == null || ! largeObject.list1.equals( largeObject2.list1 ) ) {
+					System.out.println( "large document read back differs["+OKJSON.getErrorCode()+"]["+OKJSON.getErrorDesc()+"]" );
+					return;
+				}
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+			return;
+		} finally {
+			OKJSON.setChunkPoolCapacity( OkJsonByteSegmentBuilder.DEFAULT_CHUNK_POOL_CAPACITY );
+			try {
+				Files.deleteIfExists( largeFile );
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+		System.out.println( "large document ok" );
+		
+		System.out.println( "ALL test is OK" );
+		
+		return;
+	}
+}